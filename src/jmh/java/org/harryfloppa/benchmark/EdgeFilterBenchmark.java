@@ -0,0 +1,73 @@
+package org.harryfloppa.benchmark;
+
+import org.harryfloppa.algorithm.BottleneckPathIndex;
+import org.harryfloppa.algorithm.EdgeFilter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scalar vs best-available edge filters on one million edges.
+ * Build with -Pjmh (add -Pvector and the incubator module for the SIMD variant); "best" equals "scalar"
+ * when the vector filters are unavailable.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class EdgeFilterBenchmark {
+    @Param({"scalar", "best"})
+    public String filter;
+
+    //Fraction of edges kept, which drives the cost of writing out indices.
+    @Param({"0.1", "0.5", "0.9"})
+    public double keepRatio;
+
+    private static final int EDGES = 1_000_000;
+    private static final int VERTICES = 200_000;
+
+    private EdgeFilter edgeFilter;
+    private int[] from;
+    private int[] to;
+    private int[] component;
+    private int[] weight;
+    private int[] bound;
+    private int[] kept;
+
+    @Setup
+    public void setUp() {
+        edgeFilter = filter.equals("best") ? EdgeFilter.best() : EdgeFilter.scalar();
+        SplittableRandom random = new SplittableRandom(7);
+        from = new int[EDGES];
+        to = new int[EDGES];
+        weight = new int[EDGES];
+        bound = new int[EDGES];
+        kept = new int[EDGES];
+        component = new int[VERTICES];
+        for (int v = 0; v < VERTICES; v++) {
+            component[v] = v;
+        }
+        for (int e = 0; e < EDGES; e++) {
+            from[e] = random.nextInt(VERTICES);
+            boolean keep = random.nextDouble() < keepRatio;
+            to[e] = keep ? random.nextInt(VERTICES) : from[e];
+            weight[e] = random.nextInt(1_000);
+            bound[e] = keep ? weight[e] + random.nextInt(10)
+                    : (weight[e] == 0 ? -1 : weight[e] - 1 - random.nextInt(weight[e]));
+        }
+        bound[0] = BottleneckPathIndex.NO_EDGE;
+    }
+
+    @Benchmark
+    public int crossComponent() {
+        return edgeFilter.keepCrossComponent(from, to, component, EDGES, kept);
+    }
+
+    @Benchmark
+    public int atMostBound() {
+        return edgeFilter.keepAtMostBound(weight, bound, EDGES, kept);
+    }
+}
@@ -0,0 +1,69 @@
+package org.harryfloppa.algorithm;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Edge filters on the incubating Vector API: comparisons run a full vector of edges at a time,
+ * with component ids gathered by endpoint. The incubator API in Java 17 has no lane compression,
+ * so each mask is spilled to a lane array and the kept indices are written out branch-free.
+ * Only compiled by the {@code vector} Maven profile; loaded through {@link EdgeFilter#best()}.
+ */
+final class VectorEdgeFilter implements EdgeFilter {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final ThreadLocal<boolean[]> LANES = ThreadLocal.withInitial(() -> new boolean[SPECIES.length()]);
+
+    @Override
+    public String getName() {
+        return "vector" + SPECIES.vectorBitSize();
+    }
+
+    @Override
+    public int keepCrossComponent(int[] from, int[] to, int[] component, int count, int[] kept) {
+        int size = 0;
+        int e = 0;
+        for (int bound = SPECIES.loopBound(count); e < bound; e += SPECIES.length()) {
+            IntVector fromComponent = IntVector.fromArray(SPECIES, component, 0, from, e);
+            IntVector toComponent = IntVector.fromArray(SPECIES, component, 0, to, e);
+            size = append(fromComponent.compare(VectorOperators.NE, toComponent), e, kept, size);
+        }
+        for (; e < count; e++) {
+            if (component[from[e]] != component[to[e]]) {
+                kept[size++] = e;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public int keepAtMostBound(int[] weight, int[] bound, int count, int[] kept) {
+        int size = 0;
+        int e = 0;
+        for (int loopBound = SPECIES.loopBound(count); e < loopBound; e += SPECIES.length()) {
+            IntVector weights = IntVector.fromArray(SPECIES, weight, e);
+            IntVector bounds = IntVector.fromArray(SPECIES, bound, e);
+            VectorMask<Integer> light = bounds.compare(VectorOperators.EQ, BottleneckPathIndex.NO_EDGE)
+                    .or(weights.compare(VectorOperators.LE, bounds));
+            size = append(light, e, kept, size);
+        }
+        for (; e < count; e++) {
+            if (bound[e] == BottleneckPathIndex.NO_EDGE || weight[e] <= bound[e]) {
+                kept[size++] = e;
+            }
+        }
+        return size;
+    }
+
+    //Writes the indices of the set lanes after base; the mask is spilled once and read without branches.
+    private static int append(VectorMask<Integer> mask, int base, int[] kept, int size) {
+        boolean[] lanes = LANES.get();
+        mask.intoArray(lanes, 0);
+        for (int lane = 0; lane < lanes.length; lane++) {
+            kept[size] = base + lane;
+            size += lanes[lane] ? 1 : 0;
+        }
+        return size;
+    }
+}
@@ -1,14 +1,32 @@
 package org.harryfloppa;
 
+import org.harryfloppa.algorithm.DegreeConstrainedMST;
+import org.harryfloppa.algorithm.EuclideanMST;
 import org.harryfloppa.algorithm.KruskalAlgorithm;
+import org.harryfloppa.algorithm.MSTSolver;
+import org.harryfloppa.algorithm.MSTVerifier;
 import org.harryfloppa.algorithm.PrimAlgorithm;
-import org.harryfloppa.io.InputReader;
+import org.harryfloppa.algorithm.PrimQueue;
+import org.harryfloppa.algorithm.SteinerTreeApproximation;
+import org.harryfloppa.io.CheckpointLog;
+import org.harryfloppa.io.EdgeCompactor;
+import org.harryfloppa.io.EdgeListReader;
 import org.harryfloppa.io.OutputWriter;
+import org.harryfloppa.io.ParallelInputReader;
+import org.harryfloppa.model.GeometricGraph;
 import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.GraphFootprint;
 import org.harryfloppa.model.MSTResult;
+import org.harryfloppa.model.VerificationResult;
+import org.harryfloppa.server.MSTServer;
 
 import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -20,10 +38,22 @@ public class MyApplication {
     
     private static final String DEFAULT_INPUT_FILE = "src/data/input.json";
     private static final String DEFAULT_OUTPUT_FILE = "src/data/output.json";
+    private static final int DEFAULT_PORT = 8080;
 
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--serve")) {
+            serve(args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PORT);
+            return;
+        }
+
         String inputFile = args.length > 0 ? args[0] : DEFAULT_INPUT_FILE;
-        String outputFile = args.length > 1 ? args[1] : DEFAULT_OUTPUT_FILE;
+        // Output layout and compression: -Doutput.format=json|columnar|binary, -Doutput.compression=none|gzip|deflate
+        OutputWriter.Format outputFormat = OutputWriter.Format.fromName(
+                System.getProperty("output.format", OutputWriter.Format.JSON.getName()));
+        OutputWriter.Compression outputCompression = OutputWriter.Compression.fromName(
+                System.getProperty("output.compression", OutputWriter.Compression.NONE.getName()));
+        String outputFile = args.length > 1 ? args[1]
+                : DEFAULT_OUTPUT_FILE.replace(".json", outputFormat.getSuffix()) + outputCompression.getSuffix();
 
         System.out.println("=".repeat(80));
         System.out.println("City Transportation Network Optimization - MST Analysis");
@@ -32,22 +62,78 @@ public class MyApplication {
 
         try {
             // Read input graphs
-            InputReader inputReader = new InputReader();
-            List<Graph> graphs = inputReader.readGraphs(inputFile);
-            System.out.printf("✓ Successfully loaded %d graph(s) from '%s'%n%n", graphs.size(), inputFile);
+            // Self-loops and all but the lightest parallel edge are dropped while loading (-Dload.compact=false
+            // keeps them); graphs are parsed on one thread per core (-Dload.threads overrides).
+            // A .csv or .tsv input is a single graph given as a from,to,weight edge list
+            EdgeCompactor compactor = Boolean.parseBoolean(System.getProperty("load.compact", "true"))
+                    ? new EdgeCompactor() : null;
+            List<Graph> graphs;
+            List<GeometricGraph> geometricGraphs = List.of();
+            if (inputFile.endsWith(".csv") || inputFile.endsWith(".tsv")) {
+                EdgeListReader edgeListReader = new EdgeListReader(compactor);
+                graphs = List.of(edgeListReader.readGraph(inputFile));
+                System.out.printf("✓ Successfully loaded an edge list of %.1f MB from '%s' in %.1f ms%n",
+                        edgeListReader.getBytesRead() / (1024.0 * 1024.0), inputFile, edgeListReader.getLoadTimeMs());
+            } else {
+                ParallelInputReader inputReader = new ParallelInputReader(
+                        Integer.getInteger("load.threads", Runtime.getRuntime().availableProcessors()), compactor);
+                graphs = inputReader.readGraphs(inputFile);
+                geometricGraphs = inputReader.getGeometricGraphs();
+                System.out.printf("✓ Successfully loaded %d graph(s) from '%s' in %.1f ms (first graph after %.1f ms)%n",
+                        graphs.size(), inputFile, inputReader.getLoadTimeMs(), inputReader.getTimeToFirstGraphMs());
+                if (!geometricGraphs.isEmpty()) {
+                    System.out.printf("✓ %d coordinate graph(s) will be solved with the Euclidean MST%n",
+                            geometricGraphs.size());
+                }
+            }
+            System.out.printf("✓ Edge compaction: %s%n%n", compactor == null ? "off" : compactor.getReport());
 
             // Process each graph with both algorithms
             Map<Integer, OutputWriter.AlgorithmResults> results = new HashMap<>();
             Map<Integer, Graph> graphMap = new HashMap<>();
             
-            PrimAlgorithm primAlgorithm = new PrimAlgorithm();
-            KruskalAlgorithm kruskalAlgorithm = new KruskalAlgorithm();
+            // Solvers are stateless, so one instance of each serves every graph
+            // Prim's queue is chosen with -Dprim.queue=binary|pairing|radix
+            MSTSolver primAlgorithm = new PrimAlgorithm(
+                    PrimQueue.Kind.fromName(System.getProperty("prim.queue", PrimQueue.Kind.BINARY.getName())));
+            MSTSolver kruskalAlgorithm = new KruskalAlgorithm();
+            MSTVerifier verifier = new MSTVerifier();
+            Map<Integer, GraphFootprint> footprints = new LinkedHashMap<>();
+            Map<Integer, Long> peakAllocations = new HashMap<>();
+
+            // With -Dmax.degree, each graph also gets a tree with at most that many roads per junction,
+            // searched for up to -Dmax.degree.budget.ms
+            Integer maxDegree = Integer.getInteger("max.degree");
+            DegreeConstrainedMST degreeConstrained = maxDegree == null ? null : new DegreeConstrainedMST(maxDegree,
+                    Long.getLong("max.degree.budget.ms", DegreeConstrainedMST.DEFAULT_TIME_BUDGET_MS));
+
+            // With -Dsteiner.terminals=A,B,C, each graph that has all of those districts also gets a
+            // Steiner tree connecting just them
+            String terminalList = System.getProperty("steiner.terminals");
+            List<String> terminals = terminalList == null ? null : List.of(terminalList.split(","));
+            SteinerTreeApproximation steiner = new SteinerTreeApproximation();
+
+            // With -Dcheckpoint.file, finished graphs are logged as they complete and a rerun skips them
+            CheckpointLog checkpoint = openCheckpoint();
 
             for (Graph graph : graphs) {
                 graphMap.put(graph.getId(), graph);
+                OutputWriter.AlgorithmResults restored = checkpoint == null ? null : checkpoint.restore(graph);
+                if (restored != null) {
+                    System.out.printf("↺ Graph #%d restored from checkpoint: Prim cost %d, Kruskal cost %d%n%n",
+                            graph.getId(), restored.getPrimResult().getTotalCost(),
+                            restored.getKruskalResult().getTotalCost());
+                    footprints.put(graph.getId(), GraphFootprint.of(graph));
+                    peakAllocations.put(graph.getId(), Math.max(restored.getPrimResult().getAllocatedBytes(),
+                            restored.getKruskalResult().getAllocatedBytes()));
+                    results.put(graph.getId(), restored);
+                    continue;
+                }
                 System.out.println("-".repeat(80));
-                System.out.printf("Processing Graph #%d: %d vertices, %d edges%n", 
-                        graph.getId(), graph.getVertexCount(), graph.getEdgeCount());
+                System.out.printf("Processing Graph #%d: %d vertices, %d edges%s%n", graph.getId(),
+                        graph.getVertexCount(), graph.getInputEdgeCount(),
+                        graph.getInputEdgeCount() == graph.getEdgeCount() ? ""
+                                : String.format(" (%d after compaction)", graph.getEdgeCount()));
                 System.out.println("-".repeat(80));
 
                 // Run Prim's algorithm
@@ -60,8 +146,10 @@ public class MyApplication {
                 MSTResult kruskalResult = kruskalAlgorithm.findMST(graph);
                 printAlgorithmResult("Kruskal", kruskalResult);
 
-                // Verify results match
+                // Verify each result independently, then check the costs agree
                 System.out.println("\n🔹 Verification:");
+                printVerification("Prim", verifier.verify(graph, primResult));
+                printVerification("Kruskal", verifier.verify(graph, kruskalResult));
                 if (primResult.getTotalCost() == kruskalResult.getTotalCost()) {
                     System.out.printf("   ✓ MST costs match: %d%n", primResult.getTotalCost());
                 } else {
@@ -72,26 +160,124 @@ public class MyApplication {
                 // Compare performance
                 comparePerformance(primResult, kruskalResult);
 
-                results.put(graph.getId(), new OutputWriter.AlgorithmResults(primResult, kruskalResult));
+                if (degreeConstrained != null) {
+                    System.out.printf("\n🔹 Degree-constrained tree (max degree %d): %s%n",
+                            degreeConstrained.getMaxDegree(), degreeConstrained.find(graph));
+                }
+                if (terminals != null && new HashSet<>(graph.getNodes()).containsAll(terminals)) {
+                    MSTResult steinerTree = steiner.find(graph, terminals);
+                    System.out.printf("\n🔹 Steiner tree over %d terminal(s): cost %d with %d edge(s) (%.3f ms)%n",
+                            terminals.size(), steinerTree.getTotalCost(), steinerTree.getMstEdges().size(),
+                            steinerTree.getExecutionTimeMs());
+                }
+
+                // Memory held by the graph (after the solves, so lazily built indexes count)
+                GraphFootprint footprint = GraphFootprint.of(graph);
+                footprints.put(graph.getId(), footprint);
+                System.out.printf("   Memory: graph %s%n", footprint);
+                peakAllocations.put(graph.getId(),
+                        Math.max(primResult.getAllocatedBytes(), kruskalResult.getAllocatedBytes()));
+
+                OutputWriter.AlgorithmResults graphResults = new OutputWriter.AlgorithmResults(primResult, kruskalResult);
+                results.put(graph.getId(), graphResults);
+                if (checkpoint != null) {
+                    checkpoint.append(graph, graphResults);
+                }
                 System.out.println();
             }
 
+            if (checkpoint != null) {
+                checkpoint.close();
+                System.out.printf("✓ Checkpoint '%s': %d graph(s) restored, %d appended with %d fsync(s)%n%n",
+                        checkpoint.getPath(), checkpoint.getRecoveredRecords(), checkpoint.getAppendedRecords(),
+                        checkpoint.getSyncCount());
+            }
+
+            solveGeometricGraphs(geometricGraphs);
+
+            printMemorySummary(graphMap, footprints, peakAllocations);
+
             // Write results to output file
-            OutputWriter outputWriter = new OutputWriter();
+            OutputWriter outputWriter = new OutputWriter(outputFormat, outputCompression);
             outputWriter.writeResults(outputFile, results, graphMap);
             System.out.println("=".repeat(80));
-            System.out.printf("✓ Results successfully written to '%s'%n", outputFile);
+            System.out.printf("✓ Results successfully written to '%s' (%s, compression %s): %s in %.1f ms%n",
+                    outputFile, outputFormat.getName(), outputCompression.getName(),
+                    GraphFootprint.format(outputWriter.getOutputBytes()), outputWriter.getWriteTimeMs());
             System.out.println("=".repeat(80));
 
         } catch (IOException e) {
             System.err.printf("Error: %s%n", e.getMessage());
             System.err.println("\nUsage: java Main [input_file] [output_file]");
+            System.err.println("       java Main --serve [port]");
             System.err.printf("  Default input:  %s%n", DEFAULT_INPUT_FILE);
             System.err.printf("  Default output: %s%n", DEFAULT_OUTPUT_FILE);
             System.exit(1);
         }
     }
 
+    /**
+     * Opens the checkpoint log named by -Dcheckpoint.file, or returns null when checkpointing is off.
+     * It is fsynced every -Dcheckpoint.sync.every records or -Dcheckpoint.sync.ms milliseconds,
+     * and once more when the JVM is asked to stop, so a preempted run keeps everything it finished.
+     */
+    private static CheckpointLog openCheckpoint() throws IOException {
+        String checkpointFile = System.getProperty("checkpoint.file");
+        if (checkpointFile == null) {
+            return null;
+        }
+        CheckpointLog checkpoint = new CheckpointLog(Path.of(checkpointFile),
+                Integer.getInteger("checkpoint.sync.every", CheckpointLog.DEFAULT_SYNC_EVERY),
+                Long.getLong("checkpoint.sync.ms", CheckpointLog.DEFAULT_SYNC_INTERVAL_MS));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                checkpoint.sync();
+            } catch (IOException e) {
+                System.err.printf("Error: could not sync checkpoint '%s': %s%n", checkpointFile, e.getMessage());
+            }
+        }));
+        System.out.printf("✓ Checkpoint '%s': %d graph(s) already done%s%n%n", checkpointFile,
+                checkpoint.getRecoveredRecords(), checkpoint.getDiscardedBytes() == 0 ? ""
+                        : String.format(", dropped a torn tail of %d bytes", checkpoint.getDiscardedBytes()));
+        return checkpoint;
+    }
+
+    /**
+     * Solves the coordinate-only graphs found by the loader with {@link EuclideanMST}. They have no edge list,
+     * so they are reported on the console only and are not part of the output file.
+     */
+    private static void solveGeometricGraphs(List<GeometricGraph> graphs) {
+        EuclideanMST euclidean = new EuclideanMST();
+        for (GeometricGraph graph : graphs) {
+            System.out.println("-".repeat(80));
+            System.out.printf("Processing coordinate Graph #%d: %d points%n", graph.getId(), graph.getVertexCount());
+            System.out.println("-".repeat(80));
+            System.out.println("\n🔹 Running the Euclidean MST...");
+            printAlgorithmResult("Euclidean", euclidean.findMST(graph));
+            System.out.println();
+        }
+    }
+
+    /**
+     * Starts the resident MST service and keeps it running until the JVM is stopped.
+     * It has no authentication, so it only listens on the loopback interface.
+     */
+    private static void serve(int port) {
+        try {
+            MSTServer server = new MSTServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+            System.out.println("Warming up solvers...");
+            server.warmUp(200);
+            server.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(1)));
+            System.out.printf("✓ MST service listening on http://localhost:%d%n", server.getPort());
+            System.out.println("   POST /mst[?algorithm=prim|kruskal]  (JSON, or binary with application/octet-stream)");
+            System.out.println("   GET  /stats                         latency percentiles");
+        } catch (IOException e) {
+            System.err.printf("Error: could not start server on port %d: %s%n", port, e.getMessage());
+            System.exit(1);
+        }
+    }
+
     /**
      * Prints the results of an MST algorithm.
      */
@@ -99,12 +285,48 @@ public class MyApplication {
         System.out.printf("   Total Cost: %d%n", result.getTotalCost());
         System.out.printf("   Operations: %,d%n", result.getOperationsCount());
         System.out.printf("   Execution Time: %.3f ms%n", result.getExecutionTimeMs());
+        System.out.printf("   Allocated: %s%n", GraphFootprint.format(result.getAllocatedBytes()));
         System.out.printf("   MST Edges (%d):%n", result.getMstEdges().size());
         for (int i = 0; i < result.getMstEdges().size(); i++) {
             System.out.printf("      %d. %s%n", i + 1, result.getMstEdges().get(i));
         }
     }
 
+    /**
+     * Prints whether a result passed the MST verifier.
+     */
+    private static void printVerification(String algorithmName, VerificationResult verification) {
+        if (verification.isValid()) {
+            System.out.printf("   ✓ %s result is a minimum spanning forest (verified in %.3f ms)%n",
+                    algorithmName, verification.getExecutionTimeMs());
+        } else {
+            System.out.printf("   ✗ WARNING: %s result failed verification: %s%n",
+                    algorithmName, verification.getReason());
+        }
+    }
+
+    /**
+     * Prints one row per graph with its memory footprint and the larger of the two solvers' allocations,
+     * as a guide for sizing containers per input size.
+     */
+    private static void printMemorySummary(Map<Integer, Graph> graphs, Map<Integer, GraphFootprint> footprints,
+                                           Map<Integer, Long> peakAllocations) {
+        System.out.println("=".repeat(80));
+        System.out.println("Memory Summary");
+        System.out.println("=".repeat(80));
+        System.out.printf("%6s %9s %9s %12s %12s %12s %14s%n",
+                "Graph", "Vertices", "Edges", "Retained", "Compact", "Binary", "Solver alloc");
+        for (Map.Entry<Integer, GraphFootprint> entry : footprints.entrySet()) {
+            Graph graph = graphs.get(entry.getKey());
+            GraphFootprint footprint = entry.getValue();
+            System.out.printf("%6d %9d %9d %12s %12s %12s %14s%n", graph.getId(), graph.getVertexCount(),
+                    graph.getEdgeCount(), GraphFootprint.format(footprint.getRetainedBytes()),
+                    GraphFootprint.format(footprint.getCompactBytes()), GraphFootprint.format(footprint.getBinaryBytes()),
+                    GraphFootprint.format(peakAllocations.get(entry.getKey())));
+        }
+        System.out.println();
+    }
+
     /**
      * Compares performance metrics between Prim's and Kruskal's algorithms.
      */
@@ -125,6 +347,10 @@ public class MyApplication {
         System.out.printf("   Time: Prim=%.3f ms, Kruskal=%.3f ms (diff: %+.3f ms, %.1f%%)%n",
                 primResult.getExecutionTimeMs(), kruskalResult.getExecutionTimeMs(), timeDiff, timePercent);
 
+        // Allocation comparison
+        System.out.printf("   Allocated: Prim=%s, Kruskal=%s%n", GraphFootprint.format(primResult.getAllocatedBytes()),
+                GraphFootprint.format(kruskalResult.getAllocatedBytes()));
+
         // Winner determination
         String winner = timeDiff < 0 ? "Prim" : (timeDiff > 0 ? "Kruskal" : "Tie");
         System.out.printf("   ⭐ Faster algorithm: %s%n", winner);
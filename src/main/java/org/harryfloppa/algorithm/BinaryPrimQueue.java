@@ -0,0 +1,33 @@
+package org.harryfloppa.algorithm;
+
+/**
+ * Lazy-deletion binary heap: every offer is pushed as a packed (key, slot) long onto the
+ * workspace heap. Simple and cache-friendly; the default.
+ */
+final class BinaryPrimQueue implements PrimQueue {
+    private final SolverWorkspace workspace;
+
+    BinaryPrimQueue(SolverWorkspace workspace) {
+        this.workspace = workspace;
+    }
+
+    @Override
+    public void reset(int vertexCount) {
+        workspace.clearHeap();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return workspace.isHeapEmpty();
+    }
+
+    @Override
+    public void offer(int vertex, int key, int slot) {
+        workspace.heapPush(((long) key << 32) | slot);
+    }
+
+    @Override
+    public int poll() {
+        return (int) workspace.heapPop();
+    }
+}
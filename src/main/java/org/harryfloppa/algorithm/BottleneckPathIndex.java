@@ -0,0 +1,246 @@
+package org.harryfloppa.algorithm;
+
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Answers min-max (bottleneck) path queries over a spanning forest in O(log V) using binary lifting:
+ * the heaviest edge on the unique forest path between two vertices is the largest weight any route
+ * between them must cross in the optimal network.
+ * The index is immutable once built, so queries may run concurrently.
+ */
+public class BottleneckPathIndex {
+    //Returned when the vertices are equal or lie in different trees, i.e. the path has no edge.
+    public static final int NO_EDGE = Integer.MIN_VALUE;
+
+    private static final int PARALLEL_BATCH_THRESHOLD = 4_096;
+
+    private final int vertexCount;
+    private final int levels;
+    private final int[] depth;
+    private final int[] component;
+    // Flattened tables: entry (k, v) lives at k * vertexCount + v
+    private final int[] ancestor;
+    private final int[] maxWeight;
+    private final Map<String, Integer> vertexIds;
+    private final double buildTimeMs;
+
+    /**
+     * Builds the index over forest edges given as parallel endpoint and weight arrays.
+     * The edges must form a forest over vertices [0, vertexCount).
+     */
+    public BottleneckPathIndex(int vertexCount, int[] from, int[] to, int[] weight, int edgeCount) {
+        this(vertexCount, from, to, weight, edgeCount, null);
+    }
+
+    private BottleneckPathIndex(int vertexCount, int[] from, int[] to, int[] weight, int edgeCount,
+                                Map<String, Integer> vertexIds) {
+        long startTime = System.nanoTime();
+        this.vertexCount = vertexCount;
+        this.levels = Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(1, vertexCount - 1)));
+        this.depth = new int[vertexCount];
+        this.component = new int[vertexCount];
+        this.ancestor = new int[levels * vertexCount];
+        this.maxWeight = new int[levels * vertexCount];
+        this.vertexIds = vertexIds;
+
+        rootForest(from, to, weight, edgeCount);
+        for (int k = 1; k < levels; k++) {
+            int row = k * vertexCount;
+            int previous = row - vertexCount;
+            for (int v = 0; v < vertexCount; v++) {
+                int middle = ancestor[previous + v];
+                ancestor[row + v] = ancestor[previous + middle];
+                maxWeight[row + v] = Math.max(maxWeight[previous + v], maxWeight[previous + middle]);
+            }
+        }
+        this.buildTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+    }
+
+    /**
+     * Builds the index over the MST (or MSF) of a graph, so vertices can also be queried by name.
+     */
+    public static BottleneckPathIndex build(Graph graph, MSTResult mst) {
+        Map<String, Integer> vertexIds = new HashMap<>(graph.getVertexCount() * 4 / 3 + 1);
+        for (int v = 0; v < graph.getVertexCount(); v++) {
+            vertexIds.putIfAbsent(graph.getNodeName(v), v);
+        }
+        List<Edge> edges = mst.getMstEdges();
+        int[] from = new int[edges.size()];
+        int[] to = new int[edges.size()];
+        int[] weight = new int[edges.size()];
+        for (int i = 0; i < edges.size(); i++) {
+            from[i] = vertexIds.get(edges.get(i).getFrom());
+            to[i] = vertexIds.get(edges.get(i).getTo());
+            weight[i] = edges.get(i).getWeight();
+        }
+        return new BottleneckPathIndex(graph.getVertexCount(), from, to, weight, edges.size(), vertexIds);
+    }
+
+    //Roots every tree with an iterative BFS, filling depth, component and the level-0 tables.
+    private void rootForest(int[] from, int[] to, int[] weight, int edgeCount) {
+        int[] start = new int[vertexCount + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            start[from[e] + 1]++;
+            start[to[e] + 1]++;
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            start[v + 1] += start[v];
+        }
+        int[] next = Arrays.copyOf(start, vertexCount);
+        int[] neighbour = new int[2 * edgeCount];
+        int[] neighbourWeight = new int[2 * edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            neighbour[next[from[e]]] = to[e];
+            neighbourWeight[next[from[e]]++] = weight[e];
+            neighbour[next[to[e]]] = from[e];
+            neighbourWeight[next[to[e]]++] = weight[e];
+        }
+
+        Arrays.fill(component, -1);
+        int[] queue = new int[vertexCount];
+        for (int root = 0; root < vertexCount; root++) {
+            if (component[root] >= 0) {
+                continue;
+            }
+            component[root] = root;
+            ancestor[root] = root;
+            maxWeight[root] = NO_EDGE;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = root;
+            while (head < tail) {
+                int v = queue[head++];
+                for (int slot = start[v]; slot < start[v + 1]; slot++) {
+                    int child = neighbour[slot];
+                    if (component[child] < 0) {
+                        component[child] = root;
+                        depth[child] = depth[v] + 1;
+                        ancestor[child] = v;
+                        maxWeight[child] = neighbourWeight[slot];
+                        queue[tail++] = child;
+                    }
+                }
+            }
+        }
+    }
+
+    //Returns the heaviest edge weight on the forest path between u and v, or NO_EDGE.
+    public int query(int u, int v) {
+        if (u == v || component[u] != component[v]) {
+            return NO_EDGE;
+        }
+        int best = NO_EDGE;
+        if (depth[u] < depth[v]) {
+            int swap = u;
+            u = v;
+            v = swap;
+        }
+        // Lift u to the depth of v
+        int difference = depth[u] - depth[v];
+        for (int k = 0; difference > 0; k++, difference >>>= 1) {
+            if ((difference & 1) != 0) {
+                best = Math.max(best, maxWeight[k * vertexCount + u]);
+                u = ancestor[k * vertexCount + u];
+            }
+        }
+        if (u == v) {
+            return best;
+        }
+        // Lift both just below their lowest common ancestor
+        for (int k = levels - 1; k >= 0; k--) {
+            int row = k * vertexCount;
+            if (ancestor[row + u] != ancestor[row + v]) {
+                best = Math.max(best, Math.max(maxWeight[row + u], maxWeight[row + v]));
+                u = ancestor[row + u];
+                v = ancestor[row + v];
+            }
+        }
+        return Math.max(best, Math.max(maxWeight[u], maxWeight[v]));
+    }
+
+    /**
+     * Returns the lowest common ancestor of u and v, or -1 if they lie in different trees.
+     * Each tree is rooted at its lowest vertex id.
+     */
+    public int lowestCommonAncestor(int u, int v) {
+        if (component[u] != component[v]) {
+            return -1;
+        }
+        if (depth[u] < depth[v]) {
+            int swap = u;
+            u = v;
+            v = swap;
+        }
+        int difference = depth[u] - depth[v];
+        for (int k = 0; difference > 0; k++, difference >>>= 1) {
+            if ((difference & 1) != 0) {
+                u = ancestor[k * vertexCount + u];
+            }
+        }
+        if (u == v) {
+            return u;
+        }
+        for (int k = levels - 1; k >= 0; k--) {
+            int row = k * vertexCount;
+            if (ancestor[row + u] != ancestor[row + v]) {
+                u = ancestor[row + u];
+                v = ancestor[row + v];
+            }
+        }
+        return ancestor[u];
+    }
+
+    //Name-based query; only available on indexes built from a graph.
+    public int query(String from, String to) {
+        if (vertexIds == null) {
+            throw new IllegalStateException("Index was built without vertex names");
+        }
+        Integer u = vertexIds.get(from);
+        Integer v = vertexIds.get(to);
+        if (u == null || v == null) {
+            throw new IllegalArgumentException("Unknown vertex: " + (u == null ? from : to));
+        }
+        return query(u, v);
+    }
+
+    /**
+     * Answers many queries at once; large batches are split across the common fork-join pool.
+     */
+    public int[] queryBatch(int[] from, int[] to) {
+        if (from.length != to.length) {
+            throw new IllegalArgumentException("Query endpoint arrays differ in length");
+        }
+        int[] answers = new int[from.length];
+        IntStream range = IntStream.range(0, from.length);
+        if (from.length >= PARALLEL_BATCH_THRESHOLD) {
+            range = range.parallel();
+        }
+        range.forEach(i -> answers[i] = query(from[i], to[i]));
+        return answers;
+    }
+
+    public boolean isConnected(int u, int v) {
+        return component[u] == component[v];
+    }
+
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    public double getBuildTimeMs() {
+        return buildTimeMs;
+    }
+
+    //Approximate heap footprint of the lookup tables in bytes (excluding the optional name map).
+    public long getMemoryBytes() {
+        long arrayHeader = 16;
+        long perVertexTables = 2 * (arrayHeader + 4L * vertexCount);            // depth, component
+        long liftingTables = 2 * (arrayHeader + 4L * levels * vertexCount);     // ancestor, maxWeight
+        return perVertexTables + liftingTables;
+    }
+}
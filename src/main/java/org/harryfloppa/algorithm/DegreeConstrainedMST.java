@@ -0,0 +1,555 @@
+package org.harryfloppa.algorithm;
+
+import org.harryfloppa.model.DegreeConstrainedResult;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Degree-constrained spanning tree (or forest) heuristic: the cheapest tree in which no vertex has more
+ * than maxDegree tree edges. The problem is NP-hard for caps of 2 and above, so the result is the best
+ * tree found within a time budget, together with a lower bound on the optimum.
+ *
+ * It starts from the unconstrained MST, which is optimal if it already meets the cap. Otherwise
+ * Lagrangian relaxation moves the degree constraints into the edge costs: vertex v carries a multiplier
+ * λv, edge (u, v) costs w + λu + λv, and the MST under those costs gives the bound MST(λ) - cap * Σλ.
+ * Subgradient steps raise the multipliers of vertices above the cap, and each Lagrangian edge order is
+ * also turned into a tree within the cap by a degree-aware Kruskal pass.
+ * Local search then starts from the best of those trees and exchanges tree edges for non-tree edges
+ * that are cheaper or that reduce the excess degree. Each round evaluates every non-tree edge against
+ * its tree path in parallel ({@link BottleneckPathIndex#queryBatch}) and applies the best exchanges, in
+ * order, whose paths in the tree the round started from have not lost an edge to an earlier exchange.
+ *
+ * The search is anytime: it checks its deadline between iterations and rounds, returns the best tree so
+ * far when the budget runs out or the thread is interrupted, and can report every improvement as it
+ * happens. The Lagrangian phase gets at most half of the budget.
+ */
+public class DegreeConstrainedMST {
+    public static final long DEFAULT_TIME_BUDGET_MS = 1_000;
+    private static final int MAX_ITERATIONS = 300;
+    // The step scale halves after this many iterations without a better bound
+    private static final int STALL_ITERATIONS = 5;
+
+    private final int maxDegree;
+    private final long timeBudgetMs;
+
+    public DegreeConstrainedMST(int maxDegree) {
+        this(maxDegree, DEFAULT_TIME_BUDGET_MS);
+    }
+
+    public DegreeConstrainedMST(int maxDegree, long timeBudgetMs) {
+        if (maxDegree < 1) {
+            throw new IllegalArgumentException("maxDegree must be at least 1");
+        }
+        if (timeBudgetMs < 0) {
+            throw new IllegalArgumentException("timeBudgetMs must be non-negative");
+        }
+        this.maxDegree = maxDegree;
+        this.timeBudgetMs = timeBudgetMs;
+    }
+
+    public int getMaxDegree() {
+        return maxDegree;
+    }
+
+    public long getTimeBudgetMs() {
+        return timeBudgetMs;
+    }
+
+    public DegreeConstrainedResult find(Graph graph) {
+        return find(graph, null);
+    }
+
+    //Finds a tree, passing each better tree to onImprovement (if not null) as soon as it is found.
+    public DegreeConstrainedResult find(Graph graph, Consumer<DegreeConstrainedResult> onImprovement) {
+        SolveContext context = SolveContext.acquire();
+        try {
+            return find(graph, context, onImprovement);
+        } finally {
+            context.release();
+        }
+    }
+
+    public DegreeConstrainedResult find(Graph graph, SolveContext context,
+                                        Consumer<DegreeConstrainedResult> onImprovement) {
+        context.reset();
+        return new Search(graph, context, onImprovement).run();
+    }
+
+    //Sortable int of the largest float not above cost, so a float MST never overstates the bound.
+    private static int floorKey(double cost) {
+        float value = (float) cost;
+        if (value > cost) {
+            value = Math.nextDown(value);
+        }
+        int bits = Float.floatToRawIntBits(value);
+        return bits ^ ((bits >> 31) & 0x7FFFFFFF);
+    }
+
+    private static float keyValue(int key) {
+        return Float.intBitsToFloat(key ^ ((key >> 31) & 0x7FFFFFFF));
+    }
+
+    //Fenwick tree of removed edges: position i gains delta, and so does every later position's prefix sum.
+    private static void addRemoved(int[] fenwick, int position, int delta) {
+        for (int i = position + 1; i < fenwick.length; i += i & -i) {
+            fenwick[i] += delta;
+        }
+    }
+
+    //Removed edges between the root and the vertex at this preorder position.
+    private static int removedAbove(int[] fenwick, int position) {
+        int count = 0;
+        for (int i = position + 1; i > 0; i -= i & -i) {
+            count += fenwick[i];
+        }
+        return count;
+    }
+
+    //State of one call; the best tree is replaced, never modified, so results can share its array.
+    private final class Search {
+        private final Graph graph;
+        private final SolveContext context;
+        private final Consumer<DegreeConstrainedResult> onImprovement;
+        private final long startTime;
+        private final long deadline;
+        private final int vertexCount;
+        private final int edgeCount;
+        private final int[] degree;
+
+        private int[] best;
+        private int bestSize;
+        private long bestCost;
+        private int bestExcess = Integer.MAX_VALUE;
+        private long lowerBound;
+        private int iterations;
+        private int swaps;
+        private boolean budgetExhausted;
+
+        Search(Graph graph, SolveContext context, Consumer<DegreeConstrainedResult> onImprovement) {
+            this.graph = graph;
+            this.context = context;
+            this.onImprovement = onImprovement;
+            this.startTime = System.nanoTime();
+            this.deadline = startTime + timeBudgetMs * 1_000_000;
+            this.vertexCount = graph.getVertexCount();
+            this.edgeCount = graph.getEdgeCount();
+            this.degree = new int[vertexCount];
+        }
+
+        DegreeConstrainedResult run() {
+            int[] mst = new int[Math.max(0, vertexCount - 1)];
+            int size = KruskalAlgorithm.constrainedForest(graph, context, null, mst);
+            for (int i = 0; i < size; i++) {
+                lowerBound += graph.getEdgeWeight(mst[i]);
+            }
+            offer(mst, size);
+            if (bestExcess > 0) {
+                lagrangian(size, startTime + timeBudgetMs * 500_000);
+                localSearch(best);
+            }
+            return result();
+        }
+
+        /**
+         * Subgradient optimisation of the multipliers. Every iteration sorts the edges by modified cost,
+         * takes the MST of that order for the bound and a degree-aware pass over it for a feasible tree.
+         */
+        private void lagrangian(int treeSize, long phaseDeadline) {
+            SolverWorkspace workspace = context.getWorkspace();
+            long[] keys = workspace.sortKeys(edgeCount);
+            UnionFind unionFind = workspace.unionFind(vertexCount);
+            double[] lambda = new double[vertexCount];
+            int[] tree = new int[treeSize];
+            int[] treeDegree = new int[vertexCount];
+            double scale = 2.0;
+            int stalled = 0;
+            // A multiplier above the weight range cannot change the order any further
+            long weightRange = 0;
+            if (edgeCount > 0) {
+                int minWeight = Integer.MAX_VALUE;
+                int maxWeight = Integer.MIN_VALUE;
+                for (int e = 0; e < edgeCount; e++) {
+                    minWeight = Math.min(minWeight, graph.getEdgeWeight(e));
+                    maxWeight = Math.max(maxWeight, graph.getEdgeWeight(e));
+                }
+                weightRange = (long) maxWeight - minWeight + 1;
+            }
+
+            while (iterations < MAX_ITERATIONS && !(iterations > 0 && expired(phaseDeadline))) {
+                iterations++;
+                int sorted = 0;
+                double lambdaSum = 0;
+                for (int v = 0; v < vertexCount; v++) {
+                    lambdaSum += lambda[v];
+                }
+                for (int e = 0; e < edgeCount; e++) {
+                    int u = graph.getEdgeFrom(e);
+                    int v = graph.getEdgeTo(e);
+                    if (u != v) {
+                        double cost = graph.getEdgeWeight(e) + lambda[u] + lambda[v];
+                        keys[sorted++] = ((long) floorKey(cost) << 32) | e;
+                    }
+                }
+                Arrays.sort(keys, 0, sorted);
+                context.count(edgeCount + (long) (sorted * Math.log(Math.max(1, sorted)))); // Costs and sorting
+
+                // Lagrangian tree and its bound
+                unionFind.reset(vertexCount);
+                Arrays.fill(treeDegree, 0);
+                double treeCost = 0;
+                for (int i = 0, size = 0; i < sorted && size < treeSize; i++) {
+                    int e = (int) keys[i];
+                    if (unionFind.union(graph.getEdgeFrom(e), graph.getEdgeTo(e))) {
+                        tree[size++] = e;
+                        treeDegree[graph.getEdgeFrom(e)]++;
+                        treeDegree[graph.getEdgeTo(e)]++;
+                        treeCost += keyValue((int) (keys[i] >> 32));
+                    }
+                }
+                context.count(unionFind.getOperationsCount());
+                double bound = treeCost - maxDegree * lambdaSum;
+                // Costs are integers; the slack absorbs rounding in the double sums
+                long integerBound = (long) Math.ceil(bound - 1e-9 * (Math.abs(treeCost) + maxDegree * lambdaSum)
+                        - 1e-6);
+                if (integerBound > lowerBound) {
+                    lowerBound = integerBound;
+                    stalled = 0;
+                } else if (++stalled >= STALL_ITERATIONS) {
+                    scale /= 2;
+                    stalled = 0;
+                }
+
+                repair(keys, sorted, treeSize, unionFind, tree);
+                if (bestExcess == 0 && lowerBound >= bestCost) {
+                    return; // Proven optimal
+                }
+
+                // Projected subgradient step towards the cap
+                double norm = 0;
+                for (int v = 0; v < vertexCount; v++) {
+                    int slack = treeDegree[v] - maxDegree;
+                    if (slack > 0 || (slack < 0 && lambda[v] > 0)) {
+                        norm += (double) slack * slack;
+                    }
+                }
+                if (norm == 0) {
+                    return;
+                }
+                double step = scale * Math.max(1, bestCost - bound) / norm;
+                for (int v = 0; v < vertexCount; v++) {
+                    lambda[v] = Math.min(weightRange, Math.max(0, lambda[v] + step * (treeDegree[v] - maxDegree)));
+                }
+                context.count(3L * vertexCount); // Multiplier update
+            }
+        }
+
+        //Kruskal over the sorted edges that skips edges at capped vertices, then completes the forest if it must.
+        private void repair(long[] keys, int sorted, int treeSize, UnionFind unionFind, int[] tree) {
+            unionFind.reset(vertexCount);
+            Arrays.fill(degree, 0);
+            int size = 0;
+            for (int i = 0; i < sorted && size < treeSize; i++) {
+                int e = (int) keys[i];
+                int u = graph.getEdgeFrom(e);
+                int v = graph.getEdgeTo(e);
+                if (degree[u] < maxDegree && degree[v] < maxDegree && unionFind.union(u, v)) {
+                    tree[size++] = e;
+                    degree[u]++;
+                    degree[v]++;
+                }
+            }
+            for (int i = 0; i < sorted && size < treeSize; i++) {
+                int e = (int) keys[i];
+                if (unionFind.union(graph.getEdgeFrom(e), graph.getEdgeTo(e))) {
+                    tree[size++] = e;
+                }
+            }
+            context.count(sorted + unionFind.getOperationsCount());
+            offer(tree, size);
+        }
+
+        /**
+         * Edge exchange rounds on the best tree until no exchange improves it or the budget runs out.
+         * An exchange adds non-tree edge e between two vertices below the cap and removes an edge f on
+         * e's tree path; it must lower the excess degree, or keep it and lower the cost.
+         * Each round labels the tree edges with their weight rank, lifted above every other rank at
+         * vertices over the cap, so one path-maximum query names f: the heaviest over-cap edge if the path
+         * has one, else the heaviest edge. Tree paths are unique, so an exchange stays valid while no edge
+         * of e's path in the round's starting tree has been removed; a Fenwick tree over the DFS order
+         * counts removed edges above each vertex, which checks that in O(log V) per exchange.
+         */
+        private void localSearch(int[] start) {
+            int size = start.length;
+            int[] tree = Arrays.copyOf(start, size);
+            long cost = 0;
+            boolean[] inTree = new boolean[edgeCount];
+            int[] position = new int[edgeCount];
+            Arrays.fill(degree, 0);
+            for (int i = 0; i < size; i++) {
+                inTree[tree[i]] = true;
+                position[tree[i]] = i;
+                degree[graph.getEdgeFrom(tree[i])]++;
+                degree[graph.getEdgeTo(tree[i])]++;
+                cost += graph.getEdgeWeight(tree[i]);
+            }
+            int excess = 0;
+            for (int v = 0; v < vertexCount; v++) {
+                excess += over(v);
+            }
+            int[] parent = new int[vertexCount];
+            int[] first = new int[vertexCount];
+            int[] last = new int[vertexCount];
+            int[] removedAbove = new int[vertexCount + 2];
+            long[] byWeight = new long[size];
+            int[] from = new int[size];
+            int[] to = new int[size];
+            int[] label = new int[size];
+            int liftingSteps = Math.max(1, 32 - Integer.numberOfLeadingZeros(vertexCount));
+
+            while (true) {
+                if (expired(deadline)) {
+                    budgetExhausted = true;
+                    return;
+                }
+                root(tree, size, parent, first, last);
+                for (int i = 0; i < size; i++) {
+                    byWeight[i] = ((long) graph.getEdgeWeight(tree[i]) << 32) | i;
+                }
+                Arrays.sort(byWeight);
+                int[] byRank = new int[size];
+                for (int rank = 0; rank < size; rank++) {
+                    int i = (int) byWeight[rank];
+                    byRank[rank] = tree[i];
+                    from[i] = graph.getEdgeFrom(tree[i]);
+                    to[i] = graph.getEdgeTo(tree[i]);
+                    label[i] = degree[from[i]] > maxDegree || degree[to[i]] > maxDegree ? size + rank : rank;
+                }
+                BottleneckPathIndex index = new BottleneckPathIndex(vertexCount, from, to, label, size);
+
+                // Evaluate every non-tree edge between vertices below the cap against its path maximum in parallel
+                int[] candidates = new int[edgeCount - size];
+                int candidateCount = 0;
+                for (int e = 0; e < edgeCount; e++) {
+                    int u = graph.getEdgeFrom(e);
+                    int v = graph.getEdgeTo(e);
+                    if (!inTree[e] && u != v && degree[u] < maxDegree && degree[v] < maxDegree) {
+                        candidates[candidateCount++] = e;
+                    }
+                }
+                int[] queryFrom = new int[candidateCount];
+                int[] queryTo = new int[candidateCount];
+                for (int i = 0; i < candidateCount; i++) {
+                    queryFrom[i] = graph.getEdgeFrom(candidates[i]);
+                    queryTo[i] = graph.getEdgeTo(candidates[i]);
+                }
+                int[] pathMax = index.queryBatch(queryFrom, queryTo);
+                int[] removal = new int[candidateCount];
+                long[] order = new long[candidateCount];
+                IntStream.range(0, candidateCount).parallel().forEach(i -> {
+                    int tier = -1;
+                    long gain = 0;
+                    if (pathMax[i] != BottleneckPathIndex.NO_EDGE) {
+                        boolean overCap = pathMax[i] >= size;
+                        removal[i] = byRank[overCap ? pathMax[i] - size : pathMax[i]];
+                        gain = (long) graph.getEdgeWeight(removal[i]) - graph.getEdgeWeight(candidates[i]);
+                        tier = overCap ? 0 : gain > 0 ? 1 : -1;
+                    }
+                    // Excess reductions first, then by largest gain (clamped to ±2^28); the rest sorts last
+                    long rank = (1L << 28) - Math.max(-(1L << 28), Math.min(1L << 28, gain));
+                    order[i] = tier < 0 ? Long.MAX_VALUE : ((((long) tier << 30) | rank) << 32) | i;
+                });
+                Arrays.sort(order);
+                context.count(edgeCount + (long) candidateCount * liftingSteps); // Parallel evaluation
+
+                // Apply the best exchanges whose paths lost no edge this round: such a path is still the tree path
+                Arrays.fill(removedAbove, 0);
+                int applied = 0;
+                for (int k = 0; k < candidateCount && order[k] != Long.MAX_VALUE; k++) {
+                    int i = (int) order[k];
+                    int e = candidates[i];
+                    int f = removal[i];
+                    int u = queryFrom[i];
+                    int v = queryTo[i];
+                    int x = graph.getEdgeFrom(f);
+                    int y = graph.getEdgeTo(f);
+                    int lca = index.lowestCommonAncestor(u, v);
+                    context.count(4L * liftingSteps); // Ancestor and Fenwick queries
+                    if (removedAbove(removedAbove, first[u]) + removedAbove(removedAbove, first[v])
+                            != 2 * removedAbove(removedAbove, first[lca])) {
+                        continue;
+                    }
+                    int delta = excessDelta(u, v, x, y);
+                    long gain = (long) graph.getEdgeWeight(f) - graph.getEdgeWeight(e);
+                    if (delta > 0 || (delta == 0 && gain <= 0)) {
+                        continue;
+                    }
+
+                    tree[position[f]] = e;
+                    position[e] = position[f];
+                    inTree[f] = false;
+                    inTree[e] = true;
+                    degree[u]++;
+                    degree[v]++;
+                    degree[x]--;
+                    degree[y]--;
+                    // Every vertex below f's child endpoint now has one more removed edge above it
+                    int child = parent[x] == y ? x : y;
+                    addRemoved(removedAbove, first[child], 1);
+                    addRemoved(removedAbove, last[child] + 1, -1);
+                    cost -= gain;
+                    excess += delta;
+                    swaps++;
+                    applied++;
+                }
+                if (applied == 0) {
+                    return;
+                }
+                offer(tree, size, cost, excess);
+            }
+        }
+
+        //Change in excess degree when edge (u, v) joins the tree and edge (x, y) leaves it.
+        private int excessDelta(int u, int v, int x, int y) {
+            int before = localExcess(u, v, x, y);
+            degree[u]++;
+            degree[v]++;
+            degree[x]--;
+            degree[y]--;
+            int after = localExcess(u, v, x, y);
+            degree[u]--;
+            degree[v]--;
+            degree[x]++;
+            degree[y]++;
+            return after - before;
+        }
+
+        private int localExcess(int u, int v, int x, int y) {
+            int excess = over(u);
+            if (v != u) {
+                excess += over(v);
+            }
+            if (x != u && x != v) {
+                excess += over(x);
+            }
+            if (y != u && y != v && y != x) {
+                excess += over(y);
+            }
+            return excess;
+        }
+
+        private int over(int vertex) {
+            return Math.max(0, degree[vertex] - maxDegree);
+        }
+
+        /**
+         * Roots every tree of the forest at its lowest vertex, like {@link BottleneckPathIndex}, and numbers
+         * the vertices in DFS preorder: the subtree of x is the range first[x]..last[x].
+         */
+        private void root(int[] tree, int size, int[] parent, int[] first, int[] last) {
+            int[] start = new int[vertexCount + 1];
+            for (int i = 0; i < size; i++) {
+                start[graph.getEdgeFrom(tree[i]) + 1]++;
+                start[graph.getEdgeTo(tree[i]) + 1]++;
+            }
+            for (int v = 0; v < vertexCount; v++) {
+                start[v + 1] += start[v];
+            }
+            int[] next = Arrays.copyOf(start, vertexCount);
+            int[] incident = new int[2 * size];
+            for (int i = 0; i < size; i++) {
+                incident[next[graph.getEdgeFrom(tree[i])]++] = tree[i];
+                incident[next[graph.getEdgeTo(tree[i])]++] = tree[i];
+            }
+
+            Arrays.fill(parent, -1);
+            int[] preorder = new int[vertexCount];
+            int[] stack = next;
+            int visited = 0;
+            for (int root = 0; root < vertexCount; root++) {
+                if (parent[root] != -1) {
+                    continue;
+                }
+                parent[root] = root;
+                int top = 0;
+                stack[top++] = root;
+                while (top > 0) {
+                    int x = stack[--top];
+                    first[x] = visited;
+                    preorder[visited++] = x;
+                    for (int slot = start[x]; slot < start[x + 1]; slot++) {
+                        int e = incident[slot];
+                        int y = graph.getEdgeFrom(e) == x ? graph.getEdgeTo(e) : graph.getEdgeFrom(e);
+                        if (parent[y] == -1) {
+                            parent[y] = x;
+                            stack[top++] = y;
+                        }
+                    }
+                }
+            }
+            // Subtree sizes, children before parents
+            Arrays.fill(last, 1);
+            for (int k = vertexCount - 1; k >= 0; k--) {
+                int x = preorder[k];
+                if (parent[x] != x) {
+                    last[parent[x]] += last[x];
+                }
+            }
+            for (int x = 0; x < vertexCount; x++) {
+                last[x] += first[x] - 1;
+            }
+            context.count(4L * vertexCount + 4L * size); // Rooting
+        }
+
+        //Keeps the tree if it has less excess, or as much excess and a lower cost, than the best one.
+        private void offer(int[] tree, int size) {
+            Arrays.fill(degree, 0);
+            long cost = 0;
+            for (int i = 0; i < size; i++) {
+                degree[graph.getEdgeFrom(tree[i])]++;
+                degree[graph.getEdgeTo(tree[i])]++;
+                cost += graph.getEdgeWeight(tree[i]);
+            }
+            int excess = 0;
+            for (int v = 0; v < vertexCount; v++) {
+                excess += over(v);
+            }
+            context.count(size + vertexCount); // Evaluation
+            offer(tree, size, cost, excess);
+        }
+
+        private void offer(int[] tree, int size, long cost, int excess) {
+            if (excess < bestExcess || (excess == bestExcess && cost < bestCost)) {
+                best = Arrays.copyOf(tree, size);
+                bestSize = size;
+                bestCost = cost;
+                bestExcess = excess;
+                if (onImprovement != null) {
+                    onImprovement.accept(result());
+                }
+            }
+        }
+
+        private boolean expired(long limit) {
+            return System.nanoTime() >= limit || Thread.currentThread().isInterrupted();
+        }
+
+        private DegreeConstrainedResult result() {
+            int[] treeDegree = new int[vertexCount];
+            int treeMaxDegree = 0;
+            for (int i = 0; i < bestSize; i++) {
+                treeMaxDegree = Math.max(treeMaxDegree, ++treeDegree[graph.getEdgeFrom(best[i])]);
+                treeMaxDegree = Math.max(treeMaxDegree, ++treeDegree[graph.getEdgeTo(best[i])]);
+            }
+            double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+            MSTResult tree = new MSTResult(graph, best, bestSize, (int) bestCost, context.getOperationsCount(),
+                    executionTimeMs, context.getAllocatedBytes());
+            long bound = bestExcess == 0 ? Math.min(lowerBound, bestCost) : lowerBound;
+            return new DegreeConstrainedResult(tree, maxDegree, treeMaxDegree, bestExcess, bound, iterations,
+                    swaps, budgetExhausted);
+        }
+    }
+}
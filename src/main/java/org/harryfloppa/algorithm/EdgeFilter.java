@@ -0,0 +1,31 @@
+package org.harryfloppa.algorithm;
+
+/**
+ * Bulk edge filters over packed int arrays, as used by contraction and F-heavy filtering.
+ * Each filter writes the indices of the kept edges, in ascending order, to kept and returns their count.
+ *
+ * {@link #best()} picks the SIMD implementation built by the {@code vector} Maven profile when the
+ * {@code jdk.incubator.vector} module is present at runtime, and the scalar one otherwise.
+ */
+public interface EdgeFilter {
+
+    //Short implementation name used in benchmarks.
+    String getName();
+
+    //Keeps edges whose endpoints lie in different components, i.e. drops self-loops after contraction.
+    int keepCrossComponent(int[] from, int[] to, int[] component, int count, int[] kept);
+
+    /**
+     * Keeps edges no heavier than their bound, or whose bound is {@link BottleneckPathIndex#NO_EDGE}:
+     * the F-light edges when bound holds forest path maxima.
+     */
+    int keepAtMostBound(int[] weight, int[] bound, int count, int[] kept);
+
+    static EdgeFilter scalar() {
+        return ScalarEdgeFilter.INSTANCE;
+    }
+
+    static EdgeFilter best() {
+        return EdgeFilterHolder.BEST;
+    }
+}
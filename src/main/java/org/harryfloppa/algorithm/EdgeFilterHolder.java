@@ -0,0 +1,23 @@
+package org.harryfloppa.algorithm;
+
+/**
+ * Resolves the best available {@link EdgeFilter} once, on first use.
+ */
+final class EdgeFilterHolder {
+    static final EdgeFilter BEST = load();
+
+    private EdgeFilterHolder() {
+    }
+
+    private static EdgeFilter load() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return ScalarEdgeFilter.INSTANCE;
+        }
+        try {
+            return (EdgeFilter) Class.forName("org.harryfloppa.algorithm.VectorEdgeFilter")
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return ScalarEdgeFilter.INSTANCE; // Built without the vector profile
+        }
+    }
+}
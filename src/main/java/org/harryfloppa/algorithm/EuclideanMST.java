@@ -0,0 +1,366 @@
+package org.harryfloppa.algorithm;
+
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.GeometricGraph;
+import org.harryfloppa.model.MSTResult;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Euclidean MST over point coordinates using Borůvka's algorithm on a k-d tree.
+ * Each round finds, for every point, its nearest point in another component; subtrees whose points
+ * all share the query's component, or lie farther than the best candidate found so far by any point
+ * of that component, are pruned.
+ * Components at least halve per round, so the total cost is O(n log² n) expected instead of
+ * sorting O(n²) explicit edges. Nearest-neighbour searches within a round run in parallel.
+ *
+ * The tree is chosen on exact distances; reported edge weights are rounded to the nearest integer
+ * to fit the {@link Edge} model.
+ */
+public class EuclideanMST {
+    private static final int LEAF_SIZE = 8;
+    // Bit pattern of +infinity; non-negative doubles order the same as their bit patterns
+    private static final long UNBOUNDED = Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+
+    public MSTResult findMST(GeometricGraph graph) {
+        long startTime = System.nanoTime();
+        int n = graph.getVertexCount();
+        List<Edge> mstEdges = new ArrayList<>(Math.max(0, n - 1));
+        if (n <= 1) {
+            return new MSTResult(mstEdges, 0, 0, (System.nanoTime() - startTime) / 1_000_000.0);
+        }
+
+        KdTree tree = new KdTree(graph);
+        UnionFind unionFind = new UnionFind(n);
+        unionFind.reset(n);
+        int[] component = new int[n];
+        int[] nearest = new int[n];
+        double[] nearestDistance = new double[n];
+        double[] lowerBound = new double[n];
+        Arrays.fill(nearest, -1);
+        int[] bestPoint = new int[n];
+        AtomicLongArray componentBound = new AtomicLongArray(n);
+        LongAdder operations = new LongAdder();
+        int totalCost = 0;
+        int components = n;
+
+        while (components > 1) {
+            for (int p = 0; p < n; p++) {
+                component[p] = unionFind.find(p);
+            }
+            tree.labelComponents(component);
+            for (int c = 0; c < n; c++) {
+                componentBound.set(c, UNBOUNDED);
+            }
+
+            // Outside points only disappear between rounds, so a previous nearest that is still outside
+            // is still the nearest, and any previous distance is a lower bound for the new one
+            for (int p = 0; p < n; p++) {
+                int q = nearest[p];
+                if (q >= 0 && component[q] != component[p]) {
+                    lowerCompareAndSet(componentBound, component[p], nearestDistance[p]);
+                } else {
+                    nearest[p] = -1;
+                }
+            }
+            IntStream.range(0, n).parallel().forEach(slot -> {
+                int p = tree.pointAt(slot);
+                if (nearest[p] < 0 && lowerBound[p] <= Double.longBitsToDouble(componentBound.get(component[p]))) {
+                    tree.nearestOutside(p, component, componentBound, nearest, nearestDistance, operations);
+                    if (nearest[p] >= 0) {
+                        lowerBound[p] = nearestDistance[p];
+                    }
+                }
+            });
+
+            // Lightest outgoing edge per component, ties broken by endpoint ids for a consistent total order
+            Arrays.fill(bestPoint, -1);
+            for (int p = 0; p < n; p++) {
+                if (nearest[p] < 0) {
+                    continue;
+                }
+                int c = component[p];
+                if (bestPoint[c] < 0 || lighter(p, bestPoint[c], nearest, nearestDistance)) {
+                    bestPoint[c] = p;
+                }
+            }
+            for (int c = 0; c < n; c++) {
+                int p = bestPoint[c];
+                if (p < 0) {
+                    continue;
+                }
+                int q = nearest[p];
+                if (unionFind.union(p, q)) {
+                    int weight = (int) Math.round(Math.sqrt(nearestDistance[p]));
+                    mstEdges.add(new Edge(graph.getNodeName(p), graph.getNodeName(q), weight));
+                    totalCost += weight;
+                    components--;
+                }
+            }
+        }
+
+        long operationsCount = operations.sum() + unionFind.getOperationsCount();
+        double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new MSTResult(mstEdges, totalCost, operationsCount, executionTimeMs);
+    }
+
+    //Atomically lowers a non-negative double bound stored as raw bits.
+    private static void lowerCompareAndSet(AtomicLongArray bounds, int index, double value) {
+        long bits = Double.doubleToRawLongBits(value);
+        long current = bounds.get(index);
+        while (bits < current && !bounds.compareAndSet(index, current, bits)) {
+            current = bounds.get(index);
+        }
+    }
+
+    private static boolean lighter(int p, int other, int[] nearest, double[] distance) {
+        if (distance[p] != distance[other]) {
+            return distance[p] < distance[other];
+        }
+        int low = Math.min(p, nearest[p]);
+        int otherLow = Math.min(other, nearest[other]);
+        if (low != otherLow) {
+            return low < otherLow;
+        }
+        return Math.max(p, nearest[p]) < Math.max(other, nearest[other]);
+    }
+
+    /**
+     * Static 2-d tree with points stored in leaf order and a per-node component label
+     * (-1 when a subtree spans several components).
+     */
+    private static final class KdTree {
+        private final int[] order;
+        private final double[] px;
+        private final double[] py;
+        private final int[] pointSlot;
+
+        private int nodeCount;
+        private int[] start;
+        private int[] end;
+        private int[] left;
+        private int[] right;
+        private double[] minX;
+        private double[] maxX;
+        private double[] minY;
+        private double[] maxY;
+        private int[] nodeComponent;
+        private final int height;
+        private final ThreadLocal<int[]> stacks;
+
+        KdTree(GeometricGraph graph) {
+            int n = graph.getVertexCount();
+            order = new int[n];
+            double[] xs = new double[n];
+            double[] ys = new double[n];
+            for (int i = 0; i < n; i++) {
+                order[i] = i;
+                xs[i] = graph.getX(i);
+                ys[i] = graph.getY(i);
+            }
+            int capacity = Math.max(1, 4 * (n / LEAF_SIZE + 1));
+            start = new int[capacity];
+            end = new int[capacity];
+            left = new int[capacity];
+            right = new int[capacity];
+            minX = new double[capacity];
+            maxX = new double[capacity];
+            minY = new double[capacity];
+            maxY = new double[capacity];
+            height = build(0, n, xs, ys);
+            nodeComponent = new int[nodeCount];
+
+            px = new double[n];
+            py = new double[n];
+            pointSlot = new int[n];
+            for (int i = 0; i < n; i++) {
+                px[i] = xs[order[i]];
+                py[i] = ys[order[i]];
+                pointSlot[order[i]] = i;
+            }
+            int stackSize = 2 * (height + 2);
+            stacks = ThreadLocal.withInitial(() -> new int[stackSize]);
+        }
+
+        //Builds the subtree over order[from, to) and returns its height.
+        private int build(int from, int to, double[] xs, double[] ys) {
+            int node = nodeCount++;
+            if (node == start.length) {
+                grow();
+            }
+            start[node] = from;
+            end[node] = to;
+            double loX = Double.POSITIVE_INFINITY, hiX = Double.NEGATIVE_INFINITY;
+            double loY = Double.POSITIVE_INFINITY, hiY = Double.NEGATIVE_INFINITY;
+            for (int i = from; i < to; i++) {
+                double x = xs[order[i]];
+                double y = ys[order[i]];
+                loX = Math.min(loX, x);
+                hiX = Math.max(hiX, x);
+                loY = Math.min(loY, y);
+                hiY = Math.max(hiY, y);
+            }
+            minX[node] = loX;
+            maxX[node] = hiX;
+            minY[node] = loY;
+            maxY[node] = hiY;
+            left[node] = -1;
+            right[node] = -1;
+            if (to - from <= LEAF_SIZE) {
+                return 1;
+            }
+
+            double[] key = hiX - loX >= hiY - loY ? xs : ys;
+            int middle = (from + to) >>> 1;
+            select(from, to - 1, middle, key);
+            left[node] = nodeCount;
+            int leftHeight = build(from, middle, xs, ys);
+            right[node] = nodeCount;
+            int rightHeight = build(middle, to, xs, ys);
+            return 1 + Math.max(leftHeight, rightHeight);
+        }
+
+        private void grow() {
+            int capacity = start.length * 2;
+            start = Arrays.copyOf(start, capacity);
+            end = Arrays.copyOf(end, capacity);
+            left = Arrays.copyOf(left, capacity);
+            right = Arrays.copyOf(right, capacity);
+            minX = Arrays.copyOf(minX, capacity);
+            maxX = Arrays.copyOf(maxX, capacity);
+            minY = Arrays.copyOf(minY, capacity);
+            maxY = Arrays.copyOf(maxY, capacity);
+        }
+
+        //Quickselect: places the k-th smallest point by key at position k within order[lo, hi].
+        private void select(int lo, int hi, int k, double[] key) {
+            while (lo < hi) {
+                double pivot = key[order[(lo + hi) >>> 1]];
+                int i = lo;
+                int j = hi;
+                while (i <= j) {
+                    while (key[order[i]] < pivot) {
+                        i++;
+                    }
+                    while (key[order[j]] > pivot) {
+                        j--;
+                    }
+                    if (i <= j) {
+                        int swap = order[i];
+                        order[i] = order[j];
+                        order[j] = swap;
+                        i++;
+                        j--;
+                    }
+                }
+                if (k <= j) {
+                    hi = j;
+                } else if (k >= i) {
+                    lo = i;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        //Recomputes subtree component labels; children always have larger node ids than their parent.
+        void labelComponents(int[] component) {
+            for (int node = nodeCount - 1; node >= 0; node--) {
+                if (left[node] < 0) {
+                    int label = component[order[start[node]]];
+                    for (int i = start[node] + 1; i < end[node] && label >= 0; i++) {
+                        if (component[order[i]] != label) {
+                            label = -1;
+                        }
+                    }
+                    nodeComponent[node] = label;
+                } else {
+                    int label = nodeComponent[left[node]];
+                    nodeComponent[node] = label == nodeComponent[right[node]] ? label : -1;
+                }
+            }
+        }
+
+        //Returns the point stored at a leaf-order slot; iterating slots in order keeps queries local.
+        int pointAt(int slot) {
+            return order[slot];
+        }
+
+        /**
+         * Finds the nearest point to p outside p's component (ties go to the smaller point id)
+         * and stores it with its squared distance, or -1 if every point shares p's component or
+         * another point of the component has a strictly closer candidate, found before or during the search.
+         * The shared per-component bound only ever decreases, so stale reads merely prune less; a stored
+         * point is always exact, even when concurrent updates to the bound cut the search short.
+         */
+        void nearestOutside(int p, int[] component, AtomicLongArray componentBound, int[] nearest,
+                            double[] nearestDistance, LongAdder operations) {
+            int own = component[p];
+            double x = px[pointSlot[p]];
+            double y = py[pointSlot[p]];
+            double best = Double.POSITIVE_INFINITY;
+            int bestPoint = -1;
+            long work = 0;
+
+            int[] stack = stacks.get();
+            int top = 0;
+            stack[top++] = 0;
+            while (top > 0) {
+                int node = stack[--top];
+                work++;
+                double bound = Math.min(best, Double.longBitsToDouble(componentBound.getOpaque(own)));
+                if (nodeComponent[node] == own || boxDistance(node, x, y) > bound) {
+                    continue;
+                }
+                if (left[node] < 0) {
+                    for (int i = start[node]; i < end[node]; i++) {
+                        int q = order[i];
+                        if (component[q] == own) {
+                            continue;
+                        }
+                        double dx = px[i] - x;
+                        double dy = py[i] - y;
+                        double distance = dx * dx + dy * dy;
+                        work++;
+                        // Only accept points within the bound; whether the result is exact is settled below
+                        if (distance <= bound && (distance < best || (distance == best && q < bestPoint))) {
+                            best = distance;
+                            bestPoint = q;
+                        }
+                    }
+                } else {
+                    // Visit the nearer child first so the bound tightens early
+                    int near = left[node];
+                    int far = right[node];
+                    if (boxDistance(far, x, y) < boxDistance(near, x, y)) {
+                        near = right[node];
+                        far = left[node];
+                    }
+                    stack[top++] = far;
+                    stack[top++] = near;
+                }
+            }
+            operations.add(work);
+            if (bestPoint >= 0) {
+                lowerCompareAndSet(componentBound, own, best);
+                // Another thread may have lowered the bound below best mid-search and so pruned a closer point.
+                // Every pruned point was farther than the bound at that time, which is at least the final one,
+                // so the candidate is the exact nearest (and stays valid in later rounds) only within it
+                if (best > Double.longBitsToDouble(componentBound.get(own))) {
+                    bestPoint = -1;
+                }
+            }
+            nearest[p] = bestPoint;
+            nearestDistance[p] = best;
+        }
+
+        private double boxDistance(int node, double x, double y) {
+            double dx = Math.max(0, Math.max(minX[node] - x, x - maxX[node]));
+            double dy = Math.max(0, Math.max(minY[node] - y, y - maxY[node]));
+            return dx * dx + dy * dy;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package org.harryfloppa.algorithm;
+
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+
+import java.util.*;
+
+/**
+ * Lazily enumerates spanning trees (forests) in non-decreasing order of cost.
+ * Uses the partitioning scheme of Gabow and Lawler: each partition fixes some edges in and some out,
+ * and after its best tree is emitted it is split into disjoint sub-partitions, one per free tree edge.
+ * Partitions only store their included/excluded edge lists and best tree, and the pending queue is
+ * capped at the number of trees still to be produced, so memory stays O(k * V) however large E is.
+ */
+public class KBestSpanningTrees implements Iterable<MSTResult> {
+    private final Graph graph;
+    private final int k;
+
+    //Enumerates up to k spanning trees; pass Integer.MAX_VALUE for all of them.
+    public KBestSpanningTrees(Graph graph, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must be non-negative");
+        }
+        this.graph = graph;
+        this.k = k;
+    }
+
+    @Override
+    public Iterator<MSTResult> iterator() {
+        return new TreeIterator();
+    }
+
+    //Convenience: collects the k best trees into a list.
+    public List<MSTResult> toList() {
+        List<MSTResult> trees = new ArrayList<>();
+        for (MSTResult tree : this) {
+            trees.add(tree);
+        }
+        return trees;
+    }
+
+    //A region of the solution space together with its cheapest tree.
+    private static final class Partition {
+        final int[] included;
+        final int[] excluded;
+        final int[] tree;
+        final long cost;
+        final long sequence;
+
+        Partition(int[] included, int[] excluded, int[] tree, long cost, long sequence) {
+            this.included = included;
+            this.excluded = excluded;
+            this.tree = tree;
+            this.cost = cost;
+            this.sequence = sequence;
+        }
+    }
+
+    private final class TreeIterator implements Iterator<MSTResult> {
+        private final TreeSet<Partition> pending = new TreeSet<>(
+                Comparator.<Partition>comparingLong(p -> p.cost).thenComparingLong(p -> p.sequence));
+        private final SolveContext context = new SolveContext();
+        private final byte[] constraint = new byte[graph.getEdgeCount()];
+        private final int[] forest = new int[Math.max(0, graph.getVertexCount() - 1)];
+        private int targetSize = -1;
+        private int emitted;
+        private long sequence;
+
+        @Override
+        public boolean hasNext() {
+            if (emitted >= k) {
+                return false;
+            }
+            if (targetSize < 0) {
+                // The unconstrained forest fixes how many edges every spanning forest has
+                Partition root = solve(new int[0], new int[0]);
+                targetSize = root == null ? 0 : root.tree.length;
+                if (root != null) {
+                    pending.add(root);
+                }
+            }
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public MSTResult next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            long startTime = System.nanoTime();
+            context.reset();
+            Partition best = pending.pollFirst();
+            emitted++;
+            if (emitted < k) {
+                split(best);
+            }
+
+            List<Edge> edges = new ArrayList<>(best.tree.length);
+            for (int e : best.tree) {
+                edges.add(graph.getEdge(e));
+            }
+            double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+            return new MSTResult(edges, (int) best.cost, context.getOperationsCount(), executionTimeMs,
+                    context.getAllocatedBytes());
+        }
+
+        //Child i keeps the first i free tree edges and bans the (i+1)-th.
+        private void split(Partition parent) {
+            Set<Integer> fixed = new HashSet<>();
+            for (int e : parent.included) {
+                fixed.add(e);
+            }
+            int[] included = parent.included;
+            for (int e : parent.tree) {
+                if (fixed.contains(e)) {
+                    continue;
+                }
+                int[] excluded = Arrays.copyOf(parent.excluded, parent.excluded.length + 1);
+                excluded[parent.excluded.length] = e;
+                Partition child = solve(included, excluded);
+                if (child != null) {
+                    offer(child);
+                }
+                included = Arrays.copyOf(included, included.length + 1);
+                included[included.length - 1] = e;
+            }
+        }
+
+        //Keeps at most as many partitions as trees still to be emitted, dropping the most expensive.
+        private void offer(Partition partition) {
+            int capacity = k - emitted;
+            if (pending.size() < capacity) {
+                pending.add(partition);
+            } else if (capacity > 0 && pending.comparator().compare(partition, pending.last()) < 0) {
+                pending.pollLast();
+                pending.add(partition);
+            }
+        }
+
+        private Partition solve(int[] included, int[] excluded) {
+            for (int e : included) {
+                constraint[e] = KruskalAlgorithm.INCLUDED;
+            }
+            for (int e : excluded) {
+                constraint[e] = KruskalAlgorithm.EXCLUDED;
+            }
+            int size = KruskalAlgorithm.constrainedForest(graph, context, constraint, forest);
+            for (int e : included) {
+                constraint[e] = 0;
+            }
+            for (int e : excluded) {
+                constraint[e] = 0;
+            }
+            if (size < 0 || (targetSize >= 0 && size != targetSize)) {
+                return null; // Constraints leave no spanning forest
+            }
+            long cost = 0;
+            for (int i = 0; i < size; i++) {
+                cost += graph.getEdgeWeight(forest[i]);
+            }
+            return new Partition(included, excluded, Arrays.copyOf(forest, size), cost, sequence++);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package org.harryfloppa.algorithm;
+
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+
+import java.util.*;
+
+/**
+ * Randomized expected linear-time MST (Karger, Klein and Tarjan).
+ * Each level runs two Borůvka steps, which at least quarter the vertex count, then computes
+ * a forest F of a random half of the remaining edges recursively, discards every F-heavy edge
+ * (strictly heavier than the heaviest F edge between its endpoints, so it lies in no MSF) and
+ * recurses on the survivors, of which only O(V) are expected to remain.
+ * Path maxima for the filter come from a {@link BottleneckPathIndex}, the same structure that backs
+ * {@link MSTVerifier}. Small subproblems fall back to Kruskal, which is faster at that size.
+ * The bulk contraction and filtering scans go through {@link EdgeFilter#best()}, so they use SIMD when available.
+ *
+ * The random seed is fixed per instance, so results and operation counts are reproducible;
+ * the forest returned is a minimum spanning forest for every seed.
+ */
+public class KKTAlgorithm implements MSTSolver {
+    private static final int BASE_CASE_EDGES = 4_096;
+    private static final EdgeFilter FILTER = EdgeFilter.best();
+
+    private final long seed;
+
+    public KKTAlgorithm() {
+        this(0x5DEECE66DL);
+    }
+
+    public KKTAlgorithm(long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public String getName() {
+        return "kkt";
+    }
+
+    @Override
+    public MSTResult findMST(Graph graph, SolveContext context) {
+        context.reset();
+        long startTime = System.nanoTime();
+
+        int edgeCount = graph.getEdgeCount();
+        int[] from = new int[edgeCount];
+        int[] to = new int[edgeCount];
+        int[] weight = new int[edgeCount];
+        int[] label = new int[edgeCount];
+        int kept = 0;
+        for (int e = 0; e < edgeCount; e++) {
+            if (graph.getEdgeFrom(e) != graph.getEdgeTo(e)) {
+                from[kept] = graph.getEdgeFrom(e);
+                to[kept] = graph.getEdgeTo(e);
+                weight[kept] = graph.getEdgeWeight(e);
+                label[kept++] = e;
+            }
+        }
+        context.count(edgeCount); // Edge array construction
+
+        Forest forest = new Forest(Math.max(0, graph.getVertexCount() - 1));
+        solve(new Level(graph.getVertexCount(), from, to, weight, label, kept), forest,
+                new SplittableRandom(seed), context);
+
+        int totalCost = 0;
+        for (int i = 0; i < forest.size; i++) {
+            totalCost += graph.getEdgeWeight(forest.labels[i]);
+        }
+
+        double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new MSTResult(graph, forest.labels, forest.size, totalCost, context.getOperationsCount(),
+                executionTimeMs, context.getAllocatedBytes());
+    }
+
+    //Appends the labels of a minimum spanning forest of the level to forest.
+    private static void solve(Level level, Forest forest, SplittableRandom random, SolveContext context) {
+        if (level.edgeCount <= BASE_CASE_EDGES) {
+            kruskal(level, forest, context);
+            return;
+        }
+        level = boruvkaStep(boruvkaStep(level, forest, context), forest, context);
+        if (level.edgeCount == 0) {
+            return;
+        }
+
+        // Forest of a random half; its labels index this level's edges
+        int[] sampled = new int[level.edgeCount];
+        int sampleSize = 0;
+        for (int e = 0; e < level.edgeCount; e++) {
+            if (random.nextBoolean()) {
+                sampled[sampleSize++] = e;
+            }
+        }
+        Level sample = level.subset(sampled, sampleSize, true);
+        Forest sampleForest = new Forest(Math.max(0, level.vertexCount - 1));
+        solve(sample, sampleForest, random, context);
+        context.count(level.edgeCount); // Sampling
+
+        // Keep only F-light edges: across trees of F, or no heavier than the F path between the endpoints
+        int[] treeFrom = new int[sampleForest.size];
+        int[] treeTo = new int[sampleForest.size];
+        int[] treeWeight = new int[sampleForest.size];
+        for (int i = 0; i < sampleForest.size; i++) {
+            int e = sampleForest.labels[i];
+            treeFrom[i] = level.from[e];
+            treeTo[i] = level.to[e];
+            treeWeight[i] = level.weight[e];
+        }
+        BottleneckPathIndex index = new BottleneckPathIndex(level.vertexCount, treeFrom, treeTo, treeWeight,
+                sampleForest.size);
+        int[] pathMax = index.queryBatch(Arrays.copyOf(level.from, level.edgeCount),
+                Arrays.copyOf(level.to, level.edgeCount));
+        int[] light = sampled;
+        int lightCount = FILTER.keepAtMostBound(level.weight, pathMax, level.edgeCount, light);
+        int liftingSteps = Math.max(1, 32 - Integer.numberOfLeadingZeros(level.vertexCount));
+        context.count((long) (level.vertexCount + level.edgeCount) * liftingSteps); // Filtering
+
+        solve(level.subset(light, lightCount, false), forest, random, context);
+    }
+
+    /**
+     * Adds every vertex's lightest incident edge to the forest and contracts the chosen edges.
+     * Ties are broken by label, which makes the choices acyclic.
+     */
+    private static Level boruvkaStep(Level level, Forest forest, SolveContext context) {
+        int vertexCount = level.vertexCount;
+        int[] cheapest = new int[vertexCount];
+        Arrays.fill(cheapest, -1);
+        for (int e = 0; e < level.edgeCount; e++) {
+            int u = level.from[e];
+            int v = level.to[e];
+            if (cheapest[u] < 0 || level.lighter(e, cheapest[u])) {
+                cheapest[u] = e;
+            }
+            if (cheapest[v] < 0 || level.lighter(e, cheapest[v])) {
+                cheapest[v] = e;
+            }
+        }
+        context.count(level.edgeCount); // Cheapest edge scan
+
+        UnionFind unionFind = new UnionFind(vertexCount);
+        unionFind.reset(vertexCount);
+        for (int v = 0; v < vertexCount; v++) {
+            int e = cheapest[v];
+            if (e >= 0 && unionFind.union(level.from[e], level.to[e])) {
+                forest.add(level.label[e]);
+            }
+        }
+
+        // Drop self-loops, then relabel the components that still have edges
+        int[] root = cheapest;
+        for (int v = 0; v < vertexCount; v++) {
+            root[v] = unionFind.find(v);
+        }
+        int[] crossing = new int[level.edgeCount];
+        int kept = FILTER.keepCrossComponent(level.from, level.to, root, level.edgeCount, crossing);
+
+        int[] component = new int[vertexCount];
+        Arrays.fill(component, -1);
+        int componentCount = 0;
+        int[] from = new int[kept];
+        int[] to = new int[kept];
+        int[] weight = new int[kept];
+        int[] label = new int[kept];
+        for (int i = 0; i < kept; i++) {
+            int e = crossing[i];
+            int u = root[level.from[e]];
+            int v = root[level.to[e]];
+            if (component[u] < 0) {
+                component[u] = componentCount++;
+            }
+            if (component[v] < 0) {
+                component[v] = componentCount++;
+            }
+            from[i] = component[u];
+            to[i] = component[v];
+            weight[i] = level.weight[e];
+            label[i] = level.label[e];
+        }
+        context.count(level.edgeCount + kept + unionFind.getOperationsCount()); // Contraction
+        return new Level(componentCount, from, to, weight, label, kept);
+    }
+
+    private static void kruskal(Level level, Forest forest, SolveContext context) {
+        SolverWorkspace workspace = context.getWorkspace();
+        long[] sortedEdges = workspace.sortKeys(level.edgeCount);
+        for (int e = 0; e < level.edgeCount; e++) {
+            sortedEdges[e] = ((long) level.weight[e] << 32) | e;
+        }
+        Arrays.sort(sortedEdges, 0, level.edgeCount);
+        context.count(level.edgeCount + (long) (level.edgeCount * Math.log(Math.max(1, level.edgeCount))));
+
+        UnionFind unionFind = workspace.unionFind(level.vertexCount);
+        int added = 0;
+        for (int i = 0; i < level.edgeCount && added < level.vertexCount - 1; i++) {
+            int e = (int) sortedEdges[i];
+            if (unionFind.union(level.from[e], level.to[e])) {
+                forest.add(level.label[e]);
+                added++;
+            }
+        }
+        context.count(unionFind.getOperationsCount());
+    }
+
+    /**
+     * A contracted subproblem: edges over vertices [0, vertexCount), each carrying the label
+     * reported when it joins the forest.
+     */
+    private static final class Level {
+        final int vertexCount;
+        final int[] from;
+        final int[] to;
+        final int[] weight;
+        final int[] label;
+        final int edgeCount;
+
+        Level(int vertexCount, int[] from, int[] to, int[] weight, int[] label, int edgeCount) {
+            this.vertexCount = vertexCount;
+            this.from = from;
+            this.to = to;
+            this.weight = weight;
+            this.label = label;
+            this.edgeCount = edgeCount;
+        }
+
+        boolean lighter(int e, int other) {
+            return weight[e] < weight[other] || (weight[e] == weight[other] && label[e] < label[other]);
+        }
+
+        //Sub-level over the given edges, labelled with their index in this level or with their own labels.
+        Level subset(int[] edges, int count, boolean labelByIndex) {
+            int[] subFrom = new int[count];
+            int[] subTo = new int[count];
+            int[] subWeight = new int[count];
+            int[] subLabel = new int[count];
+            for (int i = 0; i < count; i++) {
+                int e = edges[i];
+                subFrom[i] = from[e];
+                subTo[i] = to[e];
+                subWeight[i] = weight[e];
+                subLabel[i] = labelByIndex ? e : label[e];
+            }
+            return new Level(vertexCount, subFrom, subTo, subWeight, subLabel, count);
+        }
+    }
+
+    //Growable list of forest edge labels.
+    private static final class Forest {
+        int[] labels;
+        int size;
+
+        Forest(int capacity) {
+            labels = new int[Math.max(1, capacity)];
+        }
+
+        void add(int label) {
+            if (size == labels.length) {
+                labels = Arrays.copyOf(labels, size * 2);
+            }
+            labels[size++] = label;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package org.harryfloppa.algorithm;
 
-import org.harryfloppa.model.Edge;
 import org.harryfloppa.model.Graph;
 import org.harryfloppa.model.MSTResult;
 
@@ -10,138 +9,123 @@ import java.util.*;
  * Implementation of Kruskal's algorithm for finding Minimum Spanning Tree.
  * Uses Union-Find (Disjoint Set Union) data structure for efficient cycle detection.
  */
-public class KruskalAlgorithm {
-    private long operationsCount;
+public class KruskalAlgorithm implements MSTSolver {
+    // Edge constraints understood by constrainedForest
+    static final byte INCLUDED = 1;
+    static final byte EXCLUDED = 2;
+
+    @Override
+    public String getName() {
+        return "kruskal";
+    }
+
     /**
      * Finds the Minimum Spanning Tree using Kruskal's algorithm.
      * If the graph is disconnected, finds a Minimum Spanning Forest (MSF).
      */
-    public MSTResult findMST(Graph graph) {
-        operationsCount = 0;
+    @Override
+    public MSTResult findMST(Graph graph, SolveContext context) {
+        context.reset();
         long startTime = System.nanoTime();
 
-        List<Edge> mstEdges = new ArrayList<>();
+        // MST edges as indices into the graph
+        int[] treeEdges = new int[Math.max(0, graph.getVertexCount() - 1)];
+        int treeSize = 0;
         int totalCost = 0;
 
         // Handle empty graph
         if (graph.getVertexCount() == 0) {
             long endTime = System.nanoTime();
             double executionTimeMs = (endTime - startTime) / 1_000_000.0;
-            return new MSTResult(mstEdges, totalCost, operationsCount, executionTimeMs);
+            return new MSTResult(graph, treeEdges, treeSize, totalCost, context.getOperationsCount(),
+                    executionTimeMs, context.getAllocatedBytes());
         }
 
-        // Sort edges by weight
-        List<Edge> sortedEdges = new ArrayList<>(graph.getEdges());
-        sortedEdges.sort(Comparator.comparingInt(Edge::getWeight));
-        operationsCount += (long) (sortedEdges.size() * Math.log(sortedEdges.size())); // Sorting operations
+        SolverWorkspace workspace = context.getWorkspace();
+
+        // Sort edges by weight: each key packs the weight above the edge index
+        int edgeCount = graph.getEdgeCount();
+        long[] sortedEdges = workspace.sortKeys(edgeCount);
+        for (int e = 0; e < edgeCount; e++) {
+            sortedEdges[e] = ((long) graph.getEdgeWeight(e) << 32) | e;
+        }
+        Arrays.sort(sortedEdges, 0, edgeCount);
+        context.count((long) (edgeCount * Math.log(edgeCount))); // Sorting operations
 
         // Initialize Union-Find structure
-        UnionFind unionFind = new UnionFind(graph.getNodes());
+        UnionFind unionFind = workspace.unionFind(graph.getVertexCount());
 
         // Process edges in ascending order of weight
-        for (Edge edge : sortedEdges) {
-            operationsCount++; // Iteration
+        for (int i = 0; i < edgeCount; i++) {
+            context.count(); // Iteration
 
-            String from = edge.getFrom();
-            String to = edge.getTo();
+            int edgeIndex = (int) sortedEdges[i];
+            int from = graph.getEdgeFrom(edgeIndex);
+            int to = graph.getEdgeTo(edgeIndex);
 
             // Check if adding this edge creates a cycle
             if (!unionFind.connected(from, to)) {
-                operationsCount++; // Connected check
-                
+                context.count(); // Connected check
+
                 // Add edge to MST
-                mstEdges.add(edge);
-                totalCost += edge.getWeight();
+                treeEdges[treeSize++] = edgeIndex;
+                totalCost += graph.getEdgeWeight(edgeIndex);
                 unionFind.union(from, to);
-                operationsCount += 2; // Add edge and union operation
+                context.count(2); // Add edge and union operation
 
                 // Early termination: MST has V-1 edges
-                if (mstEdges.size() == graph.getVertexCount() - 1) {
-                    operationsCount++; // Size check
+                if (treeSize == graph.getVertexCount() - 1) {
+                    context.count(); // Size check
                     break;
                 }
             }
         }
 
         // Add Union-Find operations to total count
-        operationsCount += unionFind.getOperationsCount();
+        context.count(unionFind.getOperationsCount());
 
         long endTime = System.nanoTime();
         double executionTimeMs = (endTime - startTime) / 1_000_000.0;
 
-        return new MSTResult(mstEdges, totalCost, operationsCount, executionTimeMs);
+        return new MSTResult(graph, treeEdges, treeSize, totalCost, context.getOperationsCount(), executionTimeMs,
+                context.getAllocatedBytes());
     }
 
     /**
-     * Union-Find (Disjoint Set Union) data structure with path compression and union by rank.
-     * Provides near-constant time operations for union and find.
+     * Kruskal's algorithm under per-edge constraints, as needed by partitioning schemes:
+     * edges marked INCLUDED are forced into the forest first, EXCLUDED edges are skipped.
+     * Writes the chosen edge indices to forest and returns how many were chosen,
+     * or -1 if the included edges already contain a cycle.
      */
-    private static class UnionFind {
-        private final Map<String, String> parent;
-        private final Map<String, Integer> rank;
-        private long operationsCount;
-
-        public UnionFind(List<String> nodes) {
-            parent = new HashMap<>();
-            rank = new HashMap<>();
-            operationsCount = 0;
-
-            for (String node : nodes) {
-                parent.put(node, node);
-                rank.put(node, 0);
-                operationsCount += 2; // Initialization operations
-            }
-        }
-
-        //Finds the root of the set containing the given node with path compression.
-        public String find(String node) {
-            operationsCount++; // Find operation
-            
-            if (!parent.get(node).equals(node)) {
-                operationsCount++; // Comparison
-                // Path compression: make every node point directly to root
-                parent.put(node, find(parent.get(node)));
-                operationsCount++; // Path compression update
+    static int constrainedForest(Graph graph, SolveContext context, byte[] constraint, int[] forest) {
+        SolverWorkspace workspace = context.getWorkspace();
+        UnionFind unionFind = workspace.unionFind(graph.getVertexCount());
+        int size = 0;
+
+        int edgeCount = graph.getEdgeCount();
+        long[] sortedEdges = workspace.sortKeys(edgeCount);
+        int free = 0;
+        for (int e = 0; e < edgeCount; e++) {
+            if (constraint != null && constraint[e] == INCLUDED) {
+                if (!unionFind.union(graph.getEdgeFrom(e), graph.getEdgeTo(e))) {
+                    context.count(unionFind.getOperationsCount());
+                    return -1;
+                }
+                forest[size++] = e;
+            } else if (constraint == null || constraint[e] != EXCLUDED) {
+                sortedEdges[free++] = ((long) graph.getEdgeWeight(e) << 32) | e;
             }
-            return parent.get(node);
         }
+        Arrays.sort(sortedEdges, 0, free);
+        context.count(free + (long) (free * Math.log(Math.max(1, free)))); // Filtering and sorting
 
-        //Unites the sets containing two nodes using union by rank.
-        public void union(String node1, String node2) {
-            String root1 = find(node1);
-            String root2 = find(node2);
-            operationsCount += 2; // Two find operations
-
-            if (root1.equals(root2)) {
-                operationsCount++; // Comparison
-                return;
-            }
-
-            // Union by rank: attach smaller tree under root of larger tree
-            int rank1 = rank.get(root1);
-            int rank2 = rank.get(root2);
-            operationsCount += 2; // Rank retrievals
-
-            if (rank1 < rank2) {
-                parent.put(root1, root2);
-                operationsCount++; // Parent update
-            } else if (rank1 > rank2) {
-                parent.put(root2, root1);
-                operationsCount++; // Parent update
-            } else {
-                parent.put(root2, root1);
-                rank.put(root1, rank1 + 1);
-                operationsCount += 2; // Parent and rank update
+        for (int i = 0; i < free && size < graph.getVertexCount() - 1; i++) {
+            int edgeIndex = (int) sortedEdges[i];
+            if (unionFind.union(graph.getEdgeFrom(edgeIndex), graph.getEdgeTo(edgeIndex))) {
+                forest[size++] = edgeIndex;
             }
         }
-
-        //Checks if two nodes are in the same set.
-        public boolean connected(String node1, String node2) {
-            return find(node1).equals(find(node2));
-        }
-
-        public long getOperationsCount() {
-            return operationsCount;
-        }
+        context.count(unionFind.getOperationsCount());
+        return size;
     }
 }
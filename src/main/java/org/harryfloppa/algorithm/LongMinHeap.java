@@ -0,0 +1,66 @@
+package org.harryfloppa.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of primitive longs, typically (key << 32 | payload) entries so that ordering by the
+ * long orders by key first. The backing array only ever grows, and clearing is O(1), so a pooled heap
+ * is reused across solves without allocating.
+ */
+final class LongMinHeap {
+    private long[] heap = new long[16];
+    private int size;
+
+    //Empties the heap in O(1).
+    void clear() {
+        size = 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    //Smallest entry; the heap must not be empty.
+    long peek() {
+        return heap[0];
+    }
+
+    void push(long entry) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= entry) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = entry;
+    }
+
+    //Removes and returns the smallest entry; the heap must not be empty.
+    long pop() {
+        long min = heap[0];
+        long last = heap[--size];
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (last <= heap[child]) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        if (size > 0) {
+            heap[i] = last;
+        }
+        return min;
+    }
+}
@@ -0,0 +1,30 @@
+package org.harryfloppa.algorithm;
+
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+
+/**
+ * Common interface of the MST engines.
+ * Implementations are immutable and thread-safe: all per-call state lives in the {@link SolveContext}.
+ */
+public interface MSTSolver {
+
+    //Short engine name used in reports and output files.
+    String getName();
+
+    /**
+     * Finds the Minimum Spanning Tree, or a Minimum Spanning Forest if the graph is disconnected,
+     * using the given context for scratch space and metrics.
+     */
+    MSTResult findMST(Graph graph, SolveContext context);
+
+    //Finds the MST with a context pooled for the calling thread.
+    default MSTResult findMST(Graph graph) {
+        SolveContext context = SolveContext.acquire();
+        try {
+            return findMST(graph, context);
+        } finally {
+            context.release();
+        }
+    }
+}
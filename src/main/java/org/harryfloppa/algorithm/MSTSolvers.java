@@ -0,0 +1,26 @@
+package org.harryfloppa.algorithm;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Registry of the general-purpose MST engines, for tools that should cover every engine
+ * (differential testing, benchmarks). New engines are added here.
+ */
+public final class MSTSolvers {
+
+    private MSTSolvers() {
+    }
+
+    //One instance of every engine: Prim with each queue, Kruskal and KKT.
+    public static List<MSTSolver> all() {
+        List<MSTSolver> solvers = new ArrayList<>();
+        for (PrimQueue.Kind kind : PrimQueue.Kind.values()) {
+            solvers.add(new PrimAlgorithm(kind));
+        }
+        solvers.add(new KruskalAlgorithm());
+        solvers.add(new KKTAlgorithm());
+        return Collections.unmodifiableList(solvers);
+    }
+}
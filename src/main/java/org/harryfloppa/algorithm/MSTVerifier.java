@@ -0,0 +1,156 @@
+package org.harryfloppa.algorithm;
+
+import org.harryfloppa.io.LongIntHashMap;
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+import org.harryfloppa.model.VerificationResult;
+
+import java.util.*;
+
+/**
+ * Proves that a claimed result is a minimum spanning forest of its graph without solving it again.
+ * A forest is minimum exactly when every non-tree edge is at least as heavy as the heaviest tree edge
+ * on the path between its endpoints (the cycle property); it is spanning when no non-tree edge joins
+ * two different trees. Path maxima come from a {@link BottleneckPathIndex}, so the check runs in
+ * O(E log V) with hashing and no sort, well below the cost of a second solve.
+ * Results solved on the same graph are read through their edge indices; results built from edge lists
+ * are matched to the graph by vertex names and packed vertex pairs.
+ */
+public class MSTVerifier {
+
+    public VerificationResult verify(Graph graph, MSTResult result) {
+        long startTime = System.nanoTime();
+        long operations = 0;
+        int vertexCount = graph.getVertexCount();
+        int edgeCount = graph.getEdgeCount();
+
+        // Results solved on this graph name their edges by index; only edge lists need the name lookup
+        boolean indexed = result.getGraph() == graph;
+        Map<String, Integer> vertexIds = null;
+        if (!indexed) {
+            vertexIds = new HashMap<>(vertexCount * 4 / 3 + 1);
+            for (int v = 0; v < vertexCount; v++) {
+                vertexIds.putIfAbsent(graph.getNodeName(v), v);
+            }
+            operations += vertexCount;
+        }
+
+        // The claimed edges must form a forest whose cost matches the reported total
+        List<Edge> treeEdges = result.getMstEdges();
+        int treeSize = treeEdges.size();
+        int[] from = new int[treeSize];
+        int[] to = new int[treeSize];
+        int[] weight = new int[treeSize];
+        boolean[] inTree = new boolean[edgeCount];
+        UnionFind unionFind = new UnionFind(vertexCount);
+        unionFind.reset(vertexCount);
+        long totalCost = 0;
+        for (int i = 0; i < treeSize; i++) {
+            int u;
+            int v;
+            if (indexed) {
+                int e = result.getEdgeIndex(i);
+                if (e < 0 || e >= edgeCount) {
+                    return invalid("Edge index " + e + " is not in the graph", operations, startTime);
+                }
+                u = graph.getEdgeFrom(e);
+                v = graph.getEdgeTo(e);
+                weight[i] = graph.getEdgeWeight(e);
+                inTree[e] = true;
+            } else {
+                Edge edge = treeEdges.get(i);
+                Integer fromId = vertexIds.get(edge.getFrom());
+                Integer toId = vertexIds.get(edge.getTo());
+                if (fromId == null || toId == null) {
+                    return invalid("Edge " + edge + " references a vertex not in the graph", operations, startTime);
+                }
+                u = fromId;
+                v = toId;
+                weight[i] = edge.getWeight();
+            }
+            if (!unionFind.union(u, v)) {
+                return invalid("Edges contain a cycle through " + treeEdges.get(i), operations, startTime);
+            }
+            from[i] = u;
+            to[i] = v;
+            totalCost += weight[i];
+        }
+        operations += treeSize + unionFind.getOperationsCount();
+        if (totalCost != result.getTotalCost()) {
+            return invalid("Reported total cost " + result.getTotalCost() + " but edges sum to " + totalCost,
+                    operations, startTime);
+        }
+
+        // Match edge-list tree edges to graph edges by vertex pair and weight
+        if (!indexed) {
+            LongIntHashMap treeByPair = new LongIntHashMap(treeSize);
+            for (int i = 0; i < treeSize; i++) {
+                treeByPair.put(pairKey(from[i], to[i]), i);
+            }
+            boolean[] matched = new boolean[treeSize];
+            for (int e = 0; e < edgeCount; e++) {
+                int t = treeByPair.get(pairKey(graph.getEdgeFrom(e), graph.getEdgeTo(e)), -1);
+                if (t >= 0 && !matched[t] && weight[t] == graph.getEdgeWeight(e)) {
+                    matched[t] = true;
+                    inTree[e] = true;
+                }
+            }
+            operations += treeSize + edgeCount;
+            for (int i = 0; i < treeSize; i++) {
+                if (!matched[i]) {
+                    return invalid("Edge " + treeEdges.get(i) + " is not in the graph", operations, startTime);
+                }
+            }
+        }
+
+        // Everything outside the tree is a non-tree edge to check
+        int[] nonTree = new int[edgeCount - treeSize];
+        int nonTreeCount = 0;
+        for (int e = 0; e < edgeCount; e++) {
+            if (!inTree[e]) {
+                nonTree[nonTreeCount++] = e;
+            }
+        }
+        operations += edgeCount;
+
+        // Cycle property and maximality against path maxima in the claimed forest
+        BottleneckPathIndex index = new BottleneckPathIndex(vertexCount, from, to, weight, treeSize);
+        int[] queryFrom = new int[nonTreeCount];
+        int[] queryTo = new int[nonTreeCount];
+        for (int i = 0; i < nonTreeCount; i++) {
+            queryFrom[i] = graph.getEdgeFrom(nonTree[i]);
+            queryTo[i] = graph.getEdgeTo(nonTree[i]);
+        }
+        int[] pathMax = index.queryBatch(queryFrom, queryTo);
+        int liftingSteps = Math.max(1, 32 - Integer.numberOfLeadingZeros(vertexCount));
+        operations += (long) vertexCount * liftingSteps + (long) nonTreeCount * liftingSteps;
+        for (int i = 0; i < nonTreeCount; i++) {
+            int u = queryFrom[i];
+            int v = queryTo[i];
+            if (u == v) {
+                continue;
+            }
+            if (!index.isConnected(u, v)) {
+                return invalid("Not spanning: " + graph.getEdge(nonTree[i]) + " joins two trees of the forest",
+                        operations, startTime);
+            }
+            if (pathMax[i] > graph.getEdgeWeight(nonTree[i])) {
+                return invalid("Not minimum: " + graph.getEdge(nonTree[i]) + " is lighter than a tree edge of weight " + pathMax[i]
+                        + " on its cycle", operations, startTime);
+            }
+        }
+
+        double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new VerificationResult(true, null, operations, executionTimeMs);
+    }
+
+    private static long pairKey(int u, int v) {
+        return ((long) Math.min(u, v) << 32) | Math.max(u, v);
+    }
+
+    private static VerificationResult invalid(String reason, long operations, long startTime) {
+        double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new VerificationResult(false, reason, operations, executionTimeMs);
+    }
+}
@@ -0,0 +1,212 @@
+package org.harryfloppa.algorithm;
+
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTWeightEstimate;
+
+import java.util.SplittableRandom;
+
+/**
+ * Estimates the MST (or MSF) weight without computing the tree, following Chazelle, Rubinfeld and Trevisan:
+ * the weight equals the sum over thresholds t of (components using edges of weight at most t) minus
+ * (components of the whole graph), and component counts can be estimated by exploring small neighbourhoods
+ * of random vertices.
+ *
+ * A capped Prim walk from a sampled vertex u visits u's component in every threshold graph at once, in
+ * order of bottleneck weight, so one walk yields the exact contribution sum_k b_k / (k (k - 1)) of u, where
+ * b_k is the bottleneck weight needed to reach the k-th visited vertex. Walks stop after about 4 / epsilon
+ * vertices; the unexplored tail is estimated from the last bottleneck, and its worst case (at most
+ * epsilon / 4 times the largest weight per vertex) widens the upper bound of the interval.
+ *
+ * Samples are drawn until the normal-approximation confidence half-width drops below epsilon times the
+ * estimate, so the sampling cost depends on epsilon, the weight spread and the degrees of walked vertices,
+ * but not on the number of edges. The walks need the graph's compressed adjacency and its largest weight:
+ * the first estimate on a graph builds the adjacency in O(V + E) unless a solver already has, and scans the
+ * weights in O(E) unless maxWeight is passed in. Both are cached on the graph, so only repeated estimates
+ * on one graph, or on a graph that was solved before, run in time independent of E.
+ */
+public class MSTWeightEstimator {
+    private static final int MIN_SAMPLES = 64;
+    private static final int CHECK_INTERVAL = 32;
+
+    private final double epsilon;
+    private final double confidence;
+    private final int maxSamples;
+    private final long seed;
+
+    public MSTWeightEstimator() {
+        this(0.05, 0.95, 1 << 16, System.nanoTime());
+    }
+
+    /**
+     * @param epsilon    target relative half-width of the interval, also sets the walk length
+     * @param confidence coverage probability of the interval, in (0, 1)
+     * @param maxSamples sampling stops here even if the interval is still wider than requested
+     * @param seed       seed for vertex sampling, for reproducible estimates
+     */
+    public MSTWeightEstimator(double epsilon, double confidence, int maxSamples, long seed) {
+        if (!(epsilon > 0 && epsilon < 1)) {
+            throw new IllegalArgumentException("epsilon must be in (0, 1)");
+        }
+        if (!(confidence > 0 && confidence < 1)) {
+            throw new IllegalArgumentException("confidence must be in (0, 1)");
+        }
+        if (maxSamples < 1) {
+            throw new IllegalArgumentException("maxSamples must be positive");
+        }
+        this.epsilon = epsilon;
+        this.confidence = confidence;
+        this.maxSamples = maxSamples;
+        this.seed = seed;
+    }
+
+    public MSTWeightEstimate estimate(Graph graph) {
+        SolveContext context = SolveContext.acquire();
+        try {
+            return estimate(graph, context);
+        } finally {
+            context.release();
+        }
+    }
+
+    /**
+     * Estimates with a known upper bound on the edge weights, such as the generator's weight range,
+     * instead of the graph's cached maximum; a looser bound only widens the upper end of the interval.
+     */
+    public MSTWeightEstimate estimate(Graph graph, int maxWeight) {
+        SolveContext context = SolveContext.acquire();
+        try {
+            return estimate(graph, context, maxWeight);
+        } finally {
+            context.release();
+        }
+    }
+
+    public MSTWeightEstimate estimate(Graph graph, SolveContext context) {
+        return estimate(graph, context, graph.getMaxEdgeWeight());
+    }
+
+    public MSTWeightEstimate estimate(Graph graph, SolveContext context, int maxWeight) {
+        context.reset();
+        long startTime = System.nanoTime();
+        int vertexCount = graph.getVertexCount();
+        if (vertexCount == 0 || graph.getEdgeCount() == 0) {
+            double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+            return new MSTWeightEstimate(0, 0, 0, confidence, 0, context.getOperationsCount(), executionTimeMs);
+        }
+
+        int walkLimit = (int) Math.min(vertexCount, Math.ceil(4 / epsilon));
+        double z = normalQuantile(0.5 + confidence / 2);
+        SplittableRandom random = new SplittableRandom(seed);
+        double[] walk = new double[2];
+
+        // Welford's running mean and variance of the per-vertex contributions
+        int samples = 0;
+        double mean = 0;
+        double squares = 0;
+        double slack = 0;
+        while (samples < maxSamples) {
+            walk(graph, random.nextInt(vertexCount), walkLimit, maxWeight, context, walk);
+            samples++;
+            double delta = walk[0] - mean;
+            mean += delta / samples;
+            squares += delta * (walk[0] - mean);
+            slack += walk[1];
+            if (samples >= MIN_SAMPLES && samples % CHECK_INTERVAL == 0
+                    && halfWidth(z, squares, samples) <= epsilon * Math.abs(mean)) {
+                break;
+            }
+        }
+
+        double halfWidth = samples > 1 ? halfWidth(z, squares, samples) : Double.POSITIVE_INFINITY;
+        double estimate = vertexCount * mean;
+        double lowerBound = vertexCount * (mean - halfWidth);
+        double upperBound = vertexCount * (mean + halfWidth + slack / samples);
+        double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new MSTWeightEstimate(estimate, lowerBound, upperBound, confidence, samples,
+                context.getOperationsCount(), executionTimeMs);
+    }
+
+    private static double halfWidth(double z, double squares, int samples) {
+        return z * Math.sqrt(squares / (samples - 1) / samples);
+    }
+
+    /**
+     * Runs Prim from u for at most walkLimit vertices and stores u's contribution (with the estimated tail)
+     * in result[0] and the possible underestimate from truncation in result[1].
+     */
+    private static void walk(Graph graph, int u, int walkLimit, int maxWeight, SolveContext context,
+                             double[] result) {
+        SolverWorkspace workspace = context.getWorkspace();
+        workspace.resetVisited(graph.getVertexCount());
+        workspace.clearHeap();
+        workspace.markVisited(u);
+        pushNeighbours(graph, u, workspace, context);
+
+        double contribution = 0;
+        double slack = 0;
+        long bottleneck = Long.MIN_VALUE;
+        int visited = 1;
+        while (!workspace.isHeapEmpty()) {
+            long entry = workspace.heapPop();
+            context.count(); // Queue removal
+            int node = graph.getAdjacentVertex((int) entry);
+            if (workspace.isVisited(node)) {
+                continue;
+            }
+            bottleneck = Math.max(bottleneck, entry >> 32);
+            if (visited == walkLimit) {
+                // The rest of the component is reached through bottlenecks in [bottleneck, maxWeight]
+                int vertexCount = graph.getVertexCount();
+                double low = Math.min(bottleneck * tail(walkLimit, vertexCount), bottleneck * tail(walkLimit, walkLimit + 1));
+                double high = Math.max(maxWeight * tail(walkLimit, vertexCount), maxWeight * tail(walkLimit, walkLimit + 1));
+                contribution += low;
+                slack = high - low;
+                break;
+            }
+            visited++;
+            contribution += (double) bottleneck / ((double) visited * (visited - 1));
+            workspace.markVisited(node);
+            pushNeighbours(graph, node, workspace, context);
+        }
+        result[0] = contribution;
+        result[1] = slack;
+    }
+
+    //Sum of 1 / (k (k - 1)) for k in (walkLimit, componentSize].
+    private static double tail(int walkLimit, int componentSize) {
+        return 1.0 / walkLimit - 1.0 / componentSize;
+    }
+
+    private static void pushNeighbours(Graph graph, int node, SolverWorkspace workspace, SolveContext context) {
+        for (int slot = graph.getAdjacencyStart(node); slot < graph.getAdjacencyEnd(node); slot++) {
+            context.count(); // Iteration
+            if (!workspace.isVisited(graph.getAdjacentVertex(slot))) {
+                workspace.heapPush(((long) graph.getEdgeWeight(graph.getAdjacentEdge(slot)) << 32) | slot);
+                context.count(); // Queue insertion
+            }
+        }
+    }
+
+    //Inverse of the standard normal CDF by bisection; accurate to about 1e-7, plenty for interval widths.
+    static double normalQuantile(double p) {
+        double low = -10;
+        double high = 10;
+        for (int i = 0; i < 80; i++) {
+            double middle = (low + high) / 2;
+            if (normalCdf(middle) < p) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        return (low + high) / 2;
+    }
+
+    //Abramowitz and Stegun 7.1.26 approximation of the error function.
+    private static double normalCdf(double x) {
+        double t = 1 / (1 + 0.3275911 * Math.abs(x) / Math.sqrt(2));
+        double poly = t * (0.254829592 + t * (-0.284496736 + t * (1.421413741 + t * (-1.453152027 + t * 1.061405429))));
+        double erf = 1 - poly * Math.exp(-x * x / 2);
+        return x >= 0 ? (1 + erf) / 2 : (1 - erf) / 2;
+    }
+}
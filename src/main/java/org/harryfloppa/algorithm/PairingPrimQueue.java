@@ -0,0 +1,139 @@
+package org.harryfloppa.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Pairing heap with one node per vertex and O(1) decrease-key, so the queue never holds more than
+ * V entries however many edges are offered. Nodes live in parallel arrays indexed by vertex;
+ * membership is epoch-stamped, so reset is O(1).
+ */
+final class PairingPrimQueue implements PrimQueue {
+    private static final int NONE = -1;
+
+    private int[] key = new int[16];
+    private int[] slot = new int[16];
+    private int[] child = new int[16];
+    private int[] sibling = new int[16];
+    // Parent for a first child, left sibling otherwise
+    private int[] previous = new int[16];
+    private int[] stamp = new int[16];
+    private int epoch = 1;
+    private int root = NONE;
+    private int[] pairs = new int[16];
+
+    @Override
+    public void reset(int vertexCount) {
+        if (vertexCount > stamp.length) {
+            int capacity = Math.max(vertexCount, stamp.length * 2);
+            key = new int[capacity];
+            slot = new int[capacity];
+            child = new int[capacity];
+            sibling = new int[capacity];
+            previous = new int[capacity];
+            stamp = new int[capacity];
+            epoch = 0;
+        }
+        epoch++;
+        if (epoch == Integer.MAX_VALUE) {
+            Arrays.fill(stamp, 0);
+            epoch = 1;
+        }
+        root = NONE;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == NONE;
+    }
+
+    @Override
+    public void offer(int vertex, int key, int slot) {
+        if (stamp[vertex] != epoch) {
+            stamp[vertex] = epoch;
+            this.key[vertex] = key;
+            this.slot[vertex] = slot;
+            child[vertex] = NONE;
+            sibling[vertex] = NONE;
+            previous[vertex] = NONE;
+            root = root == NONE ? vertex : meld(root, vertex);
+        } else if (key < this.key[vertex]) {
+            // Decrease-key: cut the subtree out and meld it back at the root
+            this.key[vertex] = key;
+            this.slot[vertex] = slot;
+            if (vertex != root) {
+                detach(vertex);
+                root = meld(root, vertex);
+            }
+        }
+    }
+
+    @Override
+    public int poll() {
+        int min = root;
+        stamp[min] = 0;
+        root = combineChildren(min);
+        return slot[min];
+    }
+
+    //Links two roots, making the heavier one the first child of the lighter one.
+    private int meld(int a, int b) {
+        if (key[b] < key[a]) {
+            int swap = a;
+            a = b;
+            b = swap;
+        }
+        int first = child[a];
+        sibling[b] = first;
+        if (first != NONE) {
+            previous[first] = b;
+        }
+        previous[b] = a;
+        child[a] = b;
+        sibling[a] = NONE;
+        previous[a] = NONE;
+        return a;
+    }
+
+    private void detach(int node) {
+        int before = previous[node];
+        if (child[before] == node) {
+            child[before] = sibling[node];
+        } else {
+            sibling[before] = sibling[node];
+        }
+        if (sibling[node] != NONE) {
+            previous[sibling[node]] = before;
+        }
+        sibling[node] = NONE;
+        previous[node] = NONE;
+    }
+
+    //Standard two-pass pairing: meld children pairwise left to right, then fold right to left.
+    private int combineChildren(int parent) {
+        int count = 0;
+        for (int node = child[parent]; node != NONE; ) {
+            int next = sibling[node];
+            int partner = next == NONE ? NONE : sibling[next];
+            sibling[node] = NONE;
+            previous[node] = NONE;
+            if (next != NONE) {
+                sibling[next] = NONE;
+                previous[next] = NONE;
+                node = meld(node, next);
+            }
+            if (count == pairs.length) {
+                pairs = Arrays.copyOf(pairs, count * 2);
+            }
+            pairs[count++] = node;
+            node = partner;
+        }
+        if (count == 0) {
+            return NONE;
+        }
+        int result = pairs[count - 1];
+        for (int i = count - 2; i >= 0; i--) {
+            result = meld(pairs[i], result);
+        }
+        return result;
+    }
+}
@@ -1,6 +1,5 @@
 package org.harryfloppa.algorithm;
 
-import org.harryfloppa.model.Edge;
 import org.harryfloppa.model.Graph;
 import org.harryfloppa.model.MSTResult;
 
@@ -8,109 +7,124 @@ import java.util.*;
 
 /**
  * Implementation of Prim's algorithm for finding Minimum Spanning Tree.
- * Uses a priority queue to efficiently select the minimum weight edge at each step.
+ * Uses a priority queue to efficiently select the minimum weight edge at each step;
+ * the queue implementation is pluggable (see {@link PrimQueue.Kind}).
  */
 
-public class PrimAlgorithm {
-    private long operationsCount;
+public class PrimAlgorithm implements MSTSolver {
+    private final PrimQueue.Kind queueKind;
+
+    public PrimAlgorithm() {
+        this(PrimQueue.Kind.BINARY);
+    }
+
+    public PrimAlgorithm(PrimQueue.Kind queueKind) {
+        this.queueKind = queueKind;
+    }
+
+    //"prim" for the default binary heap, "prim-<queue>" otherwise.
+    @Override
+    public String getName() {
+        return queueKind == PrimQueue.Kind.BINARY ? "prim" : "prim-" + queueKind.getName();
+    }
+
     /**
      * Finds the Minimum Spanning Tree using Prim's algorithm.
      * If the graph is disconnected, finds a Minimum Spanning Forest (MSF).
      */
-    public MSTResult findMST(Graph graph) {
-        operationsCount = 0;
+    @Override
+    public MSTResult findMST(Graph graph, SolveContext context) {
+        context.reset();
         long startTime = System.nanoTime();
 
-        List<Edge> mstEdges = new ArrayList<>();
-        int totalCost = 0;
+        // MST edges as indices into the graph
+        int[] treeEdges = new int[Math.max(0, graph.getVertexCount() - 1)];
+        int treeSize = 0;
 
         // Handle empty graph
         if (graph.getVertexCount() == 0) {
             long endTime = System.nanoTime();
             double executionTimeMs = (endTime - startTime) / 1_000_000.0;
-            return new MSTResult(mstEdges, totalCost, operationsCount, executionTimeMs);
+            return new MSTResult(graph, treeEdges, 0, 0, context.getOperationsCount(), executionTimeMs,
+                    context.getAllocatedBytes());
         }
 
-        Set<String> visited = new HashSet<>();
-        Map<String, List<Edge>> adjacencyList = graph.getAdjacencyList();
+        SolverWorkspace workspace = context.getWorkspace();
+        workspace.resetVisited(graph.getVertexCount());
+        PrimQueue queue = workspace.primQueue(queueKind, graph.getVertexCount());
 
         // Process each connected component
-        for (String startNode : graph.getNodes()) {
-            if (!visited.contains(startNode)) {
-                operationsCount++; // Component check
+        for (int startNode = 0; startNode < graph.getVertexCount(); startNode++) {
+            if (!workspace.isVisited(startNode)) {
+                context.count(); // Component check
                 // Run Prim's algorithm from this unvisited node
-                primFromNode(startNode, adjacencyList, visited, mstEdges, totalCost);
+                treeSize = primFromNode(startNode, graph, context, queue, treeEdges, treeSize);
             }
         }
-
-        // Calculate total cost from collected edges
-        totalCost = mstEdges.stream().mapToInt(Edge::getWeight).sum();
+        int totalCost = 0;
+        for (int i = 0; i < treeSize; i++) {
+            totalCost += graph.getEdgeWeight(treeEdges[i]);
+        }
 
         long endTime = System.nanoTime();
         double executionTimeMs = (endTime - startTime) / 1_000_000.0;
 
-        return new MSTResult(mstEdges, totalCost, operationsCount, executionTimeMs);
+        return new MSTResult(graph, treeEdges, treeSize, totalCost, context.getOperationsCount(), executionTimeMs,
+                context.getAllocatedBytes());
     }
 
     /**
      * Runs Prim's algorithm from a single starting node (processes one component).
+     * Queue entries are keyed by edge weight and carry the adjacency slot of the edge.
+     * Tree edge indices are appended to treeEdges after the first treeSize; returns the new tree size.
      */
-    private int primFromNode(String startNode, Map<String, List<Edge>> adjacencyList,
-                             Set<String> visited, List<Edge> mstEdges, int totalCost) {
-        PriorityQueue<EdgeWithNode> priorityQueue = new PriorityQueue<>(
-                Comparator.comparingInt(e -> e.edge.getWeight())
-        );
+    private int primFromNode(int startNode, Graph graph, SolveContext context, PrimQueue queue,
+                             int[] treeEdges, int treeSize) {
+        SolverWorkspace workspace = context.getWorkspace();
 
-        visited.add(startNode);
-        operationsCount++; // Add to visited set
+        workspace.markVisited(startNode);
+        context.count(); // Add to visited set
 
         // Add all edges from start node to priority queue
-        for (Edge edge : adjacencyList.get(startNode)) {
-            priorityQueue.offer(new EdgeWithNode(edge, edge.getTo()));
-            operationsCount++; // Queue insertion
+        for (int slot = graph.getAdjacencyStart(startNode); slot < graph.getAdjacencyEnd(startNode); slot++) {
+            offer(queue, graph, slot);
+            context.count(); // Queue insertion
         }
 
         // Main loop: continue until priority queue is empty
-        while (!priorityQueue.isEmpty()) {
-            operationsCount++; // Queue check
+        while (!queue.isEmpty()) {
+            context.count(); // Queue check
 
-            EdgeWithNode current = priorityQueue.poll();
-            operationsCount++; // Queue removal
+            int current = queue.poll();
+            context.count(); // Queue removal
 
             // Skip if the destination node is already visited
-            if (visited.contains(current.node)) {
-                operationsCount++; // Visited check
+            int node = graph.getAdjacentVertex(current);
+            if (workspace.isVisited(node)) {
+                context.count(); // Visited check
                 continue;
             }
 
             // Add edge to MST
-            mstEdges.add(current.edge);
-            totalCost += current.edge.getWeight();
-            visited.add(current.node);
-            operationsCount += 3; // Add edge, update cost, mark visited
+            treeEdges[treeSize++] = graph.getAdjacentEdge(current);
+            workspace.markVisited(node);
+            context.count(3); // Add edge, update cost, mark visited
 
             // Add all edges from the newly added node
-            for (Edge edge : adjacencyList.get(current.node)) {
-                operationsCount++; // Iteration
-                if (!visited.contains(edge.getTo())) {
-                    operationsCount++; // Visited check
-                    priorityQueue.offer(new EdgeWithNode(edge, edge.getTo()));
-                    operationsCount++; // Queue insertion
+            for (int slot = graph.getAdjacencyStart(node); slot < graph.getAdjacencyEnd(node); slot++) {
+                context.count(); // Iteration
+                if (!workspace.isVisited(graph.getAdjacentVertex(slot))) {
+                    context.count(); // Visited check
+                    offer(queue, graph, slot);
+                    context.count(); // Queue insertion
                 }
             }
         }
 
-        return totalCost;
+        return treeSize;
     }
 
-    //Helper class to store an edge along with its destination node in the priority queue.
-    private static class EdgeWithNode {
-        Edge edge;
-        String node;
-
-        EdgeWithNode(Edge edge, String node) {
-            this.edge = edge;
-            this.node = node;
-        }
+    private static void offer(PrimQueue queue, Graph graph, int slot) {
+        queue.offer(graph.getAdjacentVertex(slot), graph.getEdgeWeight(graph.getAdjacentEdge(slot)), slot);
     }
 }
@@ -0,0 +1,61 @@
+package org.harryfloppa.algorithm;
+
+import java.util.Locale;
+
+/**
+ * Priority queue of frontier vertices for Prim's algorithm, keyed by the weight of the edge
+ * (adjacency slot) that would attach the vertex to the tree.
+ * Implementations either keep only the lightest offer per vertex (decrease-key) or keep every offer
+ * and leave stale ones to the caller's visited check (lazy deletion); Prim works with both.
+ * Instances carry per-solve state and are pooled per {@link SolverWorkspace}.
+ */
+public interface PrimQueue {
+
+    //Available implementations, selectable by name at runtime.
+    enum Kind {
+        BINARY("binary"),
+        PAIRING("pairing"),
+        RADIX("radix");
+
+        private final String name;
+
+        Kind(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public static Kind fromName(String name) {
+            for (Kind kind : values()) {
+                if (kind.name.equals(name.toLowerCase(Locale.ROOT))) {
+                    return kind;
+                }
+            }
+            throw new IllegalArgumentException("Unknown Prim queue: " + name);
+        }
+
+        PrimQueue create(SolverWorkspace workspace) {
+            switch (this) {
+                case PAIRING:
+                    return new PairingPrimQueue();
+                case RADIX:
+                    return new RadixPrimQueue();
+                default:
+                    return new BinaryPrimQueue(workspace);
+            }
+        }
+    }
+
+    //Empties the queue and prepares it for vertices in [0, vertexCount).
+    void reset(int vertexCount);
+
+    boolean isEmpty();
+
+    //Offers vertex at the given key, reached through the given adjacency slot.
+    void offer(int vertex, int key, int slot);
+
+    //Removes an entry with the smallest key and returns its adjacency slot.
+    int poll();
+}
@@ -0,0 +1,98 @@
+package org.harryfloppa.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Radix heap over int keys: bucket i holds keys whose highest bit differing from the current base
+ * (the last minimum taken from the buckets) is bit i - 1, so extracting rescans only the lowest
+ * non-empty bucket and every entry moves down at most 32 times.
+ *
+ * A radix heap needs monotone keys, but Prim's are not: a vertex added to the tree can offer an edge
+ * lighter than the last key taken. Such keys go to a small binary overflow heap instead, and poll takes
+ * whichever side is smaller. On typical inputs MST edges are light, so most offers land above the base.
+ * Entries are packed (key, slot) longs with lazy deletion.
+ */
+final class RadixPrimQueue implements PrimQueue {
+    private static final int BUCKETS = 33;
+
+    private final long[][] buckets = new long[BUCKETS][];
+    private final int[] bucketSize = new int[BUCKETS];
+    private int base = Integer.MIN_VALUE;
+    private int size;
+
+    private final LongMinHeap overflow = new LongMinHeap();
+
+    RadixPrimQueue() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new long[16];
+        }
+    }
+
+    @Override
+    public void reset(int vertexCount) {
+        Arrays.fill(bucketSize, 0);
+        base = Integer.MIN_VALUE;
+        size = 0;
+        overflow.clear();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0 && overflow.isEmpty();
+    }
+
+    @Override
+    public void offer(int vertex, int key, int slot) {
+        long entry = ((long) key << 32) | slot;
+        if (key >= base) {
+            add(bucketOf(key), entry);
+            size++;
+        } else {
+            overflow.push(entry);
+        }
+    }
+
+    @Override
+    public int poll() {
+        if (size > 0 && bucketSize[0] == 0) {
+            refill();
+        }
+        // Bucket 0 holds only keys equal to base, so it is the radix minimum
+        if (size == 0 || (!overflow.isEmpty() && (int) (overflow.peek() >> 32) < base)) {
+            return (int) overflow.pop();
+        }
+        size--;
+        return (int) buckets[0][--bucketSize[0]];
+    }
+
+    //Raises the base to the smallest key in the lowest non-empty bucket and redistributes that bucket.
+    private void refill() {
+        int i = 1;
+        while (bucketSize[i] == 0) {
+            i++;
+        }
+        long[] bucket = buckets[i];
+        int count = bucketSize[i];
+        int min = Integer.MAX_VALUE;
+        for (int j = 0; j < count; j++) {
+            min = Math.min(min, (int) (bucket[j] >> 32));
+        }
+        base = min;
+        bucketSize[i] = 0;
+        for (int j = 0; j < count; j++) {
+            add(bucketOf((int) (bucket[j] >> 32)), bucket[j]);
+        }
+    }
+
+    //Signed keys are compared as unsigned after flipping the sign bit.
+    private int bucketOf(int key) {
+        return 32 - Integer.numberOfLeadingZeros((key ^ Integer.MIN_VALUE) ^ (base ^ Integer.MIN_VALUE));
+    }
+
+    private void add(int bucket, long entry) {
+        if (bucketSize[bucket] == buckets[bucket].length) {
+            buckets[bucket] = Arrays.copyOf(buckets[bucket], bucketSize[bucket] * 2);
+        }
+        buckets[bucket][bucketSize[bucket]++] = entry;
+    }
+}
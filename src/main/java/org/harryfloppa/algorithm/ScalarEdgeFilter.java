@@ -0,0 +1,35 @@
+package org.harryfloppa.algorithm;
+
+/**
+ * Portable edge filters: one comparison per edge.
+ * Indices are written unconditionally and the count advances by the comparison result, so the
+ * loops have no data-dependent branch to mispredict when roughly half the edges are kept.
+ */
+final class ScalarEdgeFilter implements EdgeFilter {
+    static final ScalarEdgeFilter INSTANCE = new ScalarEdgeFilter();
+
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+
+    @Override
+    public int keepCrossComponent(int[] from, int[] to, int[] component, int count, int[] kept) {
+        int size = 0;
+        for (int e = 0; e < count; e++) {
+            kept[size] = e;
+            size += component[from[e]] != component[to[e]] ? 1 : 0;
+        }
+        return size;
+    }
+
+    @Override
+    public int keepAtMostBound(int[] weight, int[] bound, int count, int[] kept) {
+        int size = 0;
+        for (int e = 0; e < count; e++) {
+            kept[size] = e;
+            size += (bound[e] == BottleneckPathIndex.NO_EDGE) | (weight[e] <= bound[e]) ? 1 : 0;
+        }
+        return size;
+    }
+}
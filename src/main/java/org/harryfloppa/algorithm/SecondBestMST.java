@@ -0,0 +1,139 @@
+package org.harryfloppa.algorithm;
+
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+
+import java.util.*;
+
+/**
+ * Finds the second-best spanning tree (or forest): the cheapest one that differs from the MST.
+ * It differs from the MST by a single swap, so it is enough to try every non-tree edge (u, v)
+ * against the heaviest tree edge on the u-v path, answered by a {@link BottleneckPathIndex}.
+ * Runs in O(E log V) after the MST.
+ */
+public class SecondBestMST {
+
+    /**
+     * Returns the second-best spanning forest, or null if the graph has exactly one spanning forest.
+     */
+    public MSTResult find(Graph graph) {
+        SolveContext context = SolveContext.acquire();
+        try {
+            return find(graph, context);
+        } finally {
+            context.release();
+        }
+    }
+
+    public MSTResult find(Graph graph, SolveContext context) {
+        context.reset();
+        long startTime = System.nanoTime();
+
+        int vertexCount = graph.getVertexCount();
+        int[] tree = new int[Math.max(0, vertexCount - 1)];
+        int treeSize = KruskalAlgorithm.constrainedForest(graph, context, null, tree);
+
+        boolean[] inTree = new boolean[graph.getEdgeCount()];
+        int[] from = new int[treeSize];
+        int[] to = new int[treeSize];
+        int[] weight = new int[treeSize];
+        for (int i = 0; i < treeSize; i++) {
+            inTree[tree[i]] = true;
+            from[i] = graph.getEdgeFrom(tree[i]);
+            to[i] = graph.getEdgeTo(tree[i]);
+            weight[i] = graph.getEdgeWeight(tree[i]);
+        }
+        BottleneckPathIndex index = new BottleneckPathIndex(vertexCount, from, to, weight, treeSize);
+
+        // Cheapest swap: non-tree edge whose weight exceeds its path maximum by the least
+        long bestDelta = Long.MAX_VALUE;
+        int bestEdge = -1;
+        for (int e = 0; e < graph.getEdgeCount(); e++) {
+            context.count(); // Non-tree edge scan
+            if (inTree[e]) {
+                continue;
+            }
+            int pathMax = index.query(graph.getEdgeFrom(e), graph.getEdgeTo(e));
+            context.count((long) Math.max(1, 32 - Integer.numberOfLeadingZeros(vertexCount))); // Lifting steps
+            if (pathMax == BottleneckPathIndex.NO_EDGE) {
+                continue; // Self-loop; different trees cannot happen for a non-tree edge
+            }
+            long delta = (long) graph.getEdgeWeight(e) - pathMax;
+            if (delta < bestDelta) {
+                bestDelta = delta;
+                bestEdge = e;
+            }
+        }
+        if (bestEdge < 0) {
+            return null;
+        }
+
+        int removed = heaviestTreeEdgeOnPath(graph, tree, treeSize, graph.getEdgeFrom(bestEdge),
+                graph.getEdgeTo(bestEdge), context);
+        List<Edge> edges = new ArrayList<>(treeSize);
+        int totalCost = 0;
+        for (int i = 0; i < treeSize; i++) {
+            if (tree[i] != removed) {
+                edges.add(graph.getEdge(tree[i]));
+                totalCost += graph.getEdgeWeight(tree[i]);
+            }
+        }
+        edges.add(graph.getEdge(bestEdge));
+        totalCost += graph.getEdgeWeight(bestEdge);
+
+        double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new MSTResult(edges, totalCost, context.getOperationsCount(), executionTimeMs,
+                context.getAllocatedBytes());
+    }
+
+    //Walks the tree path from u to v once and returns the index of its heaviest edge.
+    private static int heaviestTreeEdgeOnPath(Graph graph, int[] tree, int treeSize, int u, int v,
+                                              SolveContext context) {
+        int vertexCount = graph.getVertexCount();
+        int[] start = new int[vertexCount + 1];
+        for (int i = 0; i < treeSize; i++) {
+            start[graph.getEdgeFrom(tree[i]) + 1]++;
+            start[graph.getEdgeTo(tree[i]) + 1]++;
+        }
+        for (int x = 0; x < vertexCount; x++) {
+            start[x + 1] += start[x];
+        }
+        int[] next = Arrays.copyOf(start, vertexCount);
+        int[] incident = new int[2 * treeSize];
+        for (int i = 0; i < treeSize; i++) {
+            incident[next[graph.getEdgeFrom(tree[i])]++] = tree[i];
+            incident[next[graph.getEdgeTo(tree[i])]++] = tree[i];
+        }
+
+        int[] parentEdge = new int[vertexCount];
+        Arrays.fill(parentEdge, -2);
+        parentEdge[u] = -1;
+        int[] queue = new int[vertexCount];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = u;
+        while (head < tail && parentEdge[v] == -2) {
+            int x = queue[head++];
+            context.count(); // Path search visit
+            for (int slot = start[x]; slot < start[x + 1]; slot++) {
+                int e = incident[slot];
+                int y = graph.getEdgeFrom(e) == x ? graph.getEdgeTo(e) : graph.getEdgeFrom(e);
+                if (parentEdge[y] == -2) {
+                    parentEdge[y] = e;
+                    queue[tail++] = y;
+                }
+            }
+        }
+
+        int heaviest = -1;
+        for (int x = v; x != u; ) {
+            int e = parentEdge[x];
+            if (heaviest < 0 || graph.getEdgeWeight(e) > graph.getEdgeWeight(heaviest)) {
+                heaviest = e;
+            }
+            x = graph.getEdgeFrom(e) == x ? graph.getEdgeTo(e) : graph.getEdgeFrom(e);
+        }
+        return heaviest;
+    }
+}
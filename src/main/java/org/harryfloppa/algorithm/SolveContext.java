@@ -0,0 +1,73 @@
+package org.harryfloppa.algorithm;
+
+import java.util.ArrayDeque;
+
+/**
+ * Per-call state of an MST solve: the scratch workspace, the operation counter and the
+ * allocation counter.
+ * Solvers keep no mutable fields and put everything call-specific here, so one solver
+ * instance can serve many threads as long as each call gets its own context.
+ * Contexts are confined to one thread at a time; {@link #acquire()} pools them per thread.
+ */
+public final class SolveContext {
+    private static final ThreadLocal<ArrayDeque<SolveContext>> POOL = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final SolverWorkspace workspace;
+    private long operationsCount;
+    private long allocationStart;
+
+    public SolveContext() {
+        this(new SolverWorkspace());
+    }
+
+    public SolveContext(SolverWorkspace workspace) {
+        this.workspace = workspace;
+    }
+
+    /**
+     * Takes a reset context from the calling thread's pool. Nested solves on the same thread
+     * get distinct contexts. Hand it back with {@link #release()} on the same thread.
+     */
+    public static SolveContext acquire() {
+        SolveContext context = POOL.get().poll();
+        if (context == null) {
+            context = new SolveContext();
+        }
+        context.reset();
+        return context;
+    }
+
+    //Returns this context to the calling thread's pool.
+    public void release() {
+        POOL.get().push(this);
+    }
+
+    //Clears the metrics so the context can be used for another call.
+    public void reset() {
+        operationsCount = 0;
+        allocationStart = ThreadAllocation.currentThreadBytes();
+    }
+
+    public SolverWorkspace getWorkspace() {
+        return workspace;
+    }
+
+    //Counts one primitive operation.
+    public void count() {
+        operationsCount++;
+    }
+
+    //Counts several primitive operations.
+    public void count(long operations) {
+        operationsCount += operations;
+    }
+
+    public long getOperationsCount() {
+        return operationsCount;
+    }
+
+    //Bytes the calling thread allocated since the last reset, or -1 if the JVM cannot tell.
+    public long getAllocatedBytes() {
+        return allocationStart < 0 ? -1 : ThreadAllocation.currentThreadBytes() - allocationStart;
+    }
+}
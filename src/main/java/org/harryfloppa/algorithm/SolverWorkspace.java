@@ -0,0 +1,85 @@
+package org.harryfloppa.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Reusable primitive scratch space for MST solvers: a binary min-heap of packed long keys,
+ * a visited set, a sort buffer, a Union-Find and Prim queues. Buffers only ever grow, and resetting between
+ * solves costs O(1) or O(touched), so a warmed-up workspace solves without allocating.
+ * A workspace is not thread-safe; use one per thread.
+ */
+public class SolverWorkspace {
+    private final LongMinHeap heap = new LongMinHeap();
+
+    private int[] visitedStamp = new int[16];
+    private int visitEpoch = 1;
+
+    private long[] sortKeys = new long[16];
+
+    private final UnionFind unionFind = new UnionFind();
+
+    private final PrimQueue[] primQueues = new PrimQueue[PrimQueue.Kind.values().length];
+
+    //Empties the heap in O(1).
+    public void clearHeap() {
+        heap.clear();
+    }
+
+    public boolean isHeapEmpty() {
+        return heap.isEmpty();
+    }
+
+    public void heapPush(long key) {
+        heap.push(key);
+    }
+
+    public long heapPop() {
+        return heap.pop();
+    }
+
+    //Marks every vertex in [0, vertexCount) as unvisited in O(1) by advancing the epoch.
+    public void resetVisited(int vertexCount) {
+        if (vertexCount > visitedStamp.length) {
+            visitedStamp = new int[Math.max(vertexCount, visitedStamp.length * 2)];
+            visitEpoch = 0;
+        }
+        visitEpoch++;
+        if (visitEpoch == Integer.MAX_VALUE) {
+            Arrays.fill(visitedStamp, 0);
+            visitEpoch = 1;
+        }
+    }
+
+    public boolean isVisited(int vertex) {
+        return visitedStamp[vertex] == visitEpoch;
+    }
+
+    public void markVisited(int vertex) {
+        visitedStamp[vertex] = visitEpoch;
+    }
+
+    //Returns a sort buffer of at least the given length; its contents are unspecified.
+    public long[] sortKeys(int size) {
+        if (size > sortKeys.length) {
+            sortKeys = new long[Math.max(size, sortKeys.length * 2)];
+        }
+        return sortKeys;
+    }
+
+    //Returns the pooled Prim queue of the given kind, emptied for vertices in [0, vertexCount).
+    public PrimQueue primQueue(PrimQueue.Kind kind, int vertexCount) {
+        PrimQueue queue = primQueues[kind.ordinal()];
+        if (queue == null) {
+            queue = kind.create(this);
+            primQueues[kind.ordinal()] = queue;
+        }
+        queue.reset(vertexCount);
+        return queue;
+    }
+
+    //Returns the pooled Union-Find, reset to singletons over [0, size).
+    public UnionFind unionFind(int size) {
+        unionFind.reset(size);
+        return unionFind;
+    }
+}
@@ -0,0 +1,247 @@
+package org.harryfloppa.algorithm;
+
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+
+import java.util.*;
+
+/**
+ * Steiner tree 2-approximation: a cheap tree that connects a subset of the vertices (the terminals),
+ * possibly through other vertices. Its cost is at most 2(1 - 1/t) times the optimum for t terminals.
+ *
+ * Follows Mehlhorn's construction, which avoids all-pairs shortest paths. One multi-source Dijkstra
+ * from every terminal at once splits the graph into Voronoi cells: each vertex records its nearest
+ * terminal, its distance and the edge it was reached by. An edge (u, v) between two cells links their
+ * terminals by a path of length d(u) + w + d(v); those edges form a sparse stand-in for the metric
+ * closure, with the same MST. Kruskal finds that MST, and each of its edges is expanded into the edge
+ * (u, v) plus the shortest-path edges from u and v back to their terminals.
+ * Paths inside a cell are branches of its shortest-path tree, so the expansion is itself a tree.
+ * Runs in O(E log V); terminals in different components give a Steiner forest, one tree per component.
+ *
+ * Edge weights must be non-negative. Closure lengths above the int range are clamped, which only
+ * affects trees whose cost would not fit an {@link MSTResult} anyway.
+ */
+public class SteinerTreeApproximation {
+
+    //Steiner tree connecting the named terminals.
+    public MSTResult find(Graph graph, Collection<String> terminalNames) {
+        Map<String, Integer> index = new HashMap<>(graph.getVertexCount() * 4 / 3 + 1);
+        for (int v = 0; v < graph.getVertexCount(); v++) {
+            index.putIfAbsent(graph.getNodeName(v), v);
+        }
+        int[] terminals = new int[terminalNames.size()];
+        int count = 0;
+        for (String name : terminalNames) {
+            Integer vertex = index.get(name);
+            if (vertex == null) {
+                throw new IllegalArgumentException("Terminal " + name + " is not in graph " + graph.getId());
+            }
+            terminals[count++] = vertex;
+        }
+        return find(graph, terminals);
+    }
+
+    //Steiner tree connecting the terminal vertex ids; repeated terminals count once.
+    public MSTResult find(Graph graph, int[] terminals) {
+        SolveContext context = SolveContext.acquire();
+        try {
+            return find(graph, context, terminals);
+        } finally {
+            context.release();
+        }
+    }
+
+    public MSTResult find(Graph graph, SolveContext context, int[] terminals) {
+        context.reset();
+        long startTime = System.nanoTime();
+        int vertexCount = graph.getVertexCount();
+        int edgeCount = graph.getEdgeCount();
+        for (int e = 0; e < edgeCount; e++) {
+            if (graph.getEdgeWeight(e) < 0) {
+                throw new IllegalArgumentException("Steiner trees need non-negative edge weights; edge "
+                        + graph.getEdge(e) + " of graph " + graph.getId() + " is negative");
+            }
+        }
+
+        // Nearest terminal (as an index into the distinct terminals), distance and shortest-path edge
+        int[] source = new int[vertexCount];
+        long[] distance = new long[vertexCount];
+        int[] predecessor = new int[vertexCount];
+        Arrays.fill(source, -1);
+        Arrays.fill(predecessor, -1);
+        int[] distinct = new int[terminals.length];
+        int terminalCount = 0;
+        for (int terminal : terminals) {
+            if (terminal < 0 || terminal >= vertexCount) {
+                throw new IllegalArgumentException("Terminal " + terminal + " is not a vertex of graph "
+                        + graph.getId());
+            }
+            if (source[terminal] < 0) {
+                source[terminal] = terminalCount;
+                distinct[terminalCount++] = terminal;
+            }
+        }
+        int[] tree = new int[Math.max(0, vertexCount - 1)];
+        if (terminalCount < 2) {
+            return new MSTResult(graph, tree, 0, 0, context.getOperationsCount(),
+                    (System.nanoTime() - startTime) / 1_000_000.0, context.getAllocatedBytes());
+        }
+
+        voronoi(graph, context, distinct, terminalCount, source, distance, predecessor);
+
+        // Edges between cells, as edges between their terminals weighted by the path they complete
+        int[] boundary = new int[edgeCount];
+        int boundaryCount = 0;
+        for (int e = 0; e < edgeCount; e++) {
+            int u = graph.getEdgeFrom(e);
+            int v = graph.getEdgeTo(e);
+            if (source[u] >= 0 && source[v] >= 0 && source[u] != source[v]) {
+                boundary[boundaryCount++] = e;
+            }
+        }
+        int[] closureFrom = new int[boundaryCount];
+        int[] closureTo = new int[boundaryCount];
+        int[] closureWeight = new int[boundaryCount];
+        for (int i = 0; i < boundaryCount; i++) {
+            int e = boundary[i];
+            int u = graph.getEdgeFrom(e);
+            int v = graph.getEdgeTo(e);
+            closureFrom[i] = source[u];
+            closureTo[i] = source[v];
+            long length = distance[u] + graph.getEdgeWeight(e) + distance[v];
+            closureWeight[i] = (int) Math.min(Integer.MAX_VALUE, length);
+        }
+        context.count(edgeCount + boundaryCount); // Boundary scan
+        int[] terminalIds = Arrays.copyOf(distinct, terminalCount);
+        List<String> terminalNames = new AbstractList<>() {
+            @Override
+            public String get(int index) {
+                return graph.getNodeName(terminalIds[index]);
+            }
+
+            @Override
+            public int size() {
+                return terminalIds.length;
+            }
+        };
+        Graph closure = new Graph(graph.getId(), terminalNames, closureFrom, closureTo, closureWeight);
+        int[] closureTree = new int[terminalCount - 1];
+        int closureSize = KruskalAlgorithm.constrainedForest(closure, context, null, closureTree);
+
+        // Expand each closure edge into its boundary edge and the paths back to both terminals
+        boolean[] reached = new boolean[vertexCount];
+        int size = 0;
+        int totalCost = 0;
+        for (int i = 0; i < closureSize; i++) {
+            int edge = boundary[closureTree[i]];
+            tree[size++] = edge;
+            totalCost += graph.getEdgeWeight(edge);
+            for (int vertex : new int[]{graph.getEdgeFrom(edge), graph.getEdgeTo(edge)}) {
+                // A reached vertex already has its path to the terminal in the tree
+                while (!reached[vertex]) {
+                    context.count(); // Path expansion
+                    reached[vertex] = true;
+                    int e = predecessor[vertex];
+                    if (e < 0) {
+                        break;
+                    }
+                    tree[size++] = e;
+                    totalCost += graph.getEdgeWeight(e);
+                    vertex = graph.getEdgeFrom(e) == vertex ? graph.getEdgeTo(e) : graph.getEdgeFrom(e);
+                }
+            }
+        }
+
+        double executionTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+        return new MSTResult(graph, tree, size, totalCost, context.getOperationsCount(), executionTimeMs,
+                context.getAllocatedBytes());
+    }
+
+    /**
+     * Multi-source Dijkstra from all terminals at once, over the compressed adjacency. Every vertex ends
+     * up with the index of its nearest terminal in source, its distance and the edge it was reached by;
+     * vertices no terminal reaches keep source -1.
+     * The frontier is an indexed binary heap on distance, so each vertex is in it at most once.
+     */
+    private static void voronoi(Graph graph, SolveContext context, int[] terminals, int terminalCount,
+                                int[] source, long[] distance, int[] predecessor) {
+        int vertexCount = graph.getVertexCount();
+        int[] heap = new int[vertexCount];
+        int[] position = new int[vertexCount];
+        Arrays.fill(position, -1);
+        int heapSize = 0;
+        for (int i = 0; i < terminalCount; i++) {
+            heap[heapSize] = terminals[i];
+            position[terminals[i]] = heapSize++;
+        }
+
+        while (heapSize > 0) {
+            int x = heap[0];
+            position[x] = -2; // Settled
+            heapSize--;
+            if (heapSize > 0) {
+                heap[0] = heap[heapSize];
+                position[heap[0]] = 0;
+                siftDown(heap, heapSize, position, distance, 0);
+            }
+            context.count(); // Queue removal
+
+            for (int slot = graph.getAdjacencyStart(x); slot < graph.getAdjacencyEnd(x); slot++) {
+                int y = graph.getAdjacentVertex(slot);
+                int e = graph.getAdjacentEdge(slot);
+                long candidate = distance[x] + graph.getEdgeWeight(e);
+                context.count(); // Relaxation
+                if (position[y] == -2 || (source[y] >= 0 && candidate >= distance[y])) {
+                    continue;
+                }
+                distance[y] = candidate;
+                source[y] = source[x];
+                predecessor[y] = e;
+                if (position[y] < 0) {
+                    heap[heapSize] = y;
+                    position[y] = heapSize++;
+                }
+                siftUp(heap, position, distance, position[y]);
+            }
+        }
+    }
+
+    private static void siftUp(int[] heap, int[] position, long[] distance, int i) {
+        int vertex = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (distance[heap[parent]] <= distance[vertex]) {
+                break;
+            }
+            heap[i] = heap[parent];
+            position[heap[i]] = i;
+            i = parent;
+        }
+        heap[i] = vertex;
+        position[vertex] = i;
+    }
+
+    private static void siftDown(int[] heap, int size, int[] position, long[] distance, int i) {
+        if (size == 0) {
+            return;
+        }
+        int vertex = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && distance[heap[child + 1]] < distance[heap[child]]) {
+                child++;
+            }
+            if (distance[heap[child]] >= distance[vertex]) {
+                break;
+            }
+            heap[i] = heap[child];
+            position[heap[i]] = i;
+            i = child;
+        }
+        heap[i] = vertex;
+        position[vertex] = i;
+    }
+}
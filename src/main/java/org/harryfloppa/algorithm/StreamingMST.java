@@ -0,0 +1,261 @@
+package org.harryfloppa.algorithm;
+
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.MSTResult;
+
+import java.util.*;
+import java.util.concurrent.Flow;
+
+/**
+ * Semi-streaming Minimum Spanning Forest over an edge feed.
+ * Edges arrive one at a time in arbitrary order; only a candidate forest of at most V-1 edges is kept.
+ * When an incoming edge closes a cycle, the heaviest edge on that cycle is evicted (cycle property),
+ * so the candidate forest is always the MSF of the edges seen so far.
+ */
+public class StreamingMST implements Flow.Subscriber<Edge> {
+    private final Map<String, Integer> vertexIds = new HashMap<>();
+
+    // Forest edge slots, reused through a free list when edges are evicted
+    private Edge[] slotEdge = new Edge[16];
+    private int[] slotFrom = new int[16];
+    private int[] slotTo = new int[16];
+    private int slotCount;
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+    // Incident forest edge slots per vertex
+    private int[][] incident = new int[16][];
+    private int[] degree = new int[16];
+
+    // Scratch space for the path search, indexed by vertex id
+    private int[] pathSlot = new int[16];
+    private int[] visitStamp = new int[16];
+    private int[] searchStack = new int[16];
+    private int stamp;
+
+    private int forestSize;
+    private int totalCost;
+    private long edgesSeen;
+    private long operationsCount;
+    private long processingNanos;
+
+    private Flow.Subscription subscription;
+    private volatile boolean completed;
+    private volatile Throwable failure;
+
+    /**
+     * Feeds a single edge into the stream.
+     */
+    public synchronized void accept(Edge edge) {
+        long startTime = System.nanoTime();
+        edgesSeen++;
+        operationsCount++; // Edge arrival
+
+        int u = vertexId(edge.getFrom());
+        int v = vertexId(edge.getTo());
+        if (u == v) {
+            operationsCount++; // Self-loop check
+            processingNanos += System.nanoTime() - startTime;
+            return;
+        }
+
+        if (!findForestPath(u, v)) {
+            // Endpoints lie in different trees: the edge joins them
+            addForestEdge(edge, u, v);
+        } else {
+            // Edge closes a cycle: evict the heaviest edge on the path if the new edge is lighter
+            int heaviest = heaviestSlotOnPath(u, v);
+            operationsCount++; // Weight comparison
+            if (slotEdge[heaviest].getWeight() > edge.getWeight()) {
+                removeForestEdge(heaviest);
+                addForestEdge(edge, u, v);
+            }
+        }
+
+        processingNanos += System.nanoTime() - startTime;
+    }
+
+    /**
+     * Drains an iterator of edges into the stream.
+     */
+    public void acceptAll(Iterator<Edge> edges) {
+        while (edges.hasNext()) {
+            accept(edges.next());
+        }
+    }
+
+    /**
+     * Returns the Minimum Spanning Forest of all edges seen so far.
+     * The execution time is the cumulative time spent processing edges.
+     */
+    public synchronized MSTResult snapshot() {
+        List<Edge> mstEdges = new ArrayList<>(forestSize);
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slotEdge[slot] != null) {
+                mstEdges.add(slotEdge[slot]);
+            }
+        }
+        return new MSTResult(mstEdges, totalCost, operationsCount, processingNanos / 1_000_000.0);
+    }
+
+    public synchronized int getVertexCount() {
+        return vertexIds.size();
+    }
+
+    public synchronized long getEdgesSeen() {
+        return edgesSeen;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(Edge edge) {
+        accept(edge);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        failure = throwable;
+        completed = true;
+    }
+
+    @Override
+    public void onComplete() {
+        completed = true;
+    }
+
+    /**
+     * Cancels the upstream subscription, if any. The forest built so far stays available.
+     */
+    public void cancel() {
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    private int vertexId(String name) {
+        Integer id = vertexIds.get(name);
+        operationsCount++; // Vertex lookup
+        if (id != null) {
+            return id;
+        }
+        int newId = vertexIds.size();
+        vertexIds.put(name, newId);
+        if (newId == degree.length) {
+            int capacity = newId * 2;
+            incident = Arrays.copyOf(incident, capacity);
+            degree = Arrays.copyOf(degree, capacity);
+            pathSlot = Arrays.copyOf(pathSlot, capacity);
+            visitStamp = Arrays.copyOf(visitStamp, capacity);
+            searchStack = Arrays.copyOf(searchStack, capacity);
+        }
+        return newId;
+    }
+
+    /**
+     * Searches the forest for a path from u to v. On success, pathSlot[x] holds the slot
+     * of the edge leading back towards u for every vertex x on the path.
+     */
+    private boolean findForestPath(int u, int v) {
+        stamp++;
+        int top = 0;
+        searchStack[top++] = u;
+        visitStamp[u] = stamp;
+        pathSlot[u] = -1;
+
+        while (top > 0) {
+            int x = searchStack[--top];
+            operationsCount++; // Vertex visit
+            if (x == v) {
+                return true;
+            }
+            for (int i = 0; i < degree[x]; i++) {
+                int slot = incident[x][i];
+                int y = slotFrom[slot] == x ? slotTo[slot] : slotFrom[slot];
+                operationsCount++; // Edge scan
+                if (visitStamp[y] != stamp) {
+                    visitStamp[y] = stamp;
+                    pathSlot[y] = slot;
+                    searchStack[top++] = y;
+                }
+            }
+        }
+        return false;
+    }
+
+    private int heaviestSlotOnPath(int u, int v) {
+        int heaviest = -1;
+        for (int x = v; x != u; ) {
+            int slot = pathSlot[x];
+            operationsCount++; // Path step
+            if (heaviest < 0 || slotEdge[slot].getWeight() > slotEdge[heaviest].getWeight()) {
+                heaviest = slot;
+            }
+            x = slotFrom[slot] == x ? slotTo[slot] : slotFrom[slot];
+        }
+        return heaviest;
+    }
+
+    private void addForestEdge(Edge edge, int u, int v) {
+        int slot;
+        if (!freeSlots.isEmpty()) {
+            slot = freeSlots.pop();
+        } else {
+            if (slotCount == slotEdge.length) {
+                int capacity = slotCount * 2;
+                slotEdge = Arrays.copyOf(slotEdge, capacity);
+                slotFrom = Arrays.copyOf(slotFrom, capacity);
+                slotTo = Arrays.copyOf(slotTo, capacity);
+            }
+            slot = slotCount++;
+        }
+        slotEdge[slot] = edge;
+        slotFrom[slot] = u;
+        slotTo[slot] = v;
+        attach(u, slot);
+        attach(v, slot);
+        forestSize++;
+        totalCost += edge.getWeight();
+        operationsCount += 3; // Store edge, attach both endpoints
+    }
+
+    private void removeForestEdge(int slot) {
+        detach(slotFrom[slot], slot);
+        detach(slotTo[slot], slot);
+        totalCost -= slotEdge[slot].getWeight();
+        slotEdge[slot] = null;
+        freeSlots.push(slot);
+        forestSize--;
+        operationsCount += 3; // Detach both endpoints, free slot
+    }
+
+    private void attach(int vertex, int slot) {
+        if (incident[vertex] == null) {
+            incident[vertex] = new int[2];
+        } else if (degree[vertex] == incident[vertex].length) {
+            incident[vertex] = Arrays.copyOf(incident[vertex], degree[vertex] * 2);
+        }
+        incident[vertex][degree[vertex]++] = slot;
+    }
+
+    private void detach(int vertex, int slot) {
+        int[] slots = incident[vertex];
+        for (int i = 0; i < degree[vertex]; i++) {
+            if (slots[i] == slot) {
+                slots[i] = slots[--degree[vertex]];
+                return;
+            }
+        }
+    }
+}
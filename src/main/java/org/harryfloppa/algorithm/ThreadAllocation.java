@@ -0,0 +1,37 @@
+package org.harryfloppa.algorithm;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Bytes allocated by the current thread, from HotSpot's per-thread allocation counter.
+ * The counter includes the thread's partially used allocation buffer, so differences between two
+ * reads are exact to the object rather than to the TLAB.
+ */
+public final class ThreadAllocation {
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+
+    private ThreadAllocation() {
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+            if (threads.isThreadAllocatedMemorySupported()) {
+                threads.setThreadAllocatedMemoryEnabled(true);
+                return threads;
+            }
+        }
+        return null;
+    }
+
+    //Whether the JVM exposes per-thread allocation counts; without it every read returns -1.
+    public static boolean isSupported() {
+        return THREADS != null;
+    }
+
+    //Total bytes allocated so far by the calling thread, or -1 if unsupported.
+    public static long currentThreadBytes() {
+        return THREADS == null ? -1 : THREADS.getCurrentThreadAllocatedBytes();
+    }
+}
@@ -0,0 +1,106 @@
+package org.harryfloppa.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Union-Find (Disjoint Set Union) over int vertex ids with path compression and union by rank.
+ * The arrays grow on demand and are reset in O(1): a node whose stamp is stale is treated as a
+ * fresh singleton and initialized the first time it is touched, so reuse only pays for touched nodes.
+ */
+public class UnionFind {
+    private int[] parent;
+    private int[] rank;
+    private int[] stamp;
+    private int epoch;
+    private long operationsCount;
+
+    public UnionFind() {
+        this(16);
+    }
+
+    public UnionFind(int capacity) {
+        parent = new int[Math.max(1, capacity)];
+        rank = new int[parent.length];
+        stamp = new int[parent.length];
+        epoch = 1;
+    }
+
+    //Makes every node in [0, size) a singleton again and clears the operation count.
+    public void reset(int size) {
+        if (size > parent.length) {
+            int capacity = Math.max(size, parent.length * 2);
+            parent = new int[capacity];
+            rank = new int[capacity];
+            stamp = new int[capacity];
+            epoch = 0;
+        }
+        epoch++;
+        if (epoch == Integer.MAX_VALUE) {
+            Arrays.fill(stamp, 0);
+            epoch = 1;
+        }
+        operationsCount = 0;
+    }
+
+    private void touch(int node) {
+        if (stamp[node] != epoch) {
+            stamp[node] = epoch;
+            parent[node] = node;
+            rank[node] = 0;
+            operationsCount += 2; // Initialization operations
+        }
+    }
+
+    //Finds the root of the set containing the given node with path compression.
+    public int find(int node) {
+        touch(node);
+        operationsCount++; // Find operation
+
+        if (parent[node] != node) {
+            operationsCount++; // Comparison
+            // Path compression: make every node point directly to root
+            parent[node] = find(parent[node]);
+            operationsCount++; // Path compression update
+        }
+        return parent[node];
+    }
+
+    //Unites the sets containing two nodes using union by rank. Returns false if they were already joined.
+    public boolean union(int node1, int node2) {
+        int root1 = find(node1);
+        int root2 = find(node2);
+        operationsCount += 2; // Two find operations
+
+        if (root1 == root2) {
+            operationsCount++; // Comparison
+            return false;
+        }
+
+        // Union by rank: attach smaller tree under root of larger tree
+        int rank1 = rank[root1];
+        int rank2 = rank[root2];
+        operationsCount += 2; // Rank retrievals
+
+        if (rank1 < rank2) {
+            parent[root1] = root2;
+            operationsCount++; // Parent update
+        } else if (rank1 > rank2) {
+            parent[root2] = root1;
+            operationsCount++; // Parent update
+        } else {
+            parent[root2] = root1;
+            rank[root1] = rank1 + 1;
+            operationsCount += 2; // Parent and rank update
+        }
+        return true;
+    }
+
+    //Checks if two nodes are in the same set.
+    public boolean connected(int node1, int node2) {
+        return find(node1) == find(node2);
+    }
+
+    public long getOperationsCount() {
+        return operationsCount;
+    }
+}
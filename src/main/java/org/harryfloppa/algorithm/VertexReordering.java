@@ -0,0 +1,301 @@
+package org.harryfloppa.algorithm;
+
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+
+import java.util.*;
+
+/**
+ * Relabels the vertices of a graph so that vertices close in the graph get close ids, which keeps
+ * Prim's adjacency scans and Union-Find lookups within nearby cache lines.
+ * Edges are renumbered to match, ordered by their smaller endpoint.
+ *
+ * The reordered graph shares vertex names and {@link Edge} objects with the original, or stays compact
+ * if the original is, so an {@code MSTResult} computed on it already names the original districts;
+ * numeric ids translate back with {@link #getOriginalVertex(int)} and {@link #getOriginalEdge(int)}.
+ */
+public class VertexReordering {
+    // 2^15 cells per side keeps curve positions below 2^30
+    private static final int HILBERT_ORDER = 15;
+
+    //Supported orders.
+    public enum Strategy { BFS, RCM, DEGREE, HILBERT }
+
+    private final Graph original;
+    private final Graph reordered;
+    private final int[] newToOld;
+    private final int[] oldToNew;
+    private final int[] newEdgeToOld;
+    private final double reorderTimeMs;
+
+    private VertexReordering(Graph original, int[] newToOld, long startTime) {
+        this.original = original;
+        this.newToOld = newToOld;
+        int vertexCount = original.getVertexCount();
+        this.oldToNew = new int[vertexCount];
+        for (int v = 0; v < vertexCount; v++) {
+            oldToNew[newToOld[v]] = v;
+        }
+
+        // Counting sort of edges by their smaller new endpoint keeps the edge list in vertex order
+        int edgeCount = original.getEdgeCount();
+        int[] start = new int[vertexCount + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            start[lowerEndpoint(e) + 1]++;
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            start[v + 1] += start[v];
+        }
+        this.newEdgeToOld = new int[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            newEdgeToOld[start[lowerEndpoint(e)]++] = e;
+        }
+
+        List<String> nodes = new ArrayList<>(vertexCount);
+        for (int v = 0; v < vertexCount; v++) {
+            nodes.add(original.getNodeName(newToOld[v]));
+        }
+        // A compact original stays compact: its Edge objects would only be created to be copied
+        boolean edgeObjects = original.hasEdgeObjects();
+        List<Edge> edges = edgeObjects ? new ArrayList<>(edgeCount) : null;
+        int[] from = new int[edgeCount];
+        int[] to = new int[edgeCount];
+        int[] weight = edgeObjects ? null : new int[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            int old = newEdgeToOld[e];
+            if (edgeObjects) {
+                edges.add(original.getEdge(old));
+            } else {
+                weight[e] = original.getEdgeWeight(old);
+            }
+            from[e] = oldToNew[original.getEdgeFrom(old)];
+            to[e] = oldToNew[original.getEdgeTo(old)];
+        }
+        this.reordered = edgeObjects
+                ? new Graph(original.getId(), nodes, edges, from, to)
+                : new Graph(original.getId(), nodes, from, to, weight);
+        this.reorderTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+    }
+
+    private int lowerEndpoint(int edge) {
+        return Math.min(oldToNew[original.getEdgeFrom(edge)], oldToNew[original.getEdgeTo(edge)]);
+    }
+
+    /**
+     * Reorders by one of the coordinate-free strategies; use {@link #hilbert} for HILBERT.
+     */
+    public static VertexReordering of(Graph graph, Strategy strategy) {
+        long startTime = System.nanoTime();
+        switch (strategy) {
+            case BFS:
+                return new VertexReordering(graph, breadthFirstOrder(graph, false), startTime);
+            case RCM:
+                int[] order = breadthFirstOrder(graph, true);
+                reverse(order);
+                return new VertexReordering(graph, order, startTime);
+            case DEGREE:
+                return new VertexReordering(graph, degreeOrder(graph), startTime);
+            default:
+                throw new IllegalArgumentException("HILBERT order needs coordinates, use hilbert(graph, x, y)");
+        }
+    }
+
+    /**
+     * Orders vertices along a Hilbert curve through their coordinates (x[v], y[v]),
+     * so that vertices near each other in the plane get nearby ids.
+     */
+    public static VertexReordering hilbert(Graph graph, double[] x, double[] y) {
+        long startTime = System.nanoTime();
+        int vertexCount = graph.getVertexCount();
+        if (x.length < vertexCount || y.length < vertexCount) {
+            throw new IllegalArgumentException("Coordinates are missing for some vertices");
+        }
+        double minX = Double.POSITIVE_INFINITY, maxX = Double.NEGATIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (int v = 0; v < vertexCount; v++) {
+            minX = Math.min(minX, x[v]);
+            maxX = Math.max(maxX, x[v]);
+            minY = Math.min(minY, y[v]);
+            maxY = Math.max(maxY, y[v]);
+        }
+        int side = 1 << HILBERT_ORDER;
+        double scaleX = maxX > minX ? (side - 1) / (maxX - minX) : 0;
+        double scaleY = maxY > minY ? (side - 1) / (maxY - minY) : 0;
+        // Curve position in the high half, vertex id in the low half
+        long[] keys = new long[vertexCount];
+        for (int v = 0; v < vertexCount; v++) {
+            int cellX = (int) ((x[v] - minX) * scaleX);
+            int cellY = (int) ((y[v] - minY) * scaleY);
+            keys[v] = ((long) hilbertIndex(cellX, cellY) << 32) | v;
+        }
+        Arrays.sort(keys);
+        int[] order = new int[vertexCount];
+        for (int i = 0; i < vertexCount; i++) {
+            order[i] = (int) keys[i];
+        }
+        return new VertexReordering(graph, order, startTime);
+    }
+
+    /**
+     * Breadth-first order of every component, started from a minimum-degree vertex.
+     * With byDegree, neighbours are visited in increasing degree order (Cuthill-McKee).
+     */
+    private static int[] breadthFirstOrder(Graph graph, boolean byDegree) {
+        int vertexCount = graph.getVertexCount();
+        int[] order = new int[vertexCount];
+        boolean[] placed = new boolean[vertexCount];
+        int[] starts = degreeAscending(graph);
+        int tail = 0;
+        for (int root : starts) {
+            if (placed[root]) {
+                continue;
+            }
+            placed[root] = true;
+            order[tail++] = root;
+            for (int head = tail - 1; head < tail; head++) {
+                int v = order[head];
+                int firstChild = tail;
+                for (int slot = graph.getAdjacencyStart(v); slot < graph.getAdjacencyEnd(v); slot++) {
+                    int neighbour = graph.getAdjacentVertex(slot);
+                    if (!placed[neighbour]) {
+                        placed[neighbour] = true;
+                        order[tail++] = neighbour;
+                    }
+                }
+                if (byDegree) {
+                    sortByDegree(graph, order, firstChild, tail);
+                }
+            }
+        }
+        return order;
+    }
+
+    //Vertices sorted by ascending degree with a counting sort; stable in vertex id.
+    private static int[] degreeAscending(Graph graph) {
+        int vertexCount = graph.getVertexCount();
+        int maxDegree = 0;
+        for (int v = 0; v < vertexCount; v++) {
+            maxDegree = Math.max(maxDegree, degree(graph, v));
+        }
+        int[] start = new int[maxDegree + 2];
+        for (int v = 0; v < vertexCount; v++) {
+            start[degree(graph, v) + 1]++;
+        }
+        for (int d = 0; d <= maxDegree; d++) {
+            start[d + 1] += start[d];
+        }
+        int[] order = new int[vertexCount];
+        for (int v = 0; v < vertexCount; v++) {
+            order[start[degree(graph, v)]++] = v;
+        }
+        return order;
+    }
+
+    //Hubs first: highest degree gets the smallest id.
+    private static int[] degreeOrder(Graph graph) {
+        int[] order = degreeAscending(graph);
+        reverse(order);
+        return order;
+    }
+
+    //Sorts a run of newly discovered neighbours by degree, stable in discovery order.
+    private static void sortByDegree(Graph graph, int[] order, int from, int to) {
+        if (to - from <= 16) {
+            for (int i = from + 1; i < to; i++) {
+                int v = order[i];
+                int d = degree(graph, v);
+                int j = i - 1;
+                while (j >= from && degree(graph, order[j]) > d) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = v;
+            }
+            return;
+        }
+        // Long runs (hubs): degree above the position within the run
+        long[] keys = new long[to - from];
+        for (int i = from; i < to; i++) {
+            keys[i - from] = ((long) degree(graph, order[i]) << 32) | (i - from);
+        }
+        Arrays.sort(keys);
+        int[] run = Arrays.copyOfRange(order, from, to);
+        for (int i = 0; i < keys.length; i++) {
+            order[from + i] = run[(int) keys[i]];
+        }
+    }
+
+    private static int degree(Graph graph, int v) {
+        return graph.getAdjacencyEnd(v) - graph.getAdjacencyStart(v);
+    }
+
+    private static void reverse(int[] order) {
+        for (int i = 0, j = order.length - 1; i < j; i++, j--) {
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+    }
+
+    //Position of cell (x, y) along the Hilbert curve filling a 2^HILBERT_ORDER square.
+    static int hilbertIndex(int x, int y) {
+        int last = (1 << HILBERT_ORDER) - 1;
+        int index = 0;
+        for (int s = 1 << (HILBERT_ORDER - 1); s > 0; s >>>= 1) {
+            int rx = (x & s) > 0 ? 1 : 0;
+            int ry = (y & s) > 0 ? 1 : 0;
+            index += s * s * ((3 * rx) ^ ry);
+            // Rotate the quadrant so the curve stays continuous
+            if (ry == 0) {
+                if (rx == 1) {
+                    x = last - x;
+                    y = last - y;
+                }
+                int swap = x;
+                x = y;
+                y = swap;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Mean id distance |from - to| over all edges: a cheap proxy for how far apart in memory
+     * the two endpoints of an edge live.
+     */
+    public static double meanEdgeSpan(Graph graph) {
+        if (graph.getEdgeCount() == 0) {
+            return 0;
+        }
+        long total = 0;
+        for (int e = 0; e < graph.getEdgeCount(); e++) {
+            total += Math.abs(graph.getEdgeFrom(e) - graph.getEdgeTo(e));
+        }
+        return (double) total / graph.getEdgeCount();
+    }
+
+    //The relabelled graph to solve.
+    public Graph getGraph() {
+        return reordered;
+    }
+
+    public Graph getOriginalGraph() {
+        return original;
+    }
+
+    public int getOriginalVertex(int newVertex) {
+        return newToOld[newVertex];
+    }
+
+    public int getNewVertex(int originalVertex) {
+        return oldToNew[originalVertex];
+    }
+
+    public int getOriginalEdge(int newEdge) {
+        return newEdgeToOld[newEdge];
+    }
+
+    public double getReorderTimeMs() {
+        return reorderTimeMs;
+    }
+}
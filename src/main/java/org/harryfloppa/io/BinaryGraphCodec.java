@@ -0,0 +1,161 @@
+package org.harryfloppa.io;
+
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact binary encoding of graphs, an alternative to the JSON input format.
+ * Layout (big-endian): magic "MSTG", version, graph count, then per graph its id,
+ * node count, node names (modified UTF-8), edge count and one (from id, to id, weight) int triple per edge.
+ * Endpoints are node indices, so no name is repeated per edge.
+ */
+public class BinaryGraphCodec {
+    public static final int MAGIC = 0x4D535447; // "MSTG"
+    public static final int VERSION = 1;
+
+    //Writes the graphs to a binary stream.
+    public void writeGraphs(OutputStream output, List<Graph> graphs) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(graphs.size());
+        for (Graph graph : graphs) {
+            out.writeInt(graph.getId());
+            out.writeInt(graph.getVertexCount());
+            for (int v = 0; v < graph.getVertexCount(); v++) {
+                out.writeUTF(graph.getNodeName(v));
+            }
+            out.writeInt(graph.getEdgeCount());
+            for (int e = 0; e < graph.getEdgeCount(); e++) {
+                out.writeInt(graph.getEdgeFrom(e));
+                out.writeInt(graph.getEdgeTo(e));
+                out.writeInt(graph.getEdgeWeight(e));
+            }
+        }
+        out.flush();
+    }
+
+    //Reads graphs from a binary stream of unknown length.
+    public List<Graph> readGraphs(InputStream input) throws IOException {
+        return readGraphs(input, Long.MAX_VALUE);
+    }
+
+    /**
+     * Reads graphs from a binary stream holding at most length bytes.
+     * Counts are checked before anything is sized by them: a negative count, or one whose entries could not
+     * fit in the bytes left, is rejected with an IOException. Arrays still grow with the entries actually
+     * read, so a count in a stream of unknown length cannot allocate more than its data.
+     */
+    public List<Graph> readGraphs(InputStream input, long length) throws IOException {
+        CountingInputStream counter = new CountingInputStream(new BufferedInputStream(input));
+        DataInputStream in = new DataInputStream(counter);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a binary graph stream (bad magic)");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary graph version " + version);
+        }
+
+        // Each graph takes at least its id, node count and edge count
+        int graphCount = readCount(in, counter, length, 12, "graph", 0);
+        List<Graph> graphs = new ArrayList<>(initialCapacity(graphCount));
+        for (int g = 0; g < graphCount; g++) {
+            int id = in.readInt();
+            // A node name takes at least its 2-byte length
+            int nodeCount = readCount(in, counter, length, 2, "node", id);
+            SymbolTable symbols = new SymbolTable(initialCapacity(nodeCount));
+            for (int v = 0; v < nodeCount; v++) {
+                if (symbols.intern(in.readUTF()) != v) {
+                    throw new IOException("Duplicate node name in graph " + id);
+                }
+            }
+
+            int edgeCount = readCount(in, counter, length, 12, "edge", id);
+            List<Edge> edges = new ArrayList<>(initialCapacity(edgeCount));
+            int[] edgeFrom = new int[initialCapacity(edgeCount)];
+            int[] edgeTo = new int[edgeFrom.length];
+            for (int e = 0; e < edgeCount; e++) {
+                if (e == edgeFrom.length) {
+                    int capacity = (int) Math.min(edgeCount, 2L * edgeFrom.length);
+                    edgeFrom = Arrays.copyOf(edgeFrom, capacity);
+                    edgeTo = Arrays.copyOf(edgeTo, capacity);
+                }
+                edgeFrom[e] = readVertex(in, nodeCount, id);
+                edgeTo[e] = readVertex(in, nodeCount, id);
+                int weight = in.readInt();
+                edges.add(new Edge(symbols.nameOf(edgeFrom[e]), symbols.nameOf(edgeTo[e]), weight));
+            }
+            graphs.add(new Graph(id, symbols.getNames(), edges, edgeFrom, edgeTo));
+        }
+        return graphs;
+    }
+
+    //Reads a count and checks that that many entries of at least entryBytes each fit in the bytes left.
+    private static int readCount(DataInputStream in, CountingInputStream counter, long length, int entryBytes,
+                                 String what, int graphId) throws IOException {
+        int count = in.readInt();
+        long remaining = length - counter.getCount();
+        if (count < 0 || (long) count * entryBytes > remaining) {
+            throw new IOException("Invalid " + what + " count " + count + " in graph " + graphId
+                    + (length == Long.MAX_VALUE ? "" : " (" + remaining + " bytes left)"));
+        }
+        return count;
+    }
+
+    //Starting capacity for a checked count: arrays grow as entries arrive rather than trusting the count.
+    private static int initialCapacity(int count) {
+        return Math.min(count, 1 << 16);
+    }
+
+    private static int readVertex(DataInputStream in, int nodeCount, int graphId) throws IOException {
+        int vertex = in.readInt();
+        if (vertex < 0 || vertex >= nodeCount) {
+            throw new IOException("Edge endpoint " + vertex + " out of range in graph " + graphId);
+        }
+        return vertex;
+    }
+
+    //Counts the bytes read through it, so checks know how much of the stream is left.
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.harryfloppa.io;
+
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of MST results, the binary counterpart of the JSON output.
+ * Layout (big-endian): magic "MSTR", version, result count, then per graph its id, node count and
+ * node names (modified UTF-8), followed by the Prim and Kruskal results. Each result holds its total cost,
+ * operation count, execution time, allocated bytes (-1 if unknown) and edge count, then the edges as three
+ * int columns: from ids, to ids, weights. Columns rather than triples keep similar values together,
+ * which helps when the stream is compressed.
+ */
+public class BinaryResultCodec {
+    public static final int MAGIC = 0x4D535452; // "MSTR"
+    public static final int VERSION = 1;
+
+    //Writes the results to a binary stream.
+    public void writeResults(OutputStream output, Map<Integer, OutputWriter.AlgorithmResults> results,
+                             Map<Integer, Graph> graphs) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output, 1 << 16));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(results.size());
+        for (Map.Entry<Integer, OutputWriter.AlgorithmResults> entry : results.entrySet()) {
+            Graph graph = graphs.get(entry.getKey());
+            out.writeInt(entry.getKey());
+            out.writeInt(graph.getVertexCount());
+            for (String name : graph.getNodes()) {
+                out.writeUTF(name);
+            }
+            MSTResult prim = entry.getValue().getPrimResult();
+            MSTResult kruskal = entry.getValue().getKruskalResult();
+            SymbolTable symbols = OutputWriter.symbolsFor(graph, prim, kruskal);
+            writeResult(out, ResultColumns.of(prim, graph, symbols), prim);
+            writeResult(out, ResultColumns.of(kruskal, graph, symbols), kruskal);
+        }
+        out.flush();
+    }
+
+    //Writes one result with its edges as columns of node ids.
+    static void writeResult(DataOutput out, ResultColumns columns, MSTResult result)
+            throws IOException {
+        out.writeInt(result.getTotalCost());
+        out.writeLong(result.getOperationsCount());
+        out.writeDouble(result.getExecutionTimeMs());
+        out.writeLong(result.getAllocatedBytes());
+        out.writeInt(columns.size);
+        for (int i = 0; i < columns.size; i++) {
+            out.writeInt(columns.from[i]);
+        }
+        for (int i = 0; i < columns.size; i++) {
+            out.writeInt(columns.to[i]);
+        }
+        for (int i = 0; i < columns.size; i++) {
+            out.writeInt(columns.weight[i]);
+        }
+    }
+
+    //Reads results from a binary stream, keyed by graph id in stream order.
+    public Map<Integer, OutputWriter.AlgorithmResults> readResults(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(input, 1 << 16));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a binary result stream (bad magic)");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary result version " + version);
+        }
+
+        int resultCount = in.readInt();
+        Map<Integer, OutputWriter.AlgorithmResults> results = new LinkedHashMap<>();
+        for (int r = 0; r < resultCount; r++) {
+            int id = in.readInt();
+            int nodeCount = in.readInt();
+            String[] names = new String[nodeCount];
+            for (int v = 0; v < nodeCount; v++) {
+                names[v] = in.readUTF();
+            }
+            MSTResult prim = readResult(in, Arrays.asList(names), id);
+            MSTResult kruskal = readResult(in, Arrays.asList(names), id);
+            results.put(id, new OutputWriter.AlgorithmResults(prim, kruskal));
+        }
+        return results;
+    }
+
+    //Reads one result, naming its edge endpoints from the graph's node list.
+    static MSTResult readResult(DataInput in, List<String> names, int graphId) throws IOException {
+        int totalCost = in.readInt();
+        long operations = in.readLong();
+        double executionTimeMs = in.readDouble();
+        long allocatedBytes = in.readLong();
+        int edgeCount = in.readInt();
+        int[] from = new int[edgeCount];
+        int[] to = new int[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            from[e] = readVertex(in, names.size(), graphId);
+        }
+        for (int e = 0; e < edgeCount; e++) {
+            to[e] = readVertex(in, names.size(), graphId);
+        }
+        List<Edge> edges = new ArrayList<>(edgeCount);
+        for (int e = 0; e < edgeCount; e++) {
+            edges.add(new Edge(names.get(from[e]), names.get(to[e]), in.readInt()));
+        }
+        return new MSTResult(edges, totalCost, operations, executionTimeMs, allocatedBytes);
+    }
+
+    private static int readVertex(DataInput in, int nodeCount, int graphId) throws IOException {
+        int vertex = in.readInt();
+        if (vertex < 0 || vertex >= nodeCount) {
+            throw new IOException("Edge endpoint " + vertex + " out of range in result for graph " + graphId);
+        }
+        return vertex;
+    }
+}
@@ -0,0 +1,318 @@
+package org.harryfloppa.io;
+
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of per-graph results, so that a batch run which is interrupted can resume where it stopped.
+ * Each record holds a graph id, a hash of the graph's input and the Prim and Kruskal results in the
+ * {@link BinaryResultCodec} encoding, framed by its length and a CRC32.
+ *
+ * Every record is written to the file as it is appended; only the fsync is batched. The log is fsynced
+ * after every syncEvery records, by a background thread once syncIntervalMs has passed since the last sync
+ * with records outstanding, and on close. A process crash loses nothing, and a machine crash at most the
+ * records since the last sync, which are solved again. Opening a log scans it, keeps every complete record and
+ * truncates a torn or corrupt tail. A graph counts as done only if its id and input hash both match;
+ * when a graph is logged twice the later record wins.
+ * Appends, syncs and closes are synchronized, so a shutdown hook or the background sync can run while
+ * a run is appending. A background sync that fails is rethrown by the next append, sync or close.
+ */
+public class CheckpointLog implements Closeable {
+    public static final int MAGIC = 0x4D535443; // "MSTC"
+    public static final int VERSION = 1;
+    public static final int DEFAULT_SYNC_EVERY = 64;
+    public static final long DEFAULT_SYNC_INTERVAL_MS = 1_000;
+
+    private static final int HEADER_BYTES = 8;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final int syncEvery;
+    private final long syncIntervalNanos;
+
+    // Graph id -> offset of its latest record
+    private final Map<Integer, Long> offsets = new HashMap<>();
+    private final Map<Integer, Long> hashes = new HashMap<>();
+
+    private final ByteArrayOutputStream frameBuffer = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream record = new ByteArrayOutputStream();
+    private final ScheduledExecutorService syncTimer;
+    private IOException backgroundFailure;
+    private long writtenEnd;
+    private int unsyncedRecords;
+    private long lastSyncNanos;
+
+    private int recoveredRecords;
+    private long discardedBytes;
+    private int appendedRecords;
+    private int syncCount;
+
+    public CheckpointLog(Path path) throws IOException {
+        this(path, DEFAULT_SYNC_EVERY, DEFAULT_SYNC_INTERVAL_MS);
+    }
+
+    public CheckpointLog(Path path, int syncEvery, long syncIntervalMs) throws IOException {
+        if (syncEvery < 1 || syncIntervalMs < 0) {
+            throw new IllegalArgumentException("syncEvery must be positive and syncIntervalMs non-negative");
+        }
+        this.path = path;
+        this.syncEvery = syncEvery;
+        this.syncIntervalNanos = syncIntervalMs * 1_000_000;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            recover();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        this.lastSyncNanos = System.nanoTime();
+        this.syncTimer = syncIntervalMs > 0 ? startSyncTimer(syncIntervalMs) : null;
+    }
+
+    //Syncs outstanding records once they are syncIntervalMs old, even while no further append comes.
+    private ScheduledExecutorService startSyncTimer(long syncIntervalMs) {
+        ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "checkpoint-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.scheduleWithFixedDelay(this::syncIfDue, syncIntervalMs, syncIntervalMs, TimeUnit.MILLISECONDS);
+        return timer;
+    }
+
+    private synchronized void syncIfDue() {
+        if (unsyncedRecords == 0 || !channel.isOpen() || System.nanoTime() - lastSyncNanos < syncIntervalNanos) {
+            return;
+        }
+        try {
+            sync();
+        } catch (IOException e) {
+            backgroundFailure = e;
+        }
+    }
+
+    //Scans the existing log, indexes its complete records and cuts off anything after the last one.
+    private void recover() throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION).flip();
+            writeFully(header, 0);
+            channel.force(false);
+            writtenEnd = HEADER_BYTES;
+            return;
+        }
+        ByteBuffer header = readFully(0, HEADER_BYTES, size);
+        if (header == null || header.getInt() != MAGIC) {
+            throw new IOException("Not a checkpoint log: " + path);
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported checkpoint log version " + version + ": " + path);
+        }
+
+        long position = HEADER_BYTES;
+        while (true) {
+            ByteBuffer frame = readFully(position, 16, size);
+            if (frame == null) {
+                break;
+            }
+            int length = frame.getInt();
+            int graphId = frame.getInt();
+            long inputHash = frame.getLong();
+            if (length < 12 || position + 8 + length > size
+                    || crc(position + 4, length) != crcAt(position, length)) {
+                break;
+            }
+            offsets.put(graphId, position);
+            hashes.put(graphId, inputHash);
+            recoveredRecords++;
+            position += 8 + length;
+        }
+        if (position < size) {
+            discardedBytes = size - position;
+            channel.truncate(position);
+            channel.force(false);
+        }
+        writtenEnd = position;
+    }
+
+    //Results logged for this graph, or null if it has not been logged with its current input.
+    public synchronized OutputWriter.AlgorithmResults restore(Graph graph) throws IOException {
+        Long offset = offsets.get(graph.getId());
+        if (offset == null || hashes.get(graph.getId()) != inputHash(graph)) {
+            return null;
+        }
+        int length = readFully(offset, 4, writtenEnd).getInt();
+        ByteBuffer payload = readFully(offset + 4, length, writtenEnd);
+        DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(payload.array(), 12, length - 12));
+        MSTResult prim = BinaryResultCodec.readResult(in, graph.getNodes(), graph.getId());
+        MSTResult kruskal = BinaryResultCodec.readResult(in, graph.getNodes(), graph.getId());
+        return new OutputWriter.AlgorithmResults(prim, kruskal);
+    }
+
+    //Logs the results of a graph; they reach the file at once and are durable after the next sync.
+    public synchronized void append(Graph graph, OutputWriter.AlgorithmResults results) throws IOException {
+        rethrowBackgroundFailure();
+        long inputHash = inputHash(graph);
+        record.reset();
+        DataOutputStream out = new DataOutputStream(record);
+        out.writeInt(graph.getId());
+        out.writeLong(inputHash);
+        MSTResult prim = results.getPrimResult();
+        MSTResult kruskal = results.getKruskalResult();
+        SymbolTable symbols = OutputWriter.symbolsFor(graph, prim, kruskal);
+        BinaryResultCodec.writeResult(out, ResultColumns.of(prim, graph, symbols), prim);
+        BinaryResultCodec.writeResult(out, ResultColumns.of(kruskal, graph, symbols), kruskal);
+        out.flush();
+
+        CRC32 crc = new CRC32();
+        crc.update(record.toByteArray(), 0, record.size());
+        long offset = writtenEnd;
+        frameBuffer.reset();
+        DataOutputStream frame = new DataOutputStream(frameBuffer);
+        frame.writeInt(record.size());
+        record.writeTo(frame);
+        frame.writeInt((int) crc.getValue());
+        frame.flush();
+        writeFully(ByteBuffer.wrap(frameBuffer.toByteArray()), writtenEnd);
+        writtenEnd += frameBuffer.size();
+
+        offsets.put(graph.getId(), offset);
+        hashes.put(graph.getId(), inputHash);
+        appendedRecords++;
+        unsyncedRecords++;
+        if (unsyncedRecords >= syncEvery || System.nanoTime() - lastSyncNanos >= syncIntervalNanos) {
+            sync();
+        }
+    }
+
+    //Forces the written records to disk.
+    public synchronized void sync() throws IOException {
+        rethrowBackgroundFailure();
+        if (unsyncedRecords > 0) {
+            channel.force(false);
+            syncCount++;
+            unsyncedRecords = 0;
+        }
+        lastSyncNanos = System.nanoTime();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (syncTimer != null) {
+            syncTimer.shutdownNow();
+        }
+        try {
+            sync();
+        } finally {
+            channel.close();
+        }
+    }
+
+    //Hash of everything a result depends on: node names and the edge arrays.
+    public static long inputHash(Graph graph) {
+        long hash = mix(graph.getVertexCount() * 0x9E3779B97F4A7C15L + graph.getEdgeCount());
+        for (String name : graph.getNodes()) {
+            for (int i = 0; i < name.length(); i++) {
+                hash = (hash ^ name.charAt(i)) * 0x100000001B3L;
+            }
+            hash = mix(hash ^ name.length());
+        }
+        for (int e = 0; e < graph.getEdgeCount(); e++) {
+            hash = mix(hash ^ (((long) graph.getEdgeFrom(e) << 32) | (graph.getEdgeTo(e) & 0xFFFFFFFFL)));
+            hash = mix(hash ^ graph.getEdgeWeight(e));
+        }
+        return hash;
+    }
+
+    private static long mix(long h) {
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+    private void rethrowBackgroundFailure() throws IOException {
+        if (backgroundFailure != null) {
+            IOException failure = backgroundFailure;
+            backgroundFailure = null;
+            throw new IOException("Background sync of " + path + " failed", failure);
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    //Reads length bytes at position, or returns null if they extend past limit.
+    private ByteBuffer readFully(long position, int length, long limit) throws IOException {
+        if (position + length > limit) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Checkpoint log ended early: " + path);
+            }
+        }
+        return buffer.flip();
+    }
+
+    //CRC32 of length bytes at position, read in chunks so large records are not held whole.
+    private int crc(long position, int length) throws IOException {
+        CRC32 crc = new CRC32();
+        ByteBuffer buffer = ByteBuffer.allocate(Math.min(length, 1 << 16));
+        long end = position + length;
+        while (position < end) {
+            buffer.clear().limit((int) Math.min(buffer.capacity(), end - position));
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Checkpoint log ended early: " + path);
+            }
+            position += read;
+            crc.update(buffer.flip());
+        }
+        return (int) crc.getValue();
+    }
+
+    private int crcAt(long position, int length) throws IOException {
+        return readFully(position + 4 + length, 4, channel.size()).getInt();
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    //Complete records found when the log was opened.
+    public int getRecoveredRecords() {
+        return recoveredRecords;
+    }
+
+    //Bytes of a torn or corrupt tail dropped when the log was opened.
+    public long getDiscardedBytes() {
+        return discardedBytes;
+    }
+
+    public int getAppendedRecords() {
+        return appendedRecords;
+    }
+
+    public int getSyncCount() {
+        return syncCount;
+    }
+}
@@ -0,0 +1,129 @@
+package org.harryfloppa.io;
+
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Removes redundancy from an edge list before a graph is built: self-loops are dropped and, of the
+ * parallel edges between an unordered pair of vertices, only the lightest is kept (the first one on ties).
+ * Neither can be part of a minimum spanning forest, so MST costs are unchanged.
+ *
+ * Pairs are keyed as (min id << 32 | max id) in a {@link LongIntHashMap}, so a pass costs two probes per
+ * edge and no boxing. Kept edges stay in input order. Counts accumulate over every call, for the load report;
+ * calls may come from several loader threads at once.
+ */
+public class EdgeCompactor {
+    private final LongAdder inputEdges = new LongAdder();
+    private final LongAdder selfLoopsRemoved = new LongAdder();
+    private final LongAdder parallelEdgesRemoved = new LongAdder();
+
+    /**
+     * Returns the indices, in increasing order, of the edges in [0, count) that survive compaction.
+     */
+    public int[] compact(int[] from, int[] to, int[] weight, int count) {
+        // First pass: lightest (then earliest) edge index per pair
+        LongIntHashMap best = new LongIntHashMap(count);
+        int selfLoops = 0;
+        for (int e = 0; e < count; e++) {
+            if (from[e] == to[e]) {
+                selfLoops++;
+                continue;
+            }
+            long key = pairKey(from[e], to[e]);
+            int current = best.get(key, -1);
+            if (current < 0 || weight[e] < weight[current]) {
+                best.put(key, e);
+            }
+        }
+
+        // Second pass: keep each winner at its original position
+        int[] kept = new int[best.size()];
+        int keptCount = 0;
+        for (int e = 0; e < count; e++) {
+            if (from[e] != to[e] && best.get(pairKey(from[e], to[e]), -1) == e) {
+                kept[keptCount++] = e;
+            }
+        }
+
+        inputEdges.add(count);
+        selfLoopsRemoved.add(selfLoops);
+        parallelEdgesRemoved.add(count - selfLoops - keptCount);
+        return kept;
+    }
+
+    //Compacts a graph that was built without going through the reader.
+    public Graph compact(Graph graph) {
+        int edgeCount = graph.getEdgeCount();
+        int[] from = new int[edgeCount];
+        int[] to = new int[edgeCount];
+        int[] weight = new int[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            from[e] = graph.getEdgeFrom(e);
+            to[e] = graph.getEdgeTo(e);
+            weight[e] = graph.getEdgeWeight(e);
+        }
+        int[] kept = compact(from, to, weight, edgeCount);
+
+        if (!graph.hasEdgeObjects()) {
+            int[] keptFrom = new int[kept.length];
+            int[] keptTo = new int[kept.length];
+            int[] keptWeight = new int[kept.length];
+            for (int i = 0; i < kept.length; i++) {
+                keptFrom[i] = from[kept[i]];
+                keptTo[i] = to[kept[i]];
+                keptWeight[i] = weight[kept[i]];
+            }
+            Graph compacted = new Graph(graph.getId(), graph.getNodes(), keptFrom, keptTo, keptWeight);
+            compacted.setInputEdgeCount(graph.getInputEdgeCount());
+            return compacted;
+        }
+        List<Edge> edges = new ArrayList<>(kept.length);
+        int[] keptFrom = new int[kept.length];
+        int[] keptTo = new int[kept.length];
+        for (int i = 0; i < kept.length; i++) {
+            edges.add(graph.getEdge(kept[i]));
+            keptFrom[i] = from[kept[i]];
+            keptTo[i] = to[kept[i]];
+        }
+        Graph compacted = new Graph(graph.getId(), graph.getNodes(), edges, keptFrom, keptTo);
+        compacted.setInputEdgeCount(graph.getInputEdgeCount());
+        return compacted;
+    }
+
+    private static long pairKey(int u, int v) {
+        return ((long) Math.min(u, v) << 32) | Math.max(u, v);
+    }
+
+    public long getInputEdges() {
+        return inputEdges.sum();
+    }
+
+    public long getSelfLoopsRemoved() {
+        return selfLoopsRemoved.sum();
+    }
+
+    public long getParallelEdgesRemoved() {
+        return parallelEdgesRemoved.sum();
+    }
+
+    public long getRemovedEdges() {
+        return getSelfLoopsRemoved() + getParallelEdgesRemoved();
+    }
+
+    //Share of the input edges removed, in percent.
+    public double getReductionPercent() {
+        long input = getInputEdges();
+        return input == 0 ? 0 : 100.0 * getRemovedEdges() / input;
+    }
+
+    //One-line summary for the console.
+    public String getReport() {
+        return String.format("%d of %d edges removed (%.1f%%): %d self-loops, %d parallel",
+                getRemovedEdges(), getInputEdges(), getReductionPercent(), getSelfLoopsRemoved(),
+                getParallelEdgesRemoved());
+    }
+}
@@ -0,0 +1,479 @@
+package org.harryfloppa.io;
+
+import org.harryfloppa.model.Graph;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Loads a graph from a delimited edge list, one {@code from,to,weight} line per edge, as exported by GIS tools.
+ * The delimiter is a comma or, if the first record contains one, a tab. A first line whose weight column is
+ * not an integer is taken as a header; blank lines and lines starting with '#' are skipped, surrounding
+ * spaces and double quotes are trimmed from fields, and any columns after the weight are ignored.
+ *
+ * The file is memory-mapped and copied in chunks into one reusable byte buffer, where lines are split and
+ * weights parsed directly from the bytes. Vertex names are interned into ids by a hash table keyed by their
+ * bytes, so only one String is created per distinct vertex, never per edge or per line. Names are hashed
+ * eight bytes at a time and looked up in batches, so the table cache misses of many lines overlap.
+ * The result is a compact {@link Graph}: vertices are numbered in order of first appearance, and isolated
+ * vertices cannot be expressed in this format.
+ */
+public class EdgeListReader {
+    // 1 GB mapped segments
+    private static final int SEGMENT_BITS = 30;
+    private static final int CHUNK_SIZE = 1 << 18;
+    private static final int UNKNOWN_DELIMITER = 256;
+    // Bytes kept readable after the chunk contents, for reading names eight bytes at a time
+    private static final int SLACK = 8;
+    // Edges whose vertex names are looked up together
+    private static final int BATCH = 64;
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final EdgeCompactor compactor;
+    private final int segmentBits;
+    private double loadTimeMs;
+    private long bytesRead;
+
+    public EdgeListReader() {
+        this(null);
+    }
+
+    //Compacts the loaded edges with the compactor if not null.
+    public EdgeListReader(EdgeCompactor compactor) {
+        this(compactor, SEGMENT_BITS);
+    }
+
+    //Maps the file in segments of 2^segmentBits bytes; small segments let tests cross segment boundaries.
+    EdgeListReader(EdgeCompactor compactor, int segmentBits) {
+        this.compactor = compactor;
+        this.segmentBits = segmentBits;
+    }
+
+    public Graph readGraph(String filePath) throws IOException {
+        return readGraph(filePath, 1);
+    }
+
+    public Graph readGraph(String filePath, int graphId) throws IOException {
+        long startTime = System.nanoTime();
+        Parser parser;
+        try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+            long size = channel.size();
+            parser = new Parser(filePath, size);
+            long segmentSize = 1L << segmentBits;
+            for (long offset = 0; offset < size; offset += segmentSize) {
+                parser.feed(channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(segmentSize, size - offset)));
+            }
+            parser.finish();
+            bytesRead = size;
+        }
+        Graph graph = parser.build(graphId);
+        loadTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+        return graph;
+    }
+
+    //Time of the last load, including building the graph.
+    public double getLoadTimeMs() {
+        return loadTimeMs;
+    }
+
+    //Size of the last file loaded.
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    public EdgeCompactor getCompactor() {
+        return compactor;
+    }
+
+    //Parsing state of one load.
+    private final class Parser {
+        private final String filePath;
+        private final NameTable names = new NameTable();
+        private byte[] chunk = new byte[CHUNK_SIZE + SLACK];
+        private int chunkLength;
+        private long lineNumber;
+        // Set from the first record; no byte value equals the unknown marker
+        private int delimiter = UNKNOWN_DELIMITER;
+        private boolean headerChecked;
+
+        private int[] from;
+        private int[] to;
+        private int[] weight;
+        private int edgeCount;
+
+        // Name ranges of parsed edges whose ids are not yet looked up, four ints per edge
+        private final int[] pending = new int[4 * BATCH];
+        private final int[] hashes = new int[2 * BATCH];
+        private int pendingCount;
+        // Sum of the slots read ahead, kept so the reads are not optimised away
+        private long prefetched;
+
+        Parser(String filePath, long size) {
+            this.filePath = filePath;
+            // Short lines such as "12,345,67" take about 10 bytes
+            int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(16, size / 12));
+            from = new int[capacity];
+            to = new int[capacity];
+            weight = new int[capacity];
+        }
+
+        //Parses every complete line of the segment, carrying a partial last line over to the next one.
+        void feed(ByteBuffer segment) {
+            while (segment.hasRemaining()) {
+                int count = Math.min(chunk.length - SLACK - chunkLength, segment.remaining());
+                segment.get(chunk, chunkLength, count);
+                chunkLength += count;
+                int consumed = parseLines();
+                System.arraycopy(chunk, consumed, chunk, 0, chunkLength - consumed);
+                chunkLength -= consumed;
+                if (chunkLength == chunk.length - SLACK) {
+                    // A single line longer than the buffer
+                    chunk = Arrays.copyOf(chunk, 2 * (chunk.length - SLACK) + SLACK);
+                }
+            }
+        }
+
+        void finish() {
+            if (chunkLength > 0) {
+                parseLine(0, chunkLength, -1, -1);
+                flush();
+                chunkLength = 0;
+            }
+        }
+
+        /**
+         * Parses the complete lines in the chunk and returns the offset just past the last of them.
+         * The first two delimiters of each line are noted in the same pass that finds its end.
+         */
+        private int parseLines() {
+            byte[] bytes = chunk;
+            int separator = delimiter;
+            int lineStart = 0;
+            int first = -1;
+            int second = -1;
+            for (int i = 0; i < chunkLength; i++) {
+                byte b = bytes[i];
+                if (b == '\n') {
+                    parseLine(lineStart, i, first, second);
+                    separator = delimiter;
+                    lineStart = i + 1;
+                    first = -1;
+                    second = -1;
+                } else if (b == separator) {
+                    if (first < 0) {
+                        first = i;
+                    } else if (second < 0) {
+                        second = i;
+                    }
+                }
+            }
+            // Pending names point into the chunk, which is about to be shifted
+            flush();
+            return lineStart;
+        }
+
+        //Parses one line; first and second are its first two delimiters, or -1 if not yet known.
+        private void parseLine(int start, int end, int first, int second) {
+            lineNumber++;
+            byte[] bytes = chunk;
+            while (end > start && (bytes[end - 1] == '\r' || bytes[end - 1] == ' ')) {
+                end--;
+            }
+            while (start < end && bytes[start] == ' ') {
+                start++;
+            }
+            if (start == end || bytes[start] == '#') {
+                return;
+            }
+            if (delimiter == UNKNOWN_DELIMITER) {
+                delimiter = indexOf((byte) '\t', start, end) >= 0 ? '\t' : ',';
+                first = -1;
+            }
+            if (first < 0) {
+                first = indexOf((byte) delimiter, start, end);
+                second = first < 0 ? -1 : indexOf((byte) delimiter, first + 1, end);
+            }
+            if (second < 0 || second >= end) {
+                throw error("expected from, to and weight");
+            }
+            int third = indexOf((byte) delimiter, second + 1, end);
+            long value = parseWeight(second + 1, third < 0 ? end : third);
+            if (!headerChecked) {
+                headerChecked = true;
+                if (value == Long.MIN_VALUE) {
+                    return;
+                }
+            }
+            if (value == Long.MIN_VALUE) {
+                throw error("weight is not an integer");
+            }
+            if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                throw error("weight does not fit in an int");
+            }
+            int edge = edgeCount + pendingCount;
+            if (edge == from.length) {
+                int capacity = (int) Math.min(Integer.MAX_VALUE - 8, 2L * edge);
+                from = Arrays.copyOf(from, capacity);
+                to = Arrays.copyOf(to, capacity);
+                weight = Arrays.copyOf(weight, capacity);
+            }
+            int p = 4 * pendingCount++;
+            pending[p] = nameStart(start, first);
+            pending[p + 1] = nameEnd(pending[p], first);
+            pending[p + 2] = nameStart(first + 1, second);
+            pending[p + 3] = nameEnd(pending[p + 2], second);
+            weight[edge] = (int) value;
+            if (pendingCount == BATCH) {
+                flush();
+            }
+        }
+
+        /**
+         * Interns the endpoint names of the pending edges. All names are hashed and their table slots read
+         * first, so the cache misses of a batch overlap instead of being taken one lookup at a time.
+         */
+        private void flush() {
+            int nameCount = 2 * pendingCount;
+            long touched = 0;
+            for (int i = 0; i < nameCount; i++) {
+                hashes[i] = NameTable.hash(chunk, pending[2 * i], pending[2 * i + 1]);
+                touched += names.slot(hashes[i]);
+            }
+            prefetched = touched;
+            for (int i = 0; i < pendingCount; i++) {
+                from[edgeCount + i] = names.intern(chunk, pending[4 * i], pending[4 * i + 1], hashes[2 * i]);
+                to[edgeCount + i] = names.intern(chunk, pending[4 * i + 2], pending[4 * i + 3], hashes[2 * i + 1]);
+            }
+            edgeCount += pendingCount;
+            pendingCount = 0;
+        }
+
+        private int indexOf(byte target, int start, int end) {
+            for (int i = start; i < end; i++) {
+                if (chunk[i] == target) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        //Signed decimal weight of the field, Long.MIN_VALUE if it is not an integer.
+        private long parseWeight(int start, int end) {
+            byte[] bytes = chunk;
+            while (start < end && (bytes[start] == ' ' || bytes[start] == '"')) {
+                start++;
+            }
+            while (end > start && (bytes[end - 1] == ' ' || bytes[end - 1] == '"')) {
+                end--;
+            }
+            boolean negative = start < end && bytes[start] == '-';
+            if (start < end && (bytes[start] == '-' || bytes[start] == '+')) {
+                start++;
+            }
+            // Eleven digits cover the int range without overflowing the long
+            if (start == end || end - start > 11) {
+                return end - start > 11 && allDigits(start, end) ? Long.MAX_VALUE : Long.MIN_VALUE;
+            }
+            long value = 0;
+            for (int i = start; i < end; i++) {
+                int digit = bytes[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    return Long.MIN_VALUE;
+                }
+                value = value * 10 + digit;
+            }
+            return negative ? -value : value;
+        }
+
+        private boolean allDigits(int start, int end) {
+            for (int i = start; i < end; i++) {
+                if (chunk[i] < '0' || chunk[i] > '9') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        //Start of a name field without surrounding spaces and quotes.
+        private int nameStart(int start, int end) {
+            while (start < end && (chunk[start] == ' ' || chunk[start] == '"')) {
+                start++;
+            }
+            if (start == end) {
+                throw error("empty vertex name");
+            }
+            return start;
+        }
+
+        private int nameEnd(int start, int end) {
+            while (end > start && (chunk[end - 1] == ' ' || chunk[end - 1] == '"')) {
+                end--;
+            }
+            return end;
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(filePath + " line " + lineNumber + ": " + message);
+        }
+
+        Graph build(int graphId) {
+            List<String> nodes = names.toList();
+            if (compactor == null) {
+                return new Graph(graphId, nodes, Arrays.copyOf(from, edgeCount), Arrays.copyOf(to, edgeCount),
+                        Arrays.copyOf(weight, edgeCount));
+            }
+            int[] kept = compactor.compact(from, to, weight, edgeCount);
+            int[] keptFrom = new int[kept.length];
+            int[] keptTo = new int[kept.length];
+            int[] keptWeight = new int[kept.length];
+            for (int i = 0; i < kept.length; i++) {
+                keptFrom[i] = from[kept[i]];
+                keptTo[i] = to[kept[i]];
+                keptWeight[i] = weight[kept[i]];
+            }
+            Graph graph = new Graph(graphId, nodes, keptFrom, keptTo, keptWeight);
+            graph.setInputEdgeCount(edgeCount);
+            return graph;
+        }
+    }
+
+    /**
+     * Open-addressing table from name bytes to dense ids. The bytes of each distinct name are copied once
+     * into a shared arena, and Strings are only created by {@link #toList()}.
+     *
+     * Each slot is two adjacent longs: a tag (hash with the name length in its low 4 bits) next to id + 1,
+     * then the name itself if it fits in 8 bytes, else its arena offset and length. Short names, the
+     * common case for numeric or coded ids, are thus matched from one table cache line without touching
+     * the arena, which matters once the table outgrows the caches.
+     */
+    private static final class NameTable {
+        private static final int INLINE_LENGTH = 8;
+
+        private long[] table = new long[2 << 10];
+        private int[] starts = new int[(1 << 9) + 1];
+        private byte[] arena = new byte[1 << 12];
+        private int size;
+
+        /**
+         * Id of the name in bytes[start, end), whose {@link #hash} is given. Names are compared eight bytes
+         * at a time; the caller guarantees that at least 8 readable bytes follow end.
+         */
+        int intern(byte[] bytes, int start, int end, int hash) {
+            int length = end - start;
+            int tag = (hash & ~15) | Math.min(length, 15);
+            long inline = length <= INLINE_LENGTH ? (long) LONGS.get(bytes, start) & tailMask(length) : 0;
+            int mask = (table.length >> 1) - 1;
+            for (int slot = (tag >>> 4) & mask; ; slot = (slot + 1) & mask) {
+                long key = table[2 * slot];
+                if (key == 0) {
+                    int id = add(bytes, start, end);
+                    table[2 * slot] = ((long) tag << 32) | (id + 1);
+                    table[2 * slot + 1] = length <= INLINE_LENGTH ? inline : ((long) starts[id] << 32) | length;
+                    if (4 * size > table.length) {
+                        rehash();
+                    }
+                    return id;
+                }
+                if ((int) (key >>> 32) == tag) {
+                    long data = table[2 * slot + 1];
+                    if (length <= INLINE_LENGTH
+                            ? data == inline
+                            : (int) data == length && matches((int) (data >>> 32), bytes, start, length)) {
+                        return (int) key - 1;
+                    }
+                }
+            }
+        }
+
+        //First word of the slot where a name with this hash is looked for.
+        long slot(int hash) {
+            int mask = (table.length >> 1) - 1;
+            return table[2 * ((hash >>> 4) & mask)];
+        }
+
+        static int hash(byte[] bytes, int start, int end) {
+            long hash = end - start;
+            int i = start;
+            for (; i + 8 <= end; i += 8) {
+                hash = (hash ^ (long) LONGS.get(bytes, i)) * 0x9E3779B97F4A7C15L;
+            }
+            if (i < end) {
+                hash = (hash ^ ((long) LONGS.get(bytes, i) & tailMask(end - i))) * 0x9E3779B97F4A7C15L;
+            }
+            // Murmur finaliser: the low bits pick the slot
+            hash ^= hash >>> 33;
+            hash *= 0xFF51AFD7ED558CCDL;
+            hash ^= hash >>> 33;
+            return (int) hash;
+        }
+
+        private boolean matches(int offset, byte[] bytes, int start, int length) {
+            int i = 0;
+            for (; i + 8 <= length; i += 8) {
+                if ((long) LONGS.get(arena, offset + i) != (long) LONGS.get(bytes, start + i)) {
+                    return false;
+                }
+            }
+            if (i == length) {
+                return true;
+            }
+            long mask = tailMask(length - i);
+            return (((long) LONGS.get(arena, offset + i) ^ (long) LONGS.get(bytes, start + i)) & mask) == 0;
+        }
+
+        //Mask of the low count bytes of a little-endian long, for 0 < count <= 8.
+        private static long tailMask(int count) {
+            return -1L >>> (64 - 8 * count);
+        }
+
+        private int add(byte[] bytes, int start, int end) {
+            int length = end - start;
+            if (size + 1 == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2 + 1);
+            }
+            int offset = starts[size];
+            // Keeps 8 bytes after the last name for the wide reads in matches
+            if (offset + length + 8 > arena.length) {
+                arena = Arrays.copyOf(arena, (int) Math.min(Integer.MAX_VALUE - 8,
+                        Math.max(2L * arena.length, (long) offset + length + 8)));
+            }
+            System.arraycopy(bytes, start, arena, offset, length);
+            starts[size + 1] = offset + length;
+            return size++;
+        }
+
+        private void rehash() {
+            long[] old = table;
+            table = new long[old.length * 2];
+            int mask = (table.length >> 1) - 1;
+            for (int i = 0; i < old.length; i += 2) {
+                if (old[i] != 0) {
+                    int slot = ((int) (old[i] >>> 32) >>> 4) & mask;
+                    while (table[2 * slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    table[2 * slot] = old[i];
+                    table[2 * slot + 1] = old[i + 1];
+                }
+            }
+        }
+
+        List<String> toList() {
+            List<String> names = new ArrayList<>(size);
+            for (int id = 0; id < size; id++) {
+                names.add(new String(arena, starts[id], starts[id + 1] - starts[id], StandardCharsets.UTF_8));
+            }
+            return names;
+        }
+    }
+}
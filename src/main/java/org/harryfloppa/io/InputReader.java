@@ -5,11 +5,14 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.GeometricGraph;
 import org.harryfloppa.model.Graph;
 
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -18,50 +21,183 @@ import java.util.List;
 public class InputReader {
     
     private final Gson gson;
+    private final EdgeCompactor compactor;
+    private volatile int skippedGeometricCount;
 
     public InputReader() {
+        this(null);
+    }
+
+    /**
+     * A reader that passes every graph's edge list through the compactor before building it;
+     * null keeps every edge as given.
+     */
+    public InputReader(EdgeCompactor compactor) {
         this.gson = new GsonBuilder().setPrettyPrinting().create();
+        this.compactor = compactor;
+    }
+
+    //Coordinate-only entries skipped by the last readGraphs call; load them with readGeometricGraphs.
+    public int getSkippedGeometricCount() {
+        return skippedGeometricCount;
+    }
+
+    //The compactor holding the reduction counts, or null.
+    public EdgeCompactor getCompactor() {
+        return compactor;
     }
 
     //Reads all graphs from a JSON file.
     public List<Graph> readGraphs(String filePath) throws IOException {
+        try (FileReader reader = new FileReader(filePath)) {
+            return readGraphs(reader);
+        }
+    }
+
+    /**
+     * Reads graphs from a JSON document: either a {"graphs": [...]} wrapper as in the input files
+     * or a single graph object. Coordinate-only entries (see readGeometricGraphs) are skipped.
+     */
+    public List<Graph> readGraphs(Reader reader) {
         List<Graph> graphs = new ArrayList<>();
+        skippedGeometricCount = 0;
+        JsonObject rootObject = gson.fromJson(reader, JsonObject.class);
+        if (rootObject == null) {
+            throw new IllegalArgumentException("Empty JSON document");
+        }
+        if (!rootObject.has("graphs")) {
+            graphs.add(parseGraph(rootObject));
+            return graphs;
+        }
 
+        JsonArray graphsArray = rootObject.getAsJsonArray("graphs");
+        int skipped = 0;
+        for (int i = 0; i < graphsArray.size(); i++) {
+            JsonObject graphObj = graphsArray.get(i).getAsJsonObject();
+            if (isGeometric(graphObj)) {
+                skipped++;
+                continue;
+            }
+            graphs.add(parseGraph(graphObj));
+        }
+        skippedGeometricCount = skipped;
+        return graphs;
+    }
+
+    /**
+     * Reads the coordinate-based graphs from a JSON file. Such an entry carries "points": [[x, y], ...]
+     * aligned with "nodes" instead of an explicit edge list, and stands for the complete graph
+     * weighted by Euclidean distance. Without "nodes", points are named P0, P1, ...
+     * A "nodes" array of a different length, or a point without two coordinates, is an IllegalArgumentException.
+     */
+    public List<GeometricGraph> readGeometricGraphs(String filePath) throws IOException {
+        List<GeometricGraph> graphs = new ArrayList<>();
         try (FileReader reader = new FileReader(filePath)) {
             JsonObject rootObject = gson.fromJson(reader, JsonObject.class);
-            JsonArray graphsArray = rootObject.getAsJsonArray("graphs");
-
+            JsonArray graphsArray = rootObject.has("graphs") ? rootObject.getAsJsonArray("graphs") : new JsonArray();
+            if (!rootObject.has("graphs")) {
+                graphsArray.add(rootObject);
+            }
             for (int i = 0; i < graphsArray.size(); i++) {
                 JsonObject graphObj = graphsArray.get(i).getAsJsonObject();
-                graphs.add(parseGraph(graphObj));
+                if (isGeometric(graphObj)) {
+                    graphs.add(parseGeometricGraph(graphObj));
+                }
             }
         }
-
         return graphs;
     }
 
-    //Parses a single graph from JSON object.
-    private Graph parseGraph(JsonObject graphObj) {
+    static boolean isGeometric(JsonObject graphObj) {
+        return graphObj.has("points") && !graphObj.has("edges");
+    }
+
+    //Parses a coordinate-based graph from JSON object. Safe to call concurrently.
+    GeometricGraph parseGeometricGraph(JsonObject graphObj) {
+        int id = graphObj.get("id").getAsInt();
+        JsonArray pointsArray = graphObj.getAsJsonArray("points");
+        double[] x = new double[pointsArray.size()];
+        double[] y = new double[pointsArray.size()];
+        for (int i = 0; i < pointsArray.size(); i++) {
+            JsonArray point = pointsArray.get(i).getAsJsonArray();
+            if (point.size() != 2) {
+                throw new IllegalArgumentException("Point " + i + " of graph " + id + " has " + point.size()
+                        + " coordinates; expected [x, y]");
+            }
+            x[i] = point.get(0).getAsDouble();
+            y[i] = point.get(1).getAsDouble();
+        }
+
+        List<String> nodes = new ArrayList<>(pointsArray.size());
+        JsonArray nodesArray = graphObj.has("nodes") ? graphObj.getAsJsonArray("nodes") : null;
+        if (nodesArray != null && nodesArray.size() != pointsArray.size()) {
+            throw new IllegalArgumentException("Graph " + id + " has " + nodesArray.size() + " nodes but "
+                    + pointsArray.size() + " points");
+        }
+        for (int i = 0; i < pointsArray.size(); i++) {
+            nodes.add(nodesArray != null ? nodesArray.get(i).getAsString() : "P" + i);
+        }
+        return new GeometricGraph(id, nodes, x, y);
+    }
+
+    /**
+     * Parses a single graph from JSON object, interning the declared vertex names to ids in "nodes" order.
+     * An edge endpoint missing from "nodes" is an IllegalArgumentException. Safe to call concurrently.
+     */
+    Graph parseGraph(JsonObject graphObj) {
         int id = graphObj.get("id").getAsInt();
 
         // Parse nodes
         JsonArray nodesArray = graphObj.getAsJsonArray("nodes");
-        List<String> nodes = new ArrayList<>();
+        SymbolTable symbols = new SymbolTable(nodesArray.size());
         for (int i = 0; i < nodesArray.size(); i++) {
-            nodes.add(nodesArray.get(i).getAsString());
+            symbols.intern(nodesArray.get(i).getAsString());
         }
 
-        // Parse edges
+        // Parse edges into primitive arrays first, so dropped edges never become objects
         JsonArray edgesArray = graphObj.getAsJsonArray("edges");
-        List<Edge> edges = new ArrayList<>();
-        for (int i = 0; i < edgesArray.size(); i++) {
+        int inputEdgeCount = edgesArray.size();
+        int edgeCount = inputEdgeCount;
+        int[] edgeFrom = new int[edgeCount];
+        int[] edgeTo = new int[edgeCount];
+        int[] edgeWeight = new int[edgeCount];
+        for (int i = 0; i < edgeCount; i++) {
             JsonObject edgeObj = edgesArray.get(i).getAsJsonObject();
-            String from = edgeObj.get("from").getAsString();
-            String to = edgeObj.get("to").getAsString();
-            int weight = edgeObj.get("weight").getAsInt();
-            edges.add(new Edge(from, to, weight));
+            edgeFrom[i] = endpoint(symbols, edgeObj, "from", id);
+            edgeTo[i] = endpoint(symbols, edgeObj, "to", id);
+            edgeWeight[i] = edgeObj.get("weight").getAsInt();
+        }
+        if (compactor != null) {
+            int[] kept = compactor.compact(edgeFrom, edgeTo, edgeWeight, edgeCount);
+            edgeCount = kept.length;
+            for (int i = 0; i < edgeCount; i++) {
+                edgeFrom[i] = edgeFrom[kept[i]];
+                edgeTo[i] = edgeTo[kept[i]];
+                edgeWeight[i] = edgeWeight[kept[i]];
+            }
+            edgeFrom = Arrays.copyOf(edgeFrom, edgeCount);
+            edgeTo = Arrays.copyOf(edgeTo, edgeCount);
         }
 
-        return new Graph(id, nodes, edges);
+        // Endpoints share the interned name instances
+        List<Edge> edges = new ArrayList<>(edgeCount);
+        for (int i = 0; i < edgeCount; i++) {
+            edges.add(new Edge(symbols.nameOf(edgeFrom[i]), symbols.nameOf(edgeTo[i]), edgeWeight[i]));
+        }
+
+        Graph graph = new Graph(id, symbols.getNames(), edges, edgeFrom, edgeTo);
+        graph.setInputEdgeCount(inputEdgeCount);
+        return graph;
+    }
+
+    //Id of the declared vertex an edge endpoint names.
+    private static int endpoint(SymbolTable symbols, JsonObject edgeObj, String field, int graphId) {
+        String name = edgeObj.get(field).getAsString();
+        int vertex = symbols.idOf(name);
+        if (vertex < 0) {
+            throw new IllegalArgumentException("Edge endpoint " + name + " of graph " + graphId
+                    + " is not in its nodes");
+        }
+        return vertex;
     }
 }
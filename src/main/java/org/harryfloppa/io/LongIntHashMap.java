@@ -0,0 +1,92 @@
+package org.harryfloppa.io;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from long keys to int values, without boxing.
+ * Linear probing over a power-of-two table kept at most half full; there is no removal.
+ * Long.MIN_VALUE marks empty slots and cannot be used as a key.
+ */
+public final class LongIntHashMap {
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    public LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(8, expectedSize) * 2 - 1) << 1;
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    //Returns the value stored for the key, or missing if there is none.
+    public int get(long key, int missing) {
+        int slot = slotOf(key);
+        while (true) {
+            long current = keys[slot];
+            if (current == key) {
+                return values[slot];
+            }
+            if (current == EMPTY) {
+                return missing;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    //Stores the value, replacing any previous one.
+    public void put(long key, int value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Long.MIN_VALUE is reserved");
+        }
+        int slot = slotOf(key);
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        values[slot] = value;
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            if (++size > keys.length >>> 1) {
+                grow();
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slotOf(oldKeys[i]);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    //MurmurHash3 finalizer: packed vertex pairs are far from uniform in their low bits.
+    private int slotOf(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key & mask;
+    }
+}
@@ -4,28 +4,154 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 import org.harryfloppa.model.Edge;
 import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.GraphFootprint;
 import org.harryfloppa.model.MSTResult;
 
-import java.io.FileWriter;
-import java.io.IOException;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
 import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
- * Handles writing algorithm results to JSON output files.
+ * Handles writing algorithm results to output files, in one of three layouts:
+ * - JSON: the pretty-printed format with one {from, to, weight} object per MST edge.
+ * - COLUMNAR: compact JSON that lists each graph's node names once and stores every MST as parallel
+ *   from, to and weight arrays of node indices, written in a streaming pass without building a JSON tree.
+ * - BINARY: the {@link BinaryResultCodec} format.
+ * Any layout can be compressed while it is written with GZIP or raw Deflate from java.util.zip, both at
+ * Deflater.BEST_SPEED: on result data it compresses about as well as the default level, at three times the speed.
+ * The size on disk and the time of the last write are kept for reporting.
  */
 public class OutputWriter {
-    
+
+    //Output layouts, with the file suffix used for default output paths.
+    public enum Format {
+        JSON("json", ".json"),
+        COLUMNAR("columnar", ".columnar.json"),
+        BINARY("binary", ".bin");
+
+        private final String name;
+        private final String suffix;
+
+        Format(String name, String suffix) {
+            this.name = name;
+            this.suffix = suffix;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getSuffix() {
+            return suffix;
+        }
+
+        public static Format fromName(String name) {
+            for (Format format : values()) {
+                if (format.name.equals(name.toLowerCase(Locale.ROOT))) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Unknown output format: " + name);
+        }
+    }
+
+    //Streaming compression applied on top of any format.
+    public enum Compression {
+        NONE("none", ""),
+        GZIP("gzip", ".gz"),
+        DEFLATE("deflate", ".deflate");
+
+        private final String name;
+        private final String suffix;
+
+        Compression(String name, String suffix) {
+            this.name = name;
+            this.suffix = suffix;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getSuffix() {
+            return suffix;
+        }
+
+        public static Compression fromName(String name) {
+            for (Compression compression : values()) {
+                if (compression.name.equals(name.toLowerCase(Locale.ROOT))) {
+                    return compression;
+                }
+            }
+            throw new IllegalArgumentException("Unknown output compression: " + name);
+        }
+
+        //Wraps a stream so that what is written to the result is compressed; closing it finishes the stream.
+        public OutputStream wrap(OutputStream output) throws IOException {
+            switch (this) {
+                case GZIP:
+                    return new FastGZIPOutputStream(output);
+                case DEFLATE:
+                    return new RawDeflaterOutputStream(output);
+                default:
+                    return output;
+            }
+        }
+    }
+
     private final Gson gson;
+    private final Format format;
+    private final Compression compression;
+    private long outputBytes;
+    private double writeTimeMs;
 
     public OutputWriter() {
+        this(Format.JSON, Compression.NONE);
+    }
+
+    public OutputWriter(Format format, Compression compression) {
         this.gson = new GsonBuilder().setPrettyPrinting().create();
+        this.format = format;
+        this.compression = compression;
     }
 
-    //Writes the results of both algorithms to a JSON file.
-    public void writeResults(String filePath, Map<Integer, AlgorithmResults> results, 
+    //Writes the results of both algorithms to a file in this writer's format and compression.
+    public void writeResults(String filePath, Map<Integer, AlgorithmResults> results,
                             Map<Integer, Graph> graphs) throws IOException {
+        long startTime = System.nanoTime();
+        CountingOutputStream file = new CountingOutputStream(new FileOutputStream(filePath));
+        try (OutputStream output = compression.wrap(file)) {
+            writeResults(output, results, graphs);
+        }
+        outputBytes = file.getCount();
+        writeTimeMs = (System.nanoTime() - startTime) / 1_000_000.0;
+    }
+
+    //Writes the results to a stream in this writer's format, uncompressed; the stream is flushed, not closed.
+    public void writeResults(OutputStream output, Map<Integer, AlgorithmResults> results,
+                             Map<Integer, Graph> graphs) throws IOException {
+        switch (format) {
+            case COLUMNAR:
+                writeColumnar(output, results, graphs);
+                break;
+            case BINARY:
+                new BinaryResultCodec().writeResults(output, results, graphs);
+                break;
+            default:
+                writeJson(output, results, graphs);
+                break;
+        }
+    }
+
+    private void writeJson(OutputStream output, Map<Integer, AlgorithmResults> results,
+                           Map<Integer, Graph> graphs) throws IOException {
         JsonObject rootObject = new JsonObject();
         JsonArray resultsArray = new JsonArray();
 
@@ -38,10 +164,7 @@ public class OutputWriter {
             resultObj.addProperty("graph_id", graphId);
 
             // Input stats
-            JsonObject inputStats = new JsonObject();
-            inputStats.addProperty("vertices", graph.getVertexCount());
-            inputStats.addProperty("edges", graph.getEdgeCount());
-            resultObj.add("input_stats", inputStats);
+            resultObj.add("input_stats", createInputStatsJson(graph));
 
             // Prim's results
             resultObj.add("prim", createAlgorithmResultJson(algResults.getPrimResult()));
@@ -54,13 +177,106 @@ public class OutputWriter {
 
         rootObject.add("results", resultsArray);
 
-        try (FileWriter writer = new FileWriter(filePath)) {
-            gson.toJson(rootObject, writer);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 1 << 16);
+        gson.toJson(rootObject, writer);
+        writer.flush();
+    }
+
+    /**
+     * Streams the columnar layout: per graph its id, input stats and node names, then for each algorithm
+     * the MST as "from", "to" and "weight" arrays, where from and to index the node names.
+     */
+    private void writeColumnar(OutputStream output, Map<Integer, AlgorithmResults> results,
+                               Map<Integer, Graph> graphs) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 1 << 16);
+        JsonWriter json = new JsonWriter(writer);
+        json.beginObject();
+        json.name("format").value(Format.COLUMNAR.getName());
+        json.name("results").beginArray();
+        for (Map.Entry<Integer, AlgorithmResults> entry : results.entrySet()) {
+            Graph graph = graphs.get(entry.getKey());
+            json.beginObject();
+            json.name("graph_id").value(entry.getKey());
+            json.name("input_stats");
+            gson.toJson(createInputStatsJson(graph), json);
+            json.name("nodes").beginArray();
+            for (String name : graph.getNodes()) {
+                json.value(name);
+            }
+            json.endArray();
+            MSTResult prim = entry.getValue().getPrimResult();
+            MSTResult kruskal = entry.getValue().getKruskalResult();
+            SymbolTable symbols = symbolsFor(graph, prim, kruskal);
+            json.name("prim");
+            writeColumnarResult(json, ResultColumns.of(prim, graph, symbols), prim);
+            json.name("kruskal");
+            writeColumnarResult(json, ResultColumns.of(kruskal, graph, symbols), kruskal);
+            json.endObject();
         }
+        json.endArray();
+        json.endObject();
+        json.flush();
+    }
+
+    private static void writeColumnarResult(JsonWriter json, ResultColumns columns, MSTResult result)
+            throws IOException {
+        json.beginObject();
+        writeColumn(json, "from", columns.from, columns.size);
+        writeColumn(json, "to", columns.to, columns.size);
+        writeColumn(json, "weight", columns.weight, columns.size);
+        json.name("total_cost").value(result.getTotalCost());
+        json.name("operations_count").value(result.getOperationsCount());
+        json.name("execution_time_ms").value(Math.round(result.getExecutionTimeMs() * 100.0) / 100.0);
+        if (result.getAllocatedBytes() >= 0) {
+            json.name("allocated_bytes").value(result.getAllocatedBytes());
+        }
+        json.endObject();
+    }
+
+    private static void writeColumn(JsonWriter json, String name, int[] values, int size) throws IOException {
+        json.name(name).beginArray();
+        for (int i = 0; i < size; i++) {
+            json.value(values[i]);
+        }
+        json.endArray();
+    }
+
+    //Node name ids of the graph, or null when every result can be written from its edge indices.
+    static SymbolTable symbolsFor(Graph graph, MSTResult... results) {
+        for (MSTResult result : results) {
+            if (!ResultColumns.isIndexed(result, graph)) {
+                SymbolTable symbols = new SymbolTable(graph.getVertexCount());
+                for (String name : graph.getNodes()) {
+                    symbols.intern(name);
+                }
+                return symbols;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Vertex and edge counts of a graph, with its memory footprint. "edges" is the input's count; a graph
+     * compacted while loading also gets "edges_after_compaction", the count the solvers saw.
+     */
+    private static JsonObject createInputStatsJson(Graph graph) {
+        JsonObject inputStats = new JsonObject();
+        inputStats.addProperty("vertices", graph.getVertexCount());
+        inputStats.addProperty("edges", graph.getInputEdgeCount());
+        if (graph.getInputEdgeCount() != graph.getEdgeCount()) {
+            inputStats.addProperty("edges_after_compaction", graph.getEdgeCount());
+        }
+        GraphFootprint footprint = GraphFootprint.of(graph);
+        JsonObject memory = new JsonObject();
+        memory.addProperty("retained_bytes", footprint.getRetainedBytes());
+        memory.addProperty("compact_bytes", footprint.getCompactBytes());
+        memory.addProperty("binary_bytes", footprint.getBinaryBytes());
+        inputStats.add("memory", memory);
+        return inputStats;
     }
 
     //Creates JSON object for a single algorithm result.
-    private JsonObject createAlgorithmResultJson(MSTResult result) {
+    public JsonObject createAlgorithmResultJson(MSTResult result) {
         JsonObject resultObj = new JsonObject();
 
         // MST edges
@@ -79,10 +295,80 @@ public class OutputWriter {
         resultObj.addProperty("operations_count", result.getOperationsCount());
         resultObj.addProperty("execution_time_ms", 
                 Math.round(result.getExecutionTimeMs() * 100.0) / 100.0);
+        if (result.getAllocatedBytes() >= 0) {
+            resultObj.addProperty("allocated_bytes", result.getAllocatedBytes());
+        }
 
         return resultObj;
     }
 
+    public Format getFormat() {
+        return format;
+    }
+
+    public Compression getCompression() {
+        return compression;
+    }
+
+    //Bytes written to disk by the last file write, after compression.
+    public long getOutputBytes() {
+        return outputBytes;
+    }
+
+    //Duration of the last file write, including serialization and compression.
+    public double getWriteTimeMs() {
+        return writeTimeMs;
+    }
+
+    //GZIP at BEST_SPEED; the level is set before anything is compressed.
+    private static final class FastGZIPOutputStream extends GZIPOutputStream {
+        FastGZIPOutputStream(OutputStream output) throws IOException {
+            super(output, 1 << 16);
+            def.setLevel(Deflater.BEST_SPEED);
+        }
+    }
+
+    //Raw Deflate without the zlib header, releasing its native Deflater on close.
+    private static final class RawDeflaterOutputStream extends DeflaterOutputStream {
+        RawDeflaterOutputStream(OutputStream output) {
+            super(output, new Deflater(Deflater.BEST_SPEED, true), 1 << 16);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                def.end();
+            }
+        }
+    }
+
+    //Counts the bytes that pass through to the file.
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream output) {
+            super(output);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+            count += length;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+
     //Container class for holding results from both algorithms.
     public static class AlgorithmResults {
         private final MSTResult primResult;
@@ -0,0 +1,321 @@
+package org.harryfloppa.io;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.harryfloppa.model.GeometricGraph;
+import org.harryfloppa.model.Graph;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Loads large multi-graph JSON inputs on several threads.
+ * The file is memory-mapped and scanned once, tracking only nesting depth and string state, to find the
+ * byte range of every object in the top-level "graphs" array. Each range is handed to a worker as soon as
+ * its closing brace is seen and parsed there into a {@link Graph}, so the first graphs are ready while the
+ * scan is still running. The file is mapped in 1 GB segments, so inputs beyond 2 GB work too.
+ *
+ * Coordinate-only entries are parsed by the same workers into {@link GeometricGraph}s, available from
+ * {@link #getGeometricGraphs()} after the load.
+ * Parallelism is per graph: a single huge graph object still parses on one thread.
+ * Documents without a "graphs" array fall back to {@link InputReader}.
+ */
+public class ParallelInputReader {
+    // 1 GB mapped segments
+    private static final int SEGMENT_BITS = 30;
+    private static final byte[] GRAPHS_KEY = "graphs".getBytes(StandardCharsets.US_ASCII);
+
+    private final InputReader parser;
+    private final int threads;
+    private final int segmentBits;
+    private volatile double timeToFirstGraphMs;
+    private volatile double loadTimeMs;
+    private volatile List<GeometricGraph> geometricGraphs = List.of();
+
+    public ParallelInputReader(int threads) {
+        this(threads, null);
+    }
+
+    //Parses on the given number of worker threads, compacting edges with the compactor if not null.
+    public ParallelInputReader(int threads, EdgeCompactor compactor) {
+        this(threads, compactor, SEGMENT_BITS);
+    }
+
+    //Maps the file in segments of 2^segmentBits bytes; small segments let tests cross segment boundaries.
+    ParallelInputReader(int threads, EdgeCompactor compactor, int segmentBits) {
+        this.parser = new InputReader(compactor);
+        this.threads = Math.max(1, threads);
+        this.segmentBits = segmentBits;
+    }
+
+    //Reads all graphs in file order.
+    public List<Graph> readGraphs(String filePath) throws IOException {
+        return readGraphs(filePath, null);
+    }
+
+    /**
+     * Reads all graphs in file order. If onGraph is not null, it is also called with each graph as soon as
+     * that graph is parsed, on the worker thread and in completion order.
+     */
+    public List<Graph> readGraphs(String filePath, Consumer<Graph> onGraph) throws IOException {
+        long startTime = System.nanoTime();
+        timeToFirstGraphMs = 0;
+        geometricGraphs = List.of();
+        AtomicLong firstGraphNanos = new AtomicLong();
+        List<Future<Parsed>> pending = new ArrayList<>();
+        ExecutorService workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "graph-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+            MappedByteBuffer[] segments = map(channel);
+            boolean found = scan(segments, segmentBits, (start, end) -> pending.add(workers.submit(() -> {
+                Parsed parsed = parse(segments, start, end);
+                if (parsed.graph != null) {
+                    firstGraphNanos.compareAndSet(0, System.nanoTime());
+                    if (onGraph != null) {
+                        onGraph.accept(parsed.graph);
+                    }
+                }
+                return parsed;
+            })));
+            if (!found) {
+                // Without a "graphs" array the document is a single edge-list graph
+                List<Graph> graphs = parser.readGraphs(filePath);
+                graphs.forEach(graph -> {
+                    if (onGraph != null) {
+                        onGraph.accept(graph);
+                    }
+                });
+                finish(startTime, System.nanoTime());
+                return graphs;
+            }
+
+            List<Graph> graphs = new ArrayList<>(pending.size());
+            List<GeometricGraph> geometric = new ArrayList<>();
+            for (Future<Parsed> future : pending) {
+                Parsed parsed = future.get();
+                if (parsed.graph != null) {
+                    graphs.add(parsed.graph);
+                } else {
+                    geometric.add(parsed.geometric);
+                }
+            }
+            geometricGraphs = geometric;
+            finish(startTime, firstGraphNanos.get());
+            return graphs;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading " + filePath, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Failed to parse a graph in " + filePath, cause);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private void finish(long startTime, long firstGraphNanos) {
+        long now = System.nanoTime();
+        loadTimeMs = (now - startTime) / 1_000_000.0;
+        timeToFirstGraphMs = ((firstGraphNanos == 0 ? now : firstGraphNanos) - startTime) / 1_000_000.0;
+    }
+
+    private MappedByteBuffer[] map(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long segmentSize = 1L << segmentBits;
+        int count = (int) ((size + segmentSize - 1) >>> segmentBits);
+        MappedByteBuffer[] segments = new MappedByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long offset = (long) i << segmentBits;
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(segmentSize, size - offset));
+        }
+        return segments;
+    }
+
+    //Receives the byte range [start, end) of one element of the graphs array.
+    interface RangeConsumer {
+        void accept(long start, long end);
+    }
+
+    /**
+     * Reports the byte range of every object directly inside the root object's "graphs" array.
+     * Returns false if the document has no such array.
+     */
+    static boolean scan(ByteBuffer[] segments, int segmentBits, RangeConsumer consumer) {
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+        // Key tracking at depth 1, where "graphs" lives
+        int keyLength = 0;
+        boolean keyMatches = false;
+        boolean graphsKey = false;
+        int arrayDepth = -1;
+        boolean found = false;
+        long objectStart = -1;
+
+        for (int s = 0; s < segments.length; s++) {
+            ByteBuffer segment = segments[s];
+            long base = (long) s << segmentBits;
+            int limit = segment.limit();
+            for (int i = 0; i < limit; i++) {
+                byte b = segment.get(i);
+                if (inString) {
+                    if (escaped) {
+                        escaped = false;
+                    } else if (b == '\\') {
+                        escaped = true;
+                    } else if (b == '"') {
+                        inString = false;
+                        if (depth == 1) {
+                            graphsKey = keyMatches && keyLength == GRAPHS_KEY.length;
+                        }
+                    } else if (depth == 1) {
+                        keyMatches &= keyLength < GRAPHS_KEY.length && GRAPHS_KEY[keyLength] == b;
+                        keyLength++;
+                    }
+                    continue;
+                }
+                switch (b) {
+                    case '"':
+                        inString = true;
+                        keyLength = 0;
+                        keyMatches = true;
+                        break;
+                    case '{':
+                        if (depth == arrayDepth) {
+                            objectStart = base + i;
+                        }
+                        depth++;
+                        break;
+                    case '[':
+                        if (depth == 1 && graphsKey && arrayDepth < 0 && !found) {
+                            arrayDepth = 2;
+                            found = true;
+                        }
+                        depth++;
+                        break;
+                    case '}':
+                        depth--;
+                        if (depth == arrayDepth && objectStart >= 0) {
+                            consumer.accept(objectStart, base + i + 1);
+                            objectStart = -1;
+                        }
+                        break;
+                    case ']':
+                        depth--;
+                        if (depth == 1 && arrayDepth == 2) {
+                            arrayDepth = -1;
+                        }
+                        break;
+                    case ',':
+                        if (depth == 1) {
+                            graphsKey = false;
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        return found;
+    }
+
+    //Parses one graph object, either an edge-list graph or a coordinate-only one.
+    private Parsed parse(ByteBuffer[] segments, long start, long end) {
+        JsonObject graphObj;
+        try (Reader reader = new InputStreamReader(new BufferInputStream(range(segments, start, end)),
+                StandardCharsets.UTF_8)) {
+            graphObj = JsonParser.parseReader(reader).getAsJsonObject();
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read mapped input", e);
+        }
+        return InputReader.isGeometric(graphObj) ? new Parsed(null, parser.parseGeometricGraph(graphObj))
+                : new Parsed(parser.parseGraph(graphObj), null);
+    }
+
+    //A view of [start, end) when it lies in one segment, otherwise a copy.
+    private ByteBuffer range(ByteBuffer[] segments, long start, long end) {
+        int first = (int) (start >>> segmentBits);
+        int last = (int) ((end - 1) >>> segmentBits);
+        if (first == last) {
+            int offset = (int) (start - ((long) first << segmentBits));
+            return segments[first].duplicate().position(offset).limit(offset + (int) (end - start)).slice();
+        }
+        ByteBuffer copy = ByteBuffer.allocate(Math.toIntExact(end - start));
+        for (int s = first; s <= last; s++) {
+            long base = (long) s << segmentBits;
+            int from = (int) Math.max(0, start - base);
+            int to = (int) Math.min(segments[s].limit(), end - base);
+            copy.put(segments[s].duplicate().position(from).limit(to));
+        }
+        return copy.flip();
+    }
+
+    //Time from the start of the last load until its first graph was parsed.
+    public double getTimeToFirstGraphMs() {
+        return timeToFirstGraphMs;
+    }
+
+    //Total time of the last load.
+    public double getLoadTimeMs() {
+        return loadTimeMs;
+    }
+
+    //Coordinate-only entries of the last load in file order; they are not part of the returned graphs.
+    public List<GeometricGraph> getGeometricGraphs() {
+        return geometricGraphs;
+    }
+
+    //One parsed element of the graphs array: exactly one of the two is set.
+    private static final class Parsed {
+        final Graph graph;
+        final GeometricGraph geometric;
+
+        Parsed(Graph graph, GeometricGraph geometric) {
+            this.graph = graph;
+            this.geometric = geometric;
+        }
+    }
+
+    //Reads a ByteBuffer from its position to its limit.
+    private static final class BufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        BufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+}
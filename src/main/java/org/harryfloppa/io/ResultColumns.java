@@ -0,0 +1,62 @@
+package org.harryfloppa.io;
+
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+
+import java.util.List;
+
+/**
+ * The edges of an MST result as from id, to id and weight columns over a graph's node list, as written by
+ * the columnar and binary output formats. A result built from edge indices into the same graph is read
+ * straight from the graph's edge arrays; any other result has its endpoint names looked up.
+ */
+final class ResultColumns {
+    final int[] from;
+    final int[] to;
+    final int[] weight;
+    final int size;
+
+    private ResultColumns(int size) {
+        this.from = new int[size];
+        this.to = new int[size];
+        this.weight = new int[size];
+        this.size = size;
+    }
+
+    //Columns of the result; symbols must hold the graph's node names in id order unless isIndexed.
+    static ResultColumns of(MSTResult result, Graph graph, SymbolTable symbols) {
+        List<Edge> edges = result.getMstEdges();
+        ResultColumns columns = new ResultColumns(edges.size());
+        if (isIndexed(result, graph)) {
+            for (int i = 0; i < columns.size; i++) {
+                int e = result.getEdgeIndex(i);
+                columns.from[i] = graph.getEdgeFrom(e);
+                columns.to[i] = graph.getEdgeTo(e);
+                columns.weight[i] = graph.getEdgeWeight(e);
+            }
+            return columns;
+        }
+        for (int i = 0; i < columns.size; i++) {
+            Edge edge = edges.get(i);
+            columns.from[i] = idOf(symbols, edge.getFrom(), graph);
+            columns.to[i] = idOf(symbols, edge.getTo(), graph);
+            columns.weight[i] = edge.getWeight();
+        }
+        return columns;
+    }
+
+    private static int idOf(SymbolTable symbols, String name, Graph graph) {
+        int id = symbols.idOf(name);
+        if (id < 0) {
+            throw new IllegalArgumentException(
+                    "MST edge endpoint " + name + " is not a node of graph " + graph.getId());
+        }
+        return id;
+    }
+
+    //Whether the result can be written without looking up names.
+    static boolean isIndexed(MSTResult result, Graph graph) {
+        return result.getGraph() == graph;
+    }
+}
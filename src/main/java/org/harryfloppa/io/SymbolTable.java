@@ -0,0 +1,53 @@
+package org.harryfloppa.io;
+
+import java.util.*;
+
+/**
+ * Interns vertex names to dense integer ids while a graph is being loaded.
+ * Ids are assigned in first-seen order, so id i is the i-th distinct name.
+ */
+public class SymbolTable {
+    private final Map<String, Integer> ids;
+    private final List<String> names;
+
+    public SymbolTable() {
+        this(16);
+    }
+
+    public SymbolTable(int expectedSize) {
+        this.ids = new HashMap<>(Math.max(16, expectedSize * 4 / 3 + 1));
+        this.names = new ArrayList<>(expectedSize);
+    }
+
+    //Returns the id of the name, assigning the next free id if it is new.
+    public int intern(String name) {
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+        int newId = names.size();
+        ids.put(name, newId);
+        names.add(name);
+        return newId;
+    }
+
+    //Returns the id of the name, or -1 if it was never interned.
+    public int idOf(String name) {
+        Integer id = ids.get(name);
+        return id == null ? -1 : id;
+    }
+
+    //Returns the canonical name instance for an id.
+    public String nameOf(int id) {
+        return names.get(id);
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    //Returns the interned names in id order.
+    public List<String> getNames() {
+        return Collections.unmodifiableList(names);
+    }
+}
@@ -0,0 +1,90 @@
+package org.harryfloppa.model;
+
+/**
+ * Best spanning tree (or forest) found under a maximum vertex degree, with the Lagrangian lower bound
+ * on the cost of any tree that respects the cap.
+ * A tree that the search could not bring within the cap is still returned; its excess is the total
+ * number of tree edges above the cap at every vertex, and it is not feasible.
+ */
+public class DegreeConstrainedResult {
+    private final MSTResult tree;
+    private final int maxDegree;
+    private final int treeMaxDegree;
+    private final int excessDegree;
+    private final long lowerBound;
+    private final int iterations;
+    private final int swaps;
+    private final boolean budgetExhausted;
+
+    public DegreeConstrainedResult(MSTResult tree, int maxDegree, int treeMaxDegree, int excessDegree,
+                                   long lowerBound, int iterations, int swaps, boolean budgetExhausted) {
+        this.tree = tree;
+        this.maxDegree = maxDegree;
+        this.treeMaxDegree = treeMaxDegree;
+        this.excessDegree = excessDegree;
+        this.lowerBound = lowerBound;
+        this.iterations = iterations;
+        this.swaps = swaps;
+        this.budgetExhausted = budgetExhausted;
+    }
+
+    public MSTResult getTree() {
+        return tree;
+    }
+
+    public int getMaxDegree() {
+        return maxDegree;
+    }
+
+    //Highest vertex degree in the tree.
+    public int getTreeMaxDegree() {
+        return treeMaxDegree;
+    }
+
+    public int getExcessDegree() {
+        return excessDegree;
+    }
+
+    public boolean isFeasible() {
+        return excessDegree == 0;
+    }
+
+    //No tree within the cap costs less than this.
+    public long getLowerBound() {
+        return lowerBound;
+    }
+
+    //Whether the tree is within the cap and matches the lower bound.
+    public boolean isOptimal() {
+        return isFeasible() && tree.getTotalCost() == lowerBound;
+    }
+
+    //Relative gap between the tree's cost and the lower bound, in percent of the cost.
+    public double getGapPercent() {
+        long cost = tree.getTotalCost();
+        return cost == 0 ? 0 : 100.0 * (cost - lowerBound) / Math.abs(cost);
+    }
+
+    //Subgradient iterations of the Lagrangian phase.
+    public int getIterations() {
+        return iterations;
+    }
+
+    //Edge exchanges made by local search.
+    public int getSwaps() {
+        return swaps;
+    }
+
+    //Whether the search stopped because its time budget ran out rather than by converging.
+    public boolean isBudgetExhausted() {
+        return budgetExhausted;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("cost %d, bound %d (gap %.2f%%), max degree %d/%d%s%s (%.3f ms)",
+                tree.getTotalCost(), lowerBound, getGapPercent(), treeMaxDegree, maxDegree,
+                isFeasible() ? "" : ", excess " + excessDegree, budgetExhausted ? ", budget exhausted" : "",
+                tree.getExecutionTimeMs());
+    }
+}
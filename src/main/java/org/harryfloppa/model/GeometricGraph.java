@@ -0,0 +1,68 @@
+package org.harryfloppa.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A complete graph over points in the plane, stored as coordinates instead of O(n²) explicit edges.
+ * The weight of the road between two districts is their Euclidean distance.
+ */
+public class GeometricGraph {
+    private final int id;
+    private final List<String> nodes;
+    private final double[] x;
+    private final double[] y;
+
+    public GeometricGraph(int id, List<String> nodes, double[] x, double[] y) {
+        if (nodes.size() != x.length || nodes.size() != y.length) {
+            throw new IllegalArgumentException("Graph " + id + " needs one coordinate pair per node");
+        }
+        this.id = id;
+        this.nodes = nodes;
+        this.x = x;
+        this.y = y;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int getVertexCount() {
+        return nodes.size();
+    }
+
+    public String getNodeName(int vertex) {
+        return nodes.get(vertex);
+    }
+
+    public double getX(int vertex) {
+        return x[vertex];
+    }
+
+    public double getY(int vertex) {
+        return y[vertex];
+    }
+
+    public double distance(int u, int v) {
+        return Math.hypot(x[u] - x[v], y[u] - y[v]);
+    }
+
+    /**
+     * Expands into an explicit complete graph with weights rounded to the nearest integer.
+     * Only sensible for small inputs; it materializes n(n-1)/2 edges.
+     */
+    public Graph toCompleteGraph() {
+        List<Edge> edges = new ArrayList<>();
+        for (int u = 0; u < nodes.size(); u++) {
+            for (int v = u + 1; v < nodes.size(); v++) {
+                edges.add(new Edge(nodes.get(u), nodes.get(v), (int) Math.round(distance(u, v))));
+            }
+        }
+        return new Graph(id, nodes, edges);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GeometricGraph{id=%d, points=%d}", id, nodes.size());
+    }
+}
@@ -5,18 +5,122 @@ import java.util.*;
 /**
  * Represents an undirected weighted graph for the city transportation network.
  * Vertices represent city districts, edges represent potential roads.
+ * Besides the name-based view, vertices are encoded as dense int ids (their index in the node list)
+ * so algorithms can work on primitive arrays without hashing vertex names.
+ *
+ * Only the edge arrays are built up front. The compressed adjacency and the name-keyed adjacency map
+ * are built on first use, so an edge-list solver such as Kruskal never pays for them.
+ * The node and edge list accessors return read-only views rather than copies.
+ *
+ * A compact graph holds only the int edge arrays: its {@link Edge} objects are created on access,
+ * so a graph loaded from a large edge list never keeps one object per edge.
  */
 public class Graph {
     private final int id;
     private final List<String> nodes;
     private final List<Edge> edges;
-    private final Map<String, List<Edge>> adjacencyList;
+    private Map<String, List<Edge>> adjacencyList;
+
+    // Dictionary-encoded edge list: endpoints are vertex ids
+    private final int[] edgeFrom;
+    private final int[] edgeTo;
+    private final int[] edgeWeight;
+
+    // False when Edge objects are created on access from the arrays
+    private final boolean edgeObjects;
+
+    // Built on first use; its fields are final, so a racy first read at worst builds it twice
+    private Adjacency adjacency;
+
+    // Edges in the input before load-time compaction, or -1 if the edges are the input's
+    private int inputEdgeCount = -1;
+
+    // Heaviest edge weight, computed on first use; UNKNOWN_WEIGHT until then
+    private static final long UNKNOWN_WEIGHT = Long.MIN_VALUE;
+    private volatile long maxEdgeWeight = UNKNOWN_WEIGHT;
 
     public Graph(int id, List<String> nodes, List<Edge> edges) {
+        this(id, nodes, edges, null, null);
+    }
+
+    /**
+     * Creates a graph whose edge endpoints are already encoded as indices into the node list,
+     * as produced by the input loaders. Passing null arrays encodes them from the edge names.
+     */
+    public Graph(int id, List<String> nodes, List<Edge> edges, int[] edgeFrom, int[] edgeTo) {
         this.id = id;
         this.nodes = nodes;
         this.edges = edges;
-        this.adjacencyList = buildAdjacencyList();
+        if (edgeFrom == null || edgeTo == null) {
+            edgeFrom = new int[edges.size()];
+            edgeTo = new int[edges.size()];
+            encodeEndpoints(edgeFrom, edgeTo);
+        }
+        this.edgeFrom = edgeFrom;
+        this.edgeTo = edgeTo;
+        this.edgeWeight = new int[edges.size()];
+        for (int e = 0; e < edgeWeight.length; e++) {
+            edgeWeight[e] = edges.get(e).getWeight();
+        }
+        this.edgeObjects = true;
+    }
+
+    /**
+     * Creates a compact graph from encoded edge arrays, which it takes ownership of.
+     * All three arrays must have one entry per edge.
+     */
+    public Graph(int id, List<String> nodes, int[] edgeFrom, int[] edgeTo, int[] edgeWeight) {
+        if (edgeTo.length != edgeFrom.length || edgeWeight.length != edgeFrom.length) {
+            throw new IllegalArgumentException("Edge arrays of graph " + id + " differ in length");
+        }
+        this.id = id;
+        this.nodes = nodes;
+        this.edgeFrom = edgeFrom;
+        this.edgeTo = edgeTo;
+        this.edgeWeight = edgeWeight;
+        this.edges = new EdgeView();
+        this.edgeObjects = false;
+    }
+
+    private void encodeEndpoints(int[] from, int[] to) {
+        Map<String, Integer> index = new HashMap<>(nodes.size() * 4 / 3 + 1);
+        for (int v = 0; v < nodes.size(); v++) {
+            index.putIfAbsent(nodes.get(v), v);
+        }
+        for (int e = 0; e < edges.size(); e++) {
+            Edge edge = edges.get(e);
+            Integer u = index.get(edge.getFrom());
+            Integer v = index.get(edge.getTo());
+            if (u == null || v == null) {
+                throw new IllegalArgumentException("Edge " + edge + " references a vertex not in graph " + id);
+            }
+            from[e] = u;
+            to[e] = v;
+        }
+    }
+
+    private Adjacency adjacency() {
+        Adjacency built = adjacency;
+        if (built == null) {
+            built = new Adjacency(nodes.size(), edgeFrom, edgeTo);
+            adjacency = built;
+        }
+        return built;
+    }
+
+    //Whether the compressed adjacency has been built yet.
+    public boolean hasAdjacency() {
+        return adjacency != null;
+    }
+
+    //Whether the graph keeps Edge objects, rather than creating them on access.
+    public boolean hasEdgeObjects() {
+        return edgeObjects;
+    }
+
+    //Whether the name-keyed adjacency map has been built yet.
+    synchronized boolean hasAdjacencyList() {
+        return adjacencyList != null;
     }
 
     private Map<String, List<Edge>> buildAdjacencyList() {
@@ -26,7 +130,7 @@ public class Graph {
         }
         for (Edge edge: edges) {
             adjList.get(edge.getFrom()).add(edge);
-            adjList.get(edge.getTo()).add(new Edge(edge.getFrom(), edge.getTo(), edge.getWeight()));
+            adjList.get(edge.getTo()).add(new Edge(edge.getTo(), edge.getFrom(), edge.getWeight()));
         }
         return adjList;
     }
@@ -34,15 +138,22 @@ public class Graph {
     public int getId() {
         return id;
     }
+
+    //Read-only view of the node names in id order.
     public List<String> getNodes() {
-        return new ArrayList<>(nodes);
+        return Collections.unmodifiableList(nodes);
     }
 
+    //Read-only view of the edges in index order.
     public List<Edge> getEdges() {
-        return new ArrayList<>(edges);
+        return Collections.unmodifiableList(edges);
     }
 
-    public Map<String, List<Edge>> getAdjacencyList() {
+    //Name-keyed adjacency map, built on the first call.
+    public synchronized Map<String, List<Edge>> getAdjacencyList() {
+        if (adjacencyList == null) {
+            adjacencyList = buildAdjacencyList();
+        }
         return adjacencyList;
     }
 
@@ -53,10 +164,134 @@ public class Graph {
     public int getEdgeCount(){
         return edges.size();
     }
+
+    //Returns the name of the vertex with the given id.
+    public String getNodeName(int vertex) {
+        return nodes.get(vertex);
+    }
+
+    //Returns the edge object at the given index; a compact graph creates a new one on each call.
+    public Edge getEdge(int edgeIndex) {
+        return edges.get(edgeIndex);
+    }
+
+    public int getEdgeFrom(int edgeIndex) {
+        return edgeFrom[edgeIndex];
+    }
+
+    public int getEdgeTo(int edgeIndex) {
+        return edgeTo[edgeIndex];
+    }
+
+    public int getEdgeWeight(int edgeIndex) {
+        return edgeWeight[edgeIndex];
+    }
+
+    //First adjacency slot of a vertex; slots run up to getAdjacencyEnd(vertex).
+    public int getAdjacencyStart(int vertex) {
+        return adjacency().start[vertex];
+    }
+
+    public int getAdjacencyEnd(int vertex) {
+        return adjacency().start[vertex + 1];
+    }
+
+    //Neighbour vertex id stored in an adjacency slot.
+    public int getAdjacentVertex(int slot) {
+        return adjacency().vertex[slot];
+    }
+
+    //Edge index stored in an adjacency slot.
+    public int getAdjacentEdge(int slot) {
+        return adjacency().edge[slot];
+    }
+
+    //Neighbour ids of a vertex, without boxing.
+    public PrimitiveIterator.OfInt adjacentVertices(int vertex) {
+        Adjacency built = adjacency();
+        return Arrays.stream(built.vertex, built.start[vertex], built.start[vertex + 1]).iterator();
+    }
+
+    //Indices of the edges incident to a vertex, without boxing.
+    public PrimitiveIterator.OfInt incidentEdges(int vertex) {
+        Adjacency built = adjacency();
+        return Arrays.stream(built.edge, built.start[vertex], built.start[vertex + 1]).iterator();
+    }
+
+    //Number of edges in the input, before any load-time compaction dropped self-loops and parallel edges.
+    public int getInputEdgeCount() {
+        return inputEdgeCount < 0 ? getEdgeCount() : inputEdgeCount;
+    }
+
+    //Records the input's edge count; set by loaders that compact edges while building the graph.
+    public void setInputEdgeCount(int inputEdgeCount) {
+        this.inputEdgeCount = inputEdgeCount;
+    }
+
+    //Heaviest edge weight, or Integer.MIN_VALUE without edges; one O(E) scan on first use, then cached.
+    public int getMaxEdgeWeight() {
+        long cached = maxEdgeWeight;
+        if (cached == UNKNOWN_WEIGHT) {
+            int max = Integer.MIN_VALUE;
+            for (int weight : edgeWeight) {
+                max = Math.max(max, weight);
+            }
+            cached = max;
+            maxEdgeWeight = cached;
+        }
+        return (int) cached;
+    }
+
+    //Edge weights in index order, without boxing or copying.
+    public PrimitiveIterator.OfInt edgeWeights() {
+        return Arrays.stream(edgeWeight).iterator();
+    }
+
     @Override
     public String toString() {
         return String.format("Graph{id=%d, vertices=%d, edges=%d}", id, nodes.size(), edges.size());
     }
 
+    //Edge list of a compact graph, creating each Edge from the arrays when it is read.
+    private final class EdgeView extends AbstractList<Edge> implements RandomAccess {
+        @Override
+        public Edge get(int edgeIndex) {
+            return new Edge(nodes.get(edgeFrom[edgeIndex]), nodes.get(edgeTo[edgeIndex]), edgeWeight[edgeIndex]);
+        }
+
+        @Override
+        public int size() {
+            return edgeFrom.length;
+        }
+    }
+
+    //Compressed adjacency: the neighbours of v are at slots [start[v], start[v + 1]).
+    private static final class Adjacency {
+        final int[] start;
+        final int[] vertex;
+        final int[] edge;
+
+        Adjacency(int vertexCount, int[] edgeFrom, int[] edgeTo) {
+            start = new int[vertexCount + 1];
+            vertex = new int[2 * edgeFrom.length];
+            edge = new int[2 * edgeFrom.length];
+            for (int e = 0; e < edgeFrom.length; e++) {
+                start[edgeFrom[e] + 1]++;
+                start[edgeTo[e] + 1]++;
+            }
+            for (int v = 0; v < vertexCount; v++) {
+                start[v + 1] += start[v];
+            }
+            int[] next = Arrays.copyOf(start, vertexCount);
+            for (int e = 0; e < edgeFrom.length; e++) {
+                int slot = next[edgeFrom[e]]++;
+                vertex[slot] = edgeTo[e];
+                edge[slot] = e;
+                slot = next[edgeTo[e]]++;
+                vertex[slot] = edgeFrom[e];
+                edge[slot] = e;
+            }
+        }
+    }
 
 }
@@ -0,0 +1,166 @@
+package org.harryfloppa.model;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Estimated memory footprint of a {@link Graph}, next to the sizes of more compact forms of it.
+ * Sizes follow the usual 64-bit HotSpot layout with compressed references: 12-byte object headers,
+ * 16-byte array headers, 4-byte references, everything rounded up to 8 bytes. Strings are counted
+ * once however many edges share them, as the loaders intern them.
+ *
+ * - retained: what the graph holds right now, including whichever lazy indexes have been built.
+ * - compact: vertex names plus the int edge arrays and compressed adjacency, without Edge objects or lists.
+ * - binary: the size of the graph in the {@code BinaryGraphCodec} format.
+ */
+public class GraphFootprint {
+    private static final int HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+
+    private final long nameBytes;
+    private final long edgeObjectBytes;
+    private final long edgeArrayBytes;
+    private final long adjacencyBytes;
+    private final boolean adjacencyBuilt;
+    private final long adjacencyMapBytes;
+    private final long binaryBytes;
+
+    private GraphFootprint(long nameBytes, long edgeObjectBytes, long edgeArrayBytes, long adjacencyBytes,
+                           boolean adjacencyBuilt, long adjacencyMapBytes, long binaryBytes) {
+        this.nameBytes = nameBytes;
+        this.edgeObjectBytes = edgeObjectBytes;
+        this.edgeArrayBytes = edgeArrayBytes;
+        this.adjacencyBytes = adjacencyBytes;
+        this.adjacencyBuilt = adjacencyBuilt;
+        this.adjacencyMapBytes = adjacencyMapBytes;
+        this.binaryBytes = binaryBytes;
+    }
+
+    public static GraphFootprint of(Graph graph) {
+        int vertexCount = graph.getVertexCount();
+        int edgeCount = graph.getEdgeCount();
+
+        // Names, each distinct String instance once, plus the node list
+        Map<String, Boolean> seen = new IdentityHashMap<>();
+        long nameBytes = arrayList(vertexCount);
+        long binaryBytes = 12 + 12L * edgeCount;
+        for (int v = 0; v < vertexCount; v++) {
+            String name = graph.getNodeName(v);
+            if (seen.put(name, Boolean.TRUE) == null) {
+                nameBytes += string(name);
+            }
+            binaryBytes += 2 + modifiedUtf8Length(name);
+        }
+
+        // Edge objects and the edge list; endpoint names not interned by a loader are extra strings.
+        // A compact graph creates its Edge objects on access and retains none.
+        long edgeObjectBytes = graph.hasEdgeObjects()
+                ? arrayList(edgeCount) + (long) edgeCount * align(HEADER + 2 * REFERENCE + 4) : 0;
+        for (int e = 0; e < edgeCount && graph.hasEdgeObjects(); e++) {
+            Edge edge = graph.getEdge(e);
+            if (seen.put(edge.getFrom(), Boolean.TRUE) == null) {
+                edgeObjectBytes += string(edge.getFrom());
+            }
+            if (seen.put(edge.getTo(), Boolean.TRUE) == null) {
+                edgeObjectBytes += string(edge.getTo());
+            }
+        }
+
+        long edgeArrayBytes = 3 * intArray(edgeCount);
+        long adjacencyBytes = intArray(vertexCount + 1) + 2 * intArray(2L * edgeCount);
+
+        // HashMap of per-vertex lists, holding one reversed Edge copy per edge
+        long adjacencyMapBytes = 0;
+        if (graph.hasAdjacencyList()) {
+            long table = Long.highestOneBit(Math.max(1, vertexCount * 4L / 3)) * 2;
+            adjacencyMapBytes = align(HEADER + 3 * 4 + 4 * REFERENCE) + align(ARRAY_HEADER + table * REFERENCE)
+                    + (long) vertexCount * (align(HEADER + 4 + 3 * REFERENCE) + arrayList(0))
+                    + 2L * edgeCount * REFERENCE
+                    + (long) edgeCount * align(HEADER + 2 * REFERENCE + 4);
+        }
+
+        return new GraphFootprint(nameBytes, edgeObjectBytes, edgeArrayBytes, adjacencyBytes, graph.hasAdjacency(),
+                adjacencyMapBytes, binaryBytes);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    private static long intArray(long length) {
+        return align(ARRAY_HEADER + 4 * length);
+    }
+
+    private static long arrayList(long size) {
+        return align(HEADER + 8 + REFERENCE) + align(ARRAY_HEADER + size * REFERENCE);
+    }
+
+    //Compact strings: one byte per char when every char is Latin-1, two otherwise.
+    private static long string(String value) {
+        boolean latin1 = value.chars().allMatch(c -> c <= 0xFF);
+        return align(HEADER + 4 + 1 + 1 + REFERENCE)
+                + align(ARRAY_HEADER + (long) value.length() * (latin1 ? 1 : 2));
+    }
+
+    private static int modifiedUtf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            length += c >= 0x0001 && c <= 0x007F ? 1 : c <= 0x07FF ? 2 : 3;
+        }
+        return length;
+    }
+
+    //Estimated bytes the graph holds right now.
+    public long getRetainedBytes() {
+        return nameBytes + edgeObjectBytes + edgeArrayBytes + (adjacencyBuilt ? adjacencyBytes : 0) + adjacencyMapBytes;
+    }
+
+    //Names, int edge arrays and compressed adjacency only: what the id-based solvers need.
+    public long getCompactBytes() {
+        return nameBytes + edgeArrayBytes + adjacencyBytes;
+    }
+
+    //Encoded size in the binary graph format.
+    public long getBinaryBytes() {
+        return binaryBytes;
+    }
+
+    public long getEdgeObjectBytes() {
+        return edgeObjectBytes;
+    }
+
+    //Size of the compressed adjacency, whether or not it has been built yet.
+    public long getAdjacencyBytes() {
+        return adjacencyBytes;
+    }
+
+    public long getAdjacencyMapBytes() {
+        return adjacencyMapBytes;
+    }
+
+    //Human-readable byte count: B, KB, MB or GB.
+    public static String format(long bytes) {
+        if (bytes < 0) {
+            return "n/a";
+        }
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        String[] units = {"KB", "MB", "GB"};
+        double value = bytes;
+        int unit = -1;
+        while (value >= 1024 && unit < units.length - 1) {
+            value /= 1024;
+            unit++;
+        }
+        return String.format("%.1f %s", value, units[unit]);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("retained %s (compact %s, binary %s)", format(getRetainedBytes()),
+                format(getCompactBytes()), format(binaryBytes));
+    }
+}
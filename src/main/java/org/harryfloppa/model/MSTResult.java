@@ -1,22 +1,55 @@
 package org.harryfloppa.model;
 
+import java.util.AbstractList;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * Contains the results of running an MST algorithm.
  * Includes the MST edges, total cost, and performance metrics.
+ * Allocated bytes are those allocated by the solving thread during the solve, or -1 when not measured.
+ *
+ * A result built from edge indices keeps the solved graph and reads its edges from it: endpoint ids are then
+ * available without looking vertex names up, and the edge list is a view rather than a copy.
  */
 public class MSTResult {
     private final List<Edge> mstEdges;
     private final int totalCost;
     private final long operationsCount;
     private final double executionTimeMs;
+    private final long allocatedBytes;
+    // Set when the edges are indices into the solved graph
+    private final Graph graph;
+    private final int[] edgeIndices;
 
     public MSTResult(List<Edge> mstEdges, int totalCost, long operationsCount, double executionTimeMs) {
+        this(mstEdges, totalCost, operationsCount, executionTimeMs, -1);
+    }
+
+    public MSTResult(List<Edge> mstEdges, int totalCost, long operationsCount, double executionTimeMs,
+                     long allocatedBytes) {
         this.mstEdges = mstEdges;
         this.totalCost = totalCost;
         this.operationsCount = operationsCount;
         this.executionTimeMs = executionTimeMs;
+        this.allocatedBytes = allocatedBytes;
+        this.graph = null;
+        this.edgeIndices = null;
+    }
+
+    /**
+     * A result whose edges are the first edgeCount entries of edgeIndices, indices into graph.
+     * The array is taken over, not copied.
+     */
+    public MSTResult(Graph graph, int[] edgeIndices, int edgeCount, int totalCost, long operationsCount,
+                     double executionTimeMs, long allocatedBytes) {
+        this.graph = graph;
+        this.edgeIndices = edgeIndices;
+        this.mstEdges = new IndexedEdges(edgeCount);
+        this.totalCost = totalCost;
+        this.operationsCount = operationsCount;
+        this.executionTimeMs = executionTimeMs;
+        this.allocatedBytes = allocatedBytes;
     }
 
     public List<Edge> getMstEdges() {
@@ -35,16 +68,59 @@ public class MSTResult {
         return executionTimeMs;
     }
 
+    //Bytes allocated by the solving thread, or -1 if not measured.
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    //The solved graph if the result is built from edge indices, otherwise null.
+    public Graph getGraph() {
+        return graph;
+    }
+
+    //Index in getGraph() of the MST edge at the given position; only for results built from edge indices.
+    public int getEdgeIndex(int position) {
+        if (edgeIndices == null) {
+            throw new IllegalStateException("Result does not carry edge indices");
+        }
+        return edgeIndices[position];
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append(String.format("MST Total Cost: %d%n", totalCost));
         sb.append(String.format("Operations Count: %d%n", operationsCount));
         sb.append(String.format("Execution Time: %.2f ms%n", executionTimeMs));
+        if (allocatedBytes >= 0) {
+            sb.append(String.format("Allocated: %,d bytes%n", allocatedBytes));
+        }
         sb.append("MST Edges:\n");
         for (Edge edge : mstEdges) {
             sb.append(String.format("  %s%n", edge));
         }
         return sb.toString();
     }
+
+    //Read-only view of the MST edges through their indices in the graph.
+    private final class IndexedEdges extends AbstractList<Edge> implements RandomAccess {
+        private final int size;
+
+        IndexedEdges(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public Edge get(int position) {
+            if (position < 0 || position >= size) {
+                throw new IndexOutOfBoundsException("Position " + position + " of " + size);
+            }
+            return graph.getEdge(edgeIndices[position]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
 }
@@ -0,0 +1,65 @@
+package org.harryfloppa.model;
+
+/**
+ * Approximate MST (or MSF) weight with a confidence interval, as produced by sampling estimators.
+ * Carries no edge list, so it stays small however large the graph is.
+ */
+public class MSTWeightEstimate {
+    private final double estimate;
+    private final double lowerBound;
+    private final double upperBound;
+    private final double confidence;
+    private final int samples;
+    private final long operationsCount;
+    private final double executionTimeMs;
+
+    public MSTWeightEstimate(double estimate, double lowerBound, double upperBound, double confidence,
+                             int samples, long operationsCount, double executionTimeMs) {
+        this.estimate = estimate;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.confidence = confidence;
+        this.samples = samples;
+        this.operationsCount = operationsCount;
+        this.executionTimeMs = executionTimeMs;
+    }
+
+    public double getEstimate() {
+        return estimate;
+    }
+
+    public double getLowerBound() {
+        return lowerBound;
+    }
+
+    public double getUpperBound() {
+        return upperBound;
+    }
+
+    //Probability that the interval [lowerBound, upperBound] holds the true weight.
+    public double getConfidence() {
+        return confidence;
+    }
+
+    public int getSamples() {
+        return samples;
+    }
+
+    public long getOperationsCount() {
+        return operationsCount;
+    }
+
+    public double getExecutionTimeMs() {
+        return executionTimeMs;
+    }
+
+    public boolean contains(double weight) {
+        return weight >= lowerBound && weight <= upperBound;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MST Weight Estimate: %.1f [%.1f, %.1f] at %.0f%% confidence (%d samples, %.2f ms)",
+                estimate, lowerBound, upperBound, confidence * 100, samples, executionTimeMs);
+    }
+}
@@ -0,0 +1,43 @@
+package org.harryfloppa.model;
+
+/**
+ * Outcome of checking a claimed MST (or MSF) against its graph.
+ * Invalid results carry a human-readable reason naming the first violation found.
+ */
+public class VerificationResult {
+    private final boolean valid;
+    private final String reason;
+    private final long operationsCount;
+    private final double executionTimeMs;
+
+    public VerificationResult(boolean valid, String reason, long operationsCount, double executionTimeMs) {
+        this.valid = valid;
+        this.reason = reason;
+        this.operationsCount = operationsCount;
+        this.executionTimeMs = executionTimeMs;
+    }
+
+    public boolean isValid() {
+        return valid;
+    }
+
+    //Why verification failed, or null for a valid result.
+    public String getReason() {
+        return reason;
+    }
+
+    public long getOperationsCount() {
+        return operationsCount;
+    }
+
+    public double getExecutionTimeMs() {
+        return executionTimeMs;
+    }
+
+    @Override
+    public String toString() {
+        return valid
+                ? String.format("Valid minimum spanning forest (%.3f ms)", executionTimeMs)
+                : String.format("Invalid: %s (%.3f ms)", reason, executionTimeMs);
+    }
+}
@@ -0,0 +1,292 @@
+package org.harryfloppa.server;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.harryfloppa.algorithm.KruskalAlgorithm;
+import org.harryfloppa.algorithm.MSTSolver;
+import org.harryfloppa.algorithm.PrimAlgorithm;
+import org.harryfloppa.algorithm.SolveContext;
+import org.harryfloppa.io.BinaryGraphCodec;
+import org.harryfloppa.io.InputReader;
+import org.harryfloppa.io.OutputWriter;
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Resident MST service on the JDK's built-in HTTP server.
+ * Solvers and their workspaces stay warm between requests, so each request pays only for the solve itself.
+ *
+ * Endpoints:
+ *   POST /mst[?algorithm=prim|kruskal]  graph JSON (input file format or a single graph object),
+ *                                       or the binary format with Content-Type application/octet-stream
+ *   GET  /stats                         request and solve latency percentiles
+ *   GET  /health                        liveness check
+ *
+ * Request bodies larger than maxRequestBytes are refused with 413 before they are parsed.
+ */
+public class MSTServer {
+    public static final int DEFAULT_MAX_REQUEST_BYTES = 64 << 20;
+    private static final String BINARY_CONTENT_TYPE = "application/octet-stream";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, MSTSolver> solvers = new LinkedHashMap<>();
+    private final Map<String, LatencyRecorder> solveLatencies = new LinkedHashMap<>();
+    private final LatencyRecorder requestLatency = new LatencyRecorder();
+    private final Queue<SolveContext> contexts = new ConcurrentLinkedQueue<>();
+    private final InputReader inputReader = new InputReader();
+    private final OutputWriter outputWriter = new OutputWriter();
+    private final BinaryGraphCodec binaryCodec = new BinaryGraphCodec();
+    private final Gson gson = new GsonBuilder().create();
+    private final int maxRequestBytes;
+
+    public MSTServer(InetSocketAddress address) throws IOException {
+        this(address, DEFAULT_MAX_REQUEST_BYTES);
+    }
+
+    public MSTServer(InetSocketAddress address, int maxRequestBytes) throws IOException {
+        if (maxRequestBytes < 1) {
+            throw new IllegalArgumentException("maxRequestBytes must be positive");
+        }
+        this.maxRequestBytes = maxRequestBytes;
+        for (MSTSolver solver : List.of(new PrimAlgorithm(), new KruskalAlgorithm())) {
+            solvers.put(solver.getName(), solver);
+            solveLatencies.put(solver.getName(), new LatencyRecorder());
+        }
+        this.executor = newRequestExecutor();
+        this.server = HttpServer.create(address, 0);
+        server.setExecutor(executor);
+        server.createContext("/mst", this::handleSolve);
+        server.createContext("/stats", this::handleStats);
+        server.createContext("/health", exchange -> respond(exchange, 200, "{\"status\":\"ok\"}"));
+    }
+
+    /**
+     * Uses virtual threads when the runtime provides them (Java 21+), otherwise a cached pool.
+     * Looked up reflectively so the project still builds and runs on Java 17.
+     */
+    static ExecutorService newRequestExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "mst-request");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    //Stops accepting requests, waiting up to the given number of seconds for in-flight ones.
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Runs every solver on a synthetic graph so the JIT has compiled the hot paths
+     * before the first real request arrives. Warm-up solves are not recorded in the statistics.
+     */
+    public void warmUp(int rounds) {
+        Graph graph = warmUpGraph(500, 2_000);
+        for (int round = 0; round < rounds; round++) {
+            for (MSTSolver solver : solvers.values()) {
+                SolveContext context = borrowContext();
+                try {
+                    solver.findMST(graph, context);
+                } finally {
+                    contexts.offer(context);
+                }
+            }
+        }
+    }
+
+    private static Graph warmUpGraph(int vertexCount, int edgeCount) {
+        Random random = new Random(1);
+        List<String> nodes = new ArrayList<>(vertexCount);
+        for (int i = 0; i < vertexCount; i++) {
+            nodes.add("W" + i);
+        }
+        List<Edge> edges = new ArrayList<>(edgeCount);
+        for (int i = 0; i < edgeCount; i++) {
+            edges.add(new Edge(nodes.get(random.nextInt(vertexCount)), nodes.get(random.nextInt(vertexCount)),
+                    random.nextInt(1_000)));
+        }
+        return new Graph(0, nodes, edges);
+    }
+
+    private SolveContext borrowContext() {
+        SolveContext context = contexts.poll();
+        return context != null ? context : new SolveContext();
+    }
+
+    private void handleSolve(HttpExchange exchange) throws IOException {
+        long startTime = System.nanoTime();
+        try {
+            int status = 200;
+            String body;
+            Collection<MSTSolver> selected = selectSolvers(exchange.getRequestURI());
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                status = 405;
+                body = errorJson("Use POST with a graph document");
+            } else if (selected == null) {
+                status = 400;
+                body = errorJson("Unknown algorithm; expected one of " + solvers.keySet());
+            } else {
+                List<Graph> graphs = null;
+                String failure = null;
+                try {
+                    graphs = readGraphs(exchange);
+                } catch (RequestTooLargeException e) {
+                    status = 413;
+                    failure = e.getMessage();
+                } catch (IOException | RuntimeException e) {
+                    status = 400;
+                    failure = "Malformed graph input: " + e.getMessage();
+                }
+                if (graphs == null) {
+                    body = errorJson(failure);
+                } else {
+                    body = solveGraphs(graphs, selected, startTime);
+                }
+            }
+            // Record before responding so a client that has its answer also sees it in /stats
+            requestLatency.record(System.nanoTime() - startTime);
+            respond(exchange, status, body);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private String solveGraphs(List<Graph> graphs, Collection<MSTSolver> selected, long startTime) {
+        JsonArray resultsArray = new JsonArray();
+        for (Graph graph : graphs) {
+            resultsArray.add(solveGraph(graph, selected));
+        }
+        JsonObject response = new JsonObject();
+        response.add("results", resultsArray);
+        response.addProperty("request_time_ms", (System.nanoTime() - startTime) / 1_000_000.0);
+        return gson.toJson(response);
+    }
+
+    private Collection<MSTSolver> selectSolvers(URI uri) {
+        String query = uri.getRawQuery();
+        if (query == null) {
+            return solvers.values();
+        }
+        for (String parameter : query.split("&")) {
+            if (parameter.startsWith("algorithm=")) {
+                MSTSolver solver = solvers.get(parameter.substring("algorithm=".length()).toLowerCase(Locale.ROOT));
+                return solver == null ? null : List.of(solver);
+            }
+        }
+        return solvers.values();
+    }
+
+    private List<Graph> readGraphs(HttpExchange exchange) throws IOException {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        byte[] body = exchange.getRequestBody().readNBytes(maxRequestBytes + 1);
+        if (body.length > maxRequestBytes) {
+            throw new RequestTooLargeException("Request body exceeds " + maxRequestBytes + " bytes");
+        }
+        if (contentType != null && contentType.startsWith(BINARY_CONTENT_TYPE)) {
+            return binaryCodec.readGraphs(new ByteArrayInputStream(body), body.length);
+        }
+        return inputReader.readGraphs(new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8));
+    }
+
+    private static final class RequestTooLargeException extends IOException {
+        RequestTooLargeException(String message) {
+            super(message);
+        }
+    }
+
+    private JsonObject solveGraph(Graph graph, Collection<MSTSolver> selected) {
+        JsonObject resultObj = new JsonObject();
+        resultObj.addProperty("graph_id", graph.getId());
+
+        JsonObject inputStats = new JsonObject();
+        inputStats.addProperty("vertices", graph.getVertexCount());
+        inputStats.addProperty("edges", graph.getEdgeCount());
+        resultObj.add("input_stats", inputStats);
+
+        for (MSTSolver solver : selected) {
+            SolveContext context = borrowContext();
+            long solveStart = System.nanoTime();
+            try {
+                MSTResult result = solver.findMST(graph, context);
+                resultObj.add(solver.getName(), outputWriter.createAlgorithmResultJson(result));
+            } finally {
+                solveLatencies.get(solver.getName()).record(System.nanoTime() - solveStart);
+                contexts.offer(context);
+            }
+        }
+        return resultObj;
+    }
+
+    private void handleStats(HttpExchange exchange) throws IOException {
+        try {
+            JsonObject stats = new JsonObject();
+            stats.add("requests", latencyJson(requestLatency));
+            JsonObject solves = new JsonObject();
+            for (Map.Entry<String, LatencyRecorder> entry : solveLatencies.entrySet()) {
+                solves.add(entry.getKey(), latencyJson(entry.getValue()));
+            }
+            stats.add("solves", solves);
+            respond(exchange, 200, gson.toJson(stats));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static JsonObject latencyJson(LatencyRecorder recorder) {
+        JsonObject json = new JsonObject();
+        json.addProperty("count", recorder.getCount());
+        json.addProperty("mean_ms", recorder.getMeanMillis());
+        json.addProperty("p50_ms", recorder.getPercentileMillis(50));
+        json.addProperty("p90_ms", recorder.getPercentileMillis(90));
+        json.addProperty("p99_ms", recorder.getPercentileMillis(99));
+        json.addProperty("max_ms", recorder.getMaxMillis());
+        return json;
+    }
+
+    private String errorJson(String message) {
+        JsonObject error = new JsonObject();
+        error.addProperty("error", message);
+        return gson.toJson(error);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
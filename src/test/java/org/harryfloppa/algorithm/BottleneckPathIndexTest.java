@@ -0,0 +1,142 @@
+package org.harryfloppa.algorithm;
+
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for bottleneck (min-max) path queries over an MST.
+ */
+@DisplayName("Bottleneck Path Index Tests")
+class BottleneckPathIndexTest {
+
+    @Test
+    @DisplayName("Heaviest edge on the route in the assignment example")
+    void testAssignmentExample() {
+        Graph graph = new Graph(1, Arrays.asList("A", "B", "C", "D", "E"), Arrays.asList(
+                new Edge("A", "B", 4),
+                new Edge("A", "C", 3),
+                new Edge("B", "C", 2),
+                new Edge("B", "D", 5),
+                new Edge("C", "D", 7),
+                new Edge("C", "E", 8),
+                new Edge("D", "E", 6)
+        ));
+        MSTResult mst = new KruskalAlgorithm().findMST(graph);
+        BottleneckPathIndex index = BottleneckPathIndex.build(graph, mst);
+
+        // MST: B-C 2, A-C 3, B-D 5, D-E 6
+        assertEquals(3, index.query("A", "B"));
+        assertEquals(6, index.query("A", "E"));
+        assertEquals(5, index.query("C", "D"));
+        assertEquals(BottleneckPathIndex.NO_EDGE, index.query("A", "A"));
+        assertTrue(index.getMemoryBytes() > 0);
+        assertTrue(index.getBuildTimeMs() >= 0);
+    }
+
+    @Test
+    @DisplayName("Disconnected vertices have no path")
+    void testDisconnected() {
+        BottleneckPathIndex index = new BottleneckPathIndex(4,
+                new int[]{0, 2}, new int[]{1, 3}, new int[]{10, 20}, 2);
+
+        assertEquals(10, index.query(0, 1));
+        assertFalse(index.isConnected(1, 2));
+        assertEquals(BottleneckPathIndex.NO_EDGE, index.query(1, 2));
+    }
+
+    @Test
+    @DisplayName("Matches brute-force path walks on random forests, also in parallel batches")
+    void testMatchesBruteForce() {
+        Random random = new Random(5);
+        for (int round = 0; round < 10; round++) {
+            int vertexCount = 1 + random.nextInt(300);
+            List<int[]> forest = new ArrayList<>();
+            for (int v = 1; v < vertexCount; v++) {
+                if (random.nextInt(10) > 0) {
+                    forest.add(new int[]{random.nextInt(v), v, random.nextInt(1000)});
+                }
+            }
+            int[] from = forest.stream().mapToInt(e -> e[0]).toArray();
+            int[] to = forest.stream().mapToInt(e -> e[1]).toArray();
+            int[] weight = forest.stream().mapToInt(e -> e[2]).toArray();
+            BottleneckPathIndex index = new BottleneckPathIndex(vertexCount, from, to, weight, forest.size());
+
+            int queryCount = 5_000;
+            int[] queryFrom = new int[queryCount];
+            int[] queryTo = new int[queryCount];
+            for (int i = 0; i < queryCount; i++) {
+                queryFrom[i] = random.nextInt(vertexCount);
+                queryTo[i] = random.nextInt(vertexCount);
+            }
+            int[] answers = index.queryBatch(queryFrom, queryTo);
+            for (int i = 0; i < 200; i++) {
+                assertEquals(bruteForce(vertexCount, forest, queryFrom[i], queryTo[i]), answers[i]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Lowest common ancestors match walks up the lowest-rooted trees")
+    void testLowestCommonAncestor() {
+        Random random = new Random(9);
+        int vertexCount = 500;
+        // Each vertex hangs below a lower one, so every tree is rooted at its lowest vertex
+        int[] parent = new int[vertexCount];
+        List<int[]> forest = new ArrayList<>();
+        for (int v = 0; v < vertexCount; v++) {
+            parent[v] = v == 0 || random.nextInt(20) == 0 ? v : random.nextInt(v);
+            if (parent[v] != v) {
+                forest.add(new int[]{v, parent[v]});
+            }
+        }
+        BottleneckPathIndex index = new BottleneckPathIndex(vertexCount,
+                forest.stream().mapToInt(e -> e[0]).toArray(), forest.stream().mapToInt(e -> e[1]).toArray(),
+                new int[forest.size()], forest.size());
+
+        for (int i = 0; i < 2_000; i++) {
+            int u = random.nextInt(vertexCount);
+            int v = random.nextInt(vertexCount);
+            Set<Integer> ancestors = new HashSet<>();
+            for (int x = u; ancestors.add(x); ) {
+                x = parent[x];
+            }
+            int expected = v;
+            while (!ancestors.contains(expected) && parent[expected] != expected) {
+                expected = parent[expected];
+            }
+            assertEquals(ancestors.contains(expected) ? expected : -1, index.lowestCommonAncestor(u, v));
+        }
+    }
+
+    private static int bruteForce(int vertexCount, List<int[]> forest, int source, int target) {
+        List<List<int[]>> adjacency = new ArrayList<>();
+        for (int v = 0; v < vertexCount; v++) {
+            adjacency.add(new ArrayList<>());
+        }
+        for (int[] edge : forest) {
+            adjacency.get(edge[0]).add(new int[]{edge[1], edge[2]});
+            adjacency.get(edge[1]).add(new int[]{edge[0], edge[2]});
+        }
+        int[] best = new int[vertexCount];
+        Arrays.fill(best, Integer.MAX_VALUE);
+        best[source] = BottleneckPathIndex.NO_EDGE;
+        Deque<Integer> stack = new ArrayDeque<>(List.of(source));
+        while (!stack.isEmpty()) {
+            int v = stack.pop();
+            for (int[] next : adjacency.get(v)) {
+                if (best[next[0]] == Integer.MAX_VALUE) {
+                    best[next[0]] = Math.max(best[v], next[1]);
+                    stack.push(next[0]);
+                }
+            }
+        }
+        return source == target || best[target] == Integer.MAX_VALUE ? BottleneckPathIndex.NO_EDGE : best[target];
+    }
+}
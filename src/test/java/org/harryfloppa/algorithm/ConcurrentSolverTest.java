@@ -0,0 +1,73 @@
+package org.harryfloppa.algorithm;
+
+import org.harryfloppa.benchmark.GraphGenerator;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that a single solver instance can be shared across threads.
+ */
+@DisplayName("Concurrent Solver Tests")
+class ConcurrentSolverTest {
+
+    @Test
+    @DisplayName("Shared solvers give the same results under concurrency")
+    void testSharedSolversAcrossThreads() throws Exception {
+        Random random = new Random(3);
+        GraphGenerator generator = new GraphGenerator(3);
+        List<Graph> graphs = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            int vertexCount = 5 + random.nextInt(100);
+            graphs.add(generator.randomGraph(i, vertexCount, vertexCount * 3, 1_000));
+        }
+
+        MSTSolver prim = new PrimAlgorithm();
+        MSTSolver kruskal = new KruskalAlgorithm();
+        Map<Integer, Integer> expectedCosts = new HashMap<>();
+        for (Graph graph : graphs) {
+            expectedCosts.put(graph.getId(), kruskal.findMST(graph).getTotalCost());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<int[]>> futures = new ArrayList<>();
+            for (int repeat = 0; repeat < 10; repeat++) {
+                for (Graph graph : graphs) {
+                    futures.add(executor.submit(() -> {
+                        MSTResult primResult = prim.findMST(graph);
+                        MSTResult kruskalResult = kruskal.findMST(graph);
+                        return new int[]{graph.getId(), primResult.getTotalCost(), kruskalResult.getTotalCost()};
+                    }));
+                }
+            }
+            for (Future<int[]> future : futures) {
+                int[] outcome = future.get(30, TimeUnit.SECONDS);
+                assertEquals(expectedCosts.get(outcome[0]), outcome[1], "Prim on graph " + outcome[0]);
+                assertEquals(expectedCosts.get(outcome[0]), outcome[2], "Kruskal on graph " + outcome[0]);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Nested solves on one thread use separate contexts")
+    void testNestedAcquireGivesDistinctContexts() {
+        SolveContext outer = SolveContext.acquire();
+        SolveContext inner = SolveContext.acquire();
+        try {
+            assertNotSame(outer, inner);
+            assertNotSame(outer.getWorkspace(), inner.getWorkspace());
+        } finally {
+            inner.release();
+            outer.release();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package org.harryfloppa.algorithm;
+
+import org.harryfloppa.benchmark.GraphGenerator;
+import org.harryfloppa.model.DegreeConstrainedResult;
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the degree-constrained spanning tree heuristic.
+ */
+@DisplayName("Degree-Constrained MST Tests")
+class DegreeConstrainedMSTTest {
+
+    //A hub joined to every spoke by cheap edges, with a slightly dearer ring around the spokes.
+    private static Graph wheel(int spokes) {
+        List<String> nodes = new ArrayList<>();
+        nodes.add("Hub");
+        List<Edge> edges = new ArrayList<>();
+        for (int i = 0; i < spokes; i++) {
+            nodes.add("S" + i);
+        }
+        for (int i = 0; i < spokes; i++) {
+            edges.add(new Edge("Hub", "S" + i, 1));
+            edges.add(new Edge("S" + i, "S" + ((i + 1) % spokes), 3));
+        }
+        return new Graph(1, nodes, edges);
+    }
+
+    private static Map<String, Integer> degrees(MSTResult tree) {
+        Map<String, Integer> degrees = new HashMap<>();
+        for (Edge edge : tree.getMstEdges()) {
+            degrees.merge(edge.getFrom(), 1, Integer::sum);
+            degrees.merge(edge.getTo(), 1, Integer::sum);
+        }
+        return degrees;
+    }
+
+    //Checks the tree spans the graph like its MST does and reports degrees and cost consistently.
+    private static void assertSpanningTree(Graph graph, DegreeConstrainedResult result) {
+        MSTResult tree = result.getTree();
+        assertEquals(new KruskalAlgorithm().findMST(graph).getMstEdges().size(), tree.getMstEdges().size());
+        UnionFind unionFind = new UnionFind(graph.getVertexCount());
+        unionFind.reset(graph.getVertexCount());
+        int cost = 0;
+        for (int i = 0; i < tree.getMstEdges().size(); i++) {
+            int e = tree.getEdgeIndex(i);
+            assertTrue(unionFind.union(graph.getEdgeFrom(e), graph.getEdgeTo(e)), "cycle through edge " + e);
+            cost += graph.getEdgeWeight(e);
+        }
+        assertEquals(cost, tree.getTotalCost());
+        int maxDegree = degrees(tree).values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        assertEquals(maxDegree, result.getTreeMaxDegree());
+        assertEquals(maxDegree <= result.getMaxDegree(), result.isFeasible());
+    }
+
+    @Test
+    @DisplayName("An MST that meets the cap is returned as optimal")
+    void testUnconstrainedMST() {
+        Graph graph = wheel(3);
+
+        DegreeConstrainedResult result = new DegreeConstrainedMST(3).find(graph);
+
+        assertEquals(new KruskalAlgorithm().findMST(graph).getTotalCost(), result.getTree().getTotalCost());
+        assertTrue(result.isOptimal());
+        assertEquals(0, result.getIterations());
+        assertSpanningTree(graph, result);
+    }
+
+    @Test
+    @DisplayName("A hub above the cap is relieved with ring edges at the lowest cost")
+    void testWheel() {
+        Graph graph = wheel(12);
+
+        DegreeConstrainedResult result = new DegreeConstrainedMST(3).find(graph);
+
+        // The hub keeps 3 spokes; each of the 9 other spokes joins through one ring edge
+        assertTrue(result.isFeasible());
+        assertEquals(3 + 9 * 3, result.getTree().getTotalCost());
+        assertTrue(result.isOptimal(), result.toString());
+        assertSpanningTree(graph, result);
+    }
+
+    @Test
+    @DisplayName("Trees stay within the cap and between the bound and the true optimum on random graphs")
+    void testAgainstEnumeration() {
+        Random random = new Random(49);
+        GraphGenerator generator = new GraphGenerator(49);
+        for (int trial = 0; trial < 40; trial++) {
+            Graph graph = generator.connectedGraph(trial, 4 + random.nextInt(5), 10 + random.nextInt(8), 20);
+            int cap = 2 + random.nextInt(2);
+
+            // Spanning trees in cost order: the first within the cap is optimal
+            Integer optimum = null;
+            for (MSTResult tree : new KBestSpanningTrees(graph, Integer.MAX_VALUE)) {
+                if (degrees(tree).values().stream().allMatch(d -> d <= cap)) {
+                    optimum = tree.getTotalCost();
+                    break;
+                }
+            }
+
+            DegreeConstrainedResult result = new DegreeConstrainedMST(cap, 200).find(graph);
+
+            assertSpanningTree(graph, result);
+            if (optimum != null) {
+                assertTrue(result.getLowerBound() <= optimum, "bound above optimum in trial " + trial);
+                if (result.isFeasible()) {
+                    assertTrue(result.getTree().getTotalCost() >= optimum);
+                }
+            }
+            if (result.isOptimal()) {
+                assertEquals(optimum, result.getTree().getTotalCost());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Improvements are reported in order and the last one is the result")
+    void testAnytimeReports() {
+        Graph graph = new GraphGenerator(7).connectedGraph(1, 2_000, 10_000, 20);
+        List<DegreeConstrainedResult> reports = new ArrayList<>();
+
+        DegreeConstrainedResult result = new DegreeConstrainedMST(2, 500).find(graph, reports::add);
+
+        assertFalse(reports.isEmpty());
+        for (int i = 1; i < reports.size(); i++) {
+            DegreeConstrainedResult previous = reports.get(i - 1);
+            DegreeConstrainedResult next = reports.get(i);
+            assertTrue(next.getExcessDegree() < previous.getExcessDegree()
+                    || (next.getExcessDegree() == previous.getExcessDegree()
+                    && next.getTree().getTotalCost() < previous.getTree().getTotalCost()));
+        }
+        DegreeConstrainedResult last = reports.get(reports.size() - 1);
+        assertEquals(last.getTree().getMstEdges(), result.getTree().getMstEdges());
+        assertEquals(last.getExcessDegree(), result.getExcessDegree());
+        assertSpanningTree(graph, result);
+    }
+
+    @Test
+    @DisplayName("An exhausted budget returns the best tree so far; a small one is enough to meet the cap")
+    void testTimeBudget() {
+        Graph graph = new GraphGenerator(11).connectedGraph(1, 20_000, 100_000, 20);
+
+        long start = System.nanoTime();
+        DegreeConstrainedResult immediate = new DegreeConstrainedMST(3, 0).find(graph);
+        double elapsedMs = (System.nanoTime() - start) / 1_000_000.0;
+        DegreeConstrainedResult budgeted = new DegreeConstrainedMST(3, 2_000).find(graph);
+
+        assertTrue(immediate.isBudgetExhausted());
+        assertEquals(1, immediate.getIterations());
+        assertEquals(0, immediate.getSwaps());
+        assertTrue(elapsedMs < 5_000, "took " + elapsedMs + " ms");
+        assertSpanningTree(graph, immediate);
+        assertTrue(budgeted.isFeasible(), budgeted.toString());
+        assertTrue(budgeted.getExcessDegree() <= immediate.getExcessDegree());
+        assertSpanningTree(graph, budgeted);
+    }
+
+    @Test
+    @DisplayName("Rejects caps below 1 and negative budgets")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new DegreeConstrainedMST(0));
+        assertThrows(IllegalArgumentException.class, () -> new DegreeConstrainedMST(2, -1));
+        assertTrue(new DegreeConstrainedMST(2).find(new Graph(0, List.of(), List.of())).isOptimal());
+    }
+}
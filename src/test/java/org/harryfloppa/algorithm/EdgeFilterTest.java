@@ -0,0 +1,63 @@
+package org.harryfloppa.algorithm;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the best available edge filter (SIMD under the vector profile) matches the scalar one.
+ */
+@DisplayName("Edge Filter Tests")
+class EdgeFilterTest {
+
+    @Test
+    @DisplayName("Best filter keeps exactly the edges the scalar filter keeps")
+    void testBestMatchesScalar() {
+        EdgeFilter scalar = EdgeFilter.scalar();
+        EdgeFilter best = EdgeFilter.best();
+        Random random = new Random(9);
+        // Odd sizes exercise the scalar tail after the last full vector
+        for (int count : new int[]{0, 1, 7, 33, 1_000, 4_099}) {
+            int vertexCount = 1 + random.nextInt(50);
+            int[] from = new int[count];
+            int[] to = new int[count];
+            int[] weight = new int[count];
+            int[] bound = new int[count];
+            int[] component = new int[vertexCount];
+            for (int v = 0; v < vertexCount; v++) {
+                component[v] = random.nextInt(Math.max(1, vertexCount / 3));
+            }
+            for (int e = 0; e < count; e++) {
+                from[e] = random.nextInt(vertexCount);
+                to[e] = random.nextInt(vertexCount);
+                weight[e] = random.nextInt(20) - 5;
+                bound[e] = random.nextInt(8) == 0 ? BottleneckPathIndex.NO_EDGE : random.nextInt(20) - 5;
+            }
+
+            int[] expected = new int[count];
+            int[] actual = new int[count];
+            int expectedSize = scalar.keepCrossComponent(from, to, component, count, expected);
+            int actualSize = best.keepCrossComponent(from, to, component, count, actual);
+            assertArrayEquals(Arrays.copyOf(expected, expectedSize), Arrays.copyOf(actual, actualSize), best.getName());
+
+            expectedSize = scalar.keepAtMostBound(weight, bound, count, expected);
+            actualSize = best.keepAtMostBound(weight, bound, count, actual);
+            assertArrayEquals(Arrays.copyOf(expected, expectedSize), Arrays.copyOf(actual, actualSize), best.getName());
+        }
+    }
+
+    @Test
+    @DisplayName("Scalar filter drops self-loops and heavy edges")
+    void testScalarFilter() {
+        int[] kept = new int[3];
+        assertEquals(1, EdgeFilter.scalar().keepCrossComponent(
+                new int[]{0, 1, 2}, new int[]{1, 1, 0}, new int[]{0, 0, 1}, 3, kept));
+        assertEquals(2, kept[0]);
+        assertEquals(2, EdgeFilter.scalar().keepAtMostBound(
+                new int[]{5, 6, 7}, new int[]{5, 5, BottleneckPathIndex.NO_EDGE}, 3, kept));
+        assertArrayEquals(new int[]{0, 2}, Arrays.copyOf(kept, 2));
+    }
+}
@@ -0,0 +1,175 @@
+package org.harryfloppa.algorithm;
+
+import org.harryfloppa.io.InputReader;
+import org.harryfloppa.io.ParallelInputReader;
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.GeometricGraph;
+import org.harryfloppa.model.MSTResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Euclidean MST fast path over coordinate inputs.
+ */
+@DisplayName("Euclidean MST Tests")
+class EuclideanMSTTest {
+
+    private final EuclideanMST algorithm = new EuclideanMST();
+
+    private static GeometricGraph randomPoints(Random random, int n, double range) {
+        List<String> nodes = new ArrayList<>();
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            nodes.add("P" + i);
+            x[i] = Math.floor(random.nextDouble() * range);
+            y[i] = Math.floor(random.nextDouble() * range);
+        }
+        return new GeometricGraph(1, nodes, x, y);
+    }
+
+    //Exact MST weight by O(n²) dense Prim.
+    private static double bruteForceWeight(GeometricGraph graph) {
+        int n = graph.getVertexCount();
+        double[] key = new double[n];
+        boolean[] inTree = new boolean[n];
+        Arrays.fill(key, Double.POSITIVE_INFINITY);
+        key[0] = 0;
+        double total = 0;
+        for (int step = 0; step < n; step++) {
+            int u = -1;
+            for (int v = 0; v < n; v++) {
+                if (!inTree[v] && (u < 0 || key[v] < key[u])) {
+                    u = v;
+                }
+            }
+            inTree[u] = true;
+            total += key[u];
+            for (int v = 0; v < n; v++) {
+                if (!inTree[v]) {
+                    key[v] = Math.min(key[v], graph.distance(u, v));
+                }
+            }
+        }
+        return total;
+    }
+
+    private static double exactWeight(GeometricGraph graph, MSTResult result) {
+        Map<String, Integer> ids = new HashMap<>();
+        for (int v = 0; v < graph.getVertexCount(); v++) {
+            ids.put(graph.getNodeName(v), v);
+        }
+        double total = 0;
+        for (Edge edge : result.getMstEdges()) {
+            total += graph.distance(ids.get(edge.getFrom()), ids.get(edge.getTo()));
+        }
+        return total;
+    }
+
+    @Test
+    @DisplayName("Matches dense Prim on random point sets")
+    void testMatchesBruteForce() {
+        Random random = new Random(23);
+        for (int round = 0; round < 10; round++) {
+            GeometricGraph graph = randomPoints(random, 2 + random.nextInt(400), round % 2 == 0 ? 50 : 1e6);
+            MSTResult result = algorithm.findMST(graph);
+
+            assertEquals(graph.getVertexCount() - 1, result.getMstEdges().size());
+            assertEquals(bruteForceWeight(graph), exactWeight(graph, result), 1e-6, "Round " + round);
+        }
+    }
+
+    @Test
+    @DisplayName("Matches dense Prim when many threads share the component bounds")
+    void testManyThreads() throws Exception {
+        Random random = new Random(31);
+        ForkJoinPool pool = new ForkJoinPool(16);
+        try {
+            for (int round = 0; round < 20; round++) {
+                GeometricGraph graph = randomPoints(random, 200 + random.nextInt(1_500), round % 2 == 0 ? 100 : 1e6);
+                // Parallel streams started inside the pool run on its workers
+                MSTResult result = pool.submit(() -> algorithm.findMST(graph)).get();
+
+                assertEquals(graph.getVertexCount() - 1, result.getMstEdges().size());
+                assertEquals(bruteForceWeight(graph), exactWeight(graph, result), 1e-6, "Round " + round);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Unit grid with many equal distances")
+    void testGridTies() {
+        int side = 20;
+        List<String> nodes = new ArrayList<>();
+        double[] x = new double[side * side];
+        double[] y = new double[side * side];
+        for (int i = 0; i < side * side; i++) {
+            nodes.add("G" + i);
+            x[i] = i % side;
+            y[i] = i / side;
+        }
+        MSTResult result = algorithm.findMST(new GeometricGraph(2, nodes, x, y));
+
+        assertEquals(side * side - 1, result.getMstEdges().size());
+        assertEquals(side * side - 1, result.getTotalCost());
+    }
+
+    @Test
+    @DisplayName("Agrees with Kruskal on the expanded complete graph")
+    void testAgreesWithKruskal() {
+        GeometricGraph graph = randomPoints(new Random(29), 60, 1000);
+        MSTResult kruskal = new KruskalAlgorithm().findMST(graph.toCompleteGraph());
+        MSTResult euclidean = algorithm.findMST(graph);
+
+        assertEquals(kruskal.getMstEdges().size(), euclidean.getMstEdges().size());
+        // Rounded weights may differ from exact ones by at most 0.5 per edge
+        assertEquals(kruskal.getTotalCost(), euclidean.getTotalCost(), euclidean.getMstEdges().size() * 0.5);
+    }
+
+    @Test
+    @DisplayName("Reads coordinate-based graphs from JSON")
+    void testReadsGeometricInput(@TempDir Path directory) throws IOException {
+        Path input = directory.resolve("points.json");
+        Files.writeString(input, "{\"graphs\": ["
+                + "{\"id\": 1, \"nodes\": [\"A\", \"B\"], \"edges\": [{\"from\": \"A\", \"to\": \"B\", \"weight\": 1}]},"
+                + "{\"id\": 2, \"nodes\": [\"X\", \"Y\", \"Z\"], \"points\": [[0, 0], [3, 4], [3, 0]]}]}");
+
+        InputReader reader = new InputReader();
+        List<GeometricGraph> graphs = reader.readGeometricGraphs(input.toString());
+
+        assertEquals(1, reader.readGraphs(input.toString()).size());
+        assertEquals(1, reader.getSkippedGeometricCount());
+        ParallelInputReader parallelReader = new ParallelInputReader(2);
+        assertEquals(1, parallelReader.readGraphs(input.toString()).size());
+        assertEquals(1, parallelReader.getGeometricGraphs().size());
+        assertEquals("Z", parallelReader.getGeometricGraphs().get(0).getNodeName(2));
+        assertEquals(1, graphs.size());
+        assertEquals(7, algorithm.findMST(graphs.get(0)).getTotalCost());
+    }
+
+    @Test
+    @DisplayName("Rejects coordinate graphs whose nodes and points do not line up")
+    void testRejectsMismatchedPoints(@TempDir Path directory) throws IOException {
+        Path shortNodes = directory.resolve("short.json");
+        Files.writeString(shortNodes, "{\"id\": 3, \"nodes\": [\"X\"], \"points\": [[0, 0], [1, 1]]}");
+        Path badPoint = directory.resolve("bad.json");
+        Files.writeString(badPoint, "{\"id\": 4, \"points\": [[0, 0], [1]]}");
+
+        InputReader reader = new InputReader();
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> reader.readGeometricGraphs(shortNodes.toString()));
+        assertTrue(error.getMessage().contains("1 nodes but 2 points"), error.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> reader.readGeometricGraphs(badPoint.toString()));
+    }
+}
@@ -0,0 +1,112 @@
+package org.harryfloppa.algorithm;
+
+import org.harryfloppa.benchmark.GraphGenerator;
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for second-best MST and k-best spanning tree enumeration.
+ */
+@DisplayName("k-Best Spanning Trees Tests")
+class KBestSpanningTreesTest {
+
+    private static Graph assignmentGraph() {
+        return new Graph(1, Arrays.asList("A", "B", "C", "D", "E"), Arrays.asList(
+                new Edge("A", "B", 4),
+                new Edge("A", "C", 3),
+                new Edge("B", "C", 2),
+                new Edge("B", "D", 5),
+                new Edge("C", "D", 7),
+                new Edge("C", "E", 8),
+                new Edge("D", "E", 6)
+        ));
+    }
+
+    //Costs of every spanning forest, found by trying all edge subsets of the right size.
+    private static List<Integer> allSpanningForestCosts(Graph graph) {
+        int targetSize = new KruskalAlgorithm().findMST(graph).getMstEdges().size();
+        List<Integer> costs = new ArrayList<>();
+        int edgeCount = graph.getEdgeCount();
+        for (int mask = 0; mask < (1 << edgeCount); mask++) {
+            if (Integer.bitCount(mask) != targetSize) {
+                continue;
+            }
+            UnionFind unionFind = new UnionFind(graph.getVertexCount());
+            unionFind.reset(graph.getVertexCount());
+            boolean acyclic = true;
+            int cost = 0;
+            for (int e = 0; e < edgeCount && acyclic; e++) {
+                if ((mask & (1 << e)) != 0) {
+                    acyclic = unionFind.union(graph.getEdgeFrom(e), graph.getEdgeTo(e));
+                    cost += graph.getEdgeWeight(e);
+                }
+            }
+            if (acyclic) {
+                costs.add(cost);
+            }
+        }
+        Collections.sort(costs);
+        return costs;
+    }
+
+    @Test
+    @DisplayName("Second-best MST of the assignment example")
+    void testSecondBestAssignmentExample() {
+        MSTResult second = new SecondBestMST().find(assignmentGraph());
+
+        // MST costs 16; swapping A-C (3) for A-B (4) gives 17
+        assertNotNull(second);
+        assertEquals(17, second.getTotalCost());
+        assertEquals(4, second.getMstEdges().size());
+    }
+
+    @Test
+    @DisplayName("A tree has no second-best spanning tree")
+    void testSecondBestOfTree() {
+        Graph chain = new Graph(1, Arrays.asList("A", "B", "C"),
+                Arrays.asList(new Edge("A", "B", 1), new Edge("B", "C", 2)));
+
+        assertNull(new SecondBestMST().find(chain));
+    }
+
+    @Test
+    @DisplayName("k-best costs match brute-force enumeration")
+    void testKBestMatchesBruteForce() {
+        Random random = new Random(17);
+        GraphGenerator generator = new GraphGenerator(17);
+        for (int round = 0; round < 25; round++) {
+            Graph graph = generator.randomGraph(round, 2 + random.nextInt(5), random.nextInt(11), 10);
+            List<Integer> expected = allSpanningForestCosts(graph);
+
+            List<MSTResult> trees = new KBestSpanningTrees(graph, Integer.MAX_VALUE).toList();
+            List<Integer> actual = new ArrayList<>();
+            for (MSTResult tree : trees) {
+                actual.add(tree.getTotalCost());
+            }
+            assertEquals(expected, actual, "Round " + round);
+
+            if (expected.size() > 1) {
+                assertEquals(expected.get(1), new SecondBestMST().find(graph).getTotalCost(), "Round " + round);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Enumeration is lazy and stops at k")
+    void testStopsAtK() {
+        Iterator<MSTResult> trees = new KBestSpanningTrees(assignmentGraph(), 3).iterator();
+
+        assertEquals(16, trees.next().getTotalCost());
+        assertEquals(17, trees.next().getTotalCost());
+        assertTrue(trees.hasNext());
+        trees.next();
+        assertFalse(trees.hasNext());
+    }
+}
@@ -0,0 +1,91 @@
+package org.harryfloppa.algorithm;
+
+import org.harryfloppa.benchmark.GraphGenerator;
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the randomized Karger-Klein-Tarjan engine.
+ */
+@DisplayName("KKT Algorithm Tests")
+class KKTAlgorithmTest {
+
+    private final MSTVerifier verifier = new MSTVerifier();
+
+    @Test
+    @DisplayName("Solves the assignment example")
+    void testAssignmentExample() {
+        Graph graph = new Graph(1, Arrays.asList("A", "B", "C", "D", "E"), Arrays.asList(
+                new Edge("A", "B", 4),
+                new Edge("A", "C", 3),
+                new Edge("B", "C", 2),
+                new Edge("B", "D", 5),
+                new Edge("C", "D", 7),
+                new Edge("C", "E", 8),
+                new Edge("D", "E", 6)
+        ));
+
+        MSTResult result = new KKTAlgorithm().findMST(graph);
+
+        assertEquals(16, result.getTotalCost());
+        assertEquals(4, result.getMstEdges().size());
+        assertEquals("kkt", new KKTAlgorithm().getName());
+    }
+
+    @Test
+    @DisplayName("Large graphs go through sampling and filtering and still verify")
+    void testLargeGraphsVerify() {
+        GraphGenerator generator = new GraphGenerator(3);
+        for (int degree : new int[]{2, 6, 20}) {
+            Graph graph = generator.connectedGraph(degree, 20_000, 10_000 * degree, 1_000);
+            MSTResult result = new KKTAlgorithm(degree).findMST(graph);
+
+            assertEquals(new KruskalAlgorithm().findMST(graph).getTotalCost(), result.getTotalCost());
+            assertTrue(verifier.verify(graph, result).isValid());
+            assertTrue(result.getOperationsCount() > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Handles disconnected graphs, heavy ties, self-loops and parallel edges")
+    void testForestsAndTies() {
+        Random random = new Random(23);
+        for (int round = 0; round < 5; round++) {
+            int vertexCount = 6_000;
+            List<String> nodes = new ArrayList<>();
+            for (int v = 0; v < vertexCount; v++) {
+                nodes.add("V" + v);
+            }
+            // Only the first two thirds get edges, so the rest are isolated; weights 0-2 force many ties
+            List<Edge> edges = new ArrayList<>();
+            for (int i = 0; i < 5 * vertexCount; i++) {
+                int u = random.nextInt(2 * vertexCount / 3);
+                int v = random.nextInt(2 * vertexCount / 3);
+                edges.add(new Edge(nodes.get(u), nodes.get(random.nextInt(10) == 0 ? u : v), random.nextInt(3)));
+            }
+            Graph graph = new Graph(round, nodes, edges);
+
+            MSTResult result = new KKTAlgorithm(round).findMST(graph);
+            MSTResult expected = new KruskalAlgorithm().findMST(graph);
+
+            assertEquals(expected.getTotalCost(), result.getTotalCost());
+            assertEquals(expected.getMstEdges().size(), result.getMstEdges().size());
+            assertTrue(verifier.verify(graph, result).isValid());
+        }
+    }
+
+    @Test
+    @DisplayName("Empty and edgeless graphs")
+    void testEmptyGraphs() {
+        assertEquals(0, new KKTAlgorithm().findMST(new Graph(1, new ArrayList<>(), new ArrayList<>())).getTotalCost());
+        MSTResult result = new KKTAlgorithm().findMST(new Graph(2, Arrays.asList("A", "B"), new ArrayList<>()));
+        assertTrue(result.getMstEdges().isEmpty());
+    }
+}
@@ -0,0 +1,149 @@
+package org.harryfloppa.algorithm;
+
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+import org.harryfloppa.model.VerificationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the MST verifier.
+ */
+@DisplayName("MST Verifier Tests")
+class MSTVerifierTest {
+
+    private MSTVerifier verifier;
+    private Graph graph;
+
+    @BeforeEach
+    void setUp() {
+        verifier = new MSTVerifier();
+        graph = new Graph(1, Arrays.asList("A", "B", "C", "D", "E"), Arrays.asList(
+                new Edge("A", "B", 4),
+                new Edge("A", "C", 3),
+                new Edge("B", "C", 2),
+                new Edge("B", "D", 5),
+                new Edge("C", "D", 7),
+                new Edge("C", "E", 8),
+                new Edge("D", "E", 6)
+        ));
+    }
+
+    @Test
+    @DisplayName("Accepts the results of both solvers")
+    void testAcceptsSolverResults() {
+        assertTrue(verifier.verify(graph, new PrimAlgorithm().findMST(graph)).isValid());
+        assertTrue(verifier.verify(graph, new KruskalAlgorithm().findMST(graph)).isValid());
+    }
+
+    @Test
+    @DisplayName("Rejects a spanning tree that is not minimum")
+    void testRejectsNonMinimumTree() {
+        // Swaps A-C 3 for A-B 4: still spanning, but A-C closes a cycle whose maximum is 4
+        MSTResult result = result(new Edge("B", "C", 2), new Edge("A", "B", 4),
+                new Edge("B", "D", 5), new Edge("D", "E", 6));
+
+        VerificationResult verification = verifier.verify(graph, result);
+
+        assertFalse(verification.isValid());
+        assertTrue(verification.getReason().startsWith("Not minimum"), verification.getReason());
+    }
+
+    @Test
+    @DisplayName("Rejects forests that do not span their components")
+    void testRejectsNonSpanningForest() {
+        MSTResult result = result(new Edge("B", "C", 2), new Edge("A", "C", 3), new Edge("B", "D", 5));
+
+        VerificationResult verification = verifier.verify(graph, result);
+
+        assertFalse(verification.isValid());
+        assertTrue(verification.getReason().startsWith("Not spanning"), verification.getReason());
+    }
+
+    @Test
+    @DisplayName("Rejects cycles, unknown edges, wrong weights and wrong totals")
+    void testRejectsMalformedResults() {
+        assertFalse(verifier.verify(graph, result(new Edge("A", "B", 4), new Edge("B", "C", 2),
+                new Edge("A", "C", 3))).isValid());
+        assertFalse(verifier.verify(graph, result(new Edge("A", "E", 1))).isValid());
+        assertFalse(verifier.verify(graph, result(new Edge("A", "Z", 1))).isValid());
+        assertFalse(verifier.verify(graph, result(new Edge("B", "C", 1), new Edge("A", "C", 3),
+                new Edge("B", "D", 5), new Edge("D", "E", 6))).isValid());
+
+        MSTResult correct = new KruskalAlgorithm().findMST(graph);
+        MSTResult wrongTotal = new MSTResult(correct.getMstEdges(), correct.getTotalCost() + 1, 0, 0);
+        assertFalse(verifier.verify(graph, wrongTotal).isValid());
+    }
+
+    @Test
+    @DisplayName("Checks indexed results by edge index, and edge lists of an equal graph by name")
+    void testIndexedResults() {
+        // Edge 0 is A-B 4, edge 1 is A-C 3: swapping them keeps the tree spanning but not minimum
+        MSTResult minimum = new MSTResult(graph, new int[]{2, 1, 3, 6}, 4, 16, 0, 0, 0);
+        MSTResult swapped = new MSTResult(graph, new int[]{2, 0, 3, 6}, 4, 17, 0, 0, 0);
+
+        assertTrue(verifier.verify(graph, minimum).isValid());
+        assertTrue(verifier.verify(graph, swapped).getReason().startsWith("Not minimum"));
+        assertFalse(verifier.verify(graph, new MSTResult(graph, new int[]{2, 2}, 2, 4, 0, 0, 0)).isValid());
+        assertFalse(verifier.verify(graph, new MSTResult(graph, new int[]{7}, 1, 0, 0, 0, 0)).isValid());
+
+        // Same edges, different graph instance: falls back to matching by name
+        Graph copy = new Graph(1, graph.getNodes(), graph.getEdges());
+        assertTrue(verifier.verify(copy, minimum).isValid());
+        assertFalse(verifier.verify(copy, swapped).isValid());
+    }
+
+    @Test
+    @DisplayName("Accepts minimum spanning forests of disconnected graphs with parallel edges")
+    void testForestWithParallelEdges() {
+        Graph forest = new Graph(2, Arrays.asList("A", "B", "C", "D"), Arrays.asList(
+                new Edge("A", "B", 5),
+                new Edge("A", "B", 3),
+                new Edge("C", "D", 1),
+                new Edge("D", "D", 0)
+        ));
+
+        assertTrue(verifier.verify(forest, new KruskalAlgorithm().findMST(forest)).isValid());
+        assertFalse(verifier.verify(forest, result(new Edge("A", "B", 5), new Edge("C", "D", 1))).isValid());
+    }
+
+    @Test
+    @DisplayName("Agrees with Kruskal on random graphs, and catches single-edge swaps")
+    void testRandomGraphs() {
+        Random random = new Random(17);
+        for (int round = 0; round < 20; round++) {
+            int vertexCount = 2 + random.nextInt(60);
+            List<String> nodes = new ArrayList<>();
+            for (int v = 0; v < vertexCount; v++) {
+                nodes.add("V" + v);
+            }
+            List<Edge> edges = new ArrayList<>();
+            for (int i = 0; i < 3 * vertexCount; i++) {
+                edges.add(new Edge(nodes.get(random.nextInt(vertexCount)), nodes.get(random.nextInt(vertexCount)),
+                        random.nextInt(20)));
+            }
+            Graph randomGraph = new Graph(round, nodes, edges);
+            MSTResult mst = new KruskalAlgorithm().findMST(randomGraph);
+            assertTrue(verifier.verify(randomGraph, mst).isValid());
+
+            MSTResult secondBest = new SecondBestMST().find(randomGraph);
+            if (secondBest != null && secondBest.getTotalCost() > mst.getTotalCost()) {
+                assertFalse(verifier.verify(randomGraph, secondBest).isValid());
+            }
+        }
+    }
+
+    private static MSTResult result(Edge... edges) {
+        int total = 0;
+        for (Edge edge : edges) {
+            total += edge.getWeight();
+        }
+        return new MSTResult(Arrays.asList(edges), total, 0, 0);
+    }
+}
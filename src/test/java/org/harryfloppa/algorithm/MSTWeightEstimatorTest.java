@@ -0,0 +1,94 @@
+package org.harryfloppa.algorithm;
+
+import org.harryfloppa.benchmark.GraphGenerator;
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTWeightEstimate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the sampling-based MST weight estimator.
+ */
+@DisplayName("MST Weight Estimator Tests")
+class MSTWeightEstimatorTest {
+
+    @Test
+    @DisplayName("Interval covers the exact weight of a large sparse graph")
+    void testCoversExactWeight() {
+        Graph graph = new GraphGenerator(7).connectedGraph(1, 20_000, 80_000, 20);
+        int exact = new KruskalAlgorithm().findMST(graph).getTotalCost();
+
+        MSTWeightEstimate estimate = new MSTWeightEstimator(0.05, 0.99, 1 << 16, 11).estimate(graph);
+
+        assertTrue(estimate.contains(exact), estimate + " should contain " + exact);
+        assertEquals(exact, estimate.getEstimate(), 0.1 * exact);
+        assertTrue(estimate.getSamples() > 0);
+        assertTrue(estimate.getLowerBound() <= estimate.getEstimate());
+        assertTrue(estimate.getEstimate() <= estimate.getUpperBound());
+    }
+
+    @Test
+    @DisplayName("Small graphs are explored completely, so every sample is exact")
+    void testSmallGraphIsExact() {
+        // Walks cover the whole component; each vertex contributes the same share of a path's weight
+        Graph graph = new Graph(1, Arrays.asList("A", "B", "C"), Arrays.asList(
+                new Edge("A", "B", 4),
+                new Edge("B", "C", 4)
+        ));
+
+        MSTWeightEstimate estimate = new MSTWeightEstimator(0.1, 0.95, 1_000, 3).estimate(graph);
+
+        assertEquals(8, estimate.getEstimate(), 1e-9);
+        assertEquals(8, estimate.getLowerBound(), 1e-9);
+        assertEquals(8, estimate.getUpperBound(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("A given weight bound replaces the scan and only widens the upper end")
+    void testGivenMaxWeight() {
+        Graph graph = new GraphGenerator(5).connectedGraph(1, 5_000, 20_000, 20);
+
+        MSTWeightEstimate scanned = new MSTWeightEstimator(0.1, 0.95, 1 << 14, 9).estimate(graph);
+        MSTWeightEstimate given = new MSTWeightEstimator(0.1, 0.95, 1 << 14, 9).estimate(graph, 20);
+        MSTWeightEstimate loose = new MSTWeightEstimator(0.1, 0.95, 1 << 14, 9).estimate(graph, 1_000);
+
+        assertEquals(20, graph.getMaxEdgeWeight());
+        assertEquals(scanned.getEstimate(), given.getEstimate());
+        assertEquals(scanned.getUpperBound(), given.getUpperBound());
+        assertEquals(scanned.getLowerBound(), loose.getLowerBound());
+        assertTrue(loose.getUpperBound() >= given.getUpperBound());
+    }
+
+    @Test
+    @DisplayName("Graphs without edges weigh nothing")
+    void testNoEdges() {
+        Graph graph = new Graph(1, Arrays.asList("A", "B"), new ArrayList<>());
+
+        MSTWeightEstimate estimate = new MSTWeightEstimator().estimate(graph);
+
+        assertEquals(0, estimate.getEstimate());
+        assertEquals(0, estimate.getSamples());
+    }
+
+    @Test
+    @DisplayName("Rejects invalid parameters")
+    void testInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new MSTWeightEstimator(0, 0.95, 10, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MSTWeightEstimator(0.1, 1, 10, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MSTWeightEstimator(0.1, 0.95, 0, 1));
+    }
+
+    @Test
+    @DisplayName("Normal quantiles match standard table values")
+    void testNormalQuantile() {
+        assertEquals(1.96, MSTWeightEstimator.normalQuantile(0.975), 1e-3);
+        assertEquals(2.576, MSTWeightEstimator.normalQuantile(0.995), 1e-3);
+        assertEquals(0, MSTWeightEstimator.normalQuantile(0.5), 1e-6);
+    }
+
+}
@@ -0,0 +1,99 @@
+package org.harryfloppa.algorithm;
+
+import org.harryfloppa.benchmark.GraphGenerator;
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the pluggable Prim priority queues.
+ */
+@DisplayName("Prim Queue Tests")
+class PrimQueueTest {
+
+    @ParameterizedTest
+    @EnumSource(PrimQueue.Kind.class)
+    @DisplayName("Polls the minimum key, also when new keys fall below earlier minima")
+    void testPollOrder(PrimQueue.Kind kind) {
+        PrimQueue queue = kind.create(new SolverWorkspace());
+        Random random = new Random(kind.ordinal());
+        for (int round = 0; round < 3; round++) {
+            // Distinct vertices per offer, so lazy and decrease-key queues hold the same entries
+            queue.reset(20_000);
+            PriorityQueue<Integer> expected = new PriorityQueue<>();
+            int vertex = 0;
+            for (int step = 0; step < 20_000; step++) {
+                if (!expected.isEmpty() && random.nextInt(3) == 0) {
+                    // Slots carry the key, shifted to be non-negative
+                    assertEquals(expected.poll(), queue.poll() - 1_000_000, kind.getName());
+                } else {
+                    int key = random.nextInt(2_000_000) - 1_000_000;
+                    queue.offer(vertex++, key, key + 1_000_000);
+                    expected.add(key);
+                }
+            }
+            while (!expected.isEmpty()) {
+                assertEquals(expected.poll(), queue.poll() - 1_000_000, kind.getName());
+            }
+            assertTrue(queue.isEmpty());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(PrimQueue.Kind.class)
+    @DisplayName("A lower offer for a queued vertex is polled first")
+    void testDecreaseKey(PrimQueue.Kind kind) {
+        PrimQueue queue = kind.create(new SolverWorkspace());
+        queue.reset(4);
+        queue.offer(0, 50, 0);
+        queue.offer(1, 40, 1);
+        queue.offer(2, 30, 2);
+        queue.offer(0, 10, 3);
+
+        assertEquals(3, queue.poll());
+        assertEquals(2, queue.poll());
+        assertEquals(1, queue.poll());
+    }
+
+    @ParameterizedTest
+    @EnumSource(PrimQueue.Kind.class)
+    @DisplayName("Prim with every queue matches Kruskal, including negative weights and forests")
+    void testPrimMatchesKruskal(PrimQueue.Kind kind) {
+        PrimAlgorithm prim = new PrimAlgorithm(kind);
+        KruskalAlgorithm kruskal = new KruskalAlgorithm();
+        MSTVerifier verifier = new MSTVerifier();
+        GraphGenerator generator = new GraphGenerator(kind.ordinal());
+        for (int maxWeight : new int[]{1, 10, 1_000, 1 << 20}) {
+            Graph graph = generator.connectedGraph(maxWeight, 2_000, 10_000, maxWeight);
+            MSTResult result = prim.findMST(graph);
+            assertEquals(kruskal.findMST(graph).getTotalCost(), result.getTotalCost());
+            assertTrue(verifier.verify(graph, result).isValid());
+        }
+
+        Graph mixed = new Graph(9, Arrays.asList("A", "B", "C", "D", "E"), Arrays.asList(
+                new Edge("A", "B", -4),
+                new Edge("A", "C", 3),
+                new Edge("B", "C", -7),
+                new Edge("D", "E", 0),
+                new Edge("D", "E", -1)
+        ));
+        MSTResult result = prim.findMST(mixed);
+        assertEquals(kruskal.findMST(mixed).getTotalCost(), result.getTotalCost());
+        assertEquals(3, result.getMstEdges().size());
+    }
+
+    @ParameterizedTest
+    @EnumSource(PrimQueue.Kind.class)
+    @DisplayName("Queue kinds are selectable by name")
+    void testFromName(PrimQueue.Kind kind) {
+        assertEquals(kind, PrimQueue.Kind.fromName(kind.getName().toUpperCase(Locale.ROOT)));
+        assertTrue(new PrimAlgorithm(kind).getName().startsWith("prim"));
+    }
+}
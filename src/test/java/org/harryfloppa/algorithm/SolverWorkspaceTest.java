@@ -0,0 +1,83 @@
+package org.harryfloppa.algorithm;
+
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for reusable solver workspaces.
+ */
+@DisplayName("Solver Workspace Tests")
+class SolverWorkspaceTest {
+
+    @Test
+    @DisplayName("Heap pops keys in ascending order")
+    void testHeapOrdering() {
+        SolverWorkspace workspace = new SolverWorkspace();
+        Random random = new Random(7);
+        long[] keys = new long[200];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(1000);
+            workspace.heapPush(keys[i]);
+        }
+        Arrays.sort(keys);
+
+        for (long key : keys) {
+            assertEquals(key, workspace.heapPop());
+        }
+        assertTrue(workspace.isHeapEmpty());
+    }
+
+    @Test
+    @DisplayName("Visited set and Union-Find reset between uses")
+    void testResetBetweenUses() {
+        SolverWorkspace workspace = new SolverWorkspace();
+        workspace.resetVisited(4);
+        workspace.markVisited(2);
+        assertTrue(workspace.isVisited(2));
+        workspace.resetVisited(100);
+        assertFalse(workspace.isVisited(2));
+
+        UnionFind unionFind = workspace.unionFind(4);
+        assertTrue(unionFind.union(0, 1));
+        assertFalse(unionFind.union(1, 0));
+        assertTrue(unionFind.connected(0, 1));
+        unionFind = workspace.unionFind(4);
+        assertFalse(unionFind.connected(0, 1));
+    }
+
+    @Test
+    @DisplayName("Solvers sharing one workspace give correct results on varying sizes")
+    void testSolversReuseWorkspace() {
+        SolveContext context = new SolveContext(new SolverWorkspace());
+        PrimAlgorithm prim = new PrimAlgorithm();
+        KruskalAlgorithm kruskal = new KruskalAlgorithm();
+        KruskalAlgorithm reference = new KruskalAlgorithm();
+        Random random = new Random(11);
+
+        for (int round = 0; round < 30; round++) {
+            int vertexCount = 1 + random.nextInt(round % 2 == 0 ? 200 : 10);
+            List<String> nodes = new ArrayList<>();
+            for (int i = 0; i < vertexCount; i++) {
+                nodes.add("V" + i);
+            }
+            List<Edge> edges = new ArrayList<>();
+            for (int i = 0; i < vertexCount * 2; i++) {
+                edges.add(new Edge(nodes.get(random.nextInt(vertexCount)),
+                        nodes.get(random.nextInt(vertexCount)), random.nextInt(100)));
+            }
+            Graph graph = new Graph(round, nodes, edges);
+
+            MSTResult expected = reference.findMST(graph);
+            assertEquals(expected.getTotalCost(), prim.findMST(graph, context).getTotalCost(), "Round " + round);
+            assertEquals(expected.getTotalCost(), kruskal.findMST(graph, context).getTotalCost(), "Round " + round);
+            assertEquals(expected.getMstEdges().size(), prim.findMST(graph, context).getMstEdges().size());
+        }
+    }
+}
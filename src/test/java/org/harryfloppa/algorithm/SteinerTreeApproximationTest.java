@@ -0,0 +1,169 @@
+package org.harryfloppa.algorithm;
+
+import org.harryfloppa.benchmark.GraphGenerator;
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Steiner tree 2-approximation.
+ */
+@DisplayName("Steiner Tree Approximation Tests")
+class SteinerTreeApproximationTest {
+
+    private final SteinerTreeApproximation steiner = new SteinerTreeApproximation();
+
+    //Checks the result is a forest of graph edges, with consistent cost, whose leaves are all terminals.
+    private static void assertSteinerForest(Graph graph, int[] terminals, MSTResult tree) {
+        UnionFind unionFind = new UnionFind(graph.getVertexCount());
+        unionFind.reset(graph.getVertexCount());
+        int[] degree = new int[graph.getVertexCount()];
+        int cost = 0;
+        for (int i = 0; i < tree.getMstEdges().size(); i++) {
+            int e = tree.getEdgeIndex(i);
+            assertTrue(unionFind.union(graph.getEdgeFrom(e), graph.getEdgeTo(e)), "cycle through edge " + e);
+            degree[graph.getEdgeFrom(e)]++;
+            degree[graph.getEdgeTo(e)]++;
+            cost += graph.getEdgeWeight(e);
+        }
+        assertEquals(cost, tree.getTotalCost());
+        Set<Integer> terminalSet = new HashSet<>();
+        for (int terminal : terminals) {
+            terminalSet.add(terminal);
+        }
+        for (int v = 0; v < graph.getVertexCount(); v++) {
+            assertFalse(degree[v] == 1 && !terminalSet.contains(v), "non-terminal leaf " + v);
+        }
+    }
+
+    //Cheapest tree over the terminals plus any subset of the other vertices: the exact optimum.
+    private static int optimum(Graph graph, int[] terminals) {
+        int vertexCount = graph.getVertexCount();
+        int terminalMask = 0;
+        for (int terminal : terminals) {
+            terminalMask |= 1 << terminal;
+        }
+        int best = Integer.MAX_VALUE;
+        for (int mask = 0; mask < 1 << vertexCount; mask++) {
+            if ((mask & terminalMask) != terminalMask) {
+                continue;
+            }
+            Integer[] order = new Integer[graph.getEdgeCount()];
+            for (int e = 0; e < order.length; e++) {
+                order[e] = e;
+            }
+            Arrays.sort(order, Comparator.comparingInt(graph::getEdgeWeight));
+            UnionFind unionFind = new UnionFind(vertexCount);
+            unionFind.reset(vertexCount);
+            int cost = 0;
+            int joined = 0;
+            for (int e : order) {
+                int u = graph.getEdgeFrom(e);
+                int v = graph.getEdgeTo(e);
+                if ((mask >> u & 1) == 1 && (mask >> v & 1) == 1 && unionFind.union(u, v)) {
+                    cost += graph.getEdgeWeight(e);
+                    joined++;
+                }
+            }
+            if (joined == Integer.bitCount(mask) - 1) {
+                best = Math.min(best, cost);
+            }
+        }
+        return best;
+    }
+
+    @Test
+    @DisplayName("Terminals around a hub are joined through the hub")
+    void testHub() {
+        // Three outer districts are 13 apart from each other but 6 from the central one
+        List<String> nodes = List.of("A", "B", "C", "Hub");
+        List<Edge> edges = List.of(new Edge("A", "B", 13), new Edge("B", "C", 13), new Edge("C", "A", 13),
+                new Edge("A", "Hub", 6), new Edge("B", "Hub", 6), new Edge("C", "Hub", 6));
+        Graph graph = new Graph(1, nodes, edges);
+
+        MSTResult tree = steiner.find(graph, List.of("A", "B", "C"));
+
+        assertEquals(18, tree.getTotalCost());
+        assertEquals(3, tree.getMstEdges().size());
+        assertSteinerForest(graph, new int[]{0, 1, 2}, tree);
+    }
+
+    @Test
+    @DisplayName("Stays within twice the optimum on random graphs")
+    void testAgainstExhaustiveSearch() {
+        Random random = new Random(50);
+        for (int trial = 0; trial < 60; trial++) {
+            int vertexCount = 3 + random.nextInt(8);
+            Graph graph = new GraphGenerator(trial).connectedGraph(trial, vertexCount,
+                    vertexCount + random.nextInt(2 * vertexCount), 20);
+            int[] terminals = random.ints(2 + random.nextInt(vertexCount - 1), 0, vertexCount).toArray();
+            int distinct = (int) Arrays.stream(terminals).distinct().count();
+
+            MSTResult tree = steiner.find(graph, terminals);
+            int optimum = optimum(graph, terminals);
+
+            assertSteinerForest(graph, terminals, tree);
+            assertTrue(tree.getTotalCost() >= optimum);
+            assertTrue(tree.getTotalCost() * distinct <= 2L * (distinct - 1) * optimum,
+                    "trial " + trial + ": cost " + tree.getTotalCost() + ", optimum " + optimum);
+        }
+    }
+
+    @Test
+    @DisplayName("With every vertex a terminal the tree is the MST")
+    void testAllTerminals() {
+        Graph graph = new GraphGenerator(3).connectedGraph(1, 2_000, 8_000, 100);
+        int[] terminals = new int[graph.getVertexCount()];
+        Arrays.setAll(terminals, v -> v);
+
+        MSTResult tree = steiner.find(graph, terminals);
+
+        assertEquals(new KruskalAlgorithm().findMST(graph).getTotalCost(), tree.getTotalCost());
+        assertEquals(graph.getVertexCount() - 1, tree.getMstEdges().size());
+    }
+
+    @Test
+    @DisplayName("Terminals in different components give one tree per component")
+    void testDisconnected() {
+        List<String> nodes = List.of("A", "B", "C", "D", "E");
+        List<Edge> edges = List.of(new Edge("A", "B", 4), new Edge("B", "C", 5), new Edge("D", "E", 7));
+        Graph graph = new Graph(2, nodes, edges);
+
+        MSTResult tree = steiner.find(graph, List.of("A", "C", "D", "E", "A"));
+
+        assertEquals(16, tree.getTotalCost());
+        assertEquals(3, tree.getMstEdges().size());
+        assertEquals(0, steiner.find(graph, List.of("B")).getMstEdges().size());
+    }
+
+    @Test
+    @DisplayName("Thousands of terminals on a large graph in near-linear time")
+    void testLargeGraph() {
+        Graph graph = new GraphGenerator(8).connectedGraph(1, 200_000, 800_000, 1_000);
+        int[] terminals = new Random(8).ints(2_000, 0, graph.getVertexCount()).toArray();
+
+        long start = System.nanoTime();
+        MSTResult tree = steiner.find(graph, terminals);
+        double elapsedMs = (System.nanoTime() - start) / 1_000_000.0;
+
+        assertSteinerForest(graph, terminals, tree);
+        assertTrue(tree.getMstEdges().size() < graph.getVertexCount() / 2);
+        assertTrue(elapsedMs < 10_000, "took " + elapsedMs + " ms");
+    }
+
+    @Test
+    @DisplayName("Rejects unknown terminals and negative weights")
+    void testInvalidInput() {
+        Graph graph = new Graph(3, List.of("A", "B"), List.of(new Edge("A", "B", -1)));
+
+        assertThrows(IllegalArgumentException.class, () -> steiner.find(graph, List.of("A", "Z")));
+        assertThrows(IllegalArgumentException.class, () -> steiner.find(graph, new int[]{0, 2}));
+        assertThrows(IllegalArgumentException.class, () -> steiner.find(graph, new int[]{0, 1}));
+    }
+}
@@ -0,0 +1,113 @@
+package org.harryfloppa.algorithm;
+
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.*;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the semi-streaming MST consumer.
+ */
+@DisplayName("Streaming MST Tests")
+class StreamingMSTTest {
+
+    @Test
+    @DisplayName("Heavier cycle edge is evicted")
+    void testEvictsHeaviestCycleEdge() {
+        StreamingMST stream = new StreamingMST();
+        stream.accept(new Edge("A", "B", 3));
+        stream.accept(new Edge("B", "C", 5));
+        stream.accept(new Edge("A", "C", 1));
+
+        MSTResult result = stream.snapshot();
+
+        assertEquals(4, result.getTotalCost());
+        assertEquals(2, result.getMstEdges().size());
+        assertFalse(result.getMstEdges().contains(new Edge("B", "C", 5)));
+    }
+
+    @Test
+    @DisplayName("Snapshots track the forest as edges arrive")
+    void testSnapshotsOnDemand() {
+        StreamingMST stream = new StreamingMST();
+        stream.accept(new Edge("A", "B", 10));
+        stream.accept(new Edge("C", "D", 20));
+
+        MSTResult forest = stream.snapshot();
+        assertEquals(2, forest.getMstEdges().size());
+        assertEquals(30, forest.getTotalCost());
+
+        stream.accept(new Edge("B", "C", 5));
+        stream.accept(new Edge("A", "D", 1));
+        stream.accept(new Edge("A", "A", 0));
+
+        MSTResult tree = stream.snapshot();
+        assertEquals(3, tree.getMstEdges().size());
+        assertEquals(16, tree.getTotalCost());
+        assertEquals(5, stream.getEdgesSeen());
+        assertEquals(4, stream.getVertexCount());
+    }
+
+    @Test
+    @DisplayName("Matches Kruskal on shuffled random graphs")
+    void testMatchesKruskalOnRandomGraphs() {
+        Random random = new Random(42);
+        KruskalAlgorithm kruskal = new KruskalAlgorithm();
+
+        for (int round = 0; round < 20; round++) {
+            int vertexCount = 2 + random.nextInt(30);
+            List<String> nodes = new ArrayList<>();
+            for (int i = 0; i < vertexCount; i++) {
+                nodes.add("V" + i);
+            }
+            List<Edge> edges = new ArrayList<>();
+            int edgeCount = random.nextInt(vertexCount * 3);
+            for (int i = 0; i < edgeCount; i++) {
+                edges.add(new Edge(nodes.get(random.nextInt(vertexCount)),
+                        nodes.get(random.nextInt(vertexCount)), random.nextInt(50)));
+            }
+            Collections.shuffle(edges, random);
+
+            StreamingMST stream = new StreamingMST();
+            stream.acceptAll(edges.iterator());
+            MSTResult expected = kruskal.findMST(new Graph(round, nodes, edges));
+            MSTResult actual = stream.snapshot();
+
+            assertEquals(expected.getTotalCost(), actual.getTotalCost(), "Round " + round);
+            assertEquals(expected.getMstEdges().size(), actual.getMstEdges().size(), "Round " + round);
+        }
+    }
+
+    @Test
+    @DisplayName("Consumes edges from a Flow.Publisher")
+    void testConsumesPublisher() throws InterruptedException {
+        StreamingMST stream = new StreamingMST();
+        try (SubmissionPublisher<Edge> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(stream);
+            publisher.submit(new Edge("A", "B", 4));
+            publisher.submit(new Edge("A", "C", 3));
+            publisher.submit(new Edge("B", "C", 2));
+            publisher.submit(new Edge("B", "D", 5));
+            publisher.submit(new Edge("C", "D", 7));
+            publisher.submit(new Edge("C", "E", 8));
+            publisher.submit(new Edge("D", "E", 6));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!stream.isCompleted() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertTrue(stream.isCompleted());
+        assertNull(stream.getFailure());
+        assertEquals(16, stream.snapshot().getTotalCost());
+        assertEquals(4, stream.snapshot().getMstEdges().size());
+    }
+}
@@ -0,0 +1,115 @@
+package org.harryfloppa.algorithm;
+
+import org.harryfloppa.benchmark.GraphGenerator;
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for locality-improving vertex reordering.
+ */
+@DisplayName("Vertex Reordering Tests")
+class VertexReorderingTest {
+
+    private static final int SIDE = 60;
+
+    private static VertexReordering reorder(Graph graph, VertexReordering.Strategy strategy, double[] x, double[] y) {
+        return strategy == VertexReordering.Strategy.HILBERT
+                ? VertexReordering.hilbert(graph, x, y)
+                : VertexReordering.of(graph, strategy);
+    }
+
+    @ParameterizedTest
+    @EnumSource(VertexReordering.Strategy.class)
+    @DisplayName("Reordering is a bijection that keeps names, edges and MST cost")
+    void testPreservesGraph(VertexReordering.Strategy strategy) {
+        double[] x = new double[SIDE * SIDE];
+        double[] y = new double[SIDE * SIDE];
+        Graph graph = new GraphGenerator(1).shuffledGrid(1, SIDE, 100, x, y);
+
+        VertexReordering reordering = reorder(graph, strategy, x, y);
+        Graph reordered = reordering.getGraph();
+
+        assertEquals(graph.getVertexCount(), reordered.getVertexCount());
+        assertEquals(graph.getEdgeCount(), reordered.getEdgeCount());
+        for (int v = 0; v < graph.getVertexCount(); v++) {
+            int newId = reordering.getNewVertex(v);
+            assertEquals(v, reordering.getOriginalVertex(newId));
+            assertEquals(graph.getNodeName(v), reordered.getNodeName(newId));
+        }
+        for (int e = 0; e < reordered.getEdgeCount(); e++) {
+            int old = reordering.getOriginalEdge(e);
+            assertSame(graph.getEdge(old), reordered.getEdge(e));
+            assertEquals(reordering.getNewVertex(graph.getEdgeFrom(old)), reordered.getEdgeFrom(e));
+            assertEquals(reordering.getNewVertex(graph.getEdgeTo(old)), reordered.getEdgeTo(e));
+        }
+
+        // Results on the reordered graph name the original districts and verify against the original graph
+        MSTResult result = new PrimAlgorithm().findMST(reordered);
+        assertEquals(new KruskalAlgorithm().findMST(graph).getTotalCost(), result.getTotalCost());
+        assertTrue(new MSTVerifier().verify(graph, result).isValid());
+    }
+
+    @Test
+    @DisplayName("Graph-aware orders shrink the edge span of a shuffled grid")
+    void testImprovesLocality() {
+        double[] x = new double[SIDE * SIDE];
+        double[] y = new double[SIDE * SIDE];
+        Graph graph = new GraphGenerator(2).shuffledGrid(1, SIDE, 100, x, y);
+        double shuffledSpan = VertexReordering.meanEdgeSpan(graph);
+
+        for (VertexReordering.Strategy strategy : List.of(VertexReordering.Strategy.BFS,
+                VertexReordering.Strategy.RCM, VertexReordering.Strategy.HILBERT)) {
+            double span = VertexReordering.meanEdgeSpan(reorder(graph, strategy, x, y).getGraph());
+            assertTrue(span < shuffledSpan / 10, strategy + " span " + span + " vs " + shuffledSpan);
+        }
+    }
+
+    @Test
+    @DisplayName("Handles disconnected graphs and isolated vertices")
+    void testDisconnected() {
+        Graph graph = new Graph(1, Arrays.asList("A", "B", "C", "D", "E"), Arrays.asList(
+                new Edge("A", "C", 2),
+                new Edge("D", "E", 1)
+        ));
+
+        for (VertexReordering.Strategy strategy : List.of(VertexReordering.Strategy.BFS,
+                VertexReordering.Strategy.RCM, VertexReordering.Strategy.DEGREE)) {
+            Graph reordered = VertexReordering.of(graph, strategy).getGraph();
+            assertEquals(3, new KruskalAlgorithm().findMST(reordered).getTotalCost());
+            assertEquals(new HashSet<>(graph.getNodes()), new HashSet<>(reordered.getNodes()));
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> VertexReordering.of(graph, VertexReordering.Strategy.HILBERT));
+    }
+
+    @Test
+    @DisplayName("Hilbert indices visit every cell of a small square exactly once, moving one step at a time")
+    void testHilbertCurveIsContinuous() {
+        int side = 1 << 15;
+        // Walk the top-level curve on the 4x4 corner blocks by sampling block-aligned cells
+        Map<Integer, int[]> byIndex = new TreeMap<>();
+        int block = side / 4;
+        for (int bx = 0; bx < 4; bx++) {
+            for (int by = 0; by < 4; by++) {
+                byIndex.put(VertexReordering.hilbertIndex(bx * block, by * block) / (block * block), new int[]{bx, by});
+            }
+        }
+        assertEquals(16, byIndex.size());
+        int[] previous = null;
+        for (int[] cell : byIndex.values()) {
+            if (previous != null) {
+                assertEquals(1, Math.abs(cell[0] - previous[0]) + Math.abs(cell[1] - previous[1]));
+            }
+            previous = cell;
+        }
+    }
+}
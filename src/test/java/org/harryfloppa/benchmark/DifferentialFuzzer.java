@@ -0,0 +1,449 @@
+package org.harryfloppa.benchmark;
+
+import org.harryfloppa.algorithm.MSTSolver;
+import org.harryfloppa.algorithm.MSTSolvers;
+import org.harryfloppa.algorithm.MSTVerifier;
+import org.harryfloppa.algorithm.UnionFind;
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+import org.harryfloppa.model.VerificationResult;
+
+import java.io.PrintStream;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Property-based differential testing of MST engines.
+ * Each case is a random graph drawn from a per-case seed, mixing ties, disconnected parts, parallel
+ * edges, self-loops and extreme weights. Every engine must return a forest with V - (components)
+ * edges that {@link MSTVerifier} accepts, and all engines must agree on the total cost.
+ * Cases run in parallel; the first failing case (lowest index) is shrunk to a minimal graph that
+ * still fails, by deleting edges, then isolated vertices, then compressing weights to ranks.
+ *
+ * Extreme weights are bounded by Integer.MAX_VALUE / V, the largest magnitude for which any forest's
+ * total still fits the int cost of an {@link MSTResult}.
+ *
+ * Usage: DifferentialFuzzer [cases] [maxVertices] [seed] [threads]
+ */
+public class DifferentialFuzzer {
+    private static final int PROGRESS_INTERVAL = 500;
+
+    private final List<MSTSolver> solvers;
+    private final int threads;
+    private final MSTVerifier verifier = new MSTVerifier();
+    private final LongAdder[] solveNanos;
+    private final LongAdder[] edgesSolved;
+
+    public DifferentialFuzzer(List<MSTSolver> solvers, int threads) {
+        if (solvers.isEmpty()) {
+            throw new IllegalArgumentException("No engines to compare");
+        }
+        this.solvers = List.copyOf(solvers);
+        this.threads = Math.max(1, threads);
+        this.solveNanos = new LongAdder[solvers.size()];
+        this.edgesSolved = new LongAdder[solvers.size()];
+        for (int i = 0; i < solvers.size(); i++) {
+            solveNanos[i] = new LongAdder();
+            edgesSolved[i] = new LongAdder();
+        }
+    }
+
+    public static void main(String[] args) {
+        int cases = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+        int maxVertices = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        DifferentialFuzzer fuzzer = new DifferentialFuzzer(MSTSolvers.all(), threads);
+        System.out.printf("Fuzzing %d engines: %,d cases, up to %,d vertices, seed %d, %d thread(s)%n",
+                fuzzer.solvers.size(), cases, maxVertices, seed, threads);
+        Report report = fuzzer.run(seed, cases, maxVertices, System.out);
+        System.out.println(report);
+        if (report.getFailure() != null) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Runs the given number of cases and stops early at a failure; progress and throughput are
+     * printed every few hundred cases when progress is not null.
+     */
+    public Report run(long seed, int cases, int maxVertices, PrintStream progress) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        AtomicInteger completed = new AtomicInteger();
+        // Lowest failing case index, so the reported failure does not depend on scheduling
+        AtomicInteger firstFailure = new AtomicInteger(Integer.MAX_VALUE);
+        List<Future<String>> outcomes = new ArrayList<>(cases);
+        long startTime = System.nanoTime();
+        try {
+            for (int i = 0; i < cases; i++) {
+                int index = i;
+                outcomes.add(executor.submit(() -> {
+                    if (index > firstFailure.get()) {
+                        return null;
+                    }
+                    String reason = check(generate(caseSeed(seed, index), maxVertices), true);
+                    if (reason != null) {
+                        firstFailure.accumulateAndGet(index, Math::min);
+                    }
+                    int done = completed.incrementAndGet();
+                    if (progress != null && done % PROGRESS_INTERVAL == 0) {
+                        progress.printf("  %,d cases: %s%n", done, formatThroughput());
+                    }
+                    return reason;
+                }));
+            }
+            for (Future<String> outcome : outcomes) {
+                outcome.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Fuzzing interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Fuzzing aborted", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        double elapsedMs = (System.nanoTime() - startTime) / 1_000_000.0;
+
+        Failure failure = null;
+        int failed = firstFailure.get();
+        if (failed != Integer.MAX_VALUE) {
+            long failedSeed = caseSeed(seed, failed);
+            Graph original = generate(failedSeed, maxVertices);
+            Graph shrunk = shrink(original);
+            failure = new Failure(failed, failedSeed, check(shrunk, false), original, shrunk);
+        }
+        int casesRun = failure == null ? cases : failure.caseIndex + 1;
+        return new Report(casesRun, failure, getThroughput(), elapsedMs);
+    }
+
+    private static long caseSeed(long seed, int index) {
+        return seed + index * 0x9E3779B97F4A7C15L;
+    }
+
+    /**
+     * The graph of one case. Features are drawn independently, so they also appear combined.
+     */
+    public Graph generate(long caseSeed, int maxVertices) {
+        SplittableRandom random = new SplittableRandom(caseSeed);
+        int vertexCount = 1 + random.nextInt(Math.max(1, maxVertices));
+        int edgeCount = random.nextInt(4 * vertexCount + 1);
+        boolean ties = random.nextBoolean();
+        boolean extreme = random.nextInt(4) == 0;
+        int groups = random.nextInt(3) == 0 ? 1 + random.nextInt(Math.min(vertexCount, 8)) : 1;
+        boolean duplicates = random.nextInt(3) == 0;
+
+        int bound = Integer.MAX_VALUE / vertexCount;
+        int[] extremes = {-bound, -bound + 1, -1, 0, 1, bound - 1, bound};
+        int[] from = new int[edgeCount];
+        int[] to = new int[edgeCount];
+        int[] weight = new int[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            if (duplicates && e > 0 && random.nextInt(3) == 0) {
+                // Repeat an earlier pair, sometimes reversed, sometimes with the same weight
+                int earlier = random.nextInt(e);
+                boolean reversed = random.nextBoolean();
+                from[e] = reversed ? to[earlier] : from[earlier];
+                to[e] = reversed ? from[earlier] : to[earlier];
+                weight[e] = random.nextBoolean() ? weight[earlier] : randomWeight(random, ties, extreme, extremes);
+                continue;
+            }
+            // Endpoints within one group, so groups > 1 leaves the graph disconnected
+            int u = random.nextInt(vertexCount);
+            int group = u % groups;
+            int groupSize = (vertexCount - group + groups - 1) / groups;
+            int v = duplicates && random.nextInt(20) == 0 ? u : group + groups * random.nextInt(groupSize);
+            from[e] = u;
+            to[e] = v;
+            weight[e] = randomWeight(random, ties, extreme, extremes);
+        }
+
+        List<String> nodes = new ArrayList<>(vertexCount);
+        for (int v = 0; v < vertexCount; v++) {
+            nodes.add("V" + v);
+        }
+        return build(nodes, from, to, weight, edgeCount);
+    }
+
+    private static int randomWeight(SplittableRandom random, boolean ties, boolean extreme, int[] extremes) {
+        if (extreme && random.nextBoolean()) {
+            return extremes[random.nextInt(extremes.length)];
+        }
+        return ties ? random.nextInt(4) : random.nextInt(1_000_000);
+    }
+
+    //Returns null if every engine passes on the graph, otherwise the first violation found.
+    public String check(Graph graph) {
+        return check(graph, false);
+    }
+
+    private String check(Graph graph, boolean record) {
+        UnionFind components = new UnionFind(graph.getVertexCount());
+        components.reset(graph.getVertexCount());
+        int expectedEdges = 0;
+        for (int e = 0; e < graph.getEdgeCount(); e++) {
+            if (components.union(graph.getEdgeFrom(e), graph.getEdgeTo(e))) {
+                expectedEdges++;
+            }
+        }
+
+        String reference = null;
+        int referenceCost = 0;
+        for (int i = 0; i < solvers.size(); i++) {
+            MSTSolver solver = solvers.get(i);
+            MSTResult result;
+            long startTime = System.nanoTime();
+            try {
+                result = solver.findMST(graph);
+            } catch (RuntimeException e) {
+                return solver.getName() + " threw " + e;
+            }
+            if (record) {
+                solveNanos[i].add(System.nanoTime() - startTime);
+                edgesSolved[i].add(graph.getEdgeCount());
+            }
+
+            if (result.getMstEdges().size() != expectedEdges) {
+                return String.format("%s returned %d edges, expected %d", solver.getName(),
+                        result.getMstEdges().size(), expectedEdges);
+            }
+            VerificationResult verification = verifier.verify(graph, result);
+            if (!verification.isValid()) {
+                return solver.getName() + ": " + verification.getReason();
+            }
+            if (reference == null) {
+                reference = solver.getName();
+                referenceCost = result.getTotalCost();
+            } else if (result.getTotalCost() != referenceCost) {
+                return String.format("%s cost %d differs from %s cost %d", solver.getName(),
+                        result.getTotalCost(), reference, referenceCost);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Greedily reduces a failing graph while it keeps failing: removes runs of edges of halving length,
+     * then vertices no edge touches, then replaces weights by their ranks. Repeats until nothing helps.
+     */
+    public Graph shrink(Graph graph) {
+        if (check(graph) == null) {
+            throw new IllegalArgumentException("Graph does not fail, nothing to shrink");
+        }
+        Graph current = graph;
+        boolean reduced = true;
+        while (reduced) {
+            reduced = false;
+            for (int run = Math.max(1, current.getEdgeCount() / 2); run >= 1; run /= 2) {
+                int start = 0;
+                while (start < current.getEdgeCount()) {
+                    Graph candidate = withoutEdges(current, start, Math.min(current.getEdgeCount(), start + run));
+                    if (check(candidate) != null) {
+                        current = candidate;
+                        reduced = true;
+                    } else {
+                        start += run;
+                    }
+                }
+            }
+            Graph candidate = withoutIsolatedVertices(current);
+            if (candidate.getVertexCount() < current.getVertexCount() && check(candidate) != null) {
+                current = candidate;
+                reduced = true;
+            }
+        }
+        Graph ranked = withRankedWeights(current);
+        return check(ranked) != null ? ranked : current;
+    }
+
+    private static Graph withoutEdges(Graph graph, int start, int end) {
+        int count = graph.getEdgeCount() - (end - start);
+        int[] from = new int[count];
+        int[] to = new int[count];
+        int[] weight = new int[count];
+        int kept = 0;
+        for (int e = 0; e < graph.getEdgeCount(); e++) {
+            if (e < start || e >= end) {
+                from[kept] = graph.getEdgeFrom(e);
+                to[kept] = graph.getEdgeTo(e);
+                weight[kept++] = graph.getEdgeWeight(e);
+            }
+        }
+        return build(graph.getNodes(), from, to, weight, count);
+    }
+
+    private static Graph withoutIsolatedVertices(Graph graph) {
+        int[] newId = new int[graph.getVertexCount()];
+        Arrays.fill(newId, -1);
+        for (int e = 0; e < graph.getEdgeCount(); e++) {
+            newId[graph.getEdgeFrom(e)] = 0;
+            newId[graph.getEdgeTo(e)] = 0;
+        }
+        List<String> nodes = new ArrayList<>();
+        for (int v = 0; v < graph.getVertexCount(); v++) {
+            if (newId[v] == 0) {
+                newId[v] = nodes.size();
+                nodes.add(graph.getNodeName(v));
+            }
+        }
+        int edgeCount = graph.getEdgeCount();
+        int[] from = new int[edgeCount];
+        int[] to = new int[edgeCount];
+        int[] weight = new int[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            from[e] = newId[graph.getEdgeFrom(e)];
+            to[e] = newId[graph.getEdgeTo(e)];
+            weight[e] = graph.getEdgeWeight(e);
+        }
+        return build(nodes, from, to, weight, edgeCount);
+    }
+
+    //Same graph with weights replaced by their rank among the distinct weights, ties preserved.
+    private static Graph withRankedWeights(Graph graph) {
+        int edgeCount = graph.getEdgeCount();
+        int[] distinct = new int[edgeCount];
+        int[] from = new int[edgeCount];
+        int[] to = new int[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            distinct[e] = graph.getEdgeWeight(e);
+            from[e] = graph.getEdgeFrom(e);
+            to[e] = graph.getEdgeTo(e);
+        }
+        int[] sorted = Arrays.stream(distinct).sorted().distinct().toArray();
+        int[] weight = new int[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            weight[e] = Arrays.binarySearch(sorted, distinct[e]);
+        }
+        return build(graph.getNodes(), from, to, weight, edgeCount);
+    }
+
+    private static Graph build(List<String> nodes, int[] from, int[] to, int[] weight, int edgeCount) {
+        List<Edge> edges = new ArrayList<>(edgeCount);
+        for (int e = 0; e < edgeCount; e++) {
+            edges.add(new Edge(nodes.get(from[e]), nodes.get(to[e]), weight[e]));
+        }
+        return new Graph(0, nodes, edges, Arrays.copyOf(from, edgeCount), Arrays.copyOf(to, edgeCount));
+    }
+
+    //Million edges solved per second of solve time, per engine, over the cases run so far.
+    public Map<String, Double> getThroughput() {
+        Map<String, Double> throughput = new LinkedHashMap<>();
+        for (int i = 0; i < solvers.size(); i++) {
+            long nanos = solveNanos[i].sum();
+            throughput.put(solvers.get(i).getName(), nanos == 0 ? 0 : edgesSolved[i].sum() * 1_000.0 / nanos);
+        }
+        return throughput;
+    }
+
+    private String formatThroughput() {
+        StringBuilder line = new StringBuilder();
+        for (Map.Entry<String, Double> entry : getThroughput().entrySet()) {
+            line.append(String.format("%s %.1f M edges/s  ", entry.getKey(), entry.getValue()));
+        }
+        return line.toString().trim();
+    }
+
+    /**
+     * The first failing case, with its original and shrunk graphs.
+     */
+    public static class Failure {
+        private final int caseIndex;
+        private final long caseSeed;
+        private final String reason;
+        private final Graph original;
+        private final Graph shrunk;
+
+        Failure(int caseIndex, long caseSeed, String reason, Graph original, Graph shrunk) {
+            this.caseIndex = caseIndex;
+            this.caseSeed = caseSeed;
+            this.reason = reason;
+            this.original = original;
+            this.shrunk = shrunk;
+        }
+
+        public int getCaseIndex() {
+            return caseIndex;
+        }
+
+        public long getCaseSeed() {
+            return caseSeed;
+        }
+
+        //Violation on the shrunk graph.
+        public String getReason() {
+            return reason;
+        }
+
+        public Graph getOriginal() {
+            return original;
+        }
+
+        public Graph getShrunk() {
+            return shrunk;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder(String.format(
+                    "Case %d (seed %d) failed: %s%n  shrunk from %d vertices / %d edges to %d / %d:",
+                    caseIndex, caseSeed, reason, original.getVertexCount(), original.getEdgeCount(),
+                    shrunk.getVertexCount(), shrunk.getEdgeCount()));
+            for (Edge edge : shrunk.getEdges()) {
+                text.append(String.format("%n    %s", edge));
+            }
+            return text.toString();
+        }
+    }
+
+    /**
+     * Outcome of a fuzzing run.
+     */
+    public static class Report {
+        private final int casesRun;
+        private final Failure failure;
+        private final Map<String, Double> throughput;
+        private final double executionTimeMs;
+
+        Report(int casesRun, Failure failure, Map<String, Double> throughput, double executionTimeMs) {
+            this.casesRun = casesRun;
+            this.failure = failure;
+            this.throughput = throughput;
+            this.executionTimeMs = executionTimeMs;
+        }
+
+        public int getCasesRun() {
+            return casesRun;
+        }
+
+        //The first failure, or null if every case passed.
+        public Failure getFailure() {
+            return failure;
+        }
+
+        //Million edges per second of solve time, per engine name.
+        public Map<String, Double> getThroughput() {
+            return throughput;
+        }
+
+        public double getExecutionTimeMs() {
+            return executionTimeMs;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder(String.format("%,d cases in %.0f ms: %s",
+                    casesRun, executionTimeMs, failure == null ? "all engines agree" : "FAILED"));
+            for (Map.Entry<String, Double> entry : throughput.entrySet()) {
+                text.append(String.format("%n  %-14s %8.2f M edges/s", entry.getKey(), entry.getValue()));
+            }
+            if (failure != null) {
+                text.append(String.format("%n%s", failure));
+            }
+            return text.toString();
+        }
+    }
+}
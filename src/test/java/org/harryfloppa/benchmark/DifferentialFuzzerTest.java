@@ -0,0 +1,90 @@
+package org.harryfloppa.benchmark;
+
+import org.harryfloppa.algorithm.KruskalAlgorithm;
+import org.harryfloppa.algorithm.MSTSolver;
+import org.harryfloppa.algorithm.MSTSolvers;
+import org.harryfloppa.algorithm.SolveContext;
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the differential fuzzer, and through it for the agreement of every engine.
+ */
+@DisplayName("Differential Fuzzer Tests")
+class DifferentialFuzzerTest {
+
+    @Test
+    @DisplayName("All registered engines agree on random graphs")
+    void testEnginesAgree() {
+        DifferentialFuzzer fuzzer = new DifferentialFuzzer(MSTSolvers.all(), 2);
+
+        DifferentialFuzzer.Report report = fuzzer.run(7, 300, 1_500, null);
+
+        assertNull(report.getFailure(), () -> report.getFailure().toString());
+        assertEquals(300, report.getCasesRun());
+        assertEquals(MSTSolvers.all().size(), report.getThroughput().size());
+        report.getThroughput().values().forEach(rate -> assertTrue(rate > 0));
+    }
+
+    @Test
+    @DisplayName("A faulty engine is caught and shrunk to a minimal failing graph")
+    void testShrinksFailure() {
+        DifferentialFuzzer fuzzer = new DifferentialFuzzer(List.of(new KruskalAlgorithm(), new DropsLastEdge()), 2);
+
+        DifferentialFuzzer.Report report = fuzzer.run(11, 200, 200, null);
+
+        DifferentialFuzzer.Failure failure = report.getFailure();
+        assertNotNull(failure);
+        assertTrue(failure.getReason().startsWith("faulty"), failure.getReason());
+        // The fault needs a forest of three edges, so the minimum is three forest edges and no isolated vertex
+        Graph shrunk = failure.getShrunk();
+        assertEquals(3, shrunk.getEdgeCount());
+        for (int v = 0; v < shrunk.getVertexCount(); v++) {
+            assertTrue(shrunk.getAdjacencyEnd(v) > shrunk.getAdjacencyStart(v));
+        }
+        assertTrue(failure.getOriginal().getEdgeCount() >= 3);
+        assertEquals(failure.getCaseIndex() + 1, report.getCasesRun());
+    }
+
+    @Test
+    @DisplayName("Cases are reproducible from their seed")
+    void testReproducibleCases() {
+        DifferentialFuzzer fuzzer = new DifferentialFuzzer(MSTSolvers.all(), 1);
+        for (long seed = 0; seed < 20; seed++) {
+            Graph first = fuzzer.generate(seed, 300);
+            Graph second = fuzzer.generate(seed, 300);
+            assertEquals(first.getVertexCount(), second.getVertexCount());
+            assertEquals(first.getEdges(), second.getEdges());
+            for (int e = 0; e < first.getEdgeCount(); e++) {
+                assertEquals(first.getEdgeWeight(e), second.getEdgeWeight(e));
+            }
+        }
+    }
+
+    //Kruskal that loses its last edge whenever the forest has at least three.
+    private static final class DropsLastEdge implements MSTSolver {
+        @Override
+        public String getName() {
+            return "faulty";
+        }
+
+        @Override
+        public MSTResult findMST(Graph graph, SolveContext context) {
+            MSTResult result = new KruskalAlgorithm().findMST(graph, context);
+            List<Edge> edges = result.getMstEdges();
+            if (edges.size() < 3) {
+                return result;
+            }
+            Edge last = edges.get(edges.size() - 1);
+            return new MSTResult(edges.subList(0, edges.size() - 1), result.getTotalCost() - last.getWeight(),
+                    result.getOperationsCount(), result.getExecutionTimeMs());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.harryfloppa.benchmark;
+
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates reproducible random graphs for benchmarks and tests.
+ */
+public class GraphGenerator {
+    private final SplittableRandom random;
+
+    public GraphGenerator(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Connected graph with the given vertex and edge counts (at least vertexCount - 1 edges):
+     * a random spanning tree plus uniformly random extra edges, weights uniform in [1, maxWeight].
+     */
+    public Graph connectedGraph(int id, int vertexCount, int edgeCount, int maxWeight) {
+        List<String> nodes = new ArrayList<>(vertexCount);
+        for (int v = 0; v < vertexCount; v++) {
+            nodes.add("V" + v);
+        }
+        int total = Math.max(edgeCount, vertexCount - 1);
+        List<Edge> edges = new ArrayList<>(total);
+        int[] from = new int[total];
+        int[] to = new int[total];
+        for (int v = 1; v < vertexCount; v++) {
+            addEdge(nodes, edges, from, to, v, random.nextInt(v), maxWeight);
+        }
+        while (edges.size() < total) {
+            int u = random.nextInt(vertexCount);
+            int v = random.nextInt(vertexCount);
+            if (u != v) {
+                addEdge(nodes, edges, from, to, u, v, maxWeight);
+            }
+        }
+        return new Graph(id, nodes, edges, from, to);
+    }
+
+    /**
+     * Graph with edgeCount edges between uniformly random endpoints, weights uniform in [1, maxWeight].
+     * Nothing is filtered: the graph may be disconnected and may contain self-loops and parallel edges.
+     */
+    public Graph randomGraph(int id, int vertexCount, int edgeCount, int maxWeight) {
+        List<String> nodes = new ArrayList<>(vertexCount);
+        for (int v = 0; v < vertexCount; v++) {
+            nodes.add("V" + v);
+        }
+        List<Edge> edges = new ArrayList<>(edgeCount);
+        int[] from = new int[edgeCount];
+        int[] to = new int[edgeCount];
+        while (edges.size() < edgeCount) {
+            addEdge(nodes, edges, from, to, random.nextInt(vertexCount), random.nextInt(vertexCount), maxWeight);
+        }
+        return new Graph(id, nodes, edges, from, to);
+    }
+
+    /**
+     * Road-like side x side grid (4-neighbour streets plus occasional diagonals) whose vertex ids are
+     * shuffled, as in exports that list districts in arbitrary order. Grid coordinates of each vertex
+     * are written to x and y, which must hold side * side entries.
+     */
+    public Graph shuffledGrid(int id, int side, int maxWeight, double[] x, double[] y) {
+        int vertexCount = side * side;
+        int[] idOf = new int[vertexCount];
+        for (int i = 0; i < vertexCount; i++) {
+            idOf[i] = i;
+        }
+        for (int i = vertexCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = idOf[i];
+            idOf[i] = idOf[j];
+            idOf[j] = swap;
+        }
+        List<String> nodes = new ArrayList<>(vertexCount);
+        for (int v = 0; v < vertexCount; v++) {
+            nodes.add("V" + v);
+        }
+        int capacity = 3 * vertexCount;
+        List<Edge> edges = new ArrayList<>(capacity);
+        int[] from = new int[capacity];
+        int[] to = new int[capacity];
+        for (int row = 0; row < side; row++) {
+            for (int column = 0; column < side; column++) {
+                int v = idOf[row * side + column];
+                x[v] = column;
+                y[v] = row;
+                if (column + 1 < side) {
+                    addEdge(nodes, edges, from, to, v, idOf[row * side + column + 1], maxWeight);
+                }
+                if (row + 1 < side) {
+                    addEdge(nodes, edges, from, to, v, idOf[(row + 1) * side + column], maxWeight);
+                }
+                if (row + 1 < side && column + 1 < side && random.nextInt(4) == 0) {
+                    addEdge(nodes, edges, from, to, v, idOf[(row + 1) * side + column + 1], maxWeight);
+                }
+            }
+        }
+        return new Graph(id, nodes, edges, Arrays.copyOf(from, edges.size()), Arrays.copyOf(to, edges.size()));
+    }
+
+    private void addEdge(List<String> nodes, List<Edge> edges, int[] from, int[] to, int u, int v, int maxWeight) {
+        from[edges.size()] = u;
+        to[edges.size()] = v;
+        edges.add(new Edge(nodes.get(u), nodes.get(v), 1 + random.nextInt(maxWeight)));
+    }
+}
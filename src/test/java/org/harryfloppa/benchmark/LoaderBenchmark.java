@@ -0,0 +1,157 @@
+package org.harryfloppa.benchmark;
+
+import org.harryfloppa.io.EdgeListReader;
+import org.harryfloppa.io.InputReader;
+import org.harryfloppa.io.ParallelInputReader;
+import org.harryfloppa.model.Graph;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Compares the input loaders on a generated multi-graph file: the sequential {@link InputReader} against
+ * {@link ParallelInputReader} with 1, 2, 4, ... threads up to the core count.
+ * Reports total load time, time to first graph and throughput; every run is preceded by a warm-up load.
+ * A second table loads one graph with all those edges as a CSV edge list through {@link EdgeListReader},
+ * next to the same graph as JSON and a plain scan of the mapped CSV bytes, the disk bandwidth to match.
+ *
+ * Usage: LoaderBenchmark [graphs] [edgesPerGraph]
+ */
+public class LoaderBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int graphCount = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int edgesPerGraph = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        Path json = Files.createTempFile("mst-graphs", ".json");
+        try {
+            writeJson(json, graphCount, edgesPerGraph);
+            double megabytes = Files.size(json) / (1024.0 * 1024.0);
+            System.out.printf("%d graphs x %,d edges, %.1f MB of JSON, %d core(s)%n",
+                    graphCount, edgesPerGraph, megabytes, cores);
+            System.out.printf("%-22s %12s %14s %10s%n", "loader", "load ms", "first graph ms", "MB/s");
+
+            InputReader sequential = new InputReader();
+            sequential.readGraphs(json.toString());
+            long startTime = System.nanoTime();
+            List<Graph> expected = sequential.readGraphs(json.toString());
+            double sequentialMs = (System.nanoTime() - startTime) / 1_000_000.0;
+            System.out.printf("%-22s %12.0f %14s %10.1f%n", "InputReader", sequentialMs, "-",
+                    megabytes * 1000 / sequentialMs);
+
+            for (int threads = 1; threads <= cores; threads *= 2) {
+                ParallelInputReader parallel = new ParallelInputReader(threads);
+                parallel.readGraphs(json.toString());
+                List<Graph> graphs = parallel.readGraphs(json.toString());
+                if (graphs.size() != expected.size()) {
+                    throw new IllegalStateException("Parallel loader read " + graphs.size() + " graphs");
+                }
+                System.out.printf("%-22s %12.0f %14.1f %10.1f%n", "Parallel (" + threads + " threads)",
+                        parallel.getLoadTimeMs(), parallel.getTimeToFirstGraphMs(),
+                        megabytes * 1000 / parallel.getLoadTimeMs());
+            }
+        } finally {
+            Files.deleteIfExists(json);
+        }
+
+        Path csv = Files.createTempFile("mst-graph", ".csv");
+        Path singleJson = Files.createTempFile("mst-graph", ".json");
+        try {
+            long edgeCount = (long) graphCount * edgesPerGraph;
+            writeCsv(csv, Math.toIntExact(edgeCount));
+            writeJson(singleJson, 1, Math.toIntExact(edgeCount));
+            double csvMegabytes = Files.size(csv) / (1024.0 * 1024.0);
+            double jsonMegabytes = Files.size(singleJson) / (1024.0 * 1024.0);
+            System.out.printf("%n1 graph x %,d edges: %.1f MB as CSV, %.1f MB as JSON%n",
+                    edgeCount, csvMegabytes, jsonMegabytes);
+            System.out.printf("%-22s %12s %10s%n", "loader", "load ms", "MB/s");
+
+            scan(csv);
+            long startTime = System.nanoTime();
+            scan(csv);
+            double scanMs = (System.nanoTime() - startTime) / 1_000_000.0;
+            System.out.printf("%-22s %12.0f %10.1f%n", "Mapped scan (CSV)", scanMs, csvMegabytes * 1000 / scanMs);
+
+            EdgeListReader edgeListReader = new EdgeListReader();
+            edgeListReader.readGraph(csv.toString());
+            Graph graph = edgeListReader.readGraph(csv.toString());
+            System.out.printf("%-22s %12.0f %10.1f%n", "EdgeListReader (CSV)", edgeListReader.getLoadTimeMs(),
+                    csvMegabytes * 1000 / edgeListReader.getLoadTimeMs());
+
+            InputReader sequential = new InputReader();
+            sequential.readGraphs(singleJson.toString());
+            startTime = System.nanoTime();
+            Graph expected = sequential.readGraphs(singleJson.toString()).get(0);
+            double jsonMs = (System.nanoTime() - startTime) / 1_000_000.0;
+            System.out.printf("%-22s %12.0f %10.1f%n", "InputReader (JSON)", jsonMs, jsonMegabytes * 1000 / jsonMs);
+            if (graph.getEdgeCount() != expected.getEdgeCount() || graph.getVertexCount() != expected.getVertexCount()) {
+                throw new IllegalStateException("Edge list loader read " + graph);
+            }
+        } finally {
+            Files.deleteIfExists(csv);
+            Files.deleteIfExists(singleJson);
+        }
+    }
+
+    //Reads every byte of the mapped file, the lower bound for any loader of it.
+    private static long scan(Path file) throws IOException {
+        long checksum = 0;
+        byte[] chunk = new byte[1 << 18];
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            while (buffer.hasRemaining()) {
+                int count = Math.min(chunk.length, buffer.remaining());
+                buffer.get(chunk, 0, count);
+                for (int i = 0; i < count; i++) {
+                    checksum += chunk[i];
+                }
+            }
+        }
+        return checksum;
+    }
+
+    //Writes the graph writeJson would write for a single graph as a from,to,weight edge list.
+    static void writeCsv(Path file, int edgeCount) throws IOException {
+        Graph graph = new GraphGenerator(45).connectedGraph(1, Math.max(2, edgeCount / 5), edgeCount, 1_000_000);
+        try (Writer writer = new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8), 1 << 16)) {
+            writer.write("from,to,weight\n");
+            for (int e = 0; e < graph.getEdgeCount(); e++) {
+                writer.write(graph.getNodeName(graph.getEdgeFrom(e)) + "," + graph.getNodeName(graph.getEdgeTo(e))
+                        + "," + graph.getEdgeWeight(e) + "\n");
+            }
+        }
+    }
+
+    //Writes connected random graphs in the InputReader format without building a JSON tree.
+    static void writeJson(Path file, int graphCount, int edgesPerGraph) throws IOException {
+        GraphGenerator generator = new GraphGenerator(45);
+        try (Writer writer = new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8), 1 << 16)) {
+            writer.write("{\"graphs\": [\n");
+            for (int g = 0; g < graphCount; g++) {
+                Graph graph = generator.connectedGraph(g + 1, Math.max(2, edgesPerGraph / 5), edgesPerGraph, 1_000_000);
+                writer.write(g == 0 ? "" : ",\n");
+                writer.write("{\"id\": " + graph.getId() + ", \"nodes\": [");
+                for (int v = 0; v < graph.getVertexCount(); v++) {
+                    writer.write((v == 0 ? "\"" : ", \"") + graph.getNodeName(v) + "\"");
+                }
+                writer.write("], \"edges\": [");
+                for (int e = 0; e < graph.getEdgeCount(); e++) {
+                    writer.write((e == 0 ? "" : ", ") + "{\"from\": \"" + graph.getEdge(e).getFrom()
+                            + "\", \"to\": \"" + graph.getEdge(e).getTo() + "\", \"weight\": "
+                            + graph.getEdgeWeight(e) + "}");
+                }
+                writer.write("]}");
+            }
+            writer.write("\n]}\n");
+        }
+    }
+}
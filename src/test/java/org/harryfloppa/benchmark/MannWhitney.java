@@ -0,0 +1,70 @@
+package org.harryfloppa.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * One-sided Mann-Whitney U test: does the second sample tend to be larger than the first?
+ * Uses mid-ranks for ties and the normal approximation with tie and continuity corrections,
+ * which is adequate from about eight samples per side. Makes no assumption about the
+ * distribution, which suits latency samples with their long right tails.
+ */
+public final class MannWhitney {
+
+    private MannWhitney() {
+    }
+
+    //p-value for the hypothesis that values in second are stochastically greater than in first.
+    public static double pGreater(double[] first, double[] second) {
+        int n1 = first.length;
+        int n2 = second.length;
+        if (n1 == 0 || n2 == 0) {
+            return 1;
+        }
+        // Sort indices by value so each value keeps track of which sample it came from
+        int total = n1 + n2;
+        double[] values = new double[total];
+        boolean[] fromSecond = new boolean[total];
+        Integer[] order = new Integer[total];
+        for (int i = 0; i < total; i++) {
+            values[i] = i < n1 ? first[i] : second[i - n1];
+            fromSecond[i] = i >= n1;
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+        double rankSumSecond = 0;
+        double tieTerm = 0;
+        for (int start = 0; start < total; ) {
+            int end = start;
+            while (end + 1 < total && values[order[end + 1]] == values[order[start]]) {
+                end++;
+            }
+            double midRank = (start + end) / 2.0 + 1;
+            for (int i = start; i <= end; i++) {
+                if (fromSecond[order[i]]) {
+                    rankSumSecond += midRank;
+                }
+            }
+            double tied = end - start + 1;
+            tieTerm += tied * tied * tied - tied;
+            start = end + 1;
+        }
+
+        double u = rankSumSecond - n2 * (n2 + 1) / 2.0;
+        double mean = n1 * (double) n2 / 2;
+        double variance = n1 * (double) n2 / 12 * ((total + 1) - tieTerm / ((double) total * (total - 1)));
+        if (variance <= 0) {
+            return u > mean ? 0 : 1;
+        }
+        double z = (u - mean - 0.5) / Math.sqrt(variance);
+        return 1 - normalCdf(z);
+    }
+
+    //Abramowitz and Stegun 7.1.26 approximation of the error function.
+    static double normalCdf(double x) {
+        double t = 1 / (1 + 0.3275911 * Math.abs(x) / Math.sqrt(2));
+        double poly = t * (0.254829592 + t * (-0.284496736 + t * (1.421413741 + t * (-1.453152027 + t * 1.061405429))));
+        double erf = 1 - poly * Math.exp(-x * x / 2);
+        return x >= 0 ? (1 + erf) / 2 : (1 - erf) / 2;
+    }
+}
@@ -0,0 +1,61 @@
+package org.harryfloppa.benchmark;
+
+import org.harryfloppa.algorithm.KruskalAlgorithm;
+import org.harryfloppa.algorithm.PrimAlgorithm;
+import org.harryfloppa.io.OutputWriter;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.GraphFootprint;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Compares the output layouts and compressions of {@link OutputWriter} on the results for one generated
+ * graph: for every format and compression, the bytes written, the size relative to plain JSON and the
+ * best write time of three, after a warm-up write.
+ *
+ * Usage: OutputBenchmark [vertices]
+ */
+public class OutputBenchmark {
+    private static final int RUNS = 3;
+
+    public static void main(String[] args) throws IOException {
+        int vertexCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Graph graph = new GraphGenerator(47).connectedGraph(1, vertexCount, 3 * vertexCount, 1_000_000);
+        Map<Integer, OutputWriter.AlgorithmResults> results = Map.of(graph.getId(),
+                new OutputWriter.AlgorithmResults(new PrimAlgorithm().findMST(graph),
+                        new KruskalAlgorithm().findMST(graph)));
+        Map<Integer, Graph> graphs = Map.of(graph.getId(), graph);
+        System.out.printf("Results for %,d vertices: 2 spanning trees of %,d edges%n",
+                vertexCount, vertexCount - 1);
+        System.out.printf("%-10s %-8s %12s %9s %10s %10s%n", "format", "compress", "size", "vs json", "write ms",
+                "MB/s");
+
+        Path file = Files.createTempFile("mst-results", ".out");
+        try {
+            long jsonBytes = 0;
+            for (OutputWriter.Format format : OutputWriter.Format.values()) {
+                for (OutputWriter.Compression compression : OutputWriter.Compression.values()) {
+                    OutputWriter writer = new OutputWriter(format, compression);
+                    writer.writeResults(file.toString(), results, graphs);
+                    double bestMs = Double.MAX_VALUE;
+                    for (int run = 0; run < RUNS; run++) {
+                        writer.writeResults(file.toString(), results, graphs);
+                        bestMs = Math.min(bestMs, writer.getWriteTimeMs());
+                    }
+                    long bytes = writer.getOutputBytes();
+                    if (format == OutputWriter.Format.JSON && compression == OutputWriter.Compression.NONE) {
+                        jsonBytes = bytes;
+                    }
+                    System.out.printf("%-10s %-8s %12s %8.1f%% %10.0f %10.1f%n", format.getName(),
+                            compression.getName(), GraphFootprint.format(bytes), 100.0 * bytes / jsonBytes, bestMs,
+                            bytes / (1024.0 * 1024.0) * 1000 / bestMs);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
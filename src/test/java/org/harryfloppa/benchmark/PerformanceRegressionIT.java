@@ -0,0 +1,49 @@
+package org.harryfloppa.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Performance regression gate, run by failsafe during mvn verify.
+ * -Dperf.record=true re-records the baseline instead of checking against it;
+ * -Dperf.baseline=path selects another baseline file. A missing baseline fails the gate rather than
+ * being recorded, so a deleted or mistyped path cannot turn it into a silent pass.
+ * Latencies are only compared against a baseline recorded in the same environment (Java version, OS,
+ * architecture, cores); elsewhere allocation is still checked and the test then reports itself as skipped.
+ */
+@DisplayName("Performance Regression Gate")
+class PerformanceRegressionIT {
+
+    @Test
+    @DisplayName("No engine is slower or allocates more than its stored baseline")
+    void testNoRegressions() throws Exception {
+        Path baseline = Path.of(System.getProperty("perf.baseline", RegressionGate.DEFAULT_BASELINE));
+        RegressionGate gate = RegressionGate.fromSystemProperties();
+        if (Boolean.getBoolean("perf.record")) {
+            gate.recordBaseline(baseline);
+            return;
+        }
+        assertTrue(Files.exists(baseline), () -> "No performance baseline at '" + baseline
+                + "'; record one with -Dperf.record=true");
+
+        String recorded = RegressionGate.recordedEnvironment(baseline);
+        boolean sameEnvironment = RegressionGate.environment().equals(recorded);
+        String skipped = "Latency checks skipped: baseline was recorded on '" + recorded + "', this is '"
+                + RegressionGate.environment() + "'; re-record with -Dperf.record=true";
+        if (!sameEnvironment) {
+            System.out.println(skipped + ". Checking allocation only.");
+        }
+
+        List<RegressionGate.Regression> regressions = gate.check(baseline, System.out, sameEnvironment);
+
+        assertTrue(regressions.isEmpty(), () -> "Performance regressions: " + regressions);
+        assumeTrue(sameEnvironment, skipped);
+    }
+}
@@ -0,0 +1,57 @@
+package org.harryfloppa.benchmark;
+
+import org.harryfloppa.algorithm.PrimAlgorithm;
+import org.harryfloppa.algorithm.PrimQueue;
+import org.harryfloppa.algorithm.SolveContext;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+
+import java.util.Arrays;
+
+/**
+ * Compares Prim's queue implementations across weight ranges on a fixed random graph shape.
+ * Small ranges mean many equal keys (radix buckets stay shallow); large ranges approach distinct keys.
+ *
+ * Usage: PrimQueueBenchmark [vertexCount] [averageDegree] [repetitions]
+ */
+public class PrimQueueBenchmark {
+    private static final int[] MAX_WEIGHTS = {16, 1_024, 1 << 20, 1 << 30};
+
+    public static void main(String[] args) {
+        int vertexCount = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int degree = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        int repetitions = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        PrimQueue.Kind[] kinds = PrimQueue.Kind.values();
+
+        System.out.printf("Prim queues, V = %,d, average degree %d (median ms of %d runs)%n", vertexCount, degree, repetitions);
+        StringBuilder header = new StringBuilder(String.format("%12s", "max weight"));
+        for (PrimQueue.Kind kind : kinds) {
+            header.append(String.format(" %10s", kind.getName()));
+        }
+        System.out.println(header);
+
+        SolveContext context = new SolveContext();
+        GraphGenerator generator = new GraphGenerator(42);
+        for (int maxWeight : MAX_WEIGHTS) {
+            Graph graph = generator.connectedGraph(1, vertexCount, (int) ((long) vertexCount * degree / 2), maxWeight);
+            StringBuilder row = new StringBuilder(String.format("%,12d", maxWeight));
+            long expectedCost = Long.MIN_VALUE;
+            for (PrimQueue.Kind kind : kinds) {
+                PrimAlgorithm prim = new PrimAlgorithm(kind);
+                MSTResult result = prim.findMST(graph, context); // Warm-up
+                double[] times = new double[repetitions];
+                for (int r = 0; r < repetitions; r++) {
+                    result = prim.findMST(graph, context);
+                    times[r] = result.getExecutionTimeMs();
+                }
+                if (expectedCost != Long.MIN_VALUE && result.getTotalCost() != expectedCost) {
+                    throw new IllegalStateException(prim.getName() + " returned cost " + result.getTotalCost());
+                }
+                expectedCost = result.getTotalCost();
+                Arrays.sort(times);
+                row.append(String.format(" %10.2f", times[repetitions / 2]));
+            }
+            System.out.println(row);
+        }
+    }
+}
@@ -0,0 +1,431 @@
+package org.harryfloppa.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.harryfloppa.algorithm.MSTSolver;
+import org.harryfloppa.algorithm.MSTSolvers;
+import org.harryfloppa.algorithm.SolveContext;
+import org.harryfloppa.algorithm.ThreadAllocation;
+import org.harryfloppa.model.Graph;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Performance regression gate. Runs a fixed suite of generated graphs through every engine, recording
+ * repeated latency and allocation samples per (graph, engine), and compares them with a stored baseline.
+ *
+ * A latency regression needs both a one-sided {@link MannWhitney} p-value below alpha and a p50 or p99
+ * slowdown beyond its threshold (plus a small absolute slack), so neither noise nor a tiny but consistent
+ * shift fails the build.
+ * Allocation per solve is nearly deterministic and is compared by its median alone.
+ *
+ * JIT decisions differ between JVM runs, and some engines are bimodal across runs, so every measurement
+ * runs in a freshly forked JVM: a baseline pools the samples of several forks, and a regression only
+ * counts if further forks reproduce it. Latencies are specific to the machine that recorded them, so
+ * against a baseline from another environment only allocation is checked; re-record after moving to new
+ * hardware to gate latency again.
+ *
+ * Usage: RegressionGate record|check [baselineFile]
+ */
+public class RegressionGate {
+    public static final String DEFAULT_BASELINE = "src/data/perf-baseline.json";
+    private static final int WARMUP_RUNS = 10;
+    private static final int SAMPLES = 21;
+    private static final int MAX_WEIGHT = 1_000_000;
+    private static final int BASELINE_FORKS = 3;
+    private static final int CHECK_ATTEMPTS = 3;
+    // Slowdowns smaller than this are timer and scheduler noise
+    private static final double LATENCY_SLACK_MS = 0.5;
+    // Allocation counts move by a few objects between JIT states
+    private static final long ALLOCATION_SLACK_BYTES = 4_096;
+
+    private final double latencyThreshold;
+    private final double tailThreshold;
+    private final double allocationThreshold;
+    private final double alpha;
+    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    /**
+     * Defaults: p50 +25%, p99 +50%, allocation +10%, alpha 0.001. Separate JVM runs of the suite differ in
+     * p50 by up to about a quarter from JIT decisions; a slowdown must also reproduce in fresh JVMs to count.
+     */
+    public RegressionGate() {
+        this(0.25, 0.50, 0.10, 0.001);
+    }
+
+    /**
+     * Thresholds from the perf.p50Threshold, perf.p99Threshold, perf.allocationThreshold and perf.alpha
+     * system properties, falling back to the defaults.
+     */
+    public static RegressionGate fromSystemProperties() {
+        RegressionGate defaults = new RegressionGate();
+        return new RegressionGate(
+                Double.parseDouble(System.getProperty("perf.p50Threshold", String.valueOf(defaults.latencyThreshold))),
+                Double.parseDouble(System.getProperty("perf.p99Threshold", String.valueOf(defaults.tailThreshold))),
+                Double.parseDouble(System.getProperty("perf.allocationThreshold",
+                        String.valueOf(defaults.allocationThreshold))),
+                Double.parseDouble(System.getProperty("perf.alpha", String.valueOf(defaults.alpha))));
+    }
+
+    public RegressionGate(double latencyThreshold, double tailThreshold, double allocationThreshold, double alpha) {
+        this.latencyThreshold = latencyThreshold;
+        this.tailThreshold = tailThreshold;
+        this.allocationThreshold = allocationThreshold;
+        this.alpha = alpha;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String mode = args.length > 0 ? args[0] : "check";
+        Path file = Path.of(args.length > 1 ? args[1] : DEFAULT_BASELINE);
+        RegressionGate gate = fromSystemProperties();
+        switch (mode) {
+            case "measure":
+                // Runs inside a fork started by measureForked
+                gate.write(file, gate.measure(MSTSolvers.all()));
+                break;
+            case "record":
+                List<Measurement> baseline = gate.recordBaseline(file);
+                System.out.printf("Recorded %d baselines from %d JVMs to '%s'%n", baseline.size(), BASELINE_FORKS, file);
+                break;
+            case "check":
+                boolean latency = environment().equals(recordedEnvironment(file));
+                if (!latency) {
+                    System.out.printf("Baseline was recorded on '%s', this is '%s': checking allocation only%n",
+                            recordedEnvironment(file), environment());
+                }
+                List<Regression> regressions = gate.check(file, System.out, latency);
+                if (!regressions.isEmpty()) {
+                    System.out.printf("%d regression(s):%n", regressions.size());
+                    regressions.forEach(regression -> System.out.println("  " + regression));
+                    System.exit(1);
+                }
+                System.out.println("No regressions");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown mode: " + mode + " (expected record or check)");
+        }
+    }
+
+    //Measures in several fresh JVMs and stores the pooled samples as the new baseline.
+    public List<Measurement> recordBaseline(Path file) throws IOException, InterruptedException {
+        List<Measurement> pooled = measureForked();
+        for (int fork = 1; fork < BASELINE_FORKS; fork++) {
+            pooled = pool(pooled, measureForked());
+        }
+        write(file, pooled);
+        return pooled;
+    }
+
+    /**
+     * Compares a fresh measurement with the stored baseline, checking latency only when asked to.
+     * Regressions are re-measured in new JVMs and only those found by every attempt are returned.
+     */
+    public List<Regression> check(Path baselineFile, PrintStream report, boolean latency)
+            throws IOException, InterruptedException {
+        List<Measurement> baseline = read(baselineFile);
+        List<Regression> regressions = compare(baseline, measureForked(), report, latency);
+        for (int attempt = 1; attempt < CHECK_ATTEMPTS && !regressions.isEmpty(); attempt++) {
+            if (report != null) {
+                report.printf("%d possible regression(s), confirming in a new JVM%n", regressions.size());
+            }
+            Set<String> confirmed = new HashSet<>();
+            for (Regression regression : compare(baseline, measureForked(), null, latency)) {
+                confirmed.add(regression.getKey() + regression.getMetric());
+            }
+            regressions.removeIf(regression -> !confirmed.contains(regression.getKey() + regression.getMetric()));
+        }
+        return regressions;
+    }
+
+    //Runs the suite in a child JVM with this JVM's class path and reads back its measurements.
+    public List<Measurement> measureForked() throws IOException, InterruptedException {
+        Path output = Files.createTempFile("mst-perf", ".json");
+        try {
+            String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+            Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                    RegressionGate.class.getName(), "measure", output.toString())
+                    .inheritIO()
+                    .start();
+            if (process.waitFor() != 0) {
+                throw new IOException("Measurement JVM exited with status " + process.exitValue());
+            }
+            return read(output);
+        } finally {
+            Files.deleteIfExists(output);
+        }
+    }
+
+    //Concatenates the samples of matching (graph, engine) pairs.
+    static List<Measurement> pool(List<Measurement> first, List<Measurement> second) {
+        Map<String, Measurement> byKey = new HashMap<>();
+        for (Measurement measurement : second) {
+            byKey.put(measurement.key(), measurement);
+        }
+        List<Measurement> pooled = new ArrayList<>();
+        for (Measurement measurement : first) {
+            Measurement other = byKey.get(measurement.key());
+            if (other != null) {
+                pooled.add(new Measurement(measurement.graph, measurement.engine,
+                        concat(measurement.latencyMs, other.latencyMs),
+                        concat(measurement.allocatedBytes, other.allocatedBytes)));
+            }
+        }
+        return pooled;
+    }
+
+    private static double[] concat(double[] first, double[] second) {
+        double[] joined = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, joined, first.length, second.length);
+        return joined;
+    }
+
+    /**
+     * The fixed suite: sparse, medium and dense connected graphs with reproducible seeds, large enough
+     * that every engine takes tens of milliseconds, well above timer and scheduler noise.
+     */
+    public static Map<String, Graph> suite() {
+        Map<String, Graph> graphs = new LinkedHashMap<>();
+        graphs.put("sparse-100k", new GraphGenerator(1).connectedGraph(1, 100_000, 200_000, MAX_WEIGHT));
+        graphs.put("medium-40k", new GraphGenerator(2).connectedGraph(2, 40_000, 320_000, MAX_WEIGHT));
+        graphs.put("dense-4k", new GraphGenerator(3).connectedGraph(3, 4_000, 400_000, MAX_WEIGHT));
+        return graphs;
+    }
+
+    /**
+     * Samples every engine on every suite graph on the calling thread. Engines take turns within each
+     * sample round, so a burst of background load spreads over all of them instead of hitting one.
+     */
+    public List<Measurement> measure(List<MSTSolver> solvers) {
+        List<Measurement> measurements = new ArrayList<>();
+        SolveContext context = new SolveContext();
+        for (Map.Entry<String, Graph> entry : suite().entrySet()) {
+            Graph graph = entry.getValue();
+            for (int r = 0; r < WARMUP_RUNS; r++) {
+                for (MSTSolver solver : solvers) {
+                    solver.findMST(graph, context);
+                }
+            }
+            double[][] latency = new double[solvers.size()][SAMPLES];
+            double[][] allocated = new double[solvers.size()][SAMPLES];
+            for (int r = 0; r < SAMPLES; r++) {
+                for (int i = 0; i < solvers.size(); i++) {
+                    long bytesBefore = ThreadAllocation.currentThreadBytes();
+                    long startTime = System.nanoTime();
+                    solvers.get(i).findMST(graph, context);
+                    latency[i][r] = (System.nanoTime() - startTime) / 1_000_000.0;
+                    allocated[i][r] = ThreadAllocation.currentThreadBytes() - bytesBefore;
+                }
+            }
+            for (int i = 0; i < solvers.size(); i++) {
+                measurements.add(new Measurement(entry.getKey(), solvers.get(i).getName(), latency[i], allocated[i]));
+            }
+        }
+        return measurements;
+    }
+
+    //Compares latency and allocation; see the four-argument overload.
+    public List<Regression> compare(List<Measurement> baseline, List<Measurement> current, PrintStream report) {
+        return compare(baseline, current, report, true);
+    }
+
+    /**
+     * Compares current measurements with the baseline and returns every regression found, leaving out
+     * latency regressions unless latency is set.
+     * A summary row per pair goes to report when it is not null; pairs missing from the baseline are skipped.
+     */
+    public List<Regression> compare(List<Measurement> baseline, List<Measurement> current, PrintStream report,
+                                    boolean latency) {
+        Map<String, Measurement> byKey = new HashMap<>();
+        for (Measurement measurement : baseline) {
+            byKey.put(measurement.key(), measurement);
+        }
+        if (report != null) {
+            report.printf("%-12s %-14s %10s %10s %10s %10s %12s %9s%n", "graph", "engine",
+                    "p50 ms", "base p50", "p99 ms", "base p99", "alloc/op", "p-value");
+        }
+        List<Regression> regressions = new ArrayList<>();
+        for (Measurement now : current) {
+            Measurement before = byKey.get(now.key());
+            if (before == null) {
+                continue;
+            }
+            double p = MannWhitney.pGreater(before.latencyMs, now.latencyMs);
+            double p50 = percentile(now.latencyMs, 50);
+            double p99 = percentile(now.latencyMs, 99);
+            double baseP50 = percentile(before.latencyMs, 50);
+            double baseP99 = percentile(before.latencyMs, 99);
+            if (latency && p < alpha && p50 > baseP50 * (1 + latencyThreshold) + LATENCY_SLACK_MS) {
+                regressions.add(new Regression(now.key(), "p50", String.format("%.2f ms vs baseline %.2f ms (p = %.4f)",
+                        p50, baseP50, p)));
+            }
+            if (latency && p < alpha && p99 > baseP99 * (1 + tailThreshold) + LATENCY_SLACK_MS) {
+                regressions.add(new Regression(now.key(), "p99", String.format("%.2f ms vs baseline %.2f ms (p = %.4f)",
+                        p99, baseP99, p)));
+            }
+            double allocation = percentile(now.allocatedBytes, 50);
+            double baseAllocation = percentile(before.allocatedBytes, 50);
+            if (baseAllocation >= 0 && allocation > baseAllocation * (1 + allocationThreshold) + ALLOCATION_SLACK_BYTES) {
+                regressions.add(new Regression(now.key(), "allocation", String.format("%,.0f bytes/op vs baseline %,.0f",
+                        allocation, baseAllocation)));
+            }
+            if (report != null) {
+                report.printf("%-12s %-14s %10.2f %10.2f %10.2f %10.2f %12s %9.4f%n", now.graph, now.engine,
+                        p50, baseP50, p99, baseP99, formatBytes(allocation), p);
+            }
+        }
+        return regressions;
+    }
+
+    //Nearest-rank percentile (0-100).
+    static double percentile(double[] samples, double percentile) {
+        double[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    private static String formatBytes(double bytes) {
+        return bytes < 0 ? "n/a" : String.format("%.1f KB", bytes / 1024);
+    }
+
+    public void write(Path file, List<Measurement> measurements) throws IOException {
+        JsonObject root = new JsonObject();
+        root.addProperty("environment", environment());
+        JsonArray entries = new JsonArray();
+        for (Measurement measurement : measurements) {
+            JsonObject entry = new JsonObject();
+            entry.addProperty("graph", measurement.graph);
+            entry.addProperty("engine", measurement.engine);
+            entry.add("latency_ms", toJson(measurement.latencyMs));
+            entry.add("allocated_bytes", toJson(measurement.allocatedBytes));
+            entries.add(entry);
+        }
+        root.add("baselines", entries);
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            gson.toJson(root, writer);
+        }
+    }
+
+    public List<Measurement> read(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            JsonObject root = gson.fromJson(reader, JsonObject.class);
+            List<Measurement> measurements = new ArrayList<>();
+            for (JsonElement element : root.getAsJsonArray("baselines")) {
+                JsonObject entry = element.getAsJsonObject();
+                measurements.add(new Measurement(entry.get("graph").getAsString(), entry.get("engine").getAsString(),
+                        fromJson(entry.getAsJsonArray("latency_ms")), fromJson(entry.getAsJsonArray("allocated_bytes"))));
+            }
+            return measurements;
+        }
+    }
+
+    private static JsonArray toJson(double[] values) {
+        JsonArray array = new JsonArray();
+        for (double value : values) {
+            array.add(Math.round(value * 1_000) / 1_000.0);
+        }
+        return array;
+    }
+
+    private static double[] fromJson(JsonArray array) {
+        double[] values = new double[array.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = array.get(i).getAsDouble();
+        }
+        return values;
+    }
+
+    //Environment a baseline file was recorded on, as written by write.
+    public static String recordedEnvironment(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return new Gson().fromJson(reader, JsonObject.class).get("environment").getAsString();
+        }
+    }
+
+    //Java version, OS, architecture and core count of this JVM: latencies are only comparable within one.
+    public static String environment() {
+        return String.format("Java %s, %s %s, %d cores", System.getProperty("java.version"),
+                System.getProperty("os.name"), System.getProperty("os.arch"),
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * A metric of one (graph, engine) pair that is worse than its baseline.
+     */
+    public static class Regression {
+        private final String key;
+        private final String metric;
+        private final String detail;
+
+        Regression(String key, String metric, String detail) {
+            this.key = key;
+            this.metric = metric;
+            this.detail = detail;
+        }
+
+        //"graph/engine".
+        public String getKey() {
+            return key;
+        }
+
+        //"p50", "p99" or "allocation".
+        public String getMetric() {
+            return metric;
+        }
+
+        @Override
+        public String toString() {
+            return key + " " + metric + ": " + detail;
+        }
+    }
+
+    /**
+     * Latency (ms) and allocation (bytes) samples of one engine on one suite graph.
+     */
+    public static class Measurement {
+        private final String graph;
+        private final String engine;
+        private final double[] latencyMs;
+        private final double[] allocatedBytes;
+
+        public Measurement(String graph, String engine, double[] latencyMs, double[] allocatedBytes) {
+            this.graph = graph;
+            this.engine = engine;
+            this.latencyMs = latencyMs;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        String key() {
+            return graph + "/" + engine;
+        }
+
+        public String getGraph() {
+            return graph;
+        }
+
+        public String getEngine() {
+            return engine;
+        }
+
+        public double[] getLatencyMs() {
+            return latencyMs;
+        }
+
+        public double[] getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+}
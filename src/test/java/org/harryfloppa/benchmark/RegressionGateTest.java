@@ -0,0 +1,88 @@
+package org.harryfloppa.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the regression gate's statistics and comparison rules.
+ */
+@DisplayName("Regression Gate Tests")
+class RegressionGateTest {
+
+    @Test
+    @DisplayName("Mann-Whitney separates shifted samples and not identical ones")
+    void testMannWhitney() {
+        Random random = new Random(43);
+        double[] base = new double[21];
+        double[] same = new double[21];
+        double[] slower = new double[21];
+        for (int i = 0; i < base.length; i++) {
+            base[i] = 10 + random.nextGaussian();
+            same[i] = 10 + random.nextGaussian();
+            slower[i] = 13 + random.nextGaussian();
+        }
+
+        assertTrue(MannWhitney.pGreater(base, slower) < 0.001);
+        assertTrue(MannWhitney.pGreater(slower, base) > 0.99);
+        assertTrue(MannWhitney.pGreater(base, same) > 0.01);
+        // All ties: no evidence either way
+        assertEquals(1.0, MannWhitney.pGreater(new double[]{5, 5, 5}, new double[]{5, 5, 5}));
+        assertEquals(0.5, MannWhitney.normalCdf(0), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Flags p50, p99 and allocation regressions only beyond their thresholds")
+    void testCompare() {
+        RegressionGate gate = new RegressionGate(0.25, 0.50, 0.10, 0.01);
+        double[] latency = {10, 10.5, 11, 10.2, 10.8, 10.1, 10.4, 10.9, 10.3, 10.6};
+        double[] allocation = {100_000, 100_000, 100_000, 100_000, 100_000, 100_000, 100_000, 100_000, 100_000, 100_000};
+        List<RegressionGate.Measurement> baseline = List.of(
+                new RegressionGate.Measurement("g", "fast", latency, allocation));
+
+        assertTrue(gate.compare(baseline, baseline, null).isEmpty());
+        // 10% slower and 5% more allocation: within thresholds
+        assertTrue(gate.compare(baseline, List.of(new RegressionGate.Measurement("g", "fast",
+                scale(latency, 1.1), scale(allocation, 1.05))), null).isEmpty());
+
+        List<RegressionGate.Regression> regressions = gate.compare(baseline, List.of(new RegressionGate.Measurement(
+                "g", "fast", scale(latency, 2), scale(allocation, 2))), null);
+        assertEquals(List.of("p50", "p99", "allocation"),
+                regressions.stream().map(RegressionGate.Regression::getMetric).toList());
+        assertEquals("g/fast", regressions.get(0).getKey());
+
+        // Without latency checks only the allocation regression remains
+        assertEquals(List.of("allocation"), gate.compare(baseline, List.of(new RegressionGate.Measurement(
+                "g", "fast", scale(latency, 2), scale(allocation, 2))), null, false).stream()
+                .map(RegressionGate.Regression::getMetric).toList());
+
+        // Pairs missing from the baseline are not compared
+        assertTrue(gate.compare(baseline, List.of(new RegressionGate.Measurement("g", "new",
+                scale(latency, 2), allocation)), null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Pooling concatenates samples of matching pairs and percentiles use nearest rank")
+    void testPoolAndPercentile() {
+        List<RegressionGate.Measurement> pooled = RegressionGate.pool(
+                List.of(new RegressionGate.Measurement("g", "e", new double[]{1, 2}, new double[]{8, 8})),
+                List.of(new RegressionGate.Measurement("g", "e", new double[]{3}, new double[]{9})));
+
+        assertArrayEquals(new double[]{1, 2, 3}, pooled.get(0).getLatencyMs());
+        assertArrayEquals(new double[]{8, 8, 9}, pooled.get(0).getAllocatedBytes());
+        assertEquals(2, RegressionGate.percentile(new double[]{3, 1, 2}, 50));
+        assertEquals(3, RegressionGate.percentile(new double[]{3, 1, 2}, 99));
+    }
+
+    private static double[] scale(double[] values, double factor) {
+        double[] scaled = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            scaled[i] = values[i] * factor;
+        }
+        return scaled;
+    }
+}
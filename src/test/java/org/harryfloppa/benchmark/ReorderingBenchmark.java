@@ -0,0 +1,72 @@
+package org.harryfloppa.benchmark;
+
+import org.harryfloppa.algorithm.KruskalAlgorithm;
+import org.harryfloppa.algorithm.MSTSolver;
+import org.harryfloppa.algorithm.PrimAlgorithm;
+import org.harryfloppa.algorithm.SolveContext;
+import org.harryfloppa.algorithm.VertexReordering;
+import org.harryfloppa.model.Graph;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Measures how vertex reordering affects solve time on a road-like grid whose vertex ids are shuffled.
+ * Mean edge span (|from - to| in ids) is reported as the locality proxy: the further apart the endpoints,
+ * the more cache lines Prim's adjacency scans and Union-Find lookups touch.
+ *
+ * Usage: ReorderingBenchmark [gridSide] [repetitions]
+ */
+public class ReorderingBenchmark {
+
+    public static void main(String[] args) {
+        int side = args.length > 0 ? Integer.parseInt(args[0]) : 1_000;
+        int repetitions = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        double[] x = new double[side * side];
+        double[] y = new double[side * side];
+        Graph shuffled = new GraphGenerator(42).shuffledGrid(1, side, 1_000, x, y);
+
+        Map<String, Graph> variants = new LinkedHashMap<>();
+        Map<String, Double> reorderTimes = new LinkedHashMap<>();
+        variants.put("shuffled", shuffled);
+        reorderTimes.put("shuffled", 0.0);
+        for (VertexReordering.Strategy strategy : VertexReordering.Strategy.values()) {
+            VertexReordering reordering = strategy == VertexReordering.Strategy.HILBERT
+                    ? VertexReordering.hilbert(shuffled, x, y)
+                    : VertexReordering.of(shuffled, strategy);
+            variants.put(strategy.name().toLowerCase(), reordering.getGraph());
+            reorderTimes.put(strategy.name().toLowerCase(), reordering.getReorderTimeMs());
+        }
+
+        MSTSolver[] solvers = {new PrimAlgorithm(), new KruskalAlgorithm()};
+        System.out.printf("Shuffled %dx%d grid: %,d vertices, %,d edges (median ms of %d runs)%n",
+                side, side, shuffled.getVertexCount(), shuffled.getEdgeCount(), repetitions);
+        System.out.printf("%10s %12s %12s %10s %10s %10s %10s%n",
+                "order", "edge span", "reorder ms", "prim ms", "speedup", "kruskal ms", "speedup");
+        SolveContext context = new SolveContext();
+        double[] baseline = new double[solvers.length];
+        for (Map.Entry<String, Graph> variant : variants.entrySet()) {
+            StringBuilder row = new StringBuilder(String.format("%10s %12.1f %12.1f", variant.getKey(),
+                    VertexReordering.meanEdgeSpan(variant.getValue()), reorderTimes.get(variant.getKey())));
+            for (int s = 0; s < solvers.length; s++) {
+                double median = medianSolveMs(solvers[s], variant.getValue(), context, repetitions);
+                if (baseline[s] == 0) {
+                    baseline[s] = median;
+                }
+                row.append(String.format(" %10.1f %9.2fx", median, baseline[s] / median));
+            }
+            System.out.println(row);
+        }
+    }
+
+    private static double medianSolveMs(MSTSolver solver, Graph graph, SolveContext context, int repetitions) {
+        solver.findMST(graph, context); // Warm-up
+        double[] times = new double[repetitions];
+        for (int r = 0; r < repetitions; r++) {
+            times[r] = solver.findMST(graph, context).getExecutionTimeMs();
+        }
+        Arrays.sort(times);
+        return times[repetitions / 2];
+    }
+}
@@ -0,0 +1,64 @@
+package org.harryfloppa.benchmark;
+
+import org.harryfloppa.algorithm.KKTAlgorithm;
+import org.harryfloppa.algorithm.KruskalAlgorithm;
+import org.harryfloppa.algorithm.MSTSolver;
+import org.harryfloppa.algorithm.PrimAlgorithm;
+import org.harryfloppa.algorithm.SolveContext;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares the MST engines across edge densities on random connected graphs.
+ * Each cell is the median wall time of several solves after warm-up; costs are cross-checked.
+ *
+ * Usage: SolverBenchmark [vertexCount] [repetitions]
+ */
+public class SolverBenchmark {
+    private static final int[] AVERAGE_DEGREES = {2, 4, 8, 16, 32, 64};
+    private static final int MAX_WEIGHT = 1_000_000;
+
+    public static void main(String[] args) {
+        int vertexCount = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int repetitions = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        List<MSTSolver> solvers = List.of(new PrimAlgorithm(), new KruskalAlgorithm(), new KKTAlgorithm());
+        GraphGenerator generator = new GraphGenerator(42);
+
+        System.out.printf("MST engines on random connected graphs, V = %,d (median of %d runs)%n", vertexCount, repetitions);
+        StringBuilder header = new StringBuilder(String.format("%8s %12s", "avg deg", "edges"));
+        for (MSTSolver solver : solvers) {
+            header.append(String.format(" %12s %14s", solver.getName() + " ms", solver.getName() + " ops"));
+        }
+        System.out.println(header);
+
+        SolveContext context = new SolveContext();
+        for (int degree : AVERAGE_DEGREES) {
+            long edgeCount = (long) vertexCount * degree / 2;
+            if (edgeCount > Integer.MAX_VALUE / 2) {
+                break;
+            }
+            Graph graph = generator.connectedGraph(degree, vertexCount, (int) edgeCount, MAX_WEIGHT);
+            StringBuilder row = new StringBuilder(String.format("%8d %,12d", degree, graph.getEdgeCount()));
+            int expectedCost = -1;
+            for (MSTSolver solver : solvers) {
+                double[] times = new double[repetitions];
+                MSTResult result = solver.findMST(graph, context); // Warm-up
+                for (int r = 0; r < repetitions; r++) {
+                    result = solver.findMST(graph, context);
+                    times[r] = result.getExecutionTimeMs();
+                }
+                if (expectedCost >= 0 && result.getTotalCost() != expectedCost) {
+                    throw new IllegalStateException(solver.getName() + " returned cost " + result.getTotalCost()
+                            + ", expected " + expectedCost);
+                }
+                expectedCost = result.getTotalCost();
+                Arrays.sort(times);
+                row.append(String.format(" %12.2f %,14d", times[repetitions / 2], result.getOperationsCount()));
+            }
+            System.out.println(row);
+        }
+    }
+}
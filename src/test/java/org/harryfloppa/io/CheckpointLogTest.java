@@ -0,0 +1,178 @@
+package org.harryfloppa.io;
+
+import org.harryfloppa.algorithm.KruskalAlgorithm;
+import org.harryfloppa.algorithm.PrimAlgorithm;
+import org.harryfloppa.benchmark.GraphGenerator;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the append-only result checkpoint log.
+ */
+@DisplayName("Checkpoint Log Tests")
+class CheckpointLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Results logged in one run are restored by the next")
+    void testResume() throws Exception {
+        Path file = directory.resolve("run.ckpt");
+        List<Graph> graphs = List.of(graph(1, 1), graph(2, 2), graph(3, 3));
+
+        try (CheckpointLog log = new CheckpointLog(file)) {
+            assertNull(log.restore(graphs.get(0)));
+            for (Graph graph : graphs.subList(0, 2)) {
+                log.append(graph, solve(graph));
+            }
+            // Written but not yet synced, and readable before the sync
+            assertSameResults(solve(graphs.get(1)), log.restore(graphs.get(1)));
+        }
+
+        try (CheckpointLog log = new CheckpointLog(file)) {
+            assertEquals(2, log.getRecoveredRecords());
+            assertEquals(0, log.getDiscardedBytes());
+            assertSameResults(solve(graphs.get(0)), log.restore(graphs.get(0)));
+            assertSameResults(solve(graphs.get(1)), log.restore(graphs.get(1)));
+            assertNull(log.restore(graphs.get(2)));
+        }
+    }
+
+    @Test
+    @DisplayName("A graph whose input changed is not restored")
+    void testInputHash() throws Exception {
+        Path file = directory.resolve("changed.ckpt");
+        Graph original = graph(1, 1);
+        Graph changed = graph(1, 2);
+
+        try (CheckpointLog log = new CheckpointLog(file)) {
+            log.append(original, solve(original));
+        }
+
+        assertNotEquals(CheckpointLog.inputHash(original), CheckpointLog.inputHash(changed));
+        assertEquals(CheckpointLog.inputHash(original), CheckpointLog.inputHash(graph(1, 1)));
+        try (CheckpointLog log = new CheckpointLog(file)) {
+            assertNull(log.restore(changed));
+            log.append(changed, solve(changed));
+            assertSameResults(solve(changed), log.restore(changed));
+        }
+        try (CheckpointLog log = new CheckpointLog(file)) {
+            assertNull(log.restore(original));
+            assertNotNull(log.restore(changed));
+        }
+    }
+
+    @Test
+    @DisplayName("A torn or corrupt tail is dropped and later appends follow the last complete record")
+    void testTornTail() throws Exception {
+        Path file = directory.resolve("torn.ckpt");
+        Graph first = graph(1, 1);
+        Graph second = graph(2, 2);
+        try (CheckpointLog log = new CheckpointLog(file)) {
+            log.append(first, solve(first));
+            log.append(second, solve(second));
+        }
+        long size = Files.size(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 5);
+        }
+
+        try (CheckpointLog log = new CheckpointLog(file)) {
+            assertEquals(1, log.getRecoveredRecords());
+            assertTrue(log.getDiscardedBytes() > 0);
+            assertNull(log.restore(second));
+            log.append(second, solve(second));
+        }
+
+        // Flip a byte inside the last record: its CRC no longer matches
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 20] ^= 1;
+        Files.write(file, bytes);
+        try (CheckpointLog log = new CheckpointLog(file)) {
+            assertEquals(1, log.getRecoveredRecords());
+            assertNotNull(log.restore(first));
+            assertNull(log.restore(second));
+        }
+    }
+
+    @Test
+    @DisplayName("Records are fsynced in groups")
+    void testSyncBatching() throws Exception {
+        Path file = directory.resolve("batched.ckpt");
+        CheckpointLog log = new CheckpointLog(file, 3, Long.MAX_VALUE / 2_000_000);
+        for (int id = 1; id <= 7; id++) {
+            Graph graph = graph(id, id);
+            log.append(graph, solve(graph));
+        }
+        assertEquals(2, log.getSyncCount());
+        log.close();
+        assertEquals(3, log.getSyncCount());
+        assertEquals(7, log.getAppendedRecords());
+        try (CheckpointLog reopened = new CheckpointLog(file)) {
+            assertEquals(7, reopened.getRecoveredRecords());
+        }
+    }
+
+    @Test
+    @DisplayName("Records reach the file at once and are synced by the timer without further appends")
+    void testSyncTimer() throws Exception {
+        Path file = directory.resolve("timed.ckpt");
+        try (CheckpointLog log = new CheckpointLog(file, 1_000, 50)) {
+            long emptySize = Files.size(file);
+            Graph graph = graph(1, 1);
+            log.append(graph, solve(graph));
+            assertTrue(Files.size(file) > emptySize);
+
+            long deadline = System.nanoTime() + 10_000_000_000L;
+            while (log.getSyncCount() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, log.getSyncCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Other files are not opened as checkpoint logs")
+    void testNotALog() throws Exception {
+        Path file = directory.resolve("input.json");
+        Files.writeString(file, "{\"graphs\": []}");
+
+        assertThrows(IOException.class, () -> new CheckpointLog(file));
+        assertThrows(IllegalArgumentException.class, () -> new CheckpointLog(directory.resolve("x"), 0, 10));
+    }
+
+    private static Graph graph(int id, long seed) {
+        return new GraphGenerator(seed).connectedGraph(id, 50, 149, 100);
+    }
+
+    private static OutputWriter.AlgorithmResults solve(Graph graph) {
+        return new OutputWriter.AlgorithmResults(new PrimAlgorithm().findMST(graph),
+                new KruskalAlgorithm().findMST(graph));
+    }
+
+    private static void assertSameResults(OutputWriter.AlgorithmResults expected,
+                                          OutputWriter.AlgorithmResults actual) {
+        assertNotNull(actual);
+        assertSameTree(expected.getPrimResult(), actual.getPrimResult());
+        assertSameTree(expected.getKruskalResult(), actual.getKruskalResult());
+    }
+
+    private static void assertSameTree(MSTResult expected, MSTResult actual) {
+        assertEquals(expected.getMstEdges(), actual.getMstEdges());
+        assertEquals(expected.getTotalCost(), actual.getTotalCost());
+        assertEquals(expected.getOperationsCount(), actual.getOperationsCount());
+    }
+}
@@ -0,0 +1,110 @@
+package org.harryfloppa.io;
+
+import org.harryfloppa.algorithm.KruskalAlgorithm;
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for load-time edge compaction.
+ */
+@DisplayName("Edge Compactor Tests")
+class EdgeCompactorTest {
+
+    @Test
+    @DisplayName("Keeps the lightest edge per unordered pair and drops self-loops")
+    void testCompactsArrays() {
+        int[] from = {0, 1, 0, 2, 2, 1, 0};
+        int[] to = {1, 0, 1, 2, 1, 2, 1};
+        int[] weight = {5, 3, 3, 1, 4, 2, 9};
+
+        EdgeCompactor compactor = new EdgeCompactor();
+        int[] kept = compactor.compact(from, to, weight, from.length);
+
+        // 1-0 (3) beats 0-1 (5) and ties 0-1 (3), the earlier one wins; 1-2 (2) beats 2-1 (4)
+        assertArrayEquals(new int[]{1, 5}, kept);
+        assertEquals(7, compactor.getInputEdges());
+        assertEquals(1, compactor.getSelfLoopsRemoved());
+        assertEquals(4, compactor.getParallelEdgesRemoved());
+        assertEquals(100.0 * 5 / 7, compactor.getReductionPercent(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Reader compaction leaves MST costs unchanged and reports the reduction")
+    void testReaderCompaction() {
+        String json = "{\"graphs\": [{\"id\": 1, \"nodes\": [\"A\", \"B\", \"C\"], \"edges\": ["
+                + "{\"from\": \"A\", \"to\": \"B\", \"weight\": 4},"
+                + "{\"from\": \"B\", \"to\": \"A\", \"weight\": 2},"
+                + "{\"from\": \"B\", \"to\": \"B\", \"weight\": 0},"
+                + "{\"from\": \"B\", \"to\": \"C\", \"weight\": 6}]}]}";
+
+        Graph plain = new InputReader().readGraphs(new StringReader(json)).get(0);
+        EdgeCompactor compactor = new EdgeCompactor();
+        Graph compacted = new InputReader(compactor).readGraphs(new StringReader(json)).get(0);
+
+        assertEquals(4, plain.getEdgeCount());
+        assertEquals(4, plain.getInputEdgeCount());
+        assertEquals(2, compacted.getEdgeCount());
+        assertEquals(4, compacted.getInputEdgeCount());
+        assertEquals(new Edge("B", "A", 2), compacted.getEdge(0));
+        assertEquals(1, compacted.getEdgeFrom(0));
+        assertEquals(0, compacted.getEdgeTo(0));
+        assertEquals(new KruskalAlgorithm().findMST(plain).getTotalCost(),
+                new KruskalAlgorithm().findMST(compacted).getTotalCost());
+        assertEquals(2, compactor.getRemovedEdges());
+        assertTrue(compactor.getReport().startsWith("2 of 4 edges removed"), compactor.getReport());
+    }
+
+    @Test
+    @DisplayName("Compacting random multigraphs preserves the MST cost")
+    void testRandomMultigraphs() {
+        Random random = new Random(40);
+        for (int round = 0; round < 20; round++) {
+            int vertexCount = 2 + random.nextInt(30);
+            List<String> nodes = new ArrayList<>();
+            for (int v = 0; v < vertexCount; v++) {
+                nodes.add("V" + v);
+            }
+            List<Edge> edges = new ArrayList<>();
+            for (int i = 0; i < 6 * vertexCount; i++) {
+                edges.add(new Edge(nodes.get(random.nextInt(vertexCount)), nodes.get(random.nextInt(vertexCount)),
+                        random.nextInt(50)));
+            }
+            Graph graph = new Graph(round, nodes, edges);
+            Graph compacted = new EdgeCompactor().compact(graph);
+            assertEquals(graph.getEdgeCount(), compacted.getInputEdgeCount());
+
+            assertEquals(new KruskalAlgorithm().findMST(graph).getTotalCost(),
+                    new KruskalAlgorithm().findMST(compacted).getTotalCost());
+            Set<Long> pairs = new HashSet<>();
+            for (int e = 0; e < compacted.getEdgeCount(); e++) {
+                int u = compacted.getEdgeFrom(e);
+                int v = compacted.getEdgeTo(e);
+                assertNotEquals(u, v);
+                assertTrue(pairs.add(((long) Math.min(u, v) << 32) | Math.max(u, v)));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Long-keyed hash map grows and keeps every entry")
+    void testLongIntHashMap() {
+        LongIntHashMap map = new LongIntHashMap(2);
+        for (int i = 0; i < 10_000; i++) {
+            map.put(((long) i << 32) | (i * 7L), i);
+        }
+        map.put(0L, -5);
+
+        assertEquals(10_000, map.size());
+        assertEquals(-5, map.get(0L, -1));
+        assertEquals(9_999, map.get((9_999L << 32) | (9_999 * 7L), -1));
+        assertEquals(-1, map.get(42L, -1));
+        assertThrows(IllegalArgumentException.class, () -> map.put(Long.MIN_VALUE, 1));
+    }
+}
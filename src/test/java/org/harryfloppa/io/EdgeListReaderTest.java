@@ -0,0 +1,135 @@
+package org.harryfloppa.io;
+
+import org.harryfloppa.algorithm.KruskalAlgorithm;
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the memory-mapped CSV/TSV edge list loader.
+ */
+@DisplayName("Edge List Reader Tests")
+class EdgeListReaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Reads a CSV with a header, comments, blank lines, quotes and CRLF endings")
+    void testCsv() throws Exception {
+        Path file = write("roads.csv", "from,to,weight\r\n"
+                + "# district roads\r\n"
+                + "A,B,4\r\n"
+                + "\r\n"
+                + " \"A\" , C , 3 ,paved\r\n"
+                + "B,C,-2\r\n"
+                + "C,D,7");
+
+        Graph graph = new EdgeListReader().readGraph(file.toString(), 5);
+
+        assertEquals(5, graph.getId());
+        assertEquals(List.of("A", "B", "C", "D"), graph.getNodes());
+        assertEquals(4, graph.getEdgeCount());
+        assertEquals(new Edge("A", "C", 3), graph.getEdge(1));
+        assertEquals(-2, graph.getEdgeWeight(2));
+        assertEquals(3, graph.getEdgeTo(3));
+        assertFalse(graph.hasEdgeObjects());
+        assertEquals(8, new KruskalAlgorithm().findMST(graph).getTotalCost());
+    }
+
+    @Test
+    @DisplayName("Reads a TSV whose names contain commas")
+    void testTsv() throws Exception {
+        Path file = write("roads.tsv", "Almaty, centre\tAstana\t10\nAstana\tShymkent, south\t20\n");
+
+        Graph graph = new EdgeListReader().readGraph(file.toString());
+
+        assertEquals(List.of("Almaty, centre", "Astana", "Shymkent, south"), graph.getNodes());
+        assertEquals(30, new KruskalAlgorithm().findMST(graph).getTotalCost());
+    }
+
+    @Test
+    @DisplayName("Lines crossing mapped segments and the read buffer are parsed intact")
+    void testSegmentBoundaries() throws Exception {
+        Random random = new Random(3);
+        StringBuilder csv = new StringBuilder();
+        List<Edge> expected = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            // Some names are far longer than a segment, and some are not ASCII
+            String from = "V" + random.nextInt(2_000);
+            String to = i % 5_000 == 0 ? "x".repeat(600_000) : (i % 7 == 0 ? "Қ" : "V") + random.nextInt(2_000);
+            int weight = random.nextInt(2_000_001) - 1_000_000;
+            expected.add(new Edge(from, to, weight));
+            csv.append(from).append(',').append(to).append(',').append(weight).append('\n');
+        }
+        Path file = write("large.csv", csv.toString());
+
+        // 4 KB segments: many lines cross one, and the long names cross several
+        Graph graph = new EdgeListReader(null, 12).readGraph(file.toString());
+
+        assertEquals(expected, graph.getEdges());
+        assertEquals(new HashSet<>(graph.getNodes()).size(), graph.getVertexCount());
+    }
+
+    @Test
+    @DisplayName("Compacts while loading and reports the file size")
+    void testCompaction() throws Exception {
+        Path file = write("multi.csv", "A,B,5\nB,A,3\nA,A,1\nB,C,2\nC,B,2\n");
+        EdgeCompactor compactor = new EdgeCompactor();
+
+        EdgeListReader reader = new EdgeListReader(compactor);
+        Graph graph = reader.readGraph(file.toString());
+
+        assertEquals(List.of(new Edge("B", "A", 3), new Edge("B", "C", 2)), graph.getEdges());
+        assertEquals(5, compactor.getInputEdges());
+        assertEquals(Files.size(file), reader.getBytesRead());
+        assertTrue(reader.getLoadTimeMs() > 0);
+    }
+
+    @Test
+    @DisplayName("Malformed lines are rejected with their line number")
+    void testMalformedLines() throws Exception {
+        EdgeListReader reader = new EdgeListReader();
+
+        Path missingColumn = write("missing.csv", "A,B,1\nB,C\n");
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> reader.readGraph(missingColumn.toString()));
+        assertTrue(error.getMessage().contains("line 2"), error.getMessage());
+
+        Path fraction = write("fraction.csv", "A,B,1\nB,C,2.5\n");
+        assertThrows(IllegalArgumentException.class, () -> reader.readGraph(fraction.toString()));
+
+        Path overflow = write("overflow.csv", "A,B,1\nB,C,2147483648\n");
+        assertThrows(IllegalArgumentException.class, () -> reader.readGraph(overflow.toString()));
+
+        Path emptyName = write("empty.csv", "A,,1\n");
+        assertThrows(IllegalArgumentException.class, () -> reader.readGraph(emptyName.toString()));
+    }
+
+    @Test
+    @DisplayName("Int range bounds and an empty file")
+    void testEdgeCases() throws Exception {
+        Graph bounds = new EdgeListReader().readGraph(write("bounds.csv",
+                "A,B,2147483647\nB,C,-2147483648\n").toString());
+        Graph empty = new EdgeListReader().readGraph(write("empty.csv", "").toString());
+
+        assertEquals(Integer.MAX_VALUE, bounds.getEdgeWeight(0));
+        assertEquals(Integer.MIN_VALUE, bounds.getEdgeWeight(1));
+        assertEquals(0, empty.getVertexCount());
+        assertEquals(0, empty.getEdgeCount());
+    }
+
+    private Path write(String name, String content) throws Exception {
+        Path file = directory.resolve(name);
+        Files.writeString(file, content);
+        return file;
+    }
+}
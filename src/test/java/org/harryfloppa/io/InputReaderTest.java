@@ -0,0 +1,61 @@
+package org.harryfloppa.io;
+
+import org.harryfloppa.model.Graph;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the JSON loader's vertex interning.
+ */
+@DisplayName("Input Reader Tests")
+class InputReaderTest {
+
+    private static Graph read(String json) {
+        return new InputReader().readGraphs(new StringReader(json)).get(0);
+    }
+
+    @Test
+    @DisplayName("Vertex ids follow the order of the nodes array")
+    void testIdOrder() {
+        Graph graph = read("{\"id\": 1, \"nodes\": [\"C\", \"A\", \"B\"], \"edges\": ["
+                + "{\"from\": \"B\", \"to\": \"C\", \"weight\": 4}, {\"from\": \"A\", \"to\": \"B\", \"weight\": 2}]}");
+
+        assertEquals(List.of("C", "A", "B"), graph.getNodes());
+        assertEquals(2, graph.getEdgeFrom(0));
+        assertEquals(0, graph.getEdgeTo(0));
+        assertEquals(1, graph.getEdgeFrom(1));
+        assertEquals(2, graph.getEdgeTo(1));
+        // Edge endpoints are the interned node names
+        assertSame(graph.getNodeName(2), graph.getEdge(0).getFrom());
+    }
+
+    @Test
+    @DisplayName("A repeated node name is one vertex")
+    void testDuplicateNames() {
+        Graph graph = read("{\"id\": 2, \"nodes\": [\"A\", \"B\", \"A\"], \"edges\": ["
+                + "{\"from\": \"A\", \"to\": \"B\", \"weight\": 1}]}");
+
+        assertEquals(2, graph.getVertexCount());
+        assertEquals(List.of("A", "B"), graph.getNodes());
+        assertEquals(0, graph.getEdgeFrom(0));
+        assertEquals(1, graph.getEdgeTo(0));
+    }
+
+    @Test
+    @DisplayName("An edge endpoint missing from the nodes is rejected")
+    void testUndeclaredEndpoint() {
+        String json = "{\"graphs\": [{\"id\": 3, \"nodes\": [\"A\", \"B\"], \"edges\": ["
+                + "{\"from\": \"A\", \"to\": \"B\", \"weight\": 1}, {\"from\": \"B\", \"to\": \"Z\", \"weight\": 2}]}]}";
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> new InputReader().readGraphs(new StringReader(json)));
+
+        assertTrue(error.getMessage().contains("Z"), error.getMessage());
+        assertTrue(error.getMessage().contains("graph 3"), error.getMessage());
+    }
+}
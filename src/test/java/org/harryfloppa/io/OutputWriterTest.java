@@ -0,0 +1,208 @@
+package org.harryfloppa.io;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.harryfloppa.algorithm.KruskalAlgorithm;
+import org.harryfloppa.algorithm.PrimAlgorithm;
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+import org.harryfloppa.model.MSTResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the output layouts and compressions of the result writer.
+ */
+@DisplayName("Output Writer Tests")
+class OutputWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Binary results read back to the same trees and metrics")
+    void testBinaryRoundTrip() throws Exception {
+        Graph graph = sampleGraph();
+        Map<Integer, OutputWriter.AlgorithmResults> results = solve(graph);
+
+        byte[] bytes = write(new OutputWriter(OutputWriter.Format.BINARY, OutputWriter.Compression.NONE),
+                results, graph);
+        Map<Integer, OutputWriter.AlgorithmResults> read =
+                new BinaryResultCodec().readResults(new ByteArrayInputStream(bytes));
+
+        assertEquals(Set.of(graph.getId()), read.keySet());
+        assertSameResult(results.get(graph.getId()).getPrimResult(), read.get(graph.getId()).getPrimResult());
+        assertSameResult(results.get(graph.getId()).getKruskalResult(),
+                read.get(graph.getId()).getKruskalResult());
+    }
+
+    @Test
+    @DisplayName("Columnar JSON lists node names once and indexes them from parallel arrays")
+    void testColumnarLayout() throws Exception {
+        Graph graph = sampleGraph();
+        Map<Integer, OutputWriter.AlgorithmResults> results = solve(graph);
+
+        byte[] columnar = write(new OutputWriter(OutputWriter.Format.COLUMNAR, OutputWriter.Compression.NONE),
+                results, graph);
+        byte[] json = write(new OutputWriter(), results, graph);
+
+        JsonObject root = JsonParser.parseString(new String(columnar, StandardCharsets.UTF_8)).getAsJsonObject();
+        JsonObject entry = root.getAsJsonArray("results").get(0).getAsJsonObject();
+        JsonArray nodes = entry.getAsJsonArray("nodes");
+        JsonObject prim = entry.getAsJsonObject("prim");
+        MSTResult expected = results.get(graph.getId()).getPrimResult();
+        List<Edge> edges = new ArrayList<>();
+        for (int i = 0; i < prim.getAsJsonArray("from").size(); i++) {
+            edges.add(new Edge(nodes.get(prim.getAsJsonArray("from").get(i).getAsInt()).getAsString(),
+                    nodes.get(prim.getAsJsonArray("to").get(i).getAsInt()).getAsString(),
+                    prim.getAsJsonArray("weight").get(i).getAsInt()));
+        }
+
+        assertEquals("columnar", root.get("format").getAsString());
+        assertEquals(graph.getNodes().size(), nodes.size());
+        assertEquals(expected.getMstEdges(), edges);
+        assertEquals(expected.getTotalCost(), prim.get("total_cost").getAsInt());
+        assertTrue(columnar.length < json.length / 2, columnar.length + " vs " + json.length);
+    }
+
+    @Test
+    @DisplayName("Input stats report the input's edge count, and the compacted one when it differs")
+    void testInputStats() throws Exception {
+        String input = "{\"id\": 4, \"nodes\": [\"A\", \"B\"], \"edges\": ["
+                + "{\"from\": \"A\", \"to\": \"B\", \"weight\": 3}, {\"from\": \"B\", \"to\": \"A\", \"weight\": 1},"
+                + "{\"from\": \"A\", \"to\": \"A\", \"weight\": 0}]}";
+        Graph plain = new InputReader().readGraphs(new StringReader(input)).get(0);
+        Graph compacted = new InputReader(new EdgeCompactor()).readGraphs(new StringReader(input)).get(0);
+
+        for (OutputWriter.Format format : List.of(OutputWriter.Format.JSON, OutputWriter.Format.COLUMNAR)) {
+            OutputWriter writer = new OutputWriter(format, OutputWriter.Compression.NONE);
+            JsonObject plainStats = inputStats(write(writer, solve(plain), plain));
+            JsonObject compactedStats = inputStats(write(writer, solve(compacted), compacted));
+
+            assertEquals(3, plainStats.get("edges").getAsInt());
+            assertFalse(plainStats.has("edges_after_compaction"));
+            assertEquals(3, compactedStats.get("edges").getAsInt());
+            assertEquals(1, compactedStats.get("edges_after_compaction").getAsInt());
+        }
+    }
+
+    @Test
+    @DisplayName("Compressed files inflate to the uncompressed output and report their size")
+    void testCompression() throws Exception {
+        Graph graph = sampleGraph();
+        Map<Integer, OutputWriter.AlgorithmResults> results = solve(graph);
+
+        for (OutputWriter.Format format : OutputWriter.Format.values()) {
+            byte[] plain = write(new OutputWriter(format, OutputWriter.Compression.NONE), results, graph);
+
+            Path gzipFile = directory.resolve("results" + format.getSuffix() + ".gz");
+            OutputWriter gzip = new OutputWriter(format, OutputWriter.Compression.GZIP);
+            gzip.writeResults(gzipFile.toString(), results, Map.of(graph.getId(), graph));
+            try (InputStream input = new GZIPInputStream(Files.newInputStream(gzipFile))) {
+                assertArrayEquals(plain, input.readAllBytes(), format.getName());
+            }
+            assertEquals(Files.size(gzipFile), gzip.getOutputBytes());
+            assertTrue(gzip.getOutputBytes() < plain.length);
+            assertTrue(gzip.getWriteTimeMs() > 0);
+
+            Path deflateFile = directory.resolve("results" + format.getSuffix() + ".deflate");
+            OutputWriter deflate = new OutputWriter(format, OutputWriter.Compression.DEFLATE);
+            deflate.writeResults(deflateFile.toString(), results, Map.of(graph.getId(), graph));
+            try (InputStream input = new InflaterInputStream(Files.newInputStream(deflateFile),
+                    new Inflater(true))) {
+                assertArrayEquals(plain, input.readAllBytes(), format.getName());
+            }
+            assertEquals(Files.size(deflateFile), deflate.getOutputBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("Results built from edge lists are written by name")
+    void testListResults() throws Exception {
+        Graph graph = new Graph(3, List.of("A", "B", "C"),
+                List.of(new Edge("A", "B", 1), new Edge("B", "C", 2), new Edge("A", "C", 5)));
+        MSTResult listResult = new MSTResult(List.of(new Edge("C", "B", 2), new Edge("A", "B", 1)), 3, 7, 0.5);
+        Map<Integer, OutputWriter.AlgorithmResults> results =
+                Map.of(3, new OutputWriter.AlgorithmResults(listResult, new KruskalAlgorithm().findMST(graph)));
+
+        byte[] bytes = write(new OutputWriter(OutputWriter.Format.BINARY, OutputWriter.Compression.NONE),
+                results, graph);
+        MSTResult read = new BinaryResultCodec().readResults(new ByteArrayInputStream(bytes)).get(3).getPrimResult();
+
+        assertSameResult(listResult, read);
+
+        MSTResult stranger = new MSTResult(List.of(new Edge("A", "Z", 1)), 1, 1, 0.1);
+        OutputWriter columnar = new OutputWriter(OutputWriter.Format.COLUMNAR, OutputWriter.Compression.NONE);
+        assertThrows(IllegalArgumentException.class, () -> write(columnar,
+                Map.of(3, new OutputWriter.AlgorithmResults(stranger, stranger)), graph));
+    }
+
+    @Test
+    @DisplayName("Format and compression names parse case-insensitively; other streams are not read as binary")
+    void testNames() {
+        assertEquals(OutputWriter.Format.COLUMNAR, OutputWriter.Format.fromName("Columnar"));
+        assertEquals(OutputWriter.Compression.GZIP, OutputWriter.Compression.fromName("GZIP"));
+        assertThrows(IllegalArgumentException.class, () -> OutputWriter.Format.fromName("xml"));
+        assertThrows(IOException.class, () -> new BinaryResultCodec().readResults(
+                new ByteArrayInputStream("{\"results\":[]}".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private static JsonObject inputStats(byte[] json) {
+        return JsonParser.parseString(new String(json, StandardCharsets.UTF_8)).getAsJsonObject()
+                .getAsJsonArray("results").get(0).getAsJsonObject().getAsJsonObject("input_stats");
+    }
+
+    private static Graph sampleGraph() {
+        Random random = new Random(47);
+        List<String> nodes = new ArrayList<>();
+        for (int v = 0; v < 300; v++) {
+            nodes.add("node-" + v);
+        }
+        List<Edge> edges = new ArrayList<>();
+        for (int v = 1; v < nodes.size(); v++) {
+            edges.add(new Edge(nodes.get(random.nextInt(v)), nodes.get(v), random.nextInt(1_000)));
+        }
+        for (int i = 0; i < 600; i++) {
+            edges.add(new Edge(nodes.get(random.nextInt(300)), nodes.get(random.nextInt(300)),
+                    random.nextInt(1_000)));
+        }
+        return new Graph(1, nodes, edges);
+    }
+
+    private static Map<Integer, OutputWriter.AlgorithmResults> solve(Graph graph) {
+        return Map.of(graph.getId(), new OutputWriter.AlgorithmResults(new PrimAlgorithm().findMST(graph),
+                new KruskalAlgorithm().findMST(graph)));
+    }
+
+    private static byte[] write(OutputWriter writer, Map<Integer, OutputWriter.AlgorithmResults> results,
+                                Graph graph) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        writer.writeResults(output, results, Map.of(graph.getId(), graph));
+        return output.toByteArray();
+    }
+
+    private static void assertSameResult(MSTResult expected, MSTResult actual) {
+        assertEquals(expected.getMstEdges(), actual.getMstEdges());
+        assertEquals(expected.getTotalCost(), actual.getTotalCost());
+        assertEquals(expected.getOperationsCount(), actual.getOperationsCount());
+        assertEquals(expected.getExecutionTimeMs(), actual.getExecutionTimeMs());
+        assertEquals(expected.getAllocatedBytes(), actual.getAllocatedBytes());
+    }
+}
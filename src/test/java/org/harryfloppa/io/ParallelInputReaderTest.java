@@ -0,0 +1,112 @@
+package org.harryfloppa.io;
+
+import org.harryfloppa.model.Graph;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the parallel memory-mapped JSON loader.
+ */
+@DisplayName("Parallel Input Reader Tests")
+class ParallelInputReaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Loads the sample input exactly like the sequential reader")
+    void testMatchesSequentialReader() throws Exception {
+        List<Graph> expected = new InputReader().readGraphs("src/data/input.json");
+        AtomicInteger callbacks = new AtomicInteger();
+
+        ParallelInputReader reader = new ParallelInputReader(3);
+        List<Graph> actual = reader.readGraphs("src/data/input.json", graph -> callbacks.incrementAndGet());
+
+        assertSameGraphs(expected, actual);
+        assertEquals(expected.size(), callbacks.get());
+        assertTrue(reader.getTimeToFirstGraphMs() <= reader.getLoadTimeMs());
+    }
+
+    @Test
+    @DisplayName("Objects spanning mapped segment boundaries are parsed intact")
+    void testSegmentBoundaries() throws Exception {
+        List<Graph> expected = new InputReader().readGraphs("src/data/input.json");
+
+        // 64-byte segments: nearly every graph object crosses several
+        List<Graph> actual = new ParallelInputReader(2, null, 6).readGraphs("src/data/input.json");
+
+        assertSameGraphs(expected, actual);
+    }
+
+    @Test
+    @DisplayName("Braces, quotes and a 'graphs' value inside strings do not confuse the scan")
+    void testScanIgnoresStrings() throws Exception {
+        String json = "{\"note\": \"graphs\", \"meta\": {\"graphs\": [{\"id\": 0}]}, \"graphs\": ["
+                + "{\"id\": 1, \"nodes\": [\"A}\", \"B\\\"{\"], \"edges\": [{\"from\": \"A}\", \"to\": \"B\\\"{\", \"weight\": 3}]},"
+                + "{\"id\": 2, \"points\": [[0, 0], [1, 1]]},"
+                + "{\"id\": 3, \"nodes\": [\"[x]\"], \"edges\": []}"
+                + "], \"tail\": {\"graphs\": []}}";
+        Path file = directory.resolve("tricky.json");
+        Files.writeString(file, json);
+
+        List<long[]> ranges = new ArrayList<>();
+        ParallelInputReader.scan(new ByteBuffer[]{ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8))}, 30,
+                (start, end) -> ranges.add(new long[]{start, end}));
+        List<Graph> graphs = new ParallelInputReader(2).readGraphs(file.toString());
+
+        assertEquals(3, ranges.size());
+        assertEquals('{', json.charAt((int) ranges.get(0)[0]));
+        assertEquals('}', json.charAt((int) ranges.get(2)[1] - 1));
+        // The coordinate-only entry is skipped, as in InputReader.readGraphs
+        assertEquals(List.of(1, 3), graphs.stream().map(Graph::getId).toList());
+        assertEquals("B\"{", graphs.get(0).getEdge(0).getTo());
+    }
+
+    @Test
+    @DisplayName("Falls back to the sequential reader for a single graph document")
+    void testSingleGraphDocument() throws Exception {
+        Path file = directory.resolve("single.json");
+        Files.writeString(file, "{\"id\": 7, \"nodes\": [\"A\", \"B\"], \"edges\": [{\"from\": \"A\", \"to\": \"B\", \"weight\": 1}]}");
+
+        List<Graph> graphs = new ParallelInputReader(2).readGraphs(file.toString());
+
+        assertEquals(1, graphs.size());
+        assertEquals(7, graphs.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Compaction counts accumulate across worker threads")
+    void testCompactionAcrossThreads() throws Exception {
+        EdgeCompactor sequential = new EdgeCompactor();
+        new InputReader(sequential).readGraphs("src/data/input.json");
+        EdgeCompactor parallel = new EdgeCompactor();
+
+        new ParallelInputReader(4, parallel).readGraphs("src/data/input.json");
+
+        assertEquals(sequential.getInputEdges(), parallel.getInputEdges());
+        assertEquals(sequential.getRemovedEdges(), parallel.getRemovedEdges());
+    }
+
+    private static void assertSameGraphs(List<Graph> expected, List<Graph> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int g = 0; g < expected.size(); g++) {
+            assertEquals(expected.get(g).getId(), actual.get(g).getId());
+            assertEquals(expected.get(g).getNodes(), actual.get(g).getNodes());
+            assertEquals(expected.get(g).getEdges(), actual.get(g).getEdges());
+            for (int e = 0; e < expected.get(g).getEdgeCount(); e++) {
+                assertEquals(expected.get(g).getEdgeWeight(e), actual.get(g).getEdgeWeight(e));
+                assertEquals(expected.get(g).getEdgeFrom(e), actual.get(g).getEdgeFrom(e));
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.harryfloppa.io;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for vertex name interning.
+ */
+@DisplayName("Symbol Table Tests")
+class SymbolTableTest {
+
+    @Test
+    @DisplayName("Ids follow first-seen order and repeated names keep their id")
+    void testInternOrder() {
+        SymbolTable symbols = new SymbolTable();
+
+        assertEquals(0, symbols.intern("C"));
+        assertEquals(1, symbols.intern("A"));
+        assertEquals(0, symbols.intern("C"));
+        assertEquals(2, symbols.intern("B"));
+        assertEquals(1, symbols.intern("A"));
+
+        assertEquals(3, symbols.size());
+        assertEquals(List.of("C", "A", "B"), symbols.getNames());
+        assertEquals("A", symbols.nameOf(1));
+    }
+
+    @Test
+    @DisplayName("Lookups do not intern and return the canonical instance")
+    void testLookup() {
+        SymbolTable symbols = new SymbolTable(2);
+        String name = "Alpha";
+        symbols.intern(name);
+
+        assertEquals(0, symbols.idOf(new String("Alpha")));
+        assertEquals(-1, symbols.idOf("Beta"));
+        assertEquals(1, symbols.size());
+        assertSame(name, symbols.nameOf(symbols.intern(new String("Alpha"))));
+        assertThrows(UnsupportedOperationException.class, () -> symbols.getNames().add("Beta"));
+    }
+
+    @Test
+    @DisplayName("Grows past its expected size")
+    void testGrowth() {
+        SymbolTable symbols = new SymbolTable(1);
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(i, symbols.intern("V" + i));
+        }
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(i, symbols.idOf("V" + i));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.harryfloppa.model;
+
+import org.harryfloppa.algorithm.KruskalAlgorithm;
+import org.harryfloppa.algorithm.PrimAlgorithm;
+import org.harryfloppa.algorithm.ThreadAllocation;
+import org.harryfloppa.benchmark.GraphGenerator;
+import org.harryfloppa.io.BinaryGraphCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for graph footprint estimates and per-solve allocation accounting.
+ */
+@DisplayName("Graph Footprint Tests")
+class GraphFootprintTest {
+
+    @Test
+    @DisplayName("Retained size grows as lazy indexes are built; compact excludes edge objects")
+    void testRetainedAndCompact() {
+        Graph graph = new GraphGenerator(44).randomGraph(1, 200, 1_000, 1_000);
+        GraphFootprint initial = GraphFootprint.of(graph);
+
+        graph.getAdjacencyStart(0);
+        GraphFootprint withAdjacency = GraphFootprint.of(graph);
+        graph.getAdjacencyList();
+        GraphFootprint withMap = GraphFootprint.of(graph);
+
+        assertEquals(initial.getRetainedBytes() + initial.getAdjacencyBytes(), withAdjacency.getRetainedBytes());
+        assertTrue(withMap.getRetainedBytes() > withAdjacency.getRetainedBytes() + withMap.getEdgeObjectBytes() / 2);
+        assertEquals(initial.getCompactBytes(), withMap.getCompactBytes());
+        assertTrue(withMap.getCompactBytes() < withMap.getRetainedBytes());
+        // Each edge costs 12 bytes of ints plus 16 of adjacency in compact form, at least 24 as an Edge object
+        assertTrue(initial.getEdgeObjectBytes() >= 24L * graph.getEdgeCount());
+    }
+
+    @Test
+    @DisplayName("Binary size matches the codec's actual output")
+    void testBinarySize() throws Exception {
+        Graph graph = new GraphGenerator(44).randomGraph(1, 50, 300, 1_000);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new BinaryGraphCodec().writeGraphs(output, List.of(graph));
+
+        // The stream header (magic, version, graph count) is not part of a single graph
+        assertEquals(output.size() - 12, GraphFootprint.of(graph).getBinaryBytes());
+    }
+
+    @Test
+    @DisplayName("Solvers report the bytes allocated by the solving thread")
+    void testSolverAllocation() {
+        Graph small = new GraphGenerator(44).randomGraph(1, 100, 300, 1_000);
+        Graph large = new GraphGenerator(44).randomGraph(2, 10_000, 30_000, 1_000);
+        for (int warmUp = 0; warmUp < 3; warmUp++) {
+            new KruskalAlgorithm().findMST(large);
+        }
+
+        MSTResult smallResult = new KruskalAlgorithm().findMST(small);
+        MSTResult largeResult = new KruskalAlgorithm().findMST(large);
+        MSTResult primResult = new PrimAlgorithm().findMST(large);
+
+        if (!ThreadAllocation.isSupported()) {
+            assertEquals(-1, largeResult.getAllocatedBytes());
+            return;
+        }
+        assertTrue(smallResult.getAllocatedBytes() >= 0);
+        // At least the result's edge list: one reference per MST edge
+        assertTrue(largeResult.getAllocatedBytes() >= 4L * largeResult.getMstEdges().size());
+        assertTrue(largeResult.getAllocatedBytes() > smallResult.getAllocatedBytes());
+        assertTrue(primResult.getAllocatedBytes() > 0);
+        assertEquals(-1, new MSTResult(List.of(), 0, 0, 0).getAllocatedBytes());
+    }
+
+    @Test
+    @DisplayName("Formats byte counts with binary units")
+    void testFormat() {
+        assertEquals("512 B", GraphFootprint.format(512));
+        assertEquals("1.5 KB", GraphFootprint.format(1536));
+        assertEquals("2.0 MB", GraphFootprint.format(2L << 20));
+        assertEquals("n/a", GraphFootprint.format(-1));
+    }
+
+}
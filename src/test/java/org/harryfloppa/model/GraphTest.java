@@ -0,0 +1,102 @@
+package org.harryfloppa.model;
+
+import org.harryfloppa.algorithm.KruskalAlgorithm;
+import org.harryfloppa.algorithm.PrimAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the graph's views and lazily built adjacency.
+ */
+@DisplayName("Graph Tests")
+class GraphTest {
+
+    private Graph graph;
+
+    @BeforeEach
+    void setUp() {
+        graph = new Graph(1, Arrays.asList("A", "B", "C", "D"), Arrays.asList(
+                new Edge("A", "B", 1),
+                new Edge("B", "C", 2),
+                new Edge("A", "C", 3),
+                new Edge("C", "D", 4)
+        ));
+    }
+
+    @Test
+    @DisplayName("Node and edge accessors are read-only views, not copies")
+    void testViews() {
+        assertSame(graph.getEdges().get(1), graph.getEdge(1));
+        assertEquals(Arrays.asList("A", "B", "C", "D"), graph.getNodes());
+        assertThrows(UnsupportedOperationException.class, () -> graph.getNodes().add("E"));
+        assertThrows(UnsupportedOperationException.class, () -> graph.getEdges().remove(0));
+    }
+
+    @Test
+    @DisplayName("Kruskal never builds the adjacency; Prim builds it on demand")
+    void testLazyAdjacency() {
+        new KruskalAlgorithm().findMST(graph);
+        assertFalse(graph.hasAdjacency());
+
+        new PrimAlgorithm().findMST(graph);
+        assertTrue(graph.hasAdjacency());
+    }
+
+    @Test
+    @DisplayName("Primitive iterators walk neighbours, incident edges and weights")
+    void testPrimitiveIterators() {
+        assertEquals(Arrays.asList(1, 0, 3), drain(graph.adjacentVertices(2)));
+        assertEquals(Arrays.asList(1, 2, 3), drain(graph.incidentEdges(2)));
+        assertEquals(Arrays.asList(1, 2, 3, 4), drain(graph.edgeWeights()));
+        assertEquals(3, graph.getAdjacencyEnd(2) - graph.getAdjacencyStart(2));
+    }
+
+    @Test
+    @DisplayName("The heaviest edge weight is found once and cached")
+    void testMaxEdgeWeight() {
+        assertEquals(4, graph.getMaxEdgeWeight());
+        assertEquals(4, graph.getMaxEdgeWeight());
+        assertEquals(Integer.MIN_VALUE, new Graph(2, List.of("A"), new ArrayList<>()).getMaxEdgeWeight());
+    }
+
+    @Test
+    @DisplayName("Legacy adjacency map is built on first use with both directions")
+    void testAdjacencyList() {
+        Map<String, List<Edge>> adjacency = graph.getAdjacencyList();
+
+        assertSame(adjacency, graph.getAdjacencyList());
+        assertEquals(3, adjacency.get("C").size());
+        assertEquals("D", adjacency.get("D").get(0).getFrom());
+    }
+
+    @Test
+    @DisplayName("A compact graph creates equal Edge objects on access and matches the list-based graph")
+    void testCompactGraph() {
+        Graph compact = new Graph(1, graph.getNodes(), new int[]{0, 1, 0, 2}, new int[]{1, 2, 2, 3},
+                new int[]{1, 2, 3, 4});
+
+        assertFalse(compact.hasEdgeObjects());
+        assertTrue(graph.hasEdgeObjects());
+        assertEquals(graph.getEdges(), compact.getEdges());
+        assertEquals(graph.getEdge(2), compact.getEdge(2));
+        assertEquals(drain(graph.adjacentVertices(2)), drain(compact.adjacentVertices(2)));
+        assertEquals(3, compact.getAdjacencyList().get("C").size());
+        assertEquals(new KruskalAlgorithm().findMST(graph).getTotalCost(),
+                new PrimAlgorithm().findMST(compact).getTotalCost());
+        assertThrows(IllegalArgumentException.class,
+                () -> new Graph(2, graph.getNodes(), new int[]{0}, new int[]{1}, new int[0]));
+    }
+
+    private static List<Integer> drain(PrimitiveIterator.OfInt iterator) {
+        List<Integer> values = new ArrayList<>();
+        while (iterator.hasNext()) {
+            values.add(iterator.nextInt());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,132 @@
+package org.harryfloppa.server;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.harryfloppa.io.BinaryGraphCodec;
+import org.harryfloppa.model.Edge;
+import org.harryfloppa.model.Graph;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.ByteArrayOutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * End-to-end tests for the resident MST service.
+ */
+@DisplayName("MST Server Tests")
+class MSTServerTest {
+
+    private static final String TRIANGLE_JSON = "{\"id\": 7, \"nodes\": [\"A\", \"B\", \"C\"], \"edges\": ["
+            + "{\"from\": \"A\", \"to\": \"B\", \"weight\": 1},"
+            + "{\"from\": \"B\", \"to\": \"C\", \"weight\": 2},"
+            + "{\"from\": \"A\", \"to\": \"C\", \"weight\": 3}]}";
+
+    private MSTServer server;
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = new MSTServer(new InetSocketAddress("localhost", 0));
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    private HttpResponse<String> post(String path, HttpRequest.BodyPublisher body, String contentType) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+                .header("Content-Type", contentType)
+                .POST(body)
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    @DisplayName("Solves a JSON graph with both algorithms")
+    void testSolvesJsonGraph() throws Exception {
+        HttpResponse<String> response = post("/mst", HttpRequest.BodyPublishers.ofString(TRIANGLE_JSON),
+                "application/json");
+
+        assertEquals(200, response.statusCode());
+        JsonObject result = JsonParser.parseString(response.body()).getAsJsonObject()
+                .getAsJsonArray("results").get(0).getAsJsonObject();
+        assertEquals(7, result.get("graph_id").getAsInt());
+        assertEquals(3, result.getAsJsonObject("prim").get("total_cost").getAsInt());
+        assertEquals(3, result.getAsJsonObject("kruskal").get("total_cost").getAsInt());
+    }
+
+    @Test
+    @DisplayName("Solves a binary graph with the selected algorithm")
+    void testSolvesBinaryGraph() throws Exception {
+        Graph graph = new Graph(9, Arrays.asList("A", "B", "C", "D"), Arrays.asList(
+                new Edge("A", "B", 1), new Edge("A", "C", 4), new Edge("A", "D", 3),
+                new Edge("B", "C", 2), new Edge("B", "D", 5), new Edge("C", "D", 6)));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new BinaryGraphCodec().writeGraphs(bytes, List.of(graph));
+
+        HttpResponse<String> response = post("/mst?algorithm=prim",
+                HttpRequest.BodyPublishers.ofByteArray(bytes.toByteArray()), "application/octet-stream");
+
+        assertEquals(200, response.statusCode());
+        JsonObject result = JsonParser.parseString(response.body()).getAsJsonObject()
+                .getAsJsonArray("results").get(0).getAsJsonObject();
+        assertEquals(6, result.getAsJsonObject("prim").get("total_cost").getAsInt());
+        assertFalse(result.has("kruskal"));
+    }
+
+    @Test
+    @DisplayName("Rejects binary counts larger than the request and bodies over the size limit")
+    void testRejectsOversizedInput() throws Exception {
+        // Valid header, then a graph count of 2^31 - 1 in a 12-byte body
+        ByteBuffer header = ByteBuffer.allocate(12).putInt(BinaryGraphCodec.MAGIC).putInt(BinaryGraphCodec.VERSION)
+                .putInt(Integer.MAX_VALUE);
+        HttpResponse<String> response = post("/mst", HttpRequest.BodyPublishers.ofByteArray(header.array()),
+                "application/octet-stream");
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().contains("graph count"), response.body());
+
+        MSTServer small = new MSTServer(new InetSocketAddress("localhost", 0), 64);
+        small.start();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + small.getPort() + "/mst"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(TRIANGLE_JSON))
+                    .build();
+            assertEquals(413, client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode());
+        } finally {
+            small.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("Rejects malformed input and reports latency statistics")
+    void testErrorsAndStats() throws Exception {
+        assertEquals(400, post("/mst", HttpRequest.BodyPublishers.ofString("{not json"),
+                "application/json").statusCode());
+        assertEquals(400, post("/mst?algorithm=bogus", HttpRequest.BodyPublishers.ofString(TRIANGLE_JSON),
+                "application/json").statusCode());
+        post("/mst", HttpRequest.BodyPublishers.ofString(TRIANGLE_JSON), "application/json");
+
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(
+                URI.create("http://localhost:" + server.getPort() + "/stats")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        JsonObject stats = JsonParser.parseString(response.body()).getAsJsonObject();
+        assertEquals(3, stats.getAsJsonObject("requests").get("count").getAsLong());
+        assertEquals(1, stats.getAsJsonObject("solves").getAsJsonObject("prim").get("count").getAsLong());
+        assertTrue(stats.getAsJsonObject("requests").get("p99_ms").getAsDouble() >= 0);
+    }
+}